@@ -0,0 +1,135 @@
+package codingchica.patterns.behavioral.strategy;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Benchmarks for the equals / hashCode cost of each codingchica.patterns.behavioral.strategy.FlyingStrategy subclass,
+ * both in isolation and when used as a key in hash-based collections.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FlyingStrategyBenchmark {
+    /** Suppliers for each of the strategy subclasses, keyed by the strategy parameter values. */
+    private static final Map<String, Supplier<FlyingStrategy>> STRATEGIES = Map.of(
+            "AIRPLANE", AirplaneStrategy::new,
+            "FLAP_WINGS", FlapWingsStrategy::new,
+            "GLIDING", GlidingStrategy::new,
+            "UNABLE_TO_FLY", UnableToFlyStrategy::new);
+
+    /** The FlyingStrategy subclass under test. */
+    @Param({"AIRPLANE", "FLAP_WINGS", "GLIDING", "UNABLE_TO_FLY"})
+    public String strategy;
+
+    /** The number of strategies inserted / looked up by the collection workloads. */
+    @Param({"1000", "100000"})
+    public int size;
+
+    /** The instance that all comparisons are made against. */
+    private FlyingStrategy flyingStrategy;
+    /** A separately created instance of the same class. */
+    private FlyingStrategy equalFlyingStrategy;
+    /** An instance of a different subclass. */
+    private FlyingStrategy otherFlyingStrategy;
+    /** Separately created instances of the strategy under test, used by the collection workloads. */
+    private FlyingStrategy[] probes;
+    /** A map pre-populated with one instance of every subclass. */
+    private Map<FlyingStrategy, String> map;
+
+    /**
+     * Build the fixtures for the selected strategy.
+     */
+    @Setup
+    public void setUp() {
+        Supplier<FlyingStrategy> supplier = STRATEGIES.get(strategy);
+        flyingStrategy = supplier.get();
+        equalFlyingStrategy = supplier.get();
+        otherFlyingStrategy = "AIRPLANE".equals(strategy) ? new GlidingStrategy() : new AirplaneStrategy();
+        probes = new FlyingStrategy[size];
+        for (int i = 0; i < size; i++) {
+            probes[i] = supplier.get();
+        }
+        map = new HashMap<>();
+        STRATEGIES.forEach((name, value) -> map.put(value.get(), name));
+    }
+
+    /**
+     * Measure a single hashCode call.
+     *
+     * @return The hash, so that the call cannot be eliminated.
+     */
+    @Benchmark
+    public int hashCodeOnly() {
+        return flyingStrategy.hashCode();
+    }
+
+    /**
+     * Measure equals against the very same instance.
+     *
+     * @return The comparison result.
+     */
+    @Benchmark
+    public boolean equalsSame() {
+        return flyingStrategy.equals(flyingStrategy);
+    }
+
+    /**
+     * Measure equals against another instance of the same class.
+     *
+     * @return The comparison result.
+     */
+    @Benchmark
+    public boolean equalsEqual() {
+        return flyingStrategy.equals(equalFlyingStrategy);
+    }
+
+    /**
+     * Measure equals against an instance of a different subclass.
+     *
+     * @return The comparison result.
+     */
+    @Benchmark
+    public boolean equalsNotEqual() {
+        return flyingStrategy.equals(otherFlyingStrategy);
+    }
+
+    /**
+     * Measure inserting every probe into a new HashSet.  All probes are equal, so this is dominated by hashCode and
+     * equals calls against the single entry.
+     *
+     * @return The populated set.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Set<FlyingStrategy> collectionInsert() {
+        Set<FlyingStrategy> set = new HashSet<>();
+        for (FlyingStrategy probe : probes) {
+            set.add(probe);
+        }
+        return set;
+    }
+
+    /**
+     * Measure looking up every probe in a map holding one instance of each subclass.
+     *
+     * @param blackhole Consumes the lookup results.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void collectionLookup(Blackhole blackhole) {
+        for (FlyingStrategy probe : probes) {
+            blackhole.consume(map.get(probe));
+        }
+    }
+}
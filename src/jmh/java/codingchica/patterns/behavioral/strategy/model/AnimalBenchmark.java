@@ -0,0 +1,175 @@
+package codingchica.patterns.behavioral.strategy.model;
+
+import codingchica.patterns.behavioral.strategy.AirplaneStrategy;
+import codingchica.patterns.behavioral.strategy.GlidingStrategy;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the equals / hashCode cost of the codingchica.patterns.behavioral.strategy.model.Animal class, both
+ * in isolation and when used as a key in hash-based collections.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AnimalBenchmark {
+    /** The instance that all comparisons are made against. */
+    private Animal animal;
+    /** A separately built instance that is value-equal to animal. */
+    private Animal equalAnimal;
+    /** An instance that only differs from animal by name. */
+    private Animal otherAnimal;
+
+    /**
+     * Build an adult human with the given name.
+     *
+     * @param name The name of the animal.
+     * @return A newly built Animal.
+     */
+    private static Animal human(String name) {
+        return Animal.builder()
+                .scientificClassification(ClassificationFixtures.human())
+                .name(name)
+                .description("A person")
+                .flyingStrategy(new AirplaneStrategy())
+                .build();
+    }
+
+    /**
+     * Build the single-instance fixtures.
+     */
+    @Setup
+    public void setUp() {
+        animal = human("Ada");
+        equalAnimal = human("Ada");
+        otherAnimal = human("Grace");
+    }
+
+    /**
+     * Measure a single hashCode call.
+     *
+     * @return The hash, so that the call cannot be eliminated.
+     */
+    @Benchmark
+    public int hashCodeOnly() {
+        return animal.hashCode();
+    }
+
+    /**
+     * Measure equals against the very same instance.
+     *
+     * @return The comparison result.
+     */
+    @Benchmark
+    public boolean equalsSame() {
+        return animal.equals(animal);
+    }
+
+    /**
+     * Measure equals against a value-equal instance.
+     *
+     * @return The comparison result.
+     */
+    @Benchmark
+    public boolean equalsEqual() {
+        return animal.equals(equalAnimal);
+    }
+
+    /**
+     * Measure equals against an instance with a different name.
+     *
+     * @return The comparison result.
+     */
+    @Benchmark
+    public boolean equalsNotEqual() {
+        return animal.equals(otherAnimal);
+    }
+
+    /**
+     * Fixtures for the collection workloads, sized by the size parameter.
+     */
+    @State(Scope.Benchmark)
+    public static class CollectionState {
+        /** The number of distinct animals to place in the collection. */
+        @Param({"1000", "100000", "1000000"})
+        public int size;
+        /** The animals to insert. */
+        Animal[] keys;
+        /** Value-equal copies of keys, so that lookups have to go through equals. */
+        Animal[] probes;
+        /** A map pre-populated with keys. */
+        Map<Animal, Integer> map;
+
+        /**
+         * Build a population of adult flying animals, each with its own classification.
+         *
+         * @return An array of value-distinct animals.
+         */
+        private Animal[] population() {
+            ScientificClassification[] classifications = ClassificationFixtures.syntheticArray(size);
+            Animal[] animals = new Animal[size];
+            for (int i = 0; i < size; i++) {
+                animals[i] = Animal.builder()
+                        .scientificClassification(classifications[i])
+                        .name("Animal " + i)
+                        .description("Synthetic animal number " + i)
+                        .flyingStrategy(new GlidingStrategy())
+                        .build();
+            }
+            return animals;
+        }
+
+        /**
+         * Build the keys, the probes and the pre-populated map.
+         */
+        @Setup(Level.Trial)
+        public void setUp() {
+            keys = population();
+            probes = population();
+            map = new HashMap<>(size * 2);
+            for (int i = 0; i < keys.length; i++) {
+                map.put(keys[i], i);
+            }
+        }
+    }
+
+    /**
+     * Measure inserting every key into a new HashSet.
+     *
+     * @param state The collection fixtures.
+     * @return The populated set.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public Set<Animal> collectionInsert(CollectionState state) {
+        Set<Animal> set = new HashSet<>(state.size * 2);
+        for (Animal key : state.keys) {
+            set.add(key);
+        }
+        return set;
+    }
+
+    /**
+     * Measure looking up every probe in the pre-populated map.
+     *
+     * @param state     The collection fixtures.
+     * @param blackhole Consumes the lookup results.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void collectionLookup(CollectionState state, Blackhole blackhole) {
+        Map<Animal, Integer> map = state.map;
+        for (Animal probe : state.probes) {
+            blackhole.consume(map.get(probe));
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package codingchica.patterns.behavioral.strategy.model;
+
+import codingchica.patterns.behavioral.strategy.FlyingStrategy;
+import codingchica.patterns.behavioral.strategy.FlyingStrategyRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for Animal.getFlyingMessage over a population of animals, comparing the lookup by registry id with
+ * unwrapping the Optional strategy and calling it.  With a single species the strategy call site only ever sees one
+ * class, so the JIT compiler inlines it either way; with a mixed population it sees every strategy class and turns
+ * megamorphic.  Run with <pre>-Djmh.args="-prof gc -jvmArgsAppend -XX:+UnlockDiagnosticVMOptions
+ * -jvmArgsAppend -XX:+PrintInlining"</pre> to see the inlining decisions as well as the allocation rate.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AnimalFlyingMessageBenchmark {
+    /** Whether every animal shares a single strategy, or the strategies are mixed, including animals without one. */
+    @Param({"SINGLE", "MIXED"})
+    public String population;
+
+    /** The number of animals. */
+    @Param({"4096"})
+    public int size;
+
+    /** The animals. */
+    private Animal[] animals;
+
+    /**
+     * Build the population, shuffling the strategies of a mixed population so the call site cannot predict them.
+     */
+    @Setup
+    public void setUp() {
+        FlyingStrategyRegistry[] entries = FlyingStrategyRegistry.values();
+        Random random = new Random(42);
+        animals = new Animal[size];
+        for (int i = 0; i < size; i++) {
+            FlyingStrategy strategy;
+            if ("SINGLE".equals(population)) {
+                strategy = FlyingStrategyRegistry.GLIDING.getStrategy();
+            } else {
+                int choice = random.nextInt(entries.length + 1);
+                strategy = choice == entries.length ? null : entries[choice].getStrategy();
+            }
+            animals[i] = Animal.builder()
+                    .scientificClassification(ClassificationFixtures.human())
+                    .name("Animal " + i)
+                    .flyingStrategy(strategy)
+                    .build();
+        }
+    }
+
+    /**
+     * Measure getFlyingMessage, which looks the message up by registry id.
+     *
+     * @param blackhole Consumes the messages.
+     */
+    @Benchmark
+    public void byRegistryId(Blackhole blackhole) {
+        for (Animal animal : animals) {
+            blackhole.consume(animal.getFlyingMessage());
+        }
+    }
+
+    /**
+     * Measure unwrapping the Optional strategy, defaulting it, and calling it, as getFlyingMessage used to.
+     *
+     * @param blackhole Consumes the messages.
+     */
+    @Benchmark
+    public void byVirtualCall(Blackhole blackhole) {
+        FlyingStrategy unableToFly = FlyingStrategyRegistry.UNABLE_TO_FLY.getStrategy();
+        for (Animal animal : animals) {
+            blackhole.consume(animal.getFlyingStrategy().orElse(unableToFly).getFlyingMessage());
+        }
+    }
+}
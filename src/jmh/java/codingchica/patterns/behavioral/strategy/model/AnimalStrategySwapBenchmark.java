@@ -0,0 +1,125 @@
+package codingchica.patterns.behavioral.strategy.model;
+
+import codingchica.patterns.behavioral.strategy.FlyingStrategy;
+import codingchica.patterns.behavioral.strategy.FlyingStrategyRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Contention benchmarks for replacing an Animal's flying strategy while other threads read its flying message, with
+ * many readers and a single writer per group.  The lock-free groups use Animal itself; the locked group guards a
+ * plain strategy field with a monitor, as callers had to before strategies were published safely.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class AnimalStrategySwapBenchmark {
+    /** The strategy of a young animal. */
+    private static final FlyingStrategy YOUNG = FlyingStrategyRegistry.UNABLE_TO_FLY.getStrategy();
+    /** The strategy of an adult animal. */
+    private static final FlyingStrategy ADULT = FlyingStrategyRegistry.GLIDING.getStrategy();
+
+    /** The animal shared by the threads of a group. */
+    private Animal animal;
+    /** The strategy guarded by lock, for the locked group. */
+    private FlyingStrategy lockedStrategy;
+    /** Guards lockedStrategy. */
+    private final Object lock = new Object();
+
+    /**
+     * Build the animal shared by the group.
+     */
+    @Setup
+    public void setUp() {
+        animal = Animal.builder()
+                .scientificClassification(ClassificationFixtures.human())
+                .name("Ada")
+                .flyingStrategy(YOUNG)
+                .build();
+        lockedStrategy = YOUNG;
+    }
+
+    /**
+     * Measure reading the flying message while a writer sets the strategy.
+     *
+     * @return The message, so that the read cannot be eliminated.
+     */
+    @Benchmark
+    @Group("lockFreeSet")
+    @GroupThreads(7)
+    public String lockFreeSetReader() {
+        return animal.getFlyingMessage();
+    }
+
+    /**
+     * Measure setting the strategy, alternating between the young and adult strategies.
+     *
+     * @return Whether the strategy was set to the adult strategy.
+     */
+    @Benchmark
+    @Group("lockFreeSet")
+    @GroupThreads(1)
+    public boolean lockFreeSetWriter() {
+        boolean adult = animal.getFlyingStrategyOrDefault() == YOUNG;
+        animal.setFlyingStrategy(adult ? ADULT : YOUNG);
+        return adult;
+    }
+
+    /**
+     * Measure reading the flying message while a writer upgrades the strategy with compare-and-set.
+     *
+     * @return The message, so that the read cannot be eliminated.
+     */
+    @Benchmark
+    @Group("lockFreeCompareAndSet")
+    @GroupThreads(7)
+    public String lockFreeCompareAndSetReader() {
+        return animal.getFlyingMessage();
+    }
+
+    /**
+     * Measure conditionally replacing the strategy, alternating between the young and adult strategies.
+     *
+     * @return Whether the strategy was replaced.
+     */
+    @Benchmark
+    @Group("lockFreeCompareAndSet")
+    @GroupThreads(1)
+    public boolean lockFreeCompareAndSetWriter() {
+        return animal.compareAndSetFlyingStrategy(YOUNG, ADULT) || animal.compareAndSetFlyingStrategy(ADULT, YOUNG);
+    }
+
+    /**
+     * Measure reading the flying message under a monitor while a writer sets the strategy.
+     *
+     * @return The message, so that the read cannot be eliminated.
+     */
+    @Benchmark
+    @Group("locked")
+    @GroupThreads(7)
+    public String lockedReader() {
+        synchronized (lock) {
+            return lockedStrategy.getFlyingMessage();
+        }
+    }
+
+    /**
+     * Measure setting the strategy under a monitor, alternating between the young and adult strategies.
+     *
+     * @return Whether the strategy was set to the adult strategy.
+     */
+    @Benchmark
+    @Group("locked")
+    @GroupThreads(1)
+    public boolean lockedWriter() {
+        synchronized (lock) {
+            boolean adult = lockedStrategy == YOUNG;
+            lockedStrategy = adult ? ADULT : YOUNG;
+            return adult;
+        }
+    }
+}
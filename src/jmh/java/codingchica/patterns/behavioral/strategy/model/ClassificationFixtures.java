@@ -0,0 +1,89 @@
+package codingchica.patterns.behavioral.strategy.model;
+
+/**
+ * Shared data for the model benchmarks, so that every benchmark measures against the same shape of objects.
+ */
+final class ClassificationFixtures {
+    /**
+     * Private constructor, as this class only exposes static helpers.
+     */
+    private ClassificationFixtures() {
+    }
+
+    /**
+     * Build the human classification used by the AnimalFactory.  Each call returns a new, value-equal instance.
+     *
+     * @return A newly built ScientificClassification for humans.
+     */
+    static ScientificClassification human() {
+        return ScientificClassification.builder()
+                .kingdomName("Animalia")
+                .phylumName("Chordata")
+                .className("Mammalia")
+                .orderName("Primates")
+                .subOrderName("Haplorhini")
+                .infraOrder("Simiformes")
+                .familyName("Hominidae")
+                .subFamilyName("Homininae")
+                .tribeName("Hominini")
+                .genusName("Homo")
+                .speciesName("Homo sapiens")
+                .build();
+    }
+
+    /**
+     * Build the flying squirrel classification used by the AnimalFactory.  Each call returns a new, value-equal
+     * instance.
+     *
+     * @return A newly built ScientificClassification for flying squirrels.
+     */
+    static ScientificClassification flyingSquirrel() {
+        return ScientificClassification.builder()
+                .kingdomName("Animalia")
+                .phylumName("Chordata")
+                .className("Mammalia")
+                .orderName("Rodentia")
+                .familyName("Sciuridae")
+                .subFamilyName("Sciuridae")
+                .tribeName("Pteromyini")
+                .speciesName("Glaucomys sabrinus")
+                .build();
+    }
+
+    /**
+     * Build a mammal classification that only differs from its neighbours in the lower ranks, the way a real catalog
+     * shares its upper ranks across many species.  The strings are created fresh on each call, so that value-equal
+     * instances do not share references.
+     *
+     * @param index The number used to make the lower ranks unique.
+     * @return A newly built ScientificClassification.
+     */
+    static ScientificClassification synthetic(int index) {
+        return ScientificClassification.builder()
+                .kingdomName(new String("Animalia"))
+                .phylumName(new String("Chordata"))
+                .className(new String("Mammalia"))
+                .orderName("Order" + (index % 32))
+                .familyName("Family" + (index % 512))
+                .subFamilyName("SubFamily" + (index % 2048))
+                .tribeName("Tribe" + (index % 8192))
+                .genusName("Genus" + (index / 4))
+                .speciesName("Genus" + (index / 4) + " species" + index)
+                .build();
+    }
+
+    /**
+     * Build an array of distinct synthetic classifications.  Calling this twice with the same size returns two arrays
+     * of value-equal, but not identical, elements.
+     *
+     * @param size The number of classifications to build.
+     * @return An array of value-distinct classifications.
+     */
+    static ScientificClassification[] syntheticArray(int size) {
+        ScientificClassification[] classifications = new ScientificClassification[size];
+        for (int i = 0; i < size; i++) {
+            classifications[i] = synthetic(i);
+        }
+        return classifications;
+    }
+}
@@ -0,0 +1,139 @@
+package codingchica.patterns.behavioral.strategy.model;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the equals / hashCode cost of the codingchica.patterns.behavioral.strategy.model.ScientificClassification
+ * class, both in isolation and when used as a key in hash-based collections.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ScientificClassificationBenchmark {
+    /** The instance that all comparisons are made against. */
+    private ScientificClassification classification;
+    /** A separately built instance that is value-equal to classification. */
+    private ScientificClassification equalClassification;
+    /** An instance that shares its upper ranks with classification, but is not equal to it. */
+    private ScientificClassification otherClassification;
+
+    /**
+     * Build the single-instance fixtures.
+     */
+    @Setup
+    public void setUp() {
+        classification = ClassificationFixtures.human();
+        equalClassification = ClassificationFixtures.human();
+        otherClassification = ClassificationFixtures.flyingSquirrel();
+    }
+
+    /**
+     * Measure a single hashCode call.
+     *
+     * @return The hash, so that the call cannot be eliminated.
+     */
+    @Benchmark
+    public int hashCodeOnly() {
+        return classification.hashCode();
+    }
+
+    /**
+     * Measure equals against the very same instance.
+     *
+     * @return The comparison result.
+     */
+    @Benchmark
+    public boolean equalsSame() {
+        return classification.equals(classification);
+    }
+
+    /**
+     * Measure equals against a value-equal instance.
+     *
+     * @return The comparison result.
+     */
+    @Benchmark
+    public boolean equalsEqual() {
+        return classification.equals(equalClassification);
+    }
+
+    /**
+     * Measure equals against an instance that differs in its lower ranks.
+     *
+     * @return The comparison result.
+     */
+    @Benchmark
+    public boolean equalsNotEqual() {
+        return classification.equals(otherClassification);
+    }
+
+    /**
+     * Fixtures for the collection workloads, sized by the size parameter.
+     */
+    @State(Scope.Benchmark)
+    public static class CollectionState {
+        /** The number of distinct classifications to place in the collection. */
+        @Param({"1000", "100000", "1000000"})
+        public int size;
+        /** The classifications to insert. */
+        ScientificClassification[] keys;
+        /** Value-equal copies of keys, so that lookups have to go through equals. */
+        ScientificClassification[] probes;
+        /** A map pre-populated with keys. */
+        Map<ScientificClassification, Integer> map;
+
+        /**
+         * Build the keys, the probes and the pre-populated map.
+         */
+        @Setup(Level.Trial)
+        public void setUp() {
+            keys = ClassificationFixtures.syntheticArray(size);
+            probes = ClassificationFixtures.syntheticArray(size);
+            map = new HashMap<>(size * 2);
+            for (int i = 0; i < keys.length; i++) {
+                map.put(keys[i], i);
+            }
+        }
+    }
+
+    /**
+     * Measure inserting every key into a new HashSet.
+     *
+     * @param state The collection fixtures.
+     * @return The populated set.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public Set<ScientificClassification> collectionInsert(CollectionState state) {
+        Set<ScientificClassification> set = new HashSet<>(state.size * 2);
+        for (ScientificClassification key : state.keys) {
+            set.add(key);
+        }
+        return set;
+    }
+
+    /**
+     * Measure looking up every probe in the pre-populated map.
+     *
+     * @param state     The collection fixtures.
+     * @param blackhole Consumes the lookup results.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void collectionLookup(CollectionState state, Blackhole blackhole) {
+        Map<ScientificClassification, Integer> map = state.map;
+        for (ScientificClassification probe : state.probes) {
+            blackhole.consume(map.get(probe));
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package codingchica.patterns.behavioral.strategy.model;
+
+import org.openjdk.jol.info.ClassLayout;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * Measures the retained heap of a large catalog of classifications, comparing the dictionary-encoded
+ * ScientificClassification with the previous layout of one String field per rank.  The previous layout is measured
+ * twice: with a new String per rank per entry, as a loader without deduplication creates, and with every equal String
+ * shared, as ValueCache and the interner already arrange.  The genus and species Strings are shared the same way in
+ * the shared and dictionary-encoded catalogs, so the two differ only in how the ranks are held.  Run it through the
+ * benchmark profile with:
+ * <pre>
+ *     mvn -Pbenchmark test-compile exec:exec -Djmh.main=codingchica.patterns.behavioral.strategy.model.ScientificClassificationFootprint \
+ *         -Djmh.jvmArgs=-Xmx4g -Djmh.benchmarks=1000000 -Djmh.args=
+ * </pre>
+ */
+public final class ScientificClassificationFootprint {
+    /**
+     * Private constructor, as this class only exposes a main method.
+     */
+    private ScientificClassificationFootprint() {
+    }
+
+    /**
+     * Build the catalogs and print the retained heap of each.
+     *
+     * @param args Optionally, the number of classifications in each catalog.
+     */
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        System.out.println(ClassLayout.parseClass(LegacyClassification.class).toPrintable());
+        System.out.println(ClassLayout.parseClass(ScientificClassification.class).toPrintable());
+
+        UnaryOperator<String> copy = value -> value == null ? null : new String(value.toCharArray());
+        report("String per rank, copied", GraphLayout.parseInstance((Object) legacyCatalog(size, copy)), size);
+
+        Map<String, String> shared = new HashMap<>();
+        UnaryOperator<String> share = value -> value == null ? null : shared.computeIfAbsent(value, key -> key);
+        report("String per rank, shared", GraphLayout.parseInstance((Object) legacyCatalog(size, share)), size);
+
+        ScientificClassification[] encoded = new ScientificClassification[size];
+        for (int i = 0; i < size; i++) {
+            ScientificClassification source = ClassificationFixtures.synthetic(i);
+            encoded[i] = ScientificClassification.builder()
+                    .kingdomName(source.getKingdomName())
+                    .phylumName(source.getPhylumName())
+                    .className(source.getClassName())
+                    .orderName(source.getOrderName())
+                    .familyName(source.getFamilyName())
+                    .subFamilyName(source.getSubFamilyName())
+                    .tribeName(source.getTribeName())
+                    .genusName(share.apply(source.getGenusName()))
+                    .speciesName(share.apply(source.getSpeciesName()))
+                    .build();
+        }
+        // The dictionary is shared by every classification, so it is counted once, alongside them.
+        report("Dictionary-encoded", GraphLayout.parseInstance(encoded, TaxonomyDictionary.getInstance()), size);
+    }
+
+    /**
+     * Build a catalog in the previous layout.
+     *
+     * @param size    The number of classifications.
+     * @param strings Decides the String each entry holds for a rank value, such as a copy or a shared instance.
+     * @return The catalog.
+     */
+    private static LegacyClassification[] legacyCatalog(int size, UnaryOperator<String> strings) {
+        LegacyClassification[] legacy = new LegacyClassification[size];
+        for (int i = 0; i < size; i++) {
+            legacy[i] = new LegacyClassification(ClassificationFixtures.synthetic(i), strings);
+        }
+        return legacy;
+    }
+
+    /**
+     * Print the retained heap of a catalog.
+     *
+     * @param label  The name of the layout.
+     * @param layout The object graph of the catalog.
+     * @param size   The number of classifications in the catalog.
+     */
+    private static void report(String label, GraphLayout layout, int size) {
+        System.out.printf("%-24s %,14d bytes %,10d objects %8.1f bytes per classification%n", label,
+                layout.totalSize(), layout.totalCount(), (double) layout.totalSize() / size);
+    }
+
+    /**
+     * The previous ScientificClassification layout: one String reference per rank, plus the cached hash code.
+     */
+    private static final class LegacyClassification {
+        /** The kingdom. */
+        private final String kingdomName;
+        /** The phylum. */
+        private final String phylumName;
+        /** The class. */
+        private final String className;
+        /** The order. */
+        private final String orderName;
+        /** The sub-order. */
+        private final String subOrderName;
+        /** The infra-order. */
+        private final String infraOrder;
+        /** The species. */
+        private final String speciesName;
+        /** The family. */
+        private final String familyName;
+        /** The sub-family. */
+        private final String subFamilyName;
+        /** The tribe. */
+        private final String tribeName;
+        /** The genus. */
+        private final String genusName;
+        /** The cached hash code. */
+        private final int hash;
+
+        /**
+         * Copy a classification into the previous layout.
+         *
+         * @param source  The classification to copy.
+         * @param strings Decides the String held for each rank value.
+         */
+        private LegacyClassification(ScientificClassification source, UnaryOperator<String> strings) {
+            kingdomName = strings.apply(source.getKingdomName());
+            phylumName = strings.apply(source.getPhylumName());
+            className = strings.apply(source.getClassName());
+            orderName = strings.apply(source.getOrderName());
+            subOrderName = strings.apply(source.getSubOrderName());
+            infraOrder = strings.apply(source.getInfraOrder());
+            speciesName = strings.apply(source.getSpeciesName());
+            familyName = strings.apply(source.getFamilyName());
+            subFamilyName = strings.apply(source.getSubFamilyName());
+            tribeName = strings.apply(source.getTribeName());
+            genusName = strings.apply(source.getGenusName());
+            hash = source.hashCode();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package codingchica.patterns.behavioral.strategy.model;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the lowest shared rank of a batch of species pairs, comparing TaxonomyAncestry with comparing the
+ * String value of each rank from the kingdom down.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class TaxonomyAncestryBenchmark {
+    /** The number of species indexed. */
+    @Param({"100000"})
+    public int speciesCount;
+    /** The number of pairs in each batch. */
+    @Param({"1000000"})
+    public int pairCount;
+
+    /** The preprocessed index. */
+    private TaxonomyAncestry ancestry;
+    /** The first species of each pair. */
+    private List<ScientificClassification> first;
+    /** The second species of each pair. */
+    private List<ScientificClassification> second;
+
+    /**
+     * Build the index and the batch of pairs.
+     */
+    @Setup
+    public void setUp() {
+        ScientificClassification[] species = ClassificationFixtures.syntheticArray(speciesCount);
+        ancestry = TaxonomyAncestry.of(TaxonomyIndex.of(Arrays.asList(species)));
+        Random random = new Random(42);
+        first = new ArrayList<>(pairCount);
+        second = new ArrayList<>(pairCount);
+        for (int i = 0; i < pairCount; i++) {
+            first.add(species[random.nextInt(speciesCount)]);
+            second.add(species[random.nextInt(speciesCount)]);
+        }
+    }
+
+    /**
+     * Measure the batch through the preprocessed index, in parallel.
+     *
+     * @return The lowest shared ranks, so that the work cannot be eliminated.
+     */
+    @Benchmark
+    public Rank[] ancestryBatch() {
+        return ancestry.lowestCommonRanks(first, second);
+    }
+
+    /**
+     * Measure the batch by comparing each rank's String value until the first difference.
+     *
+     * @return The lowest shared ranks, so that the work cannot be eliminated.
+     */
+    @Benchmark
+    public Rank[] compareStrings() {
+        Rank[] ranks = new Rank[pairCount];
+        for (int i = 0; i < pairCount; i++) {
+            ScientificClassification a = first.get(i);
+            ScientificClassification b = second.get(i);
+            String[] aRanks = {a.getKingdomName(), a.getPhylumName(), a.getClassName(), a.getOrderName(),
+                    a.getSubOrderName(), a.getInfraOrder(), a.getFamilyName(), a.getSubFamilyName(),
+                    a.getTribeName(), a.getGenusName(), a.getSpeciesName()};
+            String[] bRanks = {b.getKingdomName(), b.getPhylumName(), b.getClassName(), b.getOrderName(),
+                    b.getSubOrderName(), b.getInfraOrder(), b.getFamilyName(), b.getSubFamilyName(),
+                    b.getTribeName(), b.getGenusName(), b.getSpeciesName()};
+            Rank shared = null;
+            for (Rank rank : Rank.values()) {
+                if (!Objects.equals(aRanks[rank.ordinal()], bRanks[rank.ordinal()])) {
+                    break;
+                }
+                if (aRanks[rank.ordinal()] != null) {
+                    shared = rank;
+                }
+            }
+            ranks[i] = shared;
+        }
+        return ranks;
+    }
+}
@@ -0,0 +1,125 @@
+package codingchica.patterns.creational.factory;
+
+import codingchica.patterns.behavioral.strategy.model.Animal;
+import codingchica.patterns.behavioral.strategy.model.ScientificClassification;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for creating an adult with AnimalFactory.getAnimal, when its species' TaxonomyFlyingStrategyRule is
+ * evaluated every time, and when it is opted in to caching with FlyingStrategyRule.cacheable.  Run with -t to see how
+ * each scales with the number of threads creating animals.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AnimalFactoryBenchmark {
+    /** The number of species created, in turn. */
+    @Param({"2", "1000"})
+    public int speciesCount;
+
+    /** The factory the species are registered with. */
+    private final AnimalFactory animalFactory = AnimalFactory.getInstance();
+    /** The common names of the species registered with the default rule. */
+    private String[] uncachedNames;
+    /** The common names of the same species registered with the default rule opted in to caching. */
+    private String[] cachedNames;
+
+    /**
+     * The species the calling thread creates next.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        /** The index of the next species. */
+        private int next;
+    }
+
+    /**
+     * Build a classification for a numbered species of flying squirrel, so the default rule decides it glides.
+     *
+     * @param index The number of the species.
+     * @return A newly built ScientificClassification.
+     */
+    private static ScientificClassification classification(int index) {
+        return ScientificClassification.builder()
+                .kingdomName("Animalia")
+                .phylumName("Chordata")
+                .className("Mammalia")
+                .orderName("Rodentia")
+                .familyName("Sciuridae")
+                .subFamilyName("Sciurinae")
+                .tribeName("Pteromyini")
+                .genusName("Genus" + index)
+                .speciesName("Genus" + index + " species")
+                .build();
+    }
+
+    /**
+     * Register each species twice, once with each rule.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        SpeciesRegistry speciesRegistry = animalFactory.getSpeciesRegistry();
+        FlyingStrategyRule cacheable = FlyingStrategyRule.cacheable(TaxonomyFlyingStrategyRule.getDefault());
+        uncachedNames = new String[speciesCount];
+        cachedNames = new String[speciesCount];
+        for (int i = 0; i < speciesCount; i++) {
+            uncachedNames[i] = "Uncached Squirrel " + i;
+            cachedNames[i] = "Cached Squirrel " + i;
+            speciesRegistry.register(uncachedNames[i], classification(i), TaxonomyFlyingStrategyRule.getDefault());
+            speciesRegistry.register(cachedNames[i], classification(i), cacheable);
+        }
+    }
+
+    /**
+     * Remove the species, so that the factory is left as it was.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        SpeciesRegistry speciesRegistry = animalFactory.getSpeciesRegistry();
+        for (int i = 0; i < speciesCount; i++) {
+            speciesRegistry.unregister(uncachedNames[i]);
+            speciesRegistry.unregister(cachedNames[i]);
+        }
+    }
+
+    /**
+     * Retrieve the next of a set of common names for the calling thread.
+     *
+     * @param cursor The calling thread's position.
+     * @param names  The common names.
+     * @return The common name.
+     */
+    private static String next(Cursor cursor, String[] names) {
+        int index = cursor.next;
+        cursor.next = index + 1 == names.length ? 0 : index + 1;
+        return names[index];
+    }
+
+    /**
+     * Measure creating an adult whose rule is evaluated every time.
+     *
+     * @param cursor The calling thread's position.
+     * @return The animal.
+     */
+    @Benchmark
+    public Optional<Animal> uncached(Cursor cursor) {
+        return animalFactory.getAnimal(next(cursor, uncachedNames), "name", "description", true);
+    }
+
+    /**
+     * Measure creating an adult whose rule's decisions are cached.
+     *
+     * @param cursor The calling thread's position.
+     * @return The animal.
+     */
+    @Benchmark
+    public Optional<Animal> cached(Cursor cursor) {
+        return animalFactory.getAnimal(next(cursor, cachedNames), "name", "description", true);
+    }
+}
@@ -0,0 +1,230 @@
+package codingchica.patterns.creational.factory;
+
+import codingchica.patterns.behavioral.strategy.FlyingStrategy;
+import codingchica.patterns.behavioral.strategy.FlyingStrategyRegistry;
+import codingchica.patterns.behavioral.strategy.model.Rank;
+import codingchica.patterns.behavioral.strategy.model.ScientificClassification;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for deciding the flying strategy of a batch of adults whose species follow a Zipf distribution, comparing
+ * evaluating an expensive rule every time with caching its decisions in a FlyingStrategyCache or in an LRU
+ * LinkedHashMap of the same size.  Each cache's hits and misses are reported as the secondary results
+ * tinyLfu:hits, tinyLfu:misses, lru:hits and lru:misses, from which its hit rate is hits / (hits + misses).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FlyingStrategyCacheBenchmark {
+    /** The number of distinct classifications. */
+    private static final int KEY_COUNT = 100_000;
+    /** The number of lookups in the trace, which the batches work through in turn. */
+    private static final int TRACE_LENGTH = 1 << 20;
+    /** The number of rules checked by the expensive rule. */
+    private static final int RULE_COUNT = 300;
+
+    /** The maximum number of cached strategies. */
+    @Param({"1000"})
+    public int cacheSize;
+
+    /** The number of classifications in each batch. */
+    @Param({"4096"})
+    public int batchSize;
+
+    /** The rule, which checks every rule's rank value in turn. */
+    private FlyingStrategyRule rule;
+    /** The W-TinyLFU cache. */
+    private FlyingStrategyCache cache;
+    /** The LRU cache. */
+    private Map<ScientificClassification, Optional<FlyingStrategy>> lru;
+    /** The classifications to decide strategies for. */
+    private ScientificClassification[] trace;
+    /** Where in the trace the next batch starts. */
+    private int position;
+
+    /**
+     * The lookups of a cache benchmark, reported by JMH alongside its time.  JMH resets them at the start of each
+     * iteration, as setUpCaches does the caches.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class CacheCounters {
+        /** The number of lookups answered from the cache. */
+        public long hits;
+        /** The number of lookups which evaluated the rule. */
+        public long misses;
+    }
+
+    /**
+     * Build a classification whose tribe and genus are numbered.
+     *
+     * @param index The number used to make the ranks unique.
+     * @return A newly built ScientificClassification.
+     */
+    private static ScientificClassification classification(int index) {
+        return ScientificClassification.builder()
+                .kingdomName("Animalia")
+                .phylumName("Chordata")
+                .className("Mammalia")
+                .orderName("Rodentia")
+                .familyName("Sciuridae")
+                .subFamilyName("Sciurinae")
+                .tribeName("Tribe" + (index % 8192))
+                .genusName("Genus" + index)
+                .speciesName("Genus" + index + " species")
+                .build();
+    }
+
+    /**
+     * Build a rule which checks the genus and tribe of each of a list of rules in turn, as a stand-in for a rule
+     * which is expensive to evaluate.
+     *
+     * @return The rule.
+     */
+    private static FlyingStrategyRule linearRule() {
+        List<String> names = new ArrayList<>(RULE_COUNT);
+        List<Rank> ranks = new ArrayList<>(RULE_COUNT);
+        for (int i = 0; i < RULE_COUNT; i++) {
+            ranks.add(i % 2 == 0 ? Rank.GENUS : Rank.TRIBE);
+            names.add((i % 2 == 0 ? "Genus" : "Tribe") + (i * 2 + 1));
+        }
+        Optional<FlyingStrategy> gliding = Optional.of(FlyingStrategyRegistry.GLIDING.getStrategy());
+        return (scientificClassification, isAdult) -> {
+            for (int i = 0; i < RULE_COUNT; i++) {
+                if (names.get(i).equals(scientificClassification.getRank(ranks.get(i)))) {
+                    return gliding;
+                }
+            }
+            return Optional.empty();
+        };
+    }
+
+    /**
+     * Build the rule and the trace, whose keys follow a Zipf distribution with an exponent of one.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        rule = linearRule();
+        ScientificClassification[] keys = new ScientificClassification[KEY_COUNT];
+        double[] cumulative = new double[KEY_COUNT];
+        double total = 0;
+        for (int i = 0; i < KEY_COUNT; i++) {
+            keys[i] = classification(i);
+            total += 1.0 / (i + 1);
+            cumulative[i] = total;
+        }
+        // Shuffle which classification gets which popularity, so hash order says nothing about popularity.
+        List<ScientificClassification> shuffled = new ArrayList<>(List.of(keys));
+        Random random = new Random(42);
+        Collections.shuffle(shuffled, random);
+        trace = new ScientificClassification[TRACE_LENGTH];
+        for (int i = 0; i < TRACE_LENGTH; i++) {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble() * total);
+            trace[i] = shuffled.get(index < 0 ? -index - 1 : index);
+        }
+    }
+
+    /**
+     * Start each iteration with empty caches, so the hit rates reflect a cache filling up under the workload.
+     */
+    @Setup(Level.Iteration)
+    public void setUpCaches() {
+        cache = new FlyingStrategyCache(cacheSize);
+        lru = new LinkedHashMap<>(cacheSize * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ScientificClassification, Optional<FlyingStrategy>> eldest) {
+                return size() > cacheSize;
+            }
+        };
+        position = 0;
+    }
+
+    /**
+     * Move on to the next batch of the trace, starting over at its end.
+     *
+     * @return The index in the trace where the batch starts.
+     */
+    private int nextBatch() {
+        if (position + batchSize > TRACE_LENGTH) {
+            position = 0;
+        }
+        int start = position;
+        position += batchSize;
+        return start;
+    }
+
+    /**
+     * Measure evaluating the rule for every Animal.
+     *
+     * @param blackhole Consumes the strategies.
+     */
+    @Benchmark
+    public void uncached(Blackhole blackhole) {
+        int start = nextBatch();
+        for (int i = start; i < start + batchSize; i++) {
+            ScientificClassification classification = trace[i];
+            blackhole.consume(rule.getFlyingStrategy(classification, true));
+        }
+    }
+
+    /**
+     * Measure deciding each strategy through the W-TinyLFU cache.
+     *
+     * @param blackhole Consumes the strategies.
+     * @param counters  Counts the cache's hits and misses.
+     */
+    @Benchmark
+    public void tinyLfu(Blackhole blackhole, CacheCounters counters) {
+        long missesBefore = cache.getMissCount();
+        int start = nextBatch();
+        for (int i = start; i < start + batchSize; i++) {
+            ScientificClassification classification = trace[i];
+            blackhole.consume(cache.getFlyingStrategy(classification, true, rule));
+        }
+        long misses = cache.getMissCount() - missesBefore;
+        counters.misses += misses;
+        counters.hits += batchSize - misses;
+    }
+
+    /**
+     * Measure deciding each strategy through the synchronized LRU cache.
+     *
+     * @param blackhole Consumes the strategies.
+     * @param counters  Counts the cache's hits and misses.
+     */
+    @Benchmark
+    public void lru(Blackhole blackhole, CacheCounters counters) {
+        int start = nextBatch();
+        for (int i = start; i < start + batchSize; i++) {
+            ScientificClassification classification = trace[i];
+            Optional<FlyingStrategy> strategy;
+            synchronized (lru) {
+                strategy = lru.get(classification);
+            }
+            if (strategy == null) {
+                counters.misses++;
+                strategy = rule.getFlyingStrategy(classification, true);
+                synchronized (lru) {
+                    lru.put(classification, strategy);
+                }
+            } else {
+                counters.hits++;
+            }
+            blackhole.consume(strategy);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package codingchica.patterns.creational.factory;
+
+import codingchica.patterns.behavioral.strategy.FlyingStrategy;
+import codingchica.patterns.behavioral.strategy.FlyingStrategyRegistry;
+import codingchica.patterns.behavioral.strategy.model.Rank;
+import codingchica.patterns.behavioral.strategy.model.ScientificClassification;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for deciding the flying strategy of a batch of adults, comparing the compiled TaxonomyFlyingStrategyRule
+ * with checking each rule's rank value in turn, from the most specific rank to the broadest.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaxonomyFlyingStrategyRuleBenchmark {
+    /** The number of rules, spread over the order, tribe and genus ranks. */
+    @Param({"3", "300", "3000"})
+    public int ruleCount;
+
+    /** The number of classifications in each batch. */
+    @Param({"4096"})
+    public int batchSize;
+
+    /** The compiled rules. */
+    private TaxonomyFlyingStrategyRule compiled;
+    /** The same rules, most specific rank first, for the linear scan. */
+    private List<LinearRule> linear;
+    /** The classifications to decide strategies for, about half of which match a rule. */
+    private ScientificClassification[] classifications;
+
+    /**
+     * A single rule, for the linear scan.
+     */
+    private static final class LinearRule {
+        /** The rank the rule applies to. */
+        private final Rank rank;
+        /** The value of the rank. */
+        private final String name;
+        /** The strategy for matching adults. */
+        private final Optional<FlyingStrategy> strategy;
+
+        /**
+         * Constructor for LinearRule objects.
+         *
+         * @param rank  The rank the rule applies to.
+         * @param name  The value of the rank.
+         * @param entry The registry entry for matching adults.
+         */
+        private LinearRule(Rank rank, String name, FlyingStrategyRegistry entry) {
+            this.rank = rank;
+            this.name = name;
+            this.strategy = Optional.of(entry.getStrategy());
+        }
+    }
+
+    /**
+     * Build a classification whose order, tribe and genus are numbered.
+     *
+     * @param index The number used to make the ranks unique.
+     * @return A newly built ScientificClassification.
+     */
+    private static ScientificClassification classification(int index) {
+        return ScientificClassification.builder()
+                .kingdomName("Animalia")
+                .phylumName("Chordata")
+                .className("Mammalia")
+                .orderName("Order" + (index % 64))
+                .familyName("Family" + (index % 512))
+                .subFamilyName("SubFamily" + (index % 2048))
+                .tribeName("Tribe" + (index % 8192))
+                .genusName("Genus" + index)
+                .speciesName("Genus" + index + " species")
+                .build();
+    }
+
+    /**
+     * Build the rules and the batch.
+     */
+    @Setup
+    public void setUp() {
+        Rank[] ranks = {Rank.ORDER, Rank.TRIBE, Rank.GENUS};
+        String[] prefixes = {"Order", "Tribe", "Genus"};
+        FlyingStrategyRegistry[] entries = FlyingStrategyRegistry.values();
+        TaxonomyFlyingStrategyRule.Builder builder = TaxonomyFlyingStrategyRule.builder();
+        linear = new ArrayList<>(ruleCount);
+        for (int i = 0; i < ruleCount; i++) {
+            int rank = i % ranks.length;
+            // Odd numbers only, so that about half the batch matches no rule.
+            String name = prefixes[rank] + (i / ranks.length * 2 + 1);
+            FlyingStrategyRegistry entry = entries[i % entries.length];
+            builder.rule(ranks[rank], name, entry);
+            linear.add(new LinearRule(ranks[rank], name, entry));
+        }
+        compiled = builder.build();
+        linear.sort(Comparator.comparing((LinearRule rule) -> rule.rank).reversed());
+        Random random = new Random(42);
+        classifications = new ScientificClassification[batchSize];
+        for (int i = 0; i < batchSize; i++) {
+            classifications[i] = classification(random.nextInt(Math.max(ruleCount, 64) * 2));
+        }
+    }
+
+    /**
+     * Measure deciding each strategy with the compiled rules.
+     *
+     * @param blackhole Consumes the strategies.
+     */
+    @Benchmark
+    public void compiled(Blackhole blackhole) {
+        for (ScientificClassification classification : classifications) {
+            blackhole.consume(compiled.getFlyingStrategy(classification, true));
+        }
+    }
+
+    /**
+     * Measure deciding each strategy by checking every rule until one matches.
+     *
+     * @param blackhole Consumes the strategies.
+     */
+    @Benchmark
+    public void linearScan(Blackhole blackhole) {
+        for (ScientificClassification classification : classifications) {
+            Optional<FlyingStrategy> strategy = Optional.empty();
+            for (LinearRule rule : linear) {
+                if (rule.name.equals(classification.getRank(rule.rank))) {
+                    strategy = rule.strategy;
+                    break;
+                }
+            }
+            blackhole.consume(strategy);
+        }
+    }
+}
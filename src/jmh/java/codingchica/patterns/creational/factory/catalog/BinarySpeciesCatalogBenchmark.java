@@ -0,0 +1,86 @@
+package codingchica.patterns.creational.factory.catalog;
+
+import codingchica.patterns.behavioral.strategy.model.ScientificClassification;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the time from opening a catalog to serving the first lookup, comparing a memory-mapped
+ * BinarySpeciesCatalog with a LazySpeciesCatalog, which still reads and indexes the whole text file.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class BinarySpeciesCatalogBenchmark {
+    /** The number of species in the generated catalog. */
+    @Param({"1000000"})
+    public int speciesCount;
+
+    /** The generated text catalog file. */
+    private Path textPath;
+    /** The binary catalog file written from the text one. */
+    private Path binaryPath;
+    /** The common name looked up once the catalog is open. */
+    private String commonName;
+
+    /**
+     * Generate the text catalog, and write its binary form.
+     *
+     * @throws IOException If the files cannot be written.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        textPath = Files.createTempFile("species", ".tsv");
+        try (Writer writer = Files.newBufferedWriter(textPath, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < speciesCount; i++) {
+                writer.write("Flying Squirrel " + i + "\tAnimalia\tChordata\tMammalia\tRodentia\t\t\tSciuridae"
+                        + "\tSciurinae\tPteromyini\tGlaucomys\tGlaucomys sabrinus " + i + "\n");
+            }
+        }
+        binaryPath = Files.createTempFile("species", ".bin");
+        BinaryCatalogWriter.write(LazySpeciesCatalog.load(textPath), binaryPath);
+        commonName = "Flying Squirrel " + speciesCount / 2;
+    }
+
+    /**
+     * Delete the catalog files.
+     *
+     * @throws IOException If the files cannot be deleted.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(textPath);
+        Files.deleteIfExists(binaryPath);
+    }
+
+    /**
+     * Open the binary catalog, then look one species up.
+     *
+     * @return The classification looked up.
+     * @throws IOException If the file cannot be read.
+     */
+    @Benchmark
+    public ScientificClassification binary() throws IOException {
+        return BinarySpeciesCatalog.open(binaryPath).getScientificClassification(commonName).orElseThrow();
+    }
+
+    /**
+     * Load the text catalog lazily, then look one species up.
+     *
+     * @return The classification looked up.
+     * @throws IOException If the file cannot be read.
+     */
+    @Benchmark
+    public ScientificClassification lazyText() throws IOException {
+        return LazySpeciesCatalog.load(textPath).getScientificClassification(commonName).orElseThrow();
+    }
+}
@@ -0,0 +1,120 @@
+package codingchica.patterns.creational.factory.catalog;
+
+import codingchica.patterns.behavioral.strategy.model.ScientificClassification;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for looking a species up by common name, comparing a PerfectHashSpeciesCatalog with a TreeMap and a
+ * HashMap over the same names, along with the time to build the catalog.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class PerfectHashSpeciesCatalogBenchmark {
+    /** The number of species. */
+    @Param({"1000000"})
+    public int speciesCount;
+
+    /** The classifications, keyed by common name. */
+    private Map<String, ScientificClassification> classifications;
+    /** The catalog under test. */
+    private PerfectHashSpeciesCatalog catalog;
+    /** The same classifications in a TreeMap. */
+    private TreeMap<String, ScientificClassification> treeMap;
+    /** The same classifications in a HashMap. */
+    private HashMap<String, ScientificClassification> hashMap;
+    /** Separately allocated copies of the common names, looked up in turn. */
+    private String[] lookups;
+    /** The index of the next name to look up. */
+    private int next;
+
+    /**
+     * Build the catalog and the maps.
+     */
+    @Setup
+    public void setUp() {
+        classifications = new LinkedHashMap<>();
+        for (int i = 0; i < speciesCount; i++) {
+            classifications.put("Flying Squirrel " + i, ScientificClassification.builder()
+                    .kingdomName("Animalia")
+                    .phylumName("Chordata")
+                    .className("Mammalia")
+                    .orderName("Rodentia")
+                    .familyName("Sciuridae")
+                    .subFamilyName("Sciurinae")
+                    .tribeName("Pteromyini")
+                    .genusName("Glaucomys")
+                    .speciesName("Glaucomys sabrinus " + i)
+                    .build());
+        }
+        catalog = PerfectHashSpeciesCatalog.of(classifications);
+        treeMap = new TreeMap<>(classifications);
+        hashMap = new HashMap<>(classifications);
+        lookups = new String[1 << 16];
+        for (int i = 0; i < lookups.length; i++) {
+            lookups[i] = new String(("Flying Squirrel " + (int) ((i * 2654435761L) % speciesCount)).toCharArray());
+        }
+    }
+
+    /**
+     * Retrieve the next name to look up.
+     *
+     * @return The name.
+     */
+    private String nextName() {
+        next = (next + 1) & (lookups.length - 1);
+        return lookups[next];
+    }
+
+    /**
+     * Measure a lookup in the perfect hash catalog.
+     *
+     * @return The classification found.
+     */
+    @Benchmark
+    public Optional<ScientificClassification> perfectHash() {
+        return catalog.getScientificClassification(nextName());
+    }
+
+    /**
+     * Measure a lookup in a TreeMap.
+     *
+     * @return The classification found.
+     */
+    @Benchmark
+    public ScientificClassification treeMap() {
+        return treeMap.get(nextName());
+    }
+
+    /**
+     * Measure a lookup in a HashMap.
+     *
+     * @return The classification found.
+     */
+    @Benchmark
+    public ScientificClassification hashMap() {
+        return hashMap.get(nextName());
+    }
+
+    /**
+     * Measure building the catalog.
+     *
+     * @return The catalog.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public PerfectHashSpeciesCatalog build() {
+        return PerfectHashSpeciesCatalog.of(classifications);
+    }
+}
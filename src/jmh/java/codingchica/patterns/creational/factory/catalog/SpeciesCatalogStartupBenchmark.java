@@ -0,0 +1,105 @@
+package codingchica.patterns.creational.factory.catalog;
+
+import codingchica.patterns.creational.factory.FlyingStrategyRule;
+import codingchica.patterns.creational.factory.Species;
+import codingchica.patterns.creational.factory.SpeciesRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the time from reading a species catalog file to serving the first lookup, comparing registering
+ * every species up front, as AnimalFactory's static initializer does, an EagerSpeciesCatalog and a
+ * LazySpeciesCatalog.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SpeciesCatalogStartupBenchmark {
+    /** The number of species in the generated catalog. */
+    @Param({"10000", "100000"})
+    public int speciesCount;
+
+    /** The generated catalog file. */
+    private Path path;
+    /** The common name looked up once the catalog is loaded. */
+    private String commonName;
+
+    /**
+     * Generate the catalog file.
+     *
+     * @throws IOException If the file cannot be written.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        path = Files.createTempFile("species", ".tsv");
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < speciesCount; i++) {
+                writer.write("Flying Squirrel " + i + "\tAnimalia\tChordata\tMammalia\tRodentia\t\t\tSciuridae"
+                        + "\tSciurinae\tPteromyini\tGlaucomys\tGlaucomys sabrinus " + i + "\n");
+            }
+        }
+        commonName = "Flying Squirrel " + speciesCount / 2;
+    }
+
+    /**
+     * Delete the catalog file.
+     *
+     * @throws IOException If the file cannot be deleted.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    /**
+     * Register every species in the catalog directly, then look one up.
+     *
+     * @return The species looked up.
+     * @throws IOException If the file cannot be read.
+     */
+    @Benchmark
+    public Species eagerRegistration() throws IOException {
+        EagerSpeciesCatalog catalog = EagerSpeciesCatalog.load(path);
+        SpeciesRegistry speciesRegistry = new SpeciesRegistry();
+        for (String name : catalog.getCommonNames()) {
+            speciesRegistry.register(name, catalog.getScientificClassification(name).orElseThrow(),
+                    FlyingStrategyRule.none());
+        }
+        return speciesRegistry.lookup(commonName).orElseThrow();
+    }
+
+    /**
+     * Attach an EagerSpeciesCatalog, then look one species up.
+     *
+     * @return The species looked up.
+     * @throws IOException If the file cannot be read.
+     */
+    @Benchmark
+    public Species eagerCatalog() throws IOException {
+        SpeciesRegistry speciesRegistry = new SpeciesRegistry();
+        speciesRegistry.attachCatalog(EagerSpeciesCatalog.load(path), FlyingStrategyRule.none());
+        return speciesRegistry.lookup(commonName).orElseThrow();
+    }
+
+    /**
+     * Attach a LazySpeciesCatalog, then look one species up.
+     *
+     * @return The species looked up.
+     * @throws IOException If the file cannot be read.
+     */
+    @Benchmark
+    public Species lazyCatalog() throws IOException {
+        SpeciesRegistry speciesRegistry = new SpeciesRegistry();
+        speciesRegistry.attachCatalog(LazySpeciesCatalog.load(path), FlyingStrategyRule.none());
+        return speciesRegistry.lookup(commonName).orElseThrow();
+    }
+}
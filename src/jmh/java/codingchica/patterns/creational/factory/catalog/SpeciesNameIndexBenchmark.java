@@ -0,0 +1,79 @@
+package codingchica.patterns.creational.factory.catalog;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Benchmarks for completing a prefix to the first ten names, comparing a SpeciesNameIndex with filtering every name
+ * with startsWith.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class SpeciesNameIndexBenchmark {
+    /** The number of names, half common names and half species names. */
+    @Param({"1000000"})
+    public int nameCount;
+    /** The prefix completed. */
+    @Param({"Flying Squirrel 12", "glaucomys sabrinus 4"})
+    public String prefix;
+
+    /** The most completions returned. */
+    private static final int LIMIT = 10;
+
+    /** The names. */
+    private List<String> names;
+    /** The index under test. */
+    private SpeciesNameIndex index;
+
+    /**
+     * Build the names and the index.
+     */
+    @Setup
+    public void setUp() {
+        names = new ArrayList<>(nameCount);
+        for (int i = 0; i < nameCount / 2; i++) {
+            names.add("Flying Squirrel " + i);
+            names.add("Glaucomys sabrinus " + i);
+        }
+        index = SpeciesNameIndex.of(names);
+    }
+
+    /**
+     * Measure completing the prefix, matching case exactly.
+     *
+     * @return The completions.
+     */
+    @Benchmark
+    public List<String> complete() {
+        return index.complete(prefix, LIMIT);
+    }
+
+    /**
+     * Measure completing the prefix, ignoring case.
+     *
+     * @return The completions.
+     */
+    @Benchmark
+    public List<String> completeIgnoreCase() {
+        return index.completeIgnoreCase(prefix, LIMIT);
+    }
+
+    /**
+     * Measure filtering every name with startsWith, then sorting the matches.
+     *
+     * @return The completions.
+     */
+    @Benchmark
+    public List<String> filterStartsWith() {
+        return names.stream().filter(name -> name.startsWith(prefix)).sorted().limit(LIMIT)
+                .collect(Collectors.toList());
+    }
+}
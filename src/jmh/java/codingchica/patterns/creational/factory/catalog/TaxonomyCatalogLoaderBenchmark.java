@@ -0,0 +1,70 @@
+package codingchica.patterns.creational.factory.catalog;
+
+import codingchica.patterns.creational.factory.SpeciesRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for loading a generated delimited catalog into a new SpeciesRegistry with a TaxonomyCatalogLoader.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class TaxonomyCatalogLoaderBenchmark {
+    /** The number of species in the generated catalog. */
+    @Param({"1000000"})
+    public int speciesCount;
+
+    /** The generated catalog file. */
+    private Path path;
+    /** The loader under test, with the default settings. */
+    private final TaxonomyCatalogLoader loader = TaxonomyCatalogLoader.builder().build();
+
+    /**
+     * Generate the catalog file.
+     *
+     * @throws IOException If the file cannot be written.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        path = Files.createTempFile("species", ".tsv");
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < speciesCount; i++) {
+                writer.write("Flying Squirrel " + i + "\tAnimalia\tChordata\tMammalia\tRodentia\t\t\tSciuridae"
+                        + "\tSciurinae\tPteromyini\tGlaucomys\tGlaucomys sabrinus " + i + "\n");
+            }
+        }
+    }
+
+    /**
+     * Delete the catalog file.
+     *
+     * @throws IOException If the file cannot be deleted.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    /**
+     * Load the whole catalog.
+     *
+     * @return The registry holding the loaded species.
+     * @throws IOException If the file cannot be read.
+     */
+    @Benchmark
+    public SpeciesRegistry load() throws IOException {
+        SpeciesRegistry speciesRegistry = new SpeciesRegistry();
+        loader.load(path, speciesRegistry);
+        return speciesRegistry;
+    }
+}
@@ -0,0 +1,109 @@
+package codingchica.patterns.creational.factory.enums;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for codingchica.patterns.creational.factory.enums.AccessLogAnalyzer against a line-by-line
+ * BufferedReader baseline that creates a String per line and looks the code up with HttpStatusCode.fromCode.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AccessLogAnalyzerBenchmark {
+    /** The codes written to the generated log, weighted towards the common ones. */
+    private static final int[] CODES = {200, 200, 200, 200, 200, 200, 304, 301, 302, 404, 404, 403, 500, 503, 201};
+
+    /** The number of lines in the generated log. */
+    @Param({"100000", "1000000"})
+    public int lines;
+
+    /** The generated log file. */
+    private Path path;
+    /** The analyzer under test, using the default chunk size and the common pool. */
+    private AccessLogAnalyzer analyzer;
+
+    /**
+     * Generate the access log.
+     *
+     * @throws IOException If the file cannot be written.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        path = Files.createTempFile("access", ".log");
+        Random random = new Random(42);
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.ISO_8859_1)) {
+            for (int i = 0; i < lines; i++) {
+                writer.write("10.0.");
+                writer.write(Integer.toString(random.nextInt(256)));
+                writer.write('.');
+                writer.write(Integer.toString(random.nextInt(256)));
+                writer.write(" - - [10/Oct/2000:13:55:36 -0700] \"GET /images/");
+                writer.write(Integer.toString(random.nextInt(100000)));
+                writer.write(".gif HTTP/1.1\" ");
+                writer.write(Integer.toString(CODES[random.nextInt(CODES.length)]));
+                writer.write(' ');
+                writer.write(Integer.toString(random.nextInt(65536)));
+                writer.write(" \"http://www.example.com/start.html\" \"Mozilla/4.08 [en] (Win98; I ;Nav)\"\n");
+            }
+        }
+        analyzer = new AccessLogAnalyzer();
+    }
+
+    /**
+     * Remove the generated log.
+     *
+     * @throws IOException If the file cannot be deleted.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    /**
+     * Measure the memory-mapped, fork-join analyzer.
+     *
+     * @return The report.
+     * @throws IOException If the file cannot be read.
+     */
+    @Benchmark
+    public AccessLogReport analyzer() throws IOException {
+        return analyzer.analyze(path);
+    }
+
+    /**
+     * Measure a single-threaded BufferedReader loop that decodes each line into a String, cuts out the status code
+     * field and looks it up with HttpStatusCode.fromCode.
+     *
+     * @return The counts per status code.
+     * @throws IOException If the file cannot be read.
+     */
+    @Benchmark
+    public Map<HttpStatusCode, Long> bufferedReaderBaseline() throws IOException {
+        Map<HttpStatusCode, Long> counts = new EnumMap<>(HttpStatusCode.class);
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.ISO_8859_1)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int start = line.indexOf("\" ") + 2;
+                int end = line.indexOf(' ', start);
+                Optional<HttpStatusCode> statusCode = HttpStatusCode.fromCode(Integer.parseInt(line.substring(start, end)));
+                statusCode.ifPresent(value -> counts.merge(value, 1L, Long::sum));
+            }
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,110 @@
+package codingchica.patterns.creational.factory.enums;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for codingchica.patterns.creational.factory.enums.ErrorRateTracker, recording from many contending
+ * threads, with and without a thread reading rates at the same time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ErrorRateTrackerBenchmark {
+    /** The codes recorded, in turn, by each thread. */
+    private static final HttpStatusCode[] CODES = {HttpStatusCode.OK, HttpStatusCode.OK, HttpStatusCode.NOT_MODIFIED,
+            HttpStatusCode.NOT_FOUND, HttpStatusCode.OK, HttpStatusCode.INTERNAL_SERVER_ERROR, HttpStatusCode.OK};
+
+    /** The tracker shared by all the benchmark threads. */
+    private ErrorRateTracker tracker;
+
+    /**
+     * The position of a single thread in the CODES array.
+     */
+    @State(Scope.Thread)
+    public static class ThreadState {
+        /** The index of the next code to record. */
+        private int index;
+        /** A timestamp taken before the iteration, standing in for one the request path already holds. */
+        private long timeMillis;
+
+        /**
+         * Take the timestamp for the iteration.
+         */
+        @Setup(Level.Iteration)
+        public void setUp() {
+            timeMillis = System.currentTimeMillis();
+        }
+
+        /**
+         * Retrieve the next code to record.
+         *
+         * @return The code.
+         */
+        HttpStatusCode next() {
+            HttpStatusCode code = CODES[index];
+            index = index + 1 == CODES.length ? 0 : index + 1;
+            return code;
+        }
+    }
+
+    /**
+     * Build the tracker, with one stripe per processor.
+     */
+    @Setup
+    public void setUp() {
+        tracker = new ErrorRateTracker(Duration.ofMinutes(1));
+    }
+
+    /**
+     * Measure recording from 64 contending threads.
+     *
+     * @param state The calling thread's state.
+     */
+    @Benchmark
+    @Threads(64)
+    public void record(ThreadState state) {
+        tracker.record(state.next());
+    }
+
+    /**
+     * Measure recording from 64 contending threads, with a timestamp supplied by the caller rather than read from the
+     * clock.
+     *
+     * @param state The calling thread's state.
+     */
+    @Benchmark
+    @Threads(64)
+    public void recordWithTimestamp(ThreadState state) {
+        tracker.record(state.next(), state.timeMillis);
+    }
+
+    /**
+     * Measure recording from 63 threads while another thread reads the rate.
+     *
+     * @param state The calling thread's state.
+     */
+    @Benchmark
+    @Group("recordWhileReading")
+    @GroupThreads(63)
+    public void recordWhileReadingWriter(ThreadState state) {
+        tracker.record(state.next());
+    }
+
+    /**
+     * Measure reading the rate while 63 other threads record.
+     *
+     * @return The rate, so that the call cannot be eliminated.
+     */
+    @Benchmark
+    @Group("recordWhileReading")
+    @GroupThreads(1)
+    public double recordWhileReadingReader() {
+        return tracker.getRate(HttpStatusCategory.SERVER_ERROR);
+    }
+}
@@ -0,0 +1,102 @@
+package codingchica.patterns.creational.factory.enums;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for codingchica.patterns.creational.factory.enums.HttpStatusCodeClassifier against classifying each code
+ * through HttpStatusCode.fromCode and the isXxx() predicates, and against an explicitly vectorized loop written with
+ * the incubating Vector API.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Benchmark)
+public class HttpStatusCodeClassifierBenchmark {
+    /** The codes the batches are drawn from, weighted towards the common ones. */
+    private static final int[] CODES = {200, 200, 200, 200, 200, 201, 204, 301, 302, 304, 304, 400, 401, 403, 404, 404,
+            429, 500, 502, 503, 299, 0};
+
+    /** The number of codes in a batch. */
+    @Param({"10000", "100000"})
+    public int size;
+
+    /** The batch being classified. */
+    private int[] batch;
+
+    /**
+     * Build the batch.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        batch = new int[size];
+        for (int i = 0; i < size; i++) {
+            batch[i] = CODES[random.nextInt(CODES.length)];
+        }
+    }
+
+    /**
+     * Measure looking up each code with fromCode and testing it with the isXxx() predicates, as callers do today.
+     * Codes missing from the registry are skipped, as fromCode does not find them.
+     *
+     * @return The counts, indexed by category ordinal.
+     */
+    @Benchmark
+    public long[] perElementEnum() {
+        long[] counts = new long[HttpStatusCategory.values().length];
+        for (int code : batch) {
+            Optional<HttpStatusCode> statusCode = HttpStatusCode.fromCode(code);
+            if (statusCode.isPresent()) {
+                HttpStatusCode value = statusCode.get();
+                if (value.isInformational()) {
+                    counts[0]++;
+                } else if (value.isSuccessful()) {
+                    counts[1]++;
+                } else if (value.isRedirection()) {
+                    counts[2]++;
+                } else if (value.isClientError()) {
+                    counts[3]++;
+                } else if (value.isServerError()) {
+                    counts[4]++;
+                }
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Measure the branch-free, auto-vectorizable category count.
+     *
+     * @return The counts.
+     */
+    @Benchmark
+    public StatusCodeCounts classifier() {
+        return HttpStatusCodeClassifier.classify(batch);
+    }
+
+    /**
+     * Measure the branch-free histogram, which also yields the category counts.
+     *
+     * @return The counts.
+     */
+    @Benchmark
+    public StatusCodeCounts classifierWithHistogram() {
+        return HttpStatusCodeClassifier.classify(batch, true);
+    }
+
+    /**
+     * Measure the category count written with the incubating Vector API.
+     *
+     * @return The counts, indexed by category ordinal.
+     */
+    @Benchmark
+    public long[] vectorApi() {
+        return VectorStatusCodeClassifier.countByCategory(batch);
+    }
+}
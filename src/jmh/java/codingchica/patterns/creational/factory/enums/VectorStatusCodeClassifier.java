@@ -0,0 +1,78 @@
+package codingchica.patterns.creational.factory.enums;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * A variant of HttpStatusCodeClassifier's category count written against the incubating Vector API, so that its
+ * explicitly vectorized loop can be compared with the auto-vectorized scalar loop.  It lives with the benchmarks
+ * rather than in the main code, as the incubator module must be added to both the compiler and the JVM running it.
+ */
+final class VectorStatusCodeClassifier {
+    /** The widest int vector shape supported by the platform. */
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+    /** The number of codes in each category. */
+    private static final int CATEGORY_WIDTH = 100;
+    /** A vector of ones, selected into the lanes that match a category. */
+    private static final IntVector ONE = IntVector.broadcast(SPECIES, 1);
+
+    /**
+     * Private constructor, as this class only exposes static methods.
+     */
+    private VectorStatusCodeClassifier() {
+    }
+
+    /**
+     * Count the codes in the array per category.
+     *
+     * @param codes The int values representing the Http status codes.
+     * @return The counts, indexed by HttpStatusCategory ordinal.
+     */
+    static long[] countByCategory(int[] codes) {
+        // Separate locals, rather than an array of vectors, so that the vectors are kept in registers.
+        IntVector informational = IntVector.zero(SPECIES);
+        IntVector successful = IntVector.zero(SPECIES);
+        IntVector redirection = IntVector.zero(SPECIES);
+        IntVector clientError = IntVector.zero(SPECIES);
+        IntVector serverError = IntVector.zero(SPECIES);
+        int bound = SPECIES.loopBound(codes.length);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            IntVector vector = IntVector.fromArray(SPECIES, codes, i);
+            informational = informational.add(inCategory(vector, 100));
+            successful = successful.add(inCategory(vector, 200));
+            redirection = redirection.add(inCategory(vector, 300));
+            clientError = clientError.add(inCategory(vector, 400));
+            serverError = serverError.add(inCategory(vector, 500));
+        }
+        long[] counts = {
+                informational.reduceLanes(VectorOperators.ADD),
+                successful.reduceLanes(VectorOperators.ADD),
+                redirection.reduceLanes(VectorOperators.ADD),
+                clientError.reduceLanes(VectorOperators.ADD),
+                serverError.reduceLanes(VectorOperators.ADD)};
+        for (; i < codes.length; i++) {
+            HttpStatusCategory category = HttpStatusCategory.fromCodeOrNull(codes[i]);
+            if (category != null) {
+                counts[category.ordinal()]++;
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Test each lane against a category range.
+     *
+     * @param vector  The codes.
+     * @param minCode The category's minimum code.
+     * @return 1 in each lane holding a code in the range <pre>minCode &lt;= code &lt; minCode + 100</pre>, otherwise
+     * 0.
+     */
+    private static IntVector inCategory(IntVector vector, int minCode) {
+        // Unsigned comparison folds "offset >= 0" and "offset < 100" into one test.
+        VectorMask<Integer> mask = vector.sub(minCode).compare(VectorOperators.UNSIGNED_LT, CATEGORY_WIDTH);
+        return ONE.blend(0, mask.not());
+    }
+}
@@ -0,0 +1,105 @@
+package codingchica.patterns.behavioral.strategy;
+
+import lombok.NonNull;
+
+import java.util.Optional;
+
+/**
+ * A registry of shared FlyingStrategy instances.  None of the built-in strategies hold any state, so a single instance
+ * of each can be shared by every Animal, rather than creating a new one per Animal or per call (the flyweight pattern).
+ * <p>
+ * Each entry also carries a small numeric id.  The ids are stable: they are part of any serialized form, so existing
+ * ids must never be changed or reused, and new entries must take the next unused id.
+ */
+public enum FlyingStrategyRegistry {
+    /**
+     * 0 - The strategy used when an animal is unable to fly.
+     */
+    UNABLE_TO_FLY(0, new UnableToFlyStrategy()),
+    /**
+     * 1 - Flapping wings.
+     */
+    FLAP_WINGS(1, new FlapWingsStrategy()),
+    /**
+     * 2 - Gliding without flapping.
+     */
+    GLIDING(2, new GlidingStrategy()),
+    /**
+     * 3 - Flying inside an airplane.
+     */
+    AIRPLANE(3, new AirplaneStrategy());
+
+    /** The entries, indexed by id. */
+    private static final FlyingStrategyRegistry[] BY_ID = new FlyingStrategyRegistry[values().length];
+
+    static {
+        for (FlyingStrategyRegistry value : values()) {
+            BY_ID[value.id] = value;
+        }
+    }
+
+    /**
+     * The stable numeric id of this entry.
+     */
+    private final int id;
+    /**
+     * The shared strategy instance.
+     */
+    private final FlyingStrategy strategy;
+
+    /**
+     * Constructor for FlyingStrategyRegistry objects.
+     *
+     * @param id       The stable numeric id of the entry.
+     * @param strategy The shared strategy instance.
+     */
+    FlyingStrategyRegistry(int id, FlyingStrategy strategy) {
+        this.id = id;
+        this.strategy = strategy;
+    }
+
+    /**
+     * Getter for the id field.
+     *
+     * @return The stable numeric id of this entry.
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Getter for the strategy field.
+     *
+     * @return The shared FlyingStrategy instance for this entry.
+     */
+    public FlyingStrategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Retrieve the registry entry with the id provided.
+     *
+     * @param id The stable numeric id of the entry.
+     * @return An Optional containing the entry, if one was found.
+     */
+    public static Optional<FlyingStrategyRegistry> fromId(int id) {
+        return id >= 0 && id < BY_ID.length ? Optional.of(BY_ID[id]) : Optional.empty();
+    }
+
+    /**
+     * Retrieve the registry entry for the strategy provided.  Entries are matched on the exact class, so a subclass of
+     * a built-in strategy (which may override its behavior) does not match.
+     *
+     * @param strategy The strategy to look up.
+     * @return An Optional containing the entry, if the strategy is one of the built-in strategies.
+     */
+    public static Optional<FlyingStrategyRegistry> fromStrategy(@NonNull FlyingStrategy strategy) {
+        Class<?> strategyClass = strategy.getClass();
+        for (FlyingStrategyRegistry value : BY_ID) {
+            if (value.strategy.getClass() == strategyClass) {
+                return Optional.of(value);
+            }
+        }
+        return Optional.empty();
+    }
+}
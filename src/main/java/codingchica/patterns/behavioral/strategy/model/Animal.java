@@ -1,25 +1,139 @@
 package codingchica.patterns.behavioral.strategy.model;
 
 import codingchica.patterns.behavioral.strategy.FlyingStrategy;
-import codingchica.patterns.behavioral.strategy.UnableToFlyStrategy;
+import codingchica.patterns.behavioral.strategy.FlyingStrategyRegistry;
 import lombok.*;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.Optional;
 
 /**
  * A POJO representing an animal of some kind.
+ * <p>
+ * Alongside its flying strategy, an animal records the id of the strategy's FlyingStrategyRegistry entry.  The
+ * built-in strategies always return the same message, so getFlyingMessage can read it from a table indexed by that
+ * id.  This avoids a virtual call, which turns megamorphic when animals with several strategies pass through the same
+ * code.  Only strategies outside the registry are asked for their message.
+ * <p>
+ * The flying strategy may be replaced while other threads are reading it, such as when an animal matures.  The
+ * strategy and its id are published together in an immutable slot, with release / acquire semantics, so a reader
+ * always sees a strategy and id that belong together, along with everything the writer did before publishing them.
  */
 @ToString
-@Builder(builderClassName = "Builder")
 @Getter
 public class Animal {
-    private ScientificClassification scientificClassification;
-    private String name;
-    private String description;
-    @Setter
-    private FlyingStrategy flyingStrategy;
+    /** The id used for a strategy which is not a registry entry. */
+    private static final int CUSTOM_STRATEGY = -1;
+    /** The message of each built-in strategy, indexed by registry id. */
+    private static final String[] FLYING_MESSAGES = new String[FlyingStrategyRegistry.values().length];
+    /** The slot of each registry entry's shared strategy, indexed by registry id, so setting one does not allocate. */
+    private static final FlyingStrategySlot[] SHARED_SLOTS = new FlyingStrategySlot[FLYING_MESSAGES.length];
+    /** The slot of an animal without a flying strategy. */
+    private static final FlyingStrategySlot NO_STRATEGY =
+            new FlyingStrategySlot(null, FlyingStrategyRegistry.UNABLE_TO_FLY.getId());
+    /** Reads and writes flyingStrategySlot with memory ordering semantics. */
+    private static final VarHandle FLYING_STRATEGY_SLOT;
+
+    static {
+        for (FlyingStrategyRegistry entry : FlyingStrategyRegistry.values()) {
+            FLYING_MESSAGES[entry.getId()] = entry.getStrategy().getFlyingMessage();
+            SHARED_SLOTS[entry.getId()] = new FlyingStrategySlot(entry.getStrategy(), entry.getId());
+        }
+        try {
+            FLYING_STRATEGY_SLOT = MethodHandles.lookup()
+                    .findVarHandle(Animal.class, "flyingStrategySlot", FlyingStrategySlot.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final ScientificClassification scientificClassification;
+    private final String name;
+    private final String description;
+    /** The current flying strategy and its registry id, only accessed through FLYING_STRATEGY_SLOT. */
+    @ToString.Exclude
+    @Getter(AccessLevel.NONE)
+    private FlyingStrategySlot flyingStrategySlot;
+
+    /**
+     * Constructor for Animal objects.
+     *
+     * @param scientificClassification The scientific classification of the animal's species.
+     * @param name                     The name of the animal.
+     * @param description              A description of the animal.
+     * @param flyingStrategy           The animal's current flying strategy, or null if it is unable to fly.
+     */
+    @lombok.Builder(builderClassName = "Builder")
+    Animal(ScientificClassification scientificClassification, String name, String description,
+           FlyingStrategy flyingStrategy) {
+        this.scientificClassification = scientificClassification;
+        this.name = name;
+        this.description = description;
+        // Assigned directly rather than through the overridable setter, which would run before a subclass is set up.
+        this.flyingStrategySlot = slotFor(flyingStrategy);
+    }
+
+    /**
+     * Retrieve the slot holding a strategy and its registry id.
+     *
+     * @param flyingStrategy The strategy, or null if the animal is unable to fly.
+     * @return A shared slot for null or a registry entry's shared strategy, otherwise a new slot.
+     */
+    private static FlyingStrategySlot slotFor(FlyingStrategy flyingStrategy) {
+        if (flyingStrategy == null) {
+            return NO_STRATEGY;
+        }
+        int kind = FlyingStrategyRegistry.fromStrategy(flyingStrategy)
+                .map(FlyingStrategyRegistry::getId)
+                .orElse(CUSTOM_STRATEGY);
+        return kind != CUSTOM_STRATEGY && SHARED_SLOTS[kind].strategy == flyingStrategy
+                ? SHARED_SLOTS[kind]
+                : new FlyingStrategySlot(flyingStrategy, kind);
+    }
+
+    /**
+     * Read the current slot, seeing everything written before it was published.
+     *
+     * @return The current slot.
+     */
+    private FlyingStrategySlot getFlyingStrategySlot() {
+        return (FlyingStrategySlot) FLYING_STRATEGY_SLOT.getAcquire(this);
+    }
+
+    /**
+     * Setter for the flying strategy, which publishes the new strategy to every thread reading it.
+     *
+     * @param flyingStrategy The animal's new flying strategy, or null if it is unable to fly.
+     */
+    public void setFlyingStrategy(FlyingStrategy flyingStrategy) {
+        FLYING_STRATEGY_SLOT.setRelease(this, slotFor(flyingStrategy));
+    }
+
+    /**
+     * Replace the flying strategy only if it is still the one expected, such as to upgrade an animal which has not
+     * been given a different strategy in the meantime.  Strategies are compared by identity.
+     *
+     * @param expectedStrategy The strategy the animal is expected to have, or null if it is expected to have none.
+     * @param newStrategy      The animal's new flying strategy, or null if it is unable to fly.
+     * @return Whether the strategy was replaced.
+     */
+    public boolean compareAndSetFlyingStrategy(FlyingStrategy expectedStrategy, FlyingStrategy newStrategy) {
+        FlyingStrategySlot replacement = slotFor(newStrategy);
+        FlyingStrategySlot current = getFlyingStrategySlot();
+        while (current.strategy == expectedStrategy) {
+            // Another thread may have published a new slot holding the same strategy, which still counts as a match.
+            FlyingStrategySlot witness =
+                    (FlyingStrategySlot) FLYING_STRATEGY_SLOT.compareAndExchange(this, current, replacement);
+            if (witness == current) {
+                return true;
+            }
+            current = witness;
+        }
+        return false;
+    }
 
     /**
      * Retrieve the message to present when the animal attempts to fly.
@@ -28,9 +142,8 @@ public class Animal {
      * inability to fly.
      */
     public String getFlyingMessage() {
-        return getFlyingStrategy()
-                .orElse(new UnableToFlyStrategy())
-                .getFlyingMessage();
+        FlyingStrategySlot slot = getFlyingStrategySlot();
+        return slot.kind == CUSTOM_STRATEGY ? slot.strategy.getFlyingMessage() : FLYING_MESSAGES[slot.kind];
     }
 
     /**
@@ -38,28 +151,99 @@ public class Animal {
      *
      * @return The Optional indicating the current flying strategy, if present.
      */
+    @ToString.Include(name = "flyingStrategy")
     public Optional<FlyingStrategy> getFlyingStrategy() {
-        return Optional.ofNullable(flyingStrategy);
+        return Optional.ofNullable(getFlyingStrategySlot().strategy);
+    }
+
+    /**
+     * Indicates whether the animal has a flying strategy, without the Optional that getFlyingStrategy() allocates when
+     * escape analysis fails.
+     *
+     * @return Whether a flying strategy is set.
+     */
+    public boolean hasFlyingStrategy() {
+        return getFlyingStrategySlot().strategy != null;
+    }
+
+    /**
+     * Getter for the flying strategy, which falls back to the shared UNABLE_TO_FLY strategy without allocating.
+     *
+     * @return The current flying strategy, or the registry's UNABLE_TO_FLY strategy if none is set.
+     */
+    public FlyingStrategy getFlyingStrategyOrDefault() {
+        return getFlyingStrategyOrDefault(FlyingStrategyRegistry.UNABLE_TO_FLY.getStrategy());
+    }
+
+    /**
+     * Getter for the flying strategy, which falls back to the strategy provided without allocating.
+     *
+     * @param defaultStrategy The strategy to return if none is set, such as a FlyingStrategyRegistry entry's shared
+     *                        strategy.
+     * @return The current flying strategy, or defaultStrategy if none is set.
+     */
+    public FlyingStrategy getFlyingStrategyOrDefault(FlyingStrategy defaultStrategy) {
+        FlyingStrategy strategy = getFlyingStrategySlot().strategy;
+        return strategy == null ? defaultStrategy : strategy;
     }
 
     /**
-     * Generate a hashCode for this object.
+     * Generate a hashCode for this object, from the current values of its getters.
      *
      * @return An int value representing a hash of this object.
      */
     @Override
     public int hashCode() {
-        return HashCodeBuilder.reflectionHashCode(this);
+        return new HashCodeBuilder()
+                .append(getScientificClassification())
+                .append(getName())
+                .append(getDescription())
+                .append(getFlyingStrategy())
+                .toHashCode();
     }
 
     /**
-     * Compare two objects for equality.
+     * Compare two objects for equality, by the current values of their getters.  Subclasses are never equal to an
+     * Animal, or to each other unless they are of the same class.
      *
      * @param obj The other object to use in the comparison.
      * @return Whether the two objects are equivalent.
      */
     @Override
     public boolean equals(Object obj) {
-        return EqualsBuilder.reflectionEquals(this, obj);
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        Animal other = (Animal) obj;
+        return new EqualsBuilder()
+                .append(getScientificClassification(), other.getScientificClassification())
+                .append(getName(), other.getName())
+                .append(getDescription(), other.getDescription())
+                .append(getFlyingStrategy(), other.getFlyingStrategy())
+                .isEquals();
+    }
+
+    /**
+     * A flying strategy along with its registry id, published as a single reference so the two always agree.
+     */
+    private static final class FlyingStrategySlot {
+        /** The strategy, or null if the animal is unable to fly. */
+        private final FlyingStrategy strategy;
+        /** The strategy's registry id, UNABLE_TO_FLY's when there is no strategy, or CUSTOM_STRATEGY. */
+        private final int kind;
+
+        /**
+         * Constructor for FlyingStrategySlot objects.
+         *
+         * @param strategy The strategy, or null if the animal is unable to fly.
+         * @param kind     The strategy's registry id, UNABLE_TO_FLY's when there is no strategy, or CUSTOM_STRATEGY.
+         */
+        private FlyingStrategySlot(FlyingStrategy strategy, int kind) {
+            this.strategy = strategy;
+            this.kind = kind;
+        }
     }
 }
@@ -0,0 +1,52 @@
+package codingchica.patterns.behavioral.strategy.model;
+
+/**
+ * The taxonomic ranks held by a ScientificClassification, from the broadest to the most specific.
+ */
+public enum Rank {
+    /** The kingdom, such as Animalia. */
+    KINGDOM(true),
+    /** The phylum, such as Chordata. */
+    PHYLUM(true),
+    /** The class, such as Mammalia. */
+    CLASS(true),
+    /** The order, such as Primates. */
+    ORDER(true),
+    /** The sub-order, such as Haplorhini, which is not defined for every species. */
+    SUB_ORDER(false),
+    /** The infra-order, such as Simiformes, which is not defined for every species. */
+    INFRA_ORDER(false),
+    /** The family, such as Hominidae. */
+    FAMILY(true),
+    /** The sub-family, such as Homininae. */
+    SUB_FAMILY(true),
+    /** The tribe, such as Hominini. */
+    TRIBE(true),
+    /** The genus, such as Homo, which is not defined for every species. */
+    GENUS(false),
+    /** The species, such as Homo sapiens. */
+    SPECIES(true);
+
+    /**
+     * Whether every ScientificClassification must have a value for this rank.
+     */
+    private final boolean required;
+
+    /**
+     * Constructor for Rank objects.
+     *
+     * @param required Whether every ScientificClassification must have a value for the rank.
+     */
+    Rank(boolean required) {
+        this.required = required;
+    }
+
+    /**
+     * Getter for the required field.
+     *
+     * @return Whether every ScientificClassification must have a value for this rank.
+     */
+    public boolean isRequired() {
+        return required;
+    }
+}
@@ -1,35 +1,273 @@
 package codingchica.patterns.behavioral.strategy.model;
 
-import lombok.*;
-import org.apache.commons.lang3.builder.EqualsBuilder;
+import lombok.NonNull;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 
+import java.util.Objects;
+
 /**
  * A POJO representing the scientific classification of a given object.
+ * <p>
+ * Rather than a String per rank, each classification holds the TaxonomyDictionary ids of the ranks from kingdom down
+ * to tribe, packed three to a long field, in Rank order.  Values such as "Animalia" are then stored once in the
+ * dictionary however many classifications share them, and those ranks are compared three at a time.  Packing the ids
+ * into fields, rather than an int array, saves the array's header and the reference to it: a classification takes 48
+ * bytes plus its genus and species Strings, against 64 bytes for a String field per rank even when every rank String is
+ * shared.  Genus and species values are shared
+ * by few classifications, if any, so they are held as plain Strings: the dictionary keeps every value it is given for
+ * the lifetime of the JVM, and this way a unique name is collected along with its classification.  The getters,
+ * builder, toString, hashCode and equals behave as they did when every value was held in a String field.
  */
-@ToString
-@Builder(builderClassName = "Builder")
-@Getter
 public class ScientificClassification {
-    @NonNull
-    private String kingdomName;
-    @NonNull
-    private String phylumName;
-    @NonNull
-    private String className;
-    @NonNull
-    private String orderName;
-    private String subOrderName;
-    private String infraOrder;
-    @NonNull
-    private String speciesName;
-    @NonNull
-    private String familyName;
-    @NonNull
-    private String subFamilyName;
-    @NonNull
-    private String tribeName;
-    private String genusName;
+    /** The dictionary holding the rank values. */
+    private static final TaxonomyDictionary DICTIONARY = TaxonomyDictionary.getInstance();
+
+    /** The number of ranks held as dictionary ids, which are the ranks from kingdom down to tribe. */
+    private static final int ENCODED_RANK_COUNT = Rank.TRIBE.ordinal() + 1;
+    /** The number of dictionary ids packed into each long. */
+    private static final int IDS_PER_LONG = 3;
+    /** Keeps the bits of a single packed id. */
+    private static final long ID_MASK = (1L << TaxonomyDictionary.ID_BITS) - 1;
+
+    /**
+     * The dictionary ids of the kingdom, phylum and class, and likewise for the fields below.  Each id is stored plus
+     * one, in TaxonomyDictionary.ID_BITS bits from the lowest, so that an unset rank is stored as 0.
+     */
+    private final long kingdomToClassIds;
+    /** The dictionary ids of the order, sub-order and infra-order. */
+    private final long orderToInfraOrderIds;
+    /** The dictionary ids of the family, sub-family and tribe. */
+    private final long familyToTribeIds;
+    /** The name of the genus, if any. */
+    private final String genusName;
+    /** The name of the species. */
+    private final String speciesName;
+    /**
+     * The hash of this object, computed once at build time.  The object is immutable, so the hash can never go stale.
+     */
+    private final int hash;
+
+    /**
+     * Constructor for ScientificClassification objects, used by the builder.
+     *
+     * @param kingdomName   The name of the kingdom.
+     * @param phylumName    The name of the phylum.
+     * @param className     The name of the class.
+     * @param orderName     The name of the order.
+     * @param subOrderName  The name of the sub-order, if any.
+     * @param infraOrder    The name of the infra-order, if any.
+     * @param speciesName   The name of the species.
+     * @param familyName    The name of the family.
+     * @param subFamilyName The name of the sub-family.
+     * @param tribeName     The name of the tribe.
+     * @param genusName     The name of the genus, if any.
+     */
+    @lombok.Builder(builderClassName = "Builder")
+    ScientificClassification(@NonNull String kingdomName, @NonNull String phylumName, @NonNull String className,
+                             @NonNull String orderName, String subOrderName, String infraOrder,
+                             @NonNull String speciesName, @NonNull String familyName, @NonNull String subFamilyName,
+                             @NonNull String tribeName, String genusName) {
+        this.kingdomToClassIds = pack(kingdomName, phylumName, className);
+        this.orderToInfraOrderIds = pack(orderName, subOrderName, infraOrder);
+        this.familyToTribeIds = pack(familyName, subFamilyName, tribeName);
+        this.genusName = genusName;
+        this.speciesName = speciesName;
+        // Same seed, multiplier and field order (sorted by field name) as HashCodeBuilder.reflectionHashCode over the
+        // String fields this class used to have, so the values match those produced before the hash was cached.
+        this.hash = new HashCodeBuilder(17, 37)
+                .append(className)
+                .append(familyName)
+                .append(genusName)
+                .append(infraOrder)
+                .append(kingdomName)
+                .append(orderName)
+                .append(phylumName)
+                .append(speciesName)
+                .append(subFamilyName)
+                .append(subOrderName)
+                .append(tribeName)
+                .toHashCode();
+    }
+
+    /**
+     * Pack the dictionary ids of three consecutive ranks into a long.
+     *
+     * @param first  The value of the first rank, or null if it is unset.
+     * @param second The value of the second rank, or null if it is unset.
+     * @param third  The value of the third rank, or null if it is unset.
+     * @return The packed ids.
+     */
+    private static long pack(String first, String second, String third) {
+        return storedIdOf(first)
+                | storedIdOf(second) << TaxonomyDictionary.ID_BITS
+                | storedIdOf(third) << (2 * TaxonomyDictionary.ID_BITS);
+    }
+
+    /**
+     * Retrieve the dictionary id of a rank value, plus one, as it is packed.
+     *
+     * @param value The value, or null if the rank is unset.
+     * @return The id plus one, or 0 if the value is null.
+     */
+    private static long storedIdOf(String value) {
+        return value == null ? 0 : DICTIONARY.idOf(value) + 1L;
+    }
+
+    /**
+     * Indicates whether a rank's values are held as TaxonomyDictionary ids, and so can be read with getRankId.  The
+     * ranks from kingdom down to tribe are; genus and species are not.
+     *
+     * @param rank The rank.
+     * @return Whether the rank is dictionary-encoded.
+     */
+    public static boolean isDictionaryEncoded(@NonNull Rank rank) {
+        return rank.ordinal() < ENCODED_RANK_COUNT;
+    }
+
+    /**
+     * Retrieve the value of a rank.
+     *
+     * @param rank The rank.
+     * @return The value, or null if the rank is unset.
+     */
+    public String getRank(@NonNull Rank rank) {
+        if (rank == Rank.GENUS) {
+            return genusName;
+        }
+        if (rank == Rank.SPECIES) {
+            return speciesName;
+        }
+        int id = getRankId(rank);
+        return id == TaxonomyDictionary.NO_ID ? null : DICTIONARY.valueOf(id);
+    }
+
+    /**
+     * Indicates whether a rank is set, without reading a dictionary-encoded value.
+     *
+     * @param rank The rank.
+     * @return Whether the rank has a value.
+     */
+    public boolean hasRank(@NonNull Rank rank) {
+        return isDictionaryEncoded(rank) ? getRankId(rank) != TaxonomyDictionary.NO_ID : getRank(rank) != null;
+    }
+
+    /**
+     * Retrieve the TaxonomyDictionary id of a rank's value, which is equal for two classifications exactly when
+     * their values are.
+     *
+     * @param rank The rank, which must be dictionary-encoded.
+     * @return The id, or TaxonomyDictionary.NO_ID if the rank is unset.
+     * @throws IllegalArgumentException If the rank is not dictionary-encoded.
+     * @see #isDictionaryEncoded(Rank)
+     */
+    public int getRankId(@NonNull Rank rank) {
+        if (!isDictionaryEncoded(rank)) {
+            throw new IllegalArgumentException(rank + " values are not dictionary-encoded");
+        }
+        int group = rank.ordinal() / IDS_PER_LONG;
+        long packedIds = group == 0 ? kingdomToClassIds : group == 1 ? orderToInfraOrderIds : familyToTribeIds;
+        int shift = rank.ordinal() % IDS_PER_LONG * TaxonomyDictionary.ID_BITS;
+        return (int) ((packedIds >>> shift) & ID_MASK) - 1;
+    }
+
+    /**
+     * Getter for the kingdom.
+     *
+     * @return The name of the kingdom.
+     */
+    public String getKingdomName() {
+        return getRank(Rank.KINGDOM);
+    }
+
+    /**
+     * Getter for the phylum.
+     *
+     * @return The name of the phylum.
+     */
+    public String getPhylumName() {
+        return getRank(Rank.PHYLUM);
+    }
+
+    /**
+     * Getter for the class.
+     *
+     * @return The name of the class.
+     */
+    public String getClassName() {
+        return getRank(Rank.CLASS);
+    }
+
+    /**
+     * Getter for the order.
+     *
+     * @return The name of the order.
+     */
+    public String getOrderName() {
+        return getRank(Rank.ORDER);
+    }
+
+    /**
+     * Getter for the sub-order.
+     *
+     * @return The name of the sub-order, or null if there is none.
+     */
+    public String getSubOrderName() {
+        return getRank(Rank.SUB_ORDER);
+    }
+
+    /**
+     * Getter for the infra-order.
+     *
+     * @return The name of the infra-order, or null if there is none.
+     */
+    public String getInfraOrder() {
+        return getRank(Rank.INFRA_ORDER);
+    }
+
+    /**
+     * Getter for the species.
+     *
+     * @return The name of the species.
+     */
+    public String getSpeciesName() {
+        return speciesName;
+    }
+
+    /**
+     * Getter for the family.
+     *
+     * @return The name of the family.
+     */
+    public String getFamilyName() {
+        return getRank(Rank.FAMILY);
+    }
+
+    /**
+     * Getter for the sub-family.
+     *
+     * @return The name of the sub-family.
+     */
+    public String getSubFamilyName() {
+        return getRank(Rank.SUB_FAMILY);
+    }
+
+    /**
+     * Getter for the tribe.
+     *
+     * @return The name of the tribe.
+     */
+    public String getTribeName() {
+        return getRank(Rank.TRIBE);
+    }
+
+    /**
+     * Getter for the genus.
+     *
+     * @return The name of the genus, or null if there is none.
+     */
+    public String getGenusName() {
+        return genusName;
+    }
 
     /**
      * Generate a hashCode for this object.
@@ -37,7 +275,7 @@ public class ScientificClassification {
      */
     @Override
     public int hashCode() {
-        return HashCodeBuilder.reflectionHashCode(this);
+        return hash;
     }
 
     /**
@@ -47,6 +285,54 @@ public class ScientificClassification {
      */
     @Override
     public boolean equals(Object obj) {
-        return EqualsBuilder.reflectionEquals(this, obj);
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof ScientificClassification)) {
+            return false;
+        }
+        ScientificClassification other = (ScientificClassification) obj;
+        // Compare the cached hashes first, so that most unequal pairs are rejected without touching the ids.  Equal
+        // values share a dictionary id, so comparing the ids compares the values.
+        return hash == other.hash && kingdomToClassIds == other.kingdomToClassIds
+                && orderToInfraOrderIds == other.orderToInfraOrderIds && familyToTribeIds == other.familyToTribeIds
+                && speciesName.equals(other.speciesName) && Objects.equals(genusName, other.genusName);
+    }
+
+    /**
+     * Describe this object, in the format Lombok generated for the String fields this class used to have.
+     *
+     * @return A String listing the value of each rank.
+     */
+    @Override
+    public String toString() {
+        return "ScientificClassification(kingdomName=" + getKingdomName()
+                + ", phylumName=" + getPhylumName()
+                + ", className=" + getClassName()
+                + ", orderName=" + getOrderName()
+                + ", subOrderName=" + getSubOrderName()
+                + ", infraOrder=" + getInfraOrder()
+                + ", speciesName=" + getSpeciesName()
+                + ", familyName=" + getFamilyName()
+                + ", subFamilyName=" + getSubFamilyName()
+                + ", tribeName=" + getTribeName()
+                + ", genusName=" + getGenusName() + ")";
+    }
+
+    /**
+     * The builder for ScientificClassification objects.  Lombok generates the setters and build method; only the
+     * additional behavior is declared here.
+     */
+    public static class Builder {
+        /**
+         * Build the classification and return the canonical, shared instance that is value-equal to it.  Use this
+         * instead of build() when many value-equal classifications are created from the same data.
+         *
+         * @return The canonical ScientificClassification for the values in this builder.
+         * @see ScientificClassificationInterner
+         */
+        public ScientificClassification buildInterned() {
+            return ScientificClassificationInterner.getInstance().intern(build());
+        }
     }
 }
@@ -0,0 +1,134 @@
+package codingchica.patterns.behavioral.strategy.model;
+
+import lombok.NonNull;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A pool of canonical ScientificClassification instances.  Interning a classification returns the single shared
+ * instance that is value-equal to it, so that duplicate copies can be garbage collected and equality checks between
+ * interned instances are satisfied by the identity check.
+ * <p>
+ * The pool only holds weak references, so a canonical instance is dropped from the pool once no Animal (or anything
+ * else) refers to it any more.  It is safe to use from multiple threads.
+ *
+ * @see ScientificClassification.Builder#buildInterned()
+ */
+public class ScientificClassificationInterner {
+    private static final ScientificClassificationInterner interner = new ScientificClassificationInterner();
+
+    /** The canonical instances, each mapped to itself so that the stored key can be retrieved. */
+    final Map<WeakKey, WeakKey> table = new ConcurrentHashMap<>();
+    /** Receives the keys whose classification has been garbage collected. */
+    private final ReferenceQueue<ScientificClassification> staleKeys = new ReferenceQueue<>();
+
+    /**
+     * Get the shared instance of the ScientificClassificationInterner class.
+     *
+     * @return The ScientificClassificationInterner used by ScientificClassification.Builder.
+     */
+    public static ScientificClassificationInterner getInstance() {
+        return interner;
+    }
+
+    /**
+     * Package-private constructor, so that tests can work with an isolated pool.
+     *
+     * @see #getInstance()
+     */
+    ScientificClassificationInterner() {
+    }
+
+    /**
+     * Retrieve the canonical instance that is value-equal to the classification provided, adding the classification
+     * as the canonical instance if there is none yet.
+     *
+     * @param classification The classification to intern.
+     * @return The canonical instance, which may be the classification provided.
+     */
+    public ScientificClassification intern(@NonNull ScientificClassification classification) {
+        expungeStaleKeys();
+        WeakKey key = new WeakKey(classification, staleKeys);
+        while (true) {
+            WeakKey existing = table.putIfAbsent(key, key);
+            if (existing == null) {
+                return classification;
+            }
+            ScientificClassification canonical = existing.get();
+            if (canonical != null) {
+                // Never published, so it must not show up on the queue.
+                key.clear();
+                return canonical;
+            }
+            // The canonical instance was collected after the lookup matched it.  Drop it and try again.
+            table.remove(existing, existing);
+        }
+    }
+
+    /**
+     * Retrieve the number of entries in the pool, including any that have been collected but not yet removed.
+     *
+     * @return The number of entries in the pool.
+     */
+    public int size() {
+        expungeStaleKeys();
+        return table.size();
+    }
+
+    /**
+     * Remove the entries whose canonical instance has been garbage collected.
+     */
+    private void expungeStaleKeys() {
+        Reference<? extends ScientificClassification> reference;
+        while ((reference = staleKeys.poll()) != null) {
+            table.remove(reference, reference);
+        }
+    }
+
+    /**
+     * A weak reference to a canonical instance, usable as a hash key.  Equality is value equality of the referents;
+     * once the referent has been collected, a key no longer equals any key.
+     */
+    static class WeakKey extends WeakReference<ScientificClassification> {
+        /** The hash of the referent, kept so the key can still be located after the referent has been collected. */
+        private final int hash;
+
+        /**
+         * Constructor for WeakKey objects.
+         *
+         * @param referent The classification to refer to.
+         * @param queue    The queue to register the key with.
+         */
+        WeakKey(ScientificClassification referent, ReferenceQueue<ScientificClassification> queue) {
+            super(referent, queue);
+            this.hash = referent.hashCode();
+        }
+
+        /**
+         * Generate a hashCode for this object.
+         *
+         * @return The hash of the referent.
+         */
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        /**
+         * Compare two objects for equality.
+         *
+         * @param obj The other object to use in the comparison.
+         * @return Whether the two keys refer to value-equal classifications.
+         */
+        @Override
+        public boolean equals(Object obj) {
+            // The map compares keys by identity before calling equals, so only value equality is checked here.
+            ScientificClassification referent = get();
+            return referent != null && obj instanceof WeakKey && referent.equals(((WeakKey) obj).get());
+        }
+    }
+}
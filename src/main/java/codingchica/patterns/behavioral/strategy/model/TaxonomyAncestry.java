@@ -0,0 +1,284 @@
+package codingchica.patterns.behavioral.strategy.model;
+
+import lombok.NonNull;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+/**
+ * Answers how closely two species of a TaxonomyIndex are related, such as Human and Flying Squirrel sharing every
+ * rank down to the class Mammalia, in constant time per pair.
+ * <p>
+ * The species of the index are leaves of its tree, numbered in pre-order, so the lowest common ancestor of two species
+ * is the shallowest of the lowest common ancestors of each neighbouring pair of species between them.  The depth of
+ * each neighbouring pair's ancestor is computed once, in linear time, and a sparse table over those depths finds the
+ * minimum over any range with two lookups.  This is the Euler tour technique, restricted to the leaves, which is all
+ * that queries between species need.  The ancestor itself is then at most a rank count above either species.
+ */
+public final class TaxonomyAncestry {
+    /** The ranks, indexed by ordinal. */
+    private static final Rank[] RANKS = Rank.values();
+
+    /** The species nodes of the index, in pre-order. */
+    private final TaxonomyNode[] species;
+    /** The depth of each species, in pre-order. */
+    private final byte[] depths;
+    /** The ranks set for each species, as a bit per Rank ordinal, in pre-order. */
+    private final short[] rankMasks;
+    /** An open-addressing hash table of the species' classifications, which is at most half full. */
+    private final ScientificClassification[] slotKeys;
+    /** The position among the species nodes of the classification in the same slot. */
+    private final int[] slotPositions;
+    /**
+     * The sparse table: entry [k][i] is the shallowest depth of the common ancestor of neighbouring species among
+     * species i to i + 2^k.  Depths never exceed the number of ranks, so they fit in a byte.
+     */
+    private final byte[][] minimumDepths;
+
+    /**
+     * Constructor for TaxonomyAncestry objects.
+     *
+     * @param index The index to answer queries for.
+     */
+    private TaxonomyAncestry(TaxonomyIndex index) {
+        species = index.getNodes(Rank.SPECIES).toArray(new TaxonomyNode[0]);
+        int slotCount = Integer.highestOneBit(Math.max(species.length, 1) * 2 - 1) * 2;
+        slotKeys = new ScientificClassification[slotCount];
+        slotPositions = new int[slotCount];
+        depths = new byte[species.length];
+        rankMasks = new short[species.length];
+        for (int i = 0; i < species.length; i++) {
+            int slot = firstSlot(species[i].classification);
+            while (slotKeys[slot] != null) {
+                slot = (slot + 1) & (slotCount - 1);
+            }
+            slotKeys[slot] = species[i].classification;
+            slotPositions[slot] = i;
+            depths[i] = (byte) species[i].depth;
+            for (TaxonomyNode node = species[i]; node.getRank() != null; node = node.parent) {
+                rankMasks[i] |= (short) (1 << node.getRank().ordinal());
+            }
+        }
+        int pairCount = Math.max(species.length - 1, 0);
+        byte[] neighbourDepths = new byte[pairCount];
+        for (int i = 0; i < pairCount; i++) {
+            neighbourDepths[i] = (byte) commonAncestor(species[i], species[i + 1]).depth;
+        }
+        int levels = pairCount == 0 ? 1 : Integer.SIZE - Integer.numberOfLeadingZeros(pairCount);
+        minimumDepths = new byte[levels][];
+        minimumDepths[0] = neighbourDepths;
+        for (int level = 1; level < levels; level++) {
+            byte[] previous = minimumDepths[level - 1];
+            int half = 1 << (level - 1);
+            byte[] current = new byte[pairCount - (1 << level) + 1];
+            for (int i = 0; i < current.length; i++) {
+                current[i] = (byte) Math.min(previous[i], previous[i + half]);
+            }
+            minimumDepths[level] = current;
+        }
+    }
+
+    /**
+     * Preprocess an index for relatedness queries between its species.
+     *
+     * @param index The index.
+     * @return The preprocessed structure, which does not change if the index's source does.
+     */
+    public static TaxonomyAncestry of(@NonNull TaxonomyIndex index) {
+        return new TaxonomyAncestry(index);
+    }
+
+    /**
+     * Find the lowest taxon that two species share.
+     *
+     * @param first  The first species.
+     * @param second The second species.
+     * @return An Optional containing the shared taxon, which is the species itself if both are the same, or empty if
+     * the species are in different kingdoms.
+     * @throws IllegalArgumentException If either species is not in the index.
+     */
+    public Optional<TaxonomyNode> lowestCommonAncestor(@NonNull ScientificClassification first,
+                                                       @NonNull ScientificClassification second) {
+        int firstPosition = positionOf(first);
+        TaxonomyNode ancestor = ancestorAt(species[firstPosition], commonDepth(firstPosition, positionOf(second)));
+        return ancestor.getRank() == null ? Optional.empty() : Optional.of(ancestor);
+    }
+
+    /**
+     * Find the lowest rank that two species share, such as CLASS for Human and Flying Squirrel.
+     *
+     * @param first  The first species.
+     * @param second The second species.
+     * @return An Optional containing the rank, which is SPECIES if both are the same, or empty if the species are in
+     * different kingdoms.
+     * @throws IllegalArgumentException If either species is not in the index.
+     */
+    public Optional<Rank> lowestCommonRank(@NonNull ScientificClassification first,
+                                           @NonNull ScientificClassification second) {
+        return Optional.ofNullable(commonRank(first, second));
+    }
+
+    /**
+     * Count the steps up and down the tree from one species to another.  Ranks that are unset for a species are not
+     * steps, and species in different kingdoms are joined above their kingdoms.
+     *
+     * @param first  The first species.
+     * @param second The second species.
+     * @return The number of steps, which is 0 if both are the same.
+     * @throws IllegalArgumentException If either species is not in the index.
+     */
+    public int distance(@NonNull ScientificClassification first, @NonNull ScientificClassification second) {
+        int firstPosition = positionOf(first);
+        int secondPosition = positionOf(second);
+        return depths[firstPosition] + depths[secondPosition] - 2 * commonDepth(firstPosition, secondPosition);
+    }
+
+    /**
+     * Find the lowest shared rank of each pair of species, in parallel.
+     *
+     * @param first  The first species of each pair.
+     * @param second The second species of each pair.
+     * @return The lowest shared rank of each pair, or null where the species are in different kingdoms.
+     * @throws IllegalArgumentException If the lists differ in size, or a species is not in the index.
+     */
+    public Rank[] lowestCommonRanks(@NonNull List<ScientificClassification> first,
+                                    @NonNull List<ScientificClassification> second) {
+        Rank[] ranks = new Rank[checkSameSize(first, second)];
+        IntStream.range(0, ranks.length).parallel().forEach(i ->
+                ranks[i] = commonRank(first.get(i), second.get(i)));
+        return ranks;
+    }
+
+    /**
+     * Count the steps between each pair of species, in parallel.
+     *
+     * @param first  The first species of each pair.
+     * @param second The second species of each pair.
+     * @return The distance between each pair.
+     * @throws IllegalArgumentException If the lists differ in size, or a species is not in the index.
+     */
+    public int[] distances(@NonNull List<ScientificClassification> first,
+                           @NonNull List<ScientificClassification> second) {
+        int[] distances = new int[checkSameSize(first, second)];
+        IntStream.range(0, distances.length).parallel().forEach(i ->
+                distances[i] = distance(first.get(i), second.get(i)));
+        return distances;
+    }
+
+    /**
+     * Find the lowest rank that two species share, from the ranks set for the first species.
+     *
+     * @param first  The first species.
+     * @param second The second species.
+     * @return The rank, or null if the species are in different kingdoms.
+     * @throws IllegalArgumentException If either species is not in the index.
+     */
+    private Rank commonRank(@NonNull ScientificClassification first, @NonNull ScientificClassification second) {
+        int firstPosition = positionOf(first);
+        int depth = commonDepth(firstPosition, positionOf(second));
+        if (depth == 0) {
+            return null;
+        }
+        // The ancestor at a depth has the rank of the species' depth-th set rank, counting from the kingdom.
+        int mask = rankMasks[firstPosition];
+        for (int i = 1; i < depth; i++) {
+            mask &= mask - 1;
+        }
+        return RANKS[Integer.numberOfTrailingZeros(mask)];
+    }
+
+    /**
+     * Find the depth of the lowest common ancestor of two species.
+     *
+     * @param firstPosition  The position of the first species.
+     * @param secondPosition The position of the second species.
+     * @return The depth, or 0 if the species are in different kingdoms.
+     */
+    private int commonDepth(int firstPosition, int secondPosition) {
+        if (firstPosition == secondPosition) {
+            return depths[firstPosition];
+        }
+        int from = Math.min(firstPosition, secondPosition);
+        int to = Math.max(firstPosition, secondPosition);
+        // The pairs between the two species are from to to - 1, which two overlapping table entries cover.
+        int level = Integer.SIZE - 1 - Integer.numberOfLeadingZeros(to - from);
+        byte[] depths = minimumDepths[level];
+        return Math.min(depths[from], depths[to - (1 << level)]);
+    }
+
+    /**
+     * Find the position of a species.
+     *
+     * @param classification The species.
+     * @return Its position among the species nodes.
+     * @throws IllegalArgumentException If the species is not in the index.
+     */
+    private int positionOf(ScientificClassification classification) {
+        // A primitive table avoids the entry and boxed position that a HashMap would add to every lookup.
+        for (int slot = firstSlot(classification); slotKeys[slot] != null; slot = (slot + 1) & (slotKeys.length - 1)) {
+            if (slotKeys[slot] == classification || slotKeys[slot].equals(classification)) {
+                return slotPositions[slot];
+            }
+        }
+        throw new IllegalArgumentException("Species not in the taxonomy index: " + classification);
+    }
+
+    /**
+     * Find the slot to start probing from for a classification.
+     *
+     * @param classification The classification.
+     * @return The slot.
+     */
+    private int firstSlot(ScientificClassification classification) {
+        int hash = classification.hashCode();
+        return (hash ^ (hash >>> 16)) & (slotKeys.length - 1);
+    }
+
+    /**
+     * Find the lowest common ancestor of two nodes by walking up from both, used while preprocessing.
+     *
+     * @param first  The first node.
+     * @param second The second node.
+     * @return The ancestor, which may be the root.
+     */
+    private static TaxonomyNode commonAncestor(TaxonomyNode first, TaxonomyNode second) {
+        TaxonomyNode a = ancestorAt(first, Math.min(first.depth, second.depth));
+        TaxonomyNode b = ancestorAt(second, a.depth);
+        while (a != b) {
+            a = a.parent;
+            b = b.parent;
+        }
+        return a;
+    }
+
+    /**
+     * Find the ancestor of a node at a depth.
+     *
+     * @param node  The node.
+     * @param depth The depth of the ancestor, no deeper than the node.
+     * @return The ancestor, or the node itself if it is at that depth.
+     */
+    private static TaxonomyNode ancestorAt(TaxonomyNode node, int depth) {
+        TaxonomyNode ancestor = node;
+        while (ancestor.depth > depth) {
+            ancestor = ancestor.parent;
+        }
+        return ancestor;
+    }
+
+    /**
+     * Verify that two lists of species can be paired.
+     *
+     * @param first  The first species of each pair.
+     * @param second The second species of each pair.
+     * @return The number of pairs.
+     * @throws IllegalArgumentException If the lists differ in size.
+     */
+    private static int checkSameSize(List<ScientificClassification> first, List<ScientificClassification> second) {
+        if (first.size() != second.size()) {
+            throw new IllegalArgumentException("Cannot pair " + first.size() + " species with " + second.size());
+        }
+        return first.size();
+    }
+}
@@ -0,0 +1,222 @@
+package codingchica.patterns.behavioral.strategy.model;
+
+import lombok.NonNull;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * A dictionary assigning a dense int id to each distinct rank value, such as "Animalia" or "Hominidae", so that a
+ * ScientificClassification can hold a packed id per rank rather than a String reference, and value-equal Strings are
+ * only kept once however many classifications share them.
+ * <p>
+ * Ids are assigned in order from 0 and never change or get reused, so the dictionary only grows; values are held for
+ * the lifetime of the dictionary.  Only values shared by many classifications belong in it, which is why
+ * ScientificClassification encodes the ranks from kingdom down to tribe, and keeps genus and species as Strings.  Both
+ * directions avoid per-entry objects: values are stored in fixed-size pages indexed by id, and the reverse lookup is an
+ * open-addressing table of ids.  Lookups of known values and ids take no lock; only assigning a new id does.
+ * <p>
+ * The dictionary holds at most MAXIMUM_SIZE values, so that every id fits in ID_BITS bits, and a
+ * ScientificClassification can pack the ids of three ranks into a single long.
+ */
+public final class TaxonomyDictionary {
+    /** The id recorded for an unset rank. */
+    public static final int NO_ID = -1;
+    /** The number of bits any id, plus one, fits in. */
+    public static final int ID_BITS = 21;
+    /** The largest number of values the dictionary holds, so that the largest id plus one fits in ID_BITS bits. */
+    public static final int MAXIMUM_SIZE = (1 << ID_BITS) - 1;
+    /** The number of bits of an id that select the entry within its page. */
+    static final int PAGE_BITS = 12;
+    /** The number of values per page. */
+    static final int PAGE_SIZE = 1 << PAGE_BITS;
+
+    private static final TaxonomyDictionary dictionary = new TaxonomyDictionary();
+
+    /** The largest number of values this dictionary holds. */
+    private final int maximumSize;
+    /** Guards the assignment of new ids. */
+    private final Object lock = new Object();
+    /** The values, in pages of PAGE_SIZE, indexed by id.  Pages never move once allocated. */
+    private volatile String[][] pages = {new String[PAGE_SIZE]};
+    /** The reverse lookup, holding one plus the id of each occupied slot, and 0 for an empty one. */
+    private volatile AtomicIntegerArray table = new AtomicIntegerArray(16);
+    /** The number of ids assigned. */
+    private volatile int size;
+
+    /**
+     * Get the shared instance of the TaxonomyDictionary class.
+     *
+     * @return The TaxonomyDictionary used by ScientificClassification.
+     */
+    public static TaxonomyDictionary getInstance() {
+        return dictionary;
+    }
+
+    /**
+     * Package-private constructor, so that tests can work with an isolated dictionary.
+     *
+     * @see #getInstance()
+     */
+    TaxonomyDictionary() {
+        this(MAXIMUM_SIZE);
+    }
+
+    /**
+     * Package-private constructor, so that tests can fill an isolated dictionary without assigning MAXIMUM_SIZE ids.
+     *
+     * @param maximumSize The largest number of values the dictionary holds.
+     */
+    TaxonomyDictionary(int maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Retrieve the id of a value, assigning the next id if the value is new.
+     *
+     * @param value The rank value.
+     * @return The id of the value.
+     * @throws IllegalStateException If the value is new, and the dictionary already holds MAXIMUM_SIZE values.
+     */
+    public int idOf(@NonNull String value) {
+        int hash = spread(value.hashCode());
+        int id = find(table, value, hash);
+        if (id != NO_ID) {
+            return id;
+        }
+        synchronized (lock) {
+            AtomicIntegerArray currentTable = table;
+            // Another thread may have assigned the id since the lock-free lookup.
+            id = find(currentTable, value, hash);
+            if (id != NO_ID) {
+                return id;
+            }
+            id = size;
+            if (id == maximumSize) {
+                throw new IllegalStateException("TaxonomyDictionary is full, with " + maximumSize + " values");
+            }
+            String[][] currentPages = pages;
+            int pageIndex = id >>> PAGE_BITS;
+            if (pageIndex == currentPages.length) {
+                currentPages = Arrays.copyOf(currentPages, currentPages.length * 2);
+            }
+            if (currentPages[pageIndex] == null) {
+                currentPages[pageIndex] = new String[PAGE_SIZE];
+            }
+            currentPages[pageIndex][id & (PAGE_SIZE - 1)] = value;
+            pages = currentPages;
+            if ((id + 1) * 2 > currentTable.length()) {
+                currentTable = rehash(currentTable.length() * 2, id);
+            }
+            // The volatile slot write publishes the value written above to lock-free readers that find the slot.
+            insert(currentTable, hash, id);
+            table = currentTable;
+            size = id + 1;
+            return id;
+        }
+    }
+
+    /**
+     * Retrieve the value of an id.
+     *
+     * @param id The id, as returned by idOf.
+     * @return The value.
+     * @throws IllegalArgumentException If no value has been assigned the id.
+     */
+    public String valueOf(int id) {
+        if (id >= 0) {
+            String[][] currentPages = pages;
+            int pageIndex = id >>> PAGE_BITS;
+            if (pageIndex < currentPages.length) {
+                String[] page = currentPages[pageIndex];
+                // A racy read may miss a value assigned by another thread, but never sees a partial one, as Strings
+                // are immutable.  A miss is settled under the lock.
+                String value = page == null ? null : page[id & (PAGE_SIZE - 1)];
+                if (value != null) {
+                    return value;
+                }
+            }
+        }
+        synchronized (lock) {
+            if (id < 0 || id >= size) {
+                throw new IllegalArgumentException("Unknown taxonomy dictionary id: " + id);
+            }
+            return pages[id >>> PAGE_BITS][id & (PAGE_SIZE - 1)];
+        }
+    }
+
+    /**
+     * Retrieve the number of distinct values in the dictionary.
+     *
+     * @return The number of ids assigned.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Spread the high bits of a hash into the low ones, as the table is indexed by the low bits alone.
+     *
+     * @param hash The String hash.
+     * @return The spread hash.
+     */
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Look a value up in a table.
+     *
+     * @param currentTable The table to search.
+     * @param value        The value.
+     * @param hash         The spread hash of the value.
+     * @return The id of the value, or NO_ID if the table does not hold it.
+     */
+    private int find(AtomicIntegerArray currentTable, String value, int hash) {
+        int mask = currentTable.length() - 1;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            int entry = currentTable.get(slot);
+            if (entry == 0) {
+                return NO_ID;
+            }
+            int id = entry - 1;
+            String[][] currentPages = pages;
+            if (value.equals(currentPages[id >>> PAGE_BITS][id & (PAGE_SIZE - 1)])) {
+                return id;
+            }
+        }
+    }
+
+    /**
+     * Add an id to a table, which must have an empty slot.
+     *
+     * @param currentTable The table.
+     * @param hash         The spread hash of the id's value.
+     * @param id           The id.
+     */
+    private static void insert(AtomicIntegerArray currentTable, int hash, int id) {
+        int mask = currentTable.length() - 1;
+        int slot = hash & mask;
+        while (currentTable.get(slot) != 0) {
+            slot = (slot + 1) & mask;
+        }
+        currentTable.set(slot, id + 1);
+    }
+
+    /**
+     * Build a larger table holding the ids assigned so far.  Readers keep using the old table until the new one is
+     * published, which is still valid for every id it holds.
+     *
+     * @param capacity The number of slots, a power of two.
+     * @param count    The number of ids to add.
+     * @return The new table.
+     */
+    private AtomicIntegerArray rehash(int capacity, int count) {
+        AtomicIntegerArray newTable = new AtomicIntegerArray(capacity);
+        String[][] currentPages = pages;
+        for (int id = 0; id < count; id++) {
+            insert(newTable, spread(currentPages[id >>> PAGE_BITS][id & (PAGE_SIZE - 1)].hashCode()), id);
+        }
+        return newTable;
+    }
+}
@@ -0,0 +1,317 @@
+package codingchica.patterns.behavioral.strategy.model;
+
+import lombok.NonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * An immutable taxonomy tree over a set of classifications, running kingdom, phylum, class, order and so on down to
+ * species.  Species share the nodes of their common ancestors, and a rank that is unset for a species is skipped, so a
+ * family may sit directly below an order.
+ * <p>
+ * Each query takes time proportional to the size of its result, rather than to the number of species indexed:
+ * <ul>
+ *     <li>Nodes are numbered in a pre-order walk, so the species below a node are a contiguous range of an array,
+ *     returned as a view.</li>
+ *     <li>The nodes of each rank are kept in pre-order too, so the descendants of a node at a rank are found with a
+ *     binary search, such as every family in Chordata.</li>
+ *     <li>The nodes of each rank are also kept by name, so whether a rank value exists is a single map lookup.</li>
+ * </ul>
+ */
+public final class TaxonomyIndex {
+    /** Orders sibling nodes by rank, and then by name. */
+    static final Comparator<TaxonomyNode> NODE_ORDER =
+            Comparator.comparing(TaxonomyNode::getRank).thenComparing(TaxonomyNode::getName);
+
+    /** The node above the kingdoms, which has no rank or name. */
+    private final TaxonomyNode root;
+    /** The classification of each species, in pre-order. */
+    private final ScientificClassification[] species;
+    /** The nodes of each rank, in pre-order. */
+    private final Map<Rank, TaxonomyNode[]> nodesByRank = new EnumMap<>(Rank.class);
+    /** The nodes of each rank, keyed by name.  One name may be used under several parents. */
+    private final Map<Rank, Map<String, List<TaxonomyNode>>> nodesByName = new EnumMap<>(Rank.class);
+
+    /**
+     * Constructor for TaxonomyIndex objects.
+     *
+     * @param classifications The classifications to index.
+     */
+    private TaxonomyIndex(Collection<ScientificClassification> classifications) {
+        root = new TaxonomyNode(this, null, null, null);
+        int speciesCount = 0;
+        for (ScientificClassification classification : classifications) {
+            TaxonomyNode node = root;
+            for (Rank rank : Rank.values()) {
+                if (classification.hasRank(rank)) {
+                    node = node.getOrAddChild(rank, classification);
+                }
+            }
+            // Every classification has a species, so the last node is always a new or shared species node.
+            if (node.classification == null) {
+                node.classification = classification;
+                speciesCount++;
+            }
+        }
+        species = new ScientificClassification[speciesCount];
+        Map<Rank, List<TaxonomyNode>> nodeLists = new EnumMap<>(Rank.class);
+        for (Rank rank : Rank.values()) {
+            nodeLists.put(rank, new ArrayList<>());
+            nodesByName.put(rank, new HashMap<>());
+        }
+        number(root, 0, nodeLists, new int[2]);
+        nodeLists.forEach((rank, nodes) -> {
+            nodesByRank.put(rank, nodes.toArray(new TaxonomyNode[0]));
+            Map<String, List<TaxonomyNode>> byName = nodesByName.get(rank);
+            for (TaxonomyNode node : nodes) {
+                byName.computeIfAbsent(node.getName(), name -> new ArrayList<>(1)).add(node);
+            }
+            byName.replaceAll((name, named) -> Collections.unmodifiableList(named));
+        });
+    }
+
+    /**
+     * Build an index over the classifications provided.  Value-equal classifications are indexed once.
+     *
+     * @param classifications The classifications to index.
+     * @return The index.
+     */
+    public static TaxonomyIndex of(@NonNull Collection<ScientificClassification> classifications) {
+        return new TaxonomyIndex(classifications);
+    }
+
+    /**
+     * Number the subtree below a node in pre-order, and record its nodes and species.
+     *
+     * @param node      The node at the top of the subtree.
+     * @param depth     The depth of the node.
+     * @param nodeLists The nodes of each rank, to add the subtree's nodes to.
+     * @param counters  The next pre-order number, followed by the next species index.
+     */
+    private void number(TaxonomyNode node, int depth, Map<Rank, List<TaxonomyNode>> nodeLists, int[] counters) {
+        node.depth = depth;
+        node.preorder = counters[0]++;
+        node.speciesStart = counters[1];
+        if (node.getRank() != null) {
+            nodeLists.get(node.getRank()).add(node);
+        }
+        if (node.classification != null) {
+            species[counters[1]++] = node.classification;
+        }
+        for (TaxonomyNode child : node.sealChildren()) {
+            number(child, depth + 1, nodeLists, counters);
+        }
+        node.subtreeEnd = counters[0];
+        node.speciesEnd = counters[1];
+    }
+
+    /**
+     * Retrieve the kingdoms.
+     *
+     * @return The top-level nodes, ordered by name.
+     */
+    public List<TaxonomyNode> getKingdoms() {
+        return root.getChildren();
+    }
+
+    /**
+     * Retrieve the number of species indexed.
+     *
+     * @return The number of distinct classifications.
+     */
+    public int size() {
+        return species.length;
+    }
+
+    /**
+     * Indicates whether any species indexed has the rank value provided.
+     *
+     * @param rank The rank, such as ORDER.
+     * @param name The rank value, such as Rodentia.
+     * @return True if the rank value exists, otherwise false.
+     */
+    public boolean contains(@NonNull Rank rank, @NonNull String name) {
+        return nodesByName.get(rank).containsKey(name);
+    }
+
+    /**
+     * Retrieve the nodes for a rank value.  There is usually one, but the same name may be used under several
+     * parents.
+     *
+     * @param rank The rank, such as ORDER.
+     * @param name The rank value, such as Rodentia.
+     * @return The nodes, in pre-order, or an empty list if the rank value does not exist.
+     */
+    public List<TaxonomyNode> getNodes(@NonNull Rank rank, @NonNull String name) {
+        return nodesByName.get(rank).getOrDefault(name, Collections.emptyList());
+    }
+
+    /**
+     * Retrieve every node of a rank.
+     *
+     * @param rank The rank, such as FAMILY.
+     * @return An unmodifiable view of the nodes, in pre-order.
+     */
+    public List<TaxonomyNode> getNodes(@NonNull Rank rank) {
+        return Collections.unmodifiableList(Arrays.asList(nodesByRank.get(rank)));
+    }
+
+    /**
+     * Retrieve the species within a taxon.
+     *
+     * @param node A node of this index.
+     * @return An unmodifiable view of the classifications of the species below, or at, the node, in pre-order.
+     * @throws IllegalArgumentException If the node belongs to another index.
+     */
+    public List<ScientificClassification> getClassifications(@NonNull TaxonomyNode node) {
+        checkOwner(node);
+        return new Slice<>(species, node.speciesStart, node.speciesEnd);
+    }
+
+    /**
+     * Retrieve the species within every taxon with a rank value, such as every species under order Rodentia.
+     *
+     * @param rank The rank, such as ORDER.
+     * @param name The rank value, such as Rodentia.
+     * @return The classifications, in pre-order, or an empty list if the rank value does not exist.
+     */
+    public List<ScientificClassification> getClassifications(@NonNull Rank rank, @NonNull String name) {
+        List<TaxonomyNode> nodes = getNodes(rank, name);
+        if (nodes.size() == 1) {
+            return getClassifications(nodes.get(0));
+        }
+        List<ScientificClassification> classifications = new ArrayList<>();
+        for (TaxonomyNode node : nodes) {
+            classifications.addAll(getClassifications(node));
+        }
+        return Collections.unmodifiableList(classifications);
+    }
+
+    /**
+     * Retrieve the taxa of a rank below a node, such as every family in Chordata.
+     *
+     * @param node A node of this index.
+     * @param rank The rank of the taxa to retrieve.
+     * @return An unmodifiable view of the nodes, in pre-order.
+     * @throws IllegalArgumentException If the node belongs to another index.
+     */
+    public List<TaxonomyNode> getDescendants(@NonNull TaxonomyNode node, @NonNull Rank rank) {
+        checkOwner(node);
+        TaxonomyNode[] nodes = nodesByRank.get(rank);
+        int from = firstAtOrAfter(nodes, node.preorder + 1);
+        int to = firstAtOrAfter(nodes, node.subtreeEnd);
+        return new Slice<>(nodes, from, to);
+    }
+
+    /**
+     * Retrieve the taxa of a rank below every taxon with a rank value, such as every family in Chordata.
+     *
+     * @param ancestorRank The rank of the ancestor, such as PHYLUM.
+     * @param ancestorName The rank value of the ancestor, such as Chordata.
+     * @param rank         The rank of the taxa to retrieve, such as FAMILY.
+     * @return The nodes, in pre-order, or an empty list if the ancestor's rank value does not exist.
+     */
+    public List<TaxonomyNode> getDescendants(@NonNull Rank ancestorRank, @NonNull String ancestorName,
+                                             @NonNull Rank rank) {
+        List<TaxonomyNode> ancestors = getNodes(ancestorRank, ancestorName);
+        if (ancestors.size() == 1) {
+            return getDescendants(ancestors.get(0), rank);
+        }
+        List<TaxonomyNode> descendants = new ArrayList<>();
+        for (TaxonomyNode ancestor : ancestors) {
+            descendants.addAll(getDescendants(ancestor, rank));
+        }
+        return Collections.unmodifiableList(descendants);
+    }
+
+    /**
+     * Find the first node numbered at or after a pre-order position.
+     *
+     * @param nodes    Nodes in pre-order.
+     * @param preorder The pre-order position.
+     * @return The index of the first such node, or the number of nodes if there is none.
+     */
+    private static int firstAtOrAfter(TaxonomyNode[] nodes, int preorder) {
+        int low = 0;
+        int high = nodes.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (nodes[middle].preorder < preorder) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Verify that a node belongs to this index.
+     *
+     * @param node The node.
+     * @throws IllegalArgumentException If the node belongs to another index.
+     */
+    private void checkOwner(TaxonomyNode node) {
+        if (node.index != this) {
+            throw new IllegalArgumentException("The node does not belong to this index: " + node);
+        }
+    }
+
+    /**
+     * An unmodifiable view of a range of an array.
+     *
+     * @param <T> The element type.
+     */
+    private static final class Slice<T> extends AbstractList<T> {
+        /** The array. */
+        private final T[] elements;
+        /** The index of the first element in the view. */
+        private final int from;
+        /** The index just past the last element in the view. */
+        private final int to;
+
+        /**
+         * Constructor for Slice objects.
+         *
+         * @param elements The array.
+         * @param from     The index of the first element in the view.
+         * @param to       The index just past the last element in the view.
+         */
+        private Slice(T[] elements, int from, int to) {
+            this.elements = elements;
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Retrieve an element of the view.
+         *
+         * @param index The index within the view.
+         * @return The element.
+         */
+        @Override
+        public T get(int index) {
+            return elements[from + Objects.checkIndex(index, to - from)];
+        }
+
+        /**
+         * Retrieve the number of elements in the view.
+         *
+         * @return The number of elements.
+         */
+        @Override
+        public int size() {
+            return to - from;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package codingchica.patterns.behavioral.strategy.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A single taxon within a TaxonomyIndex, such as the order Rodentia.  Every species below the taxon shares this node,
+ * and a node's children are the taxa directly below it, skipping any ranks that are unset for those species.
+ */
+public final class TaxonomyNode {
+    /** The index the node belongs to. */
+    final TaxonomyIndex index;
+    /** The rank of the taxon, or null for the index's root. */
+    private final Rank rank;
+    /** The name of the taxon, or null for the index's root. */
+    private final String name;
+    /** The node directly above this one, which is the index's root for a kingdom, or null for the root. */
+    final TaxonomyNode parent;
+    /**
+     * The children while the index is being built, then null.  Children on dictionary-encoded ranks are keyed by rank
+     * and dictionary id, as a Long, and the others by rank and name, as a Map.Entry.
+     */
+    private Map<Object, TaxonomyNode> childrenByKey = new HashMap<>();
+    /** The children, ordered by rank and then by name, once the index is built. */
+    private List<TaxonomyNode> children;
+    /** The classification of the species, if this is a species node. */
+    ScientificClassification classification;
+    /** The number of taxa from the kingdom down to this node, counting both, or 0 for the root. */
+    int depth;
+    /** The position of the node in a pre-order walk of the index. */
+    int preorder;
+    /** The pre-order position just past the last node in this node's subtree. */
+    int subtreeEnd;
+    /** The index of the first species in the subtree, within the index's species in pre-order. */
+    int speciesStart;
+    /** The index just past the last species in the subtree, within the index's species in pre-order. */
+    int speciesEnd;
+
+    /**
+     * Constructor for TaxonomyNode objects.
+     *
+     * @param index  The index the node belongs to.
+     * @param rank   The rank of the taxon, or null for the root.
+     * @param name   The name of the taxon, or null for the root.
+     * @param parent The node directly above this one, or null for the root.
+     */
+    TaxonomyNode(TaxonomyIndex index, Rank rank, String name, TaxonomyNode parent) {
+        this.index = index;
+        this.rank = rank;
+        this.name = name;
+        this.parent = parent;
+    }
+
+    /**
+     * Getter for the rank field.
+     *
+     * @return The rank of the taxon, such as ORDER.
+     */
+    public Rank getRank() {
+        return rank;
+    }
+
+    /**
+     * Getter for the name field.
+     *
+     * @return The name of the taxon, such as Rodentia.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Retrieve the taxon directly above this one.
+     *
+     * @return An Optional containing the parent, or empty for a kingdom.
+     */
+    public Optional<TaxonomyNode> getParent() {
+        // The root is not a taxon, so kingdoms have no parent.
+        return parent.rank == null ? Optional.empty() : Optional.of(parent);
+    }
+
+    /**
+     * Getter for the children field.
+     *
+     * @return The taxa directly below this one, ordered by rank and then by name.
+     */
+    public List<TaxonomyNode> getChildren() {
+        return children;
+    }
+
+    /**
+     * Retrieve the number of species within the taxon.
+     *
+     * @return The number of distinct classifications below, or at, this node.
+     */
+    public int getSpeciesCount() {
+        return speciesEnd - speciesStart;
+    }
+
+    /**
+     * Retrieve the child for a rank value, adding it if this is its first species.  Only used while building the
+     * index.
+     *
+     * @param childRank      The rank of the child, which the classification has a value for.
+     * @param classification A classification of a species below the child.
+     * @return The child.
+     */
+    TaxonomyNode getOrAddChild(Rank childRank, ScientificClassification classification) {
+        Object key = ScientificClassification.isDictionaryEncoded(childRank)
+                ? (Object) (((long) childRank.ordinal() << Integer.SIZE) | classification.getRankId(childRank))
+                : Map.entry(childRank, classification.getRank(childRank));
+        TaxonomyNode child = childrenByKey.get(key);
+        if (child == null) {
+            child = new TaxonomyNode(index, childRank, classification.getRank(childRank), this);
+            childrenByKey.put(key, child);
+        }
+        return child;
+    }
+
+    /**
+     * Fix the order of the children, once every species has been added.
+     *
+     * @return The children, in order.
+     */
+    List<TaxonomyNode> sealChildren() {
+        List<TaxonomyNode> sorted = new ArrayList<>(childrenByKey.values());
+        sorted.sort(TaxonomyIndex.NODE_ORDER);
+        children = Collections.unmodifiableList(sorted);
+        childrenByKey = null;
+        return children;
+    }
+
+    /**
+     * Describe the taxon.
+     *
+     * @return The rank, name and species count of the taxon.
+     */
+    @Override
+    public String toString() {
+        return "TaxonomyNode(rank=" + rank + ", name=" + name + ", speciesCount=" + getSpeciesCount() + ")";
+    }
+}
@@ -1,25 +1,26 @@
 package codingchica.patterns.creational.factory;
 
-import codingchica.patterns.behavioral.strategy.AirplaneStrategy;
-import codingchica.patterns.behavioral.strategy.GlidingStrategy;
 import codingchica.patterns.behavioral.strategy.model.Animal;
 import codingchica.patterns.behavioral.strategy.model.ScientificClassification;
+import lombok.NonNull;
 
-import java.util.Map;
-import java.util.TreeMap;
+import java.util.Optional;
 
 /**
- * A factory to create Animals of different types.
+ * A factory to create Animals of different types.  The species it can create are held in a SpeciesRegistry, which
+ * starts out with a person and a flying squirrel, and to which more species may be registered at runtime.  The
+ * built-in species decide how their adults fly from their taxonomy, with TaxonomyFlyingStrategyRule.getDefault().
  */
 public class AnimalFactory {
+    /** The common name a person is registered under. */
+    public static final String COMMON_NAME_HUMAN = "Person";
+    /** The common name a flying squirrel is registered under. */
+    public static final String COMMON_NAME_FLYING_SQUIRREL = "Flying Squirrel";
     private static final AnimalFactory animalFactory;
-    private static final Map<String, ScientificClassification> SCIENTIFIC_CLASSIFICATION_MAP = new TreeMap<>();
-    private static final String COMMON_NAME_HUMAN = "Person";
-    private static final String COMMON_NAME_FLYING_SQUIRREL = "Flying Squirrel";
 
     static {
-        animalFactory = new AnimalFactory();
-        SCIENTIFIC_CLASSIFICATION_MAP.put(COMMON_NAME_HUMAN, ScientificClassification.builder()
+        SpeciesRegistry speciesRegistry = new SpeciesRegistry();
+        speciesRegistry.register(COMMON_NAME_HUMAN, ScientificClassification.builder()
                 // https://en.wikipedia.org/wiki/Human_taxonomy
                 .kingdomName("Animalia")
                 .phylumName("Chordata")
@@ -32,9 +33,9 @@ public class AnimalFactory {
                 .tribeName("Hominini")
                 .genusName("Homo")
                 .speciesName("Homo sapiens")
-                .build());
+                .build(), TaxonomyFlyingStrategyRule.getDefault());
 
-        SCIENTIFIC_CLASSIFICATION_MAP.put(COMMON_NAME_FLYING_SQUIRREL, ScientificClassification.builder()
+        speciesRegistry.register(COMMON_NAME_FLYING_SQUIRREL, ScientificClassification.builder()
                 // https://en.wikipedia.org/wiki/Flying_squirrel
                 .kingdomName("Animalia")
                 .phylumName("Chordata")
@@ -44,10 +45,14 @@ public class AnimalFactory {
                 .subFamilyName("Sciuridae")
                 .tribeName("Pteromyini")
                 .speciesName("Glaucomys sabrinus")
-                .build());
+                .build(), TaxonomyFlyingStrategyRule.getDefault());
 
+        animalFactory = new AnimalFactory(speciesRegistry);
     }
 
+    /** The species this factory can create. */
+    private final SpeciesRegistry speciesRegistry;
+
     /**
      * Get an instance of the AnimalFactory class.
      *
@@ -60,9 +65,42 @@ public class AnimalFactory {
     /**
      * Private constructor, so that we can enforce singleton approach.
      *
+     * @param speciesRegistry The species the factory can create.
      * @see #getInstance()
      */
-    private AnimalFactory() {
+    private AnimalFactory(SpeciesRegistry speciesRegistry) {
+        this.speciesRegistry = speciesRegistry;
+    }
+
+    /**
+     * Retrieve the registry of species this factory can create, so that more species can be registered.
+     *
+     * @return The species registry.
+     */
+    public SpeciesRegistry getSpeciesRegistry() {
+        return speciesRegistry;
+    }
+
+    /**
+     * Get an instance of an animal of a registered species.
+     *
+     * @param commonName  The common name the species is registered under.
+     * @param name        The name of the animal.
+     * @param description A description of the animal.
+     * @param isAdult     Whether the animal is an adult.
+     * @return An Optional containing an initialized Animal instance, or empty if no species is registered under the
+     * common name.
+     */
+    public Optional<Animal> getAnimal(@NonNull String commonName, String name, String description, boolean isAdult) {
+        return speciesRegistry.lookup(commonName).map(species -> {
+            ScientificClassification scientificClassification = species.getScientificClassification();
+            return Animal.builder()
+                    .scientificClassification(scientificClassification)
+                    .name(name)
+                    .description(description)
+                    .flyingStrategy(speciesRegistry.getFlyingStrategy(species, isAdult).orElse(null))
+                    .build();
+        });
     }
 
     /**
@@ -72,16 +110,10 @@ public class AnimalFactory {
      * @param description A description of the human.
      * @param isAdult     Whether the human is an adult.
      * @return An initialized Animal instance for the human.
+     * @throws java.util.NoSuchElementException If the person species has been unregistered.
      */
     public Animal getHuman(String name, String description, boolean isAdult) {
-        Animal.Builder builder = Animal.builder()
-                .scientificClassification(SCIENTIFIC_CLASSIFICATION_MAP.get(COMMON_NAME_HUMAN))
-                .name(name)
-                .description(description);
-        if (isAdult) {
-            builder.flyingStrategy(new AirplaneStrategy());
-        }
-        return builder.build();
+        return getAnimal(COMMON_NAME_HUMAN, name, description, isAdult).orElseThrow();
     }
 
     /**
@@ -91,15 +123,9 @@ public class AnimalFactory {
      * @param description A description of the flying squirrel.
      * @param isAdult     Whether the flying squirrel is an adult.
      * @return An initialized Animal instance for the flying squirrel.
+     * @throws java.util.NoSuchElementException If the flying squirrel species has been unregistered.
      */
     public Animal getFlyingSquirrel(String name, String description, boolean isAdult) {
-        Animal.Builder builder = Animal.builder()
-                .scientificClassification(SCIENTIFIC_CLASSIFICATION_MAP.get(COMMON_NAME_FLYING_SQUIRREL))
-                .name(name)
-                .description(description);
-        if (isAdult) {
-            builder.flyingStrategy(new GlidingStrategy());
-        }
-        return builder.build();
+        return getAnimal(COMMON_NAME_FLYING_SQUIRREL, name, description, isAdult).orElseThrow();
     }
 }
@@ -0,0 +1,48 @@
+package codingchica.patterns.creational.factory;
+
+import codingchica.patterns.behavioral.strategy.FlyingStrategy;
+import codingchica.patterns.behavioral.strategy.model.ScientificClassification;
+
+import java.util.Optional;
+
+/**
+ * A FlyingStrategyRule which makes the same decisions as another rule, and opts it in to caching.
+ *
+ * @see FlyingStrategyRule#cacheable(FlyingStrategyRule)
+ */
+final class CacheableFlyingStrategyRule implements FlyingStrategyRule {
+    /** The rule making the decisions. */
+    private final FlyingStrategyRule rule;
+
+    /**
+     * Constructor for CacheableFlyingStrategyRule objects.
+     *
+     * @param rule The rule making the decisions.
+     */
+    CacheableFlyingStrategyRule(FlyingStrategyRule rule) {
+        this.rule = rule;
+    }
+
+    /**
+     * Decide the flying strategy for a new Animal, with the rule provided.
+     *
+     * @param scientificClassification The scientific classification of the Animal's species.
+     * @param isAdult                  Whether the Animal is an adult.
+     * @return An Optional containing the strategy, or empty if the Animal is unable to fly.
+     */
+    @Override
+    public Optional<FlyingStrategy> getFlyingStrategy(ScientificClassification scientificClassification,
+                                                      boolean isAdult) {
+        return rule.getFlyingStrategy(scientificClassification, isAdult);
+    }
+
+    /**
+     * Indicates that the rule's decisions are cached.
+     *
+     * @return true.
+     */
+    @Override
+    public boolean isCacheable() {
+        return true;
+    }
+}
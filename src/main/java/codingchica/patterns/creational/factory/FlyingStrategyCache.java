@@ -0,0 +1,442 @@
+package codingchica.patterns.creational.factory;
+
+import codingchica.patterns.behavioral.strategy.FlyingStrategy;
+import codingchica.patterns.behavioral.strategy.model.ScientificClassification;
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * A bounded cache of the flying strategies FlyingStrategyRules decided, keyed by scientific classification and whether
+ * the Animal is an adult, for rules that are expensive to evaluate.
+ * <p>
+ * Species popularity is heavily skewed, so the cache decides what to keep by how often each key was recently used,
+ * following W-TinyLFU.  New entries go into a small LRU window.  An entry leaving the window is only admitted into the
+ * main area, a segmented LRU of probation and protected entries, if a FrequencySketch estimates it was used more often
+ * than the probation entry it would evict.  A burst of one-off keys therefore cannot flush the popular ones, while the
+ * window still gives a newly popular key the chance to build up its frequency.
+ * <p>
+ * Hits never take a lock.  Each hit is recorded in one of several small read buffers, chosen by thread, so threads
+ * rarely contend on the same one.  The buffered hits update the sketch and reorder their entries once a buffer fills,
+ * and only if the lock is free, or whenever a miss takes the lock.  A hit is dropped when its buffer is full or another
+ * thread is writing to it at the same moment, which only makes the frequencies slightly less exact.  Misses evaluate
+ * the rule without the lock, then take it to add the entry and evict.
+ * <p>
+ * Each entry remembers the rule that decided it, and only answers lookups for that same rule.  A species registered
+ * again with a new rule can therefore never see a strategy decided by its old rule, even before the entry is
+ * invalidated.
+ */
+public final class FlyingStrategyCache {
+    /** The share of the maximum size held by the window, in percent. */
+    private static final int WINDOW_PERCENT = 1;
+    /** The share of the main area held by protected entries, in percent. */
+    private static final int PROTECTED_PERCENT = 80;
+    /** The number of read buffers, a power of two with at least one per processor, up to 16. */
+    private static final int READ_BUFFER_COUNT =
+            Integer.highestOneBit(Math.min(Runtime.getRuntime().availableProcessors(), 16) * 2 - 1);
+
+    /** The maximum number of entries. */
+    private final int maximumSize;
+    /** The maximum number of entries in the window. */
+    private final int maximumWindowSize;
+    /** The maximum number of protected entries. */
+    private final int maximumProtectedSize;
+    /** The entries for young animals, keyed by classification. */
+    private final Map<ScientificClassification, Node> youngEntries = new ConcurrentHashMap<>();
+    /** The entries for adults, keyed by classification. */
+    private final Map<ScientificClassification, Node> adultEntries = new ConcurrentHashMap<>();
+    /** Guards the queues, their sizes and the sketch. */
+    private final ReentrantLock lock = new ReentrantLock();
+    /** How often each key was recently used. */
+    private final FrequencySketch sketch;
+    /** The window entries, from least to most recently used. */
+    private final Node window = Node.sentinel();
+    /** The probation entries, from least to most recently used. */
+    private final Node probation = Node.sentinel();
+    /** The protected entries, from least to most recently used. */
+    private final Node protectedEntries = Node.sentinel();
+    /** The hits not yet recorded in the sketch and queues. */
+    private final List<ReadBuffer<Node>> readBuffers = new ArrayList<>(READ_BUFFER_COUNT);
+    /** Applies each drained hit. */
+    private final Consumer<Node> hitApplier = this::applyHit;
+    /** The number of window entries. */
+    private int windowSize;
+    /** The number of probation entries. */
+    private int probationSize;
+    /** The number of protected entries. */
+    private int protectedSize;
+    /** The number of lookups answered from the cache. */
+    private final LongAdder hitCount = new LongAdder();
+    /** The number of lookups which evaluated the rule. */
+    private final LongAdder missCount = new LongAdder();
+    /** The number of entries removed to stay within the maximum size. */
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * Constructor for FlyingStrategyCache objects.
+     *
+     * @param maximumSize The maximum number of entries.
+     * @throws IllegalArgumentException If the maximum size is not positive.
+     */
+    public FlyingStrategyCache(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.maximumWindowSize = Math.max(1, (int) ((long) maximumSize * WINDOW_PERCENT / 100));
+        this.maximumProtectedSize = (int) ((long) (maximumSize - maximumWindowSize) * PROTECTED_PERCENT / 100);
+        this.sketch = new FrequencySketch(maximumSize);
+        for (int i = 0; i < READ_BUFFER_COUNT; i++) {
+            readBuffers.add(new ReadBuffer<>());
+        }
+    }
+
+    /**
+     * Retrieve the flying strategy a rule decides for a new Animal, from the cache if the rule decided it before.
+     *
+     * @param scientificClassification The scientific classification of the Animal's species.
+     * @param isAdult                  Whether the Animal is an adult.
+     * @param flyingStrategyRule       The rule of the Animal's species.
+     * @return The strategy the rule decides.
+     */
+    public Optional<FlyingStrategy> getFlyingStrategy(@NonNull ScientificClassification scientificClassification,
+                                                      boolean isAdult,
+                                                      @NonNull FlyingStrategyRule flyingStrategyRule) {
+        Map<ScientificClassification, Node> entries = isAdult ? adultEntries : youngEntries;
+        Node node = entries.get(scientificClassification);
+        if (node != null && node.rule == flyingStrategyRule) {
+            hitCount.increment();
+            recordHit(node);
+            return node.value;
+        }
+        missCount.increment();
+        Optional<FlyingStrategy> value = flyingStrategyRule.getFlyingStrategy(scientificClassification, isAdult);
+        add(new Node(scientificClassification, isAdult, flyingStrategyRule, value), entries);
+        return value;
+    }
+
+    /**
+     * Remove the entries for a classification, both for young animals and adults, such as when the rule of its
+     * species changes.
+     *
+     * @param scientificClassification The classification.
+     */
+    public void invalidate(@NonNull ScientificClassification scientificClassification) {
+        lock.lock();
+        try {
+            drainReadBuffers();
+            remove(youngEntries.remove(scientificClassification));
+            remove(adultEntries.remove(scientificClassification));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remove every entry.  The statistics and the frequencies are kept.
+     */
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            drainReadBuffers();
+            youngEntries.clear();
+            adultEntries.clear();
+            for (Node sentinel : new Node[]{window, probation, protectedEntries}) {
+                // Readers may still hold the entries, so each is marked as removed before the queue is emptied.
+                for (Node node = sentinel.next; node != sentinel; node = node.next) {
+                    node.queue = null;
+                }
+                sentinel.previous = sentinel;
+                sentinel.next = sentinel;
+            }
+            windowSize = 0;
+            probationSize = 0;
+            protectedSize = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Record a hit in the calling thread's read buffer.  If the buffer is full, drain every buffer and record the hit
+     * directly, unless another thread holds the lock.
+     *
+     * @param node The entry.
+     */
+    private void recordHit(Node node) {
+        ReadBuffer<Node> readBuffer = readBuffers.get(readBufferIndex());
+        if (readBuffer.offer(node) || !lock.tryLock()) {
+            return;
+        }
+        try {
+            drainReadBuffers();
+            applyHit(node);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Choose the read buffer of the calling thread, so that threads mostly write to different buffers.
+     *
+     * @return The index of the buffer.
+     */
+    private static int readBufferIndex() {
+        int hash = System.identityHashCode(Thread.currentThread()) * 0x9E37_79B9;
+        return (hash ^ (hash >>> 16)) & (READ_BUFFER_COUNT - 1);
+    }
+
+    /**
+     * Apply the hits waiting in every read buffer.  The caller must hold the lock.
+     */
+    private void drainReadBuffers() {
+        for (ReadBuffer<Node> readBuffer : readBuffers) {
+            readBuffer.drainTo(hitApplier);
+        }
+    }
+
+    /**
+     * Record a hit in the sketch, and move the entry up its queue.  The caller must hold the lock.
+     *
+     * @param node The entry.
+     */
+    private void applyHit(Node node) {
+        // The entry may have been evicted or invalidated since it was looked up.
+        if (node.queue == null) {
+            return;
+        }
+        sketch.increment(node.hash);
+        if (node.queue == probation) {
+            unlink(node);
+            probationSize--;
+            append(protectedEntries, node);
+            protectedSize++;
+            demoteProtected();
+        } else {
+            unlink(node);
+            append(node.queue, node);
+        }
+    }
+
+    /**
+     * Add an entry to the window, replacing any entry for the same key, and evict down to the maximum size.
+     *
+     * @param node    The new entry.
+     * @param entries The entries it belongs with.
+     */
+    private void add(Node node, Map<ScientificClassification, Node> entries) {
+        lock.lock();
+        try {
+            // Apply the buffered hits first, so the eviction below sees current frequencies and recency.
+            drainReadBuffers();
+            sketch.increment(node.hash);
+            remove(entries.put(node.classification, node));
+            append(window, node);
+            windowSize++;
+            evict();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Move the window's overflow into probation, then evict from the main area until the cache is within its maximum
+     * size, each time keeping whichever of the newest probation entry and the oldest one was used more often.
+     */
+    private void evict() {
+        while (windowSize > maximumWindowSize) {
+            Node node = window.next;
+            unlink(node);
+            windowSize--;
+            append(probation, node);
+            probationSize++;
+        }
+        // Entries only enter the main area from the window, so it can only be over its share just after the window's
+        // overflow moved into probation, which is therefore never empty here.
+        while (windowSize + probationSize + protectedSize > maximumSize) {
+            Node victim = probation.next;
+            Node candidate = probation.previous;
+            Node evicted = victim;
+            if (probationSize > 1 && sketch.frequency(candidate.hash) <= sketch.frequency(victim.hash)) {
+                evicted = candidate;
+            }
+            remove(evicted);
+            (evicted.adult ? adultEntries : youngEntries).remove(evicted.classification, evicted);
+            evictionCount.increment();
+        }
+    }
+
+    /**
+     * Move the least recently used protected entries back into probation, until the protected entries are within
+     * their maximum.
+     */
+    private void demoteProtected() {
+        while (protectedSize > maximumProtectedSize) {
+            Node node = protectedEntries.next;
+            unlink(node);
+            protectedSize--;
+            append(probation, node);
+            probationSize++;
+        }
+    }
+
+    /**
+     * Remove an entry from its queue.
+     *
+     * @param node The entry, or null for none.
+     */
+    private void remove(Node node) {
+        if (node == null) {
+            return;
+        }
+        if (node.queue == window) {
+            windowSize--;
+        } else if (node.queue == probation) {
+            probationSize--;
+        } else {
+            protectedSize--;
+        }
+        unlink(node);
+        node.queue = null;
+    }
+
+    /**
+     * Add an entry as the most recently used of a queue.
+     *
+     * @param queue The queue's sentinel.
+     * @param node  The entry.
+     */
+    private static void append(Node queue, Node node) {
+        node.queue = queue;
+        node.previous = queue.previous;
+        node.next = queue;
+        queue.previous.next = node;
+        queue.previous = node;
+    }
+
+    /**
+     * Take an entry out of its queue's list, leaving its queue set.
+     *
+     * @param node The entry.
+     */
+    private static void unlink(Node node) {
+        node.previous.next = node.next;
+        node.next.previous = node.previous;
+        node.previous = null;
+        node.next = null;
+    }
+
+    /**
+     * Retrieve the number of entries.
+     *
+     * @return The number of entries.
+     */
+    public int size() {
+        return youngEntries.size() + adultEntries.size();
+    }
+
+    /**
+     * Getter for the maximum size.
+     *
+     * @return The maximum number of entries.
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Retrieve the number of lookups answered from the cache.
+     *
+     * @return The number of hits.
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Retrieve the number of lookups which evaluated the rule.
+     *
+     * @return The number of misses.
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Retrieve the number of entries removed to stay within the maximum size, not counting invalidated entries.
+     *
+     * @return The number of evictions.
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * Retrieve the share of lookups answered from the cache.
+     *
+     * @return The hit rate, from 0 to 1, or 1 if there were no lookups.
+     */
+    public double getHitRate() {
+        long hits = getHitCount();
+        long lookups = hits + getMissCount();
+        return lookups == 0 ? 1.0 : (double) hits / lookups;
+    }
+
+    /**
+     * A cache entry, which is also a link in the list of its queue.
+     */
+    private static final class Node {
+        /** The classification the strategy was decided for. */
+        private final ScientificClassification classification;
+        /** Whether the strategy was decided for an adult. */
+        private final boolean adult;
+        /** The rule which decided the strategy. */
+        private final FlyingStrategyRule rule;
+        /** The strategy decided. */
+        private final Optional<FlyingStrategy> value;
+        /** The hash of the key, for the sketch. */
+        private final int hash;
+        /** The sentinel of the queue holding the entry, or null once it is removed.  Guarded by the cache's lock. */
+        private Node queue;
+        /** The next less recently used entry, or the sentinel.  Guarded by the cache's lock. */
+        private Node previous;
+        /** The next more recently used entry, or the sentinel.  Guarded by the cache's lock. */
+        private Node next;
+
+        /**
+         * Constructor for Node objects.
+         *
+         * @param classification The classification the strategy was decided for.
+         * @param adult          Whether the strategy was decided for an adult.
+         * @param rule           The rule which decided the strategy.
+         * @param value          The strategy decided.
+         */
+        private Node(ScientificClassification classification, boolean adult, FlyingStrategyRule rule,
+                     Optional<FlyingStrategy> value) {
+            this.classification = classification;
+            this.adult = adult;
+            this.rule = rule;
+            this.value = value;
+            this.hash = classification == null ? 0 : classification.hashCode() * 31 + (adult ? 1 : 0);
+        }
+
+        /**
+         * Build the sentinel of an empty queue, which links to itself.
+         *
+         * @return The sentinel.
+         */
+        private static Node sentinel() {
+            Node sentinel = new Node(null, false, null, null);
+            sentinel.previous = sentinel;
+            sentinel.next = sentinel;
+            return sentinel;
+        }
+    }
+}
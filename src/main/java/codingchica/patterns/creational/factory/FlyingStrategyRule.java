@@ -0,0 +1,65 @@
+package codingchica.patterns.creational.factory;
+
+import codingchica.patterns.behavioral.strategy.FlyingStrategy;
+import codingchica.patterns.behavioral.strategy.FlyingStrategyRegistry;
+import codingchica.patterns.behavioral.strategy.model.ScientificClassification;
+import lombok.NonNull;
+
+import java.util.Optional;
+
+/**
+ * Decides which FlyingStrategy, if any, an Animal of a registered species starts out with.
+ */
+@FunctionalInterface
+public interface FlyingStrategyRule {
+    /**
+     * Decide the flying strategy for a new Animal.
+     *
+     * @param scientificClassification The scientific classification of the Animal's species.
+     * @param isAdult                  Whether the Animal is an adult.
+     * @return An Optional containing the strategy, or empty if the Animal is unable to fly.
+     */
+    Optional<FlyingStrategy> getFlyingStrategy(ScientificClassification scientificClassification, boolean isAdult);
+
+    /**
+     * Indicates whether the rule is expensive enough to evaluate that a SpeciesRegistry should cache its decisions in a
+     * FlyingStrategyCache.  Rules are not cached unless they opt in through cacheable, since a cache lookup costs
+     * more than most rules, such as a TaxonomyFlyingStrategyRule.
+     *
+     * @return Whether the rule's decisions are cached.
+     */
+    default boolean isCacheable() {
+        return false;
+    }
+
+    /**
+     * Retrieve a rule which makes the same decisions as the rule provided, and which a SpeciesRegistry caches the
+     * decisions of.
+     *
+     * @param rule The rule, which is expensive to evaluate.
+     * @return The cacheable rule, or the rule provided if it is already cacheable.
+     */
+    static FlyingStrategyRule cacheable(@NonNull FlyingStrategyRule rule) {
+        return rule.isCacheable() ? rule : new CacheableFlyingStrategyRule(rule);
+    }
+
+    /**
+     * Retrieve a rule under which adults use the shared strategy provided, and young animals are unable to fly.
+     *
+     * @param entry The registry entry holding the strategy for adults.
+     * @return The rule.
+     */
+    static FlyingStrategyRule adultsOnly(@NonNull FlyingStrategyRegistry entry) {
+        Optional<FlyingStrategy> adultStrategy = Optional.of(entry.getStrategy());
+        return (scientificClassification, isAdult) -> isAdult ? adultStrategy : Optional.empty();
+    }
+
+    /**
+     * Retrieve a rule under which no animal of the species is able to fly.
+     *
+     * @return The rule.
+     */
+    static FlyingStrategyRule none() {
+        return (scientificClassification, isAdult) -> Optional.empty();
+    }
+}
@@ -0,0 +1,146 @@
+package codingchica.patterns.creational.factory;
+
+/**
+ * An approximate count of how often each key was recently accessed, for the admission decisions of a
+ * FlyingStrategyCache.  It is a count-min sketch of 4-bit counters, sixteen to a long, with a long per cached entry up
+ * to MAXIMUM_TABLE_LENGTH, so it takes the same space however many distinct keys are seen.  Each key is counted in four
+ * counters, and its frequency is the smallest of them, so hash collisions can only overestimate it.
+ * <p>
+ * Once the number of increments reaches ten times the cache size, every counter is halved, so that keys which were
+ * popular long ago do not keep out keys which are popular now.
+ * <p>
+ * The sketch is not thread-safe; the cache only uses it while holding its lock.
+ */
+final class FrequencySketch {
+    /** The largest value a 4-bit counter holds. */
+    static final int MAX_FREQUENCY = 15;
+    /** Keeps the low three bits of each 4-bit counter when halving, so no bit spills into the next counter. */
+    private static final long RESET_MASK = 0x7777_7777_7777_7777L;
+    /**
+     * The largest number of longs in the table.  indexOf selects a long with the 28 bits of a counter's hash above its
+     * position within the long, so a larger table could never be fully used.
+     */
+    static final int MAXIMUM_TABLE_LENGTH = 1 << 28;
+    /** The seeds of the four hash functions. */
+    private static final int[] SEEDS = {0x97CB_3127, 0xB492_B66F, 0x9E37_79B9, 0x85EB_CA6B};
+
+    /** The counters, sixteen per long. */
+    private final long[] table;
+    /** The number of increments after which the counters are halved. */
+    private final int sampleSize;
+    /** The number of increments since the counters were last halved. */
+    private int additions;
+
+    /**
+     * Constructor for FrequencySketch objects.
+     *
+     * @param maximumSize The maximum number of entries of the cache using the sketch.
+     */
+    FrequencySketch(int maximumSize) {
+        table = new long[tableLength(maximumSize)];
+        sampleSize = (int) Math.min(10L * Math.max(maximumSize, 1), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Choose the number of longs in the table: one per entry, rounded up to a power of two, up to
+     * MAXIMUM_TABLE_LENGTH.
+     *
+     * @param maximumSize The maximum number of entries of the cache using the sketch.
+     * @return The number of longs.
+     */
+    static int tableLength(int maximumSize) {
+        // Sixteen counters per entry keep a cold key's four counters from all colliding with those of hot keys.  The
+        // cap is applied before rounding, which would otherwise overflow for sizes above 2^30.
+        int entries = Math.min(Math.max(maximumSize, 1), MAXIMUM_TABLE_LENGTH);
+        return Integer.highestOneBit(entries * 2 - 1);
+    }
+
+    /**
+     * Estimate how often a key was recently accessed.
+     *
+     * @param hash The hash of the key.
+     * @return The estimate, from 0 to MAX_FREQUENCY.
+     */
+    int frequency(int hash) {
+        int frequency = MAX_FREQUENCY;
+        for (int i = 0; i < SEEDS.length; i++) {
+            int counterHash = rehash(hash, i);
+            frequency = Math.min(frequency, (int) (table[indexOf(counterHash)] >>> shiftOf(counterHash)) & 0xF);
+        }
+        return frequency;
+    }
+
+    /**
+     * Record an access to a key, halving every counter once enough accesses have been recorded.
+     *
+     * @param hash The hash of the key.
+     */
+    void increment(int hash) {
+        boolean added = false;
+        for (int i = 0; i < SEEDS.length; i++) {
+            int counterHash = rehash(hash, i);
+            int index = indexOf(counterHash);
+            int shift = shiftOf(counterHash);
+            if (((table[index] >>> shift) & 0xF) < MAX_FREQUENCY) {
+                table[index] += 1L << shift;
+                added = true;
+            }
+        }
+        if (added && ++additions == sampleSize) {
+            reset();
+        }
+    }
+
+    /**
+     * Halve every counter.
+     */
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        additions /= 2;
+    }
+
+    /**
+     * Retrieve the number of increments since the counters were last halved.
+     *
+     * @return The number of increments.
+     */
+    int getAdditions() {
+        return additions;
+    }
+
+    /**
+     * Derive the hash selecting one of a key's counters.
+     *
+     * @param hash  The hash of the key.
+     * @param which Which of the key's four counters.
+     * @return The counter's hash.
+     */
+    private static int rehash(int hash, int which) {
+        // The MurmurHash3 finalizer, so that keys with similar hashes do not share counters under every seed.
+        int counterHash = (hash ^ SEEDS[which]) * 0x85EB_CA6B;
+        counterHash = (counterHash ^ (counterHash >>> 13)) * 0xC2B2_AE35;
+        return counterHash ^ (counterHash >>> 16);
+    }
+
+    /**
+     * Find the long holding a counter.
+     *
+     * @param counterHash The counter's hash.
+     * @return The index in the table.
+     */
+    private int indexOf(int counterHash) {
+        return (counterHash >>> 4) & (table.length - 1);
+    }
+
+    /**
+     * Find the position of a counter within its long.
+     *
+     * @param counterHash The counter's hash.
+     * @return The number of bits to shift the long by.
+     */
+    private static int shiftOf(int counterHash) {
+        return (counterHash & 15) << 2;
+    }
+}
@@ -0,0 +1,75 @@
+package codingchica.patterns.creational.factory;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * A bounded, lossy ring buffer of the hits a FlyingStrategyCache has not yet applied.  Any number of threads may add to
+ * it without a lock, while only one thread at a time, the one holding the cache's lock, drains it.  An element is
+ * dropped rather than waiting when the buffer is full or another thread adds one at the same moment.
+ *
+ * @param <E> The type of the elements.
+ */
+class ReadBuffer<E> {
+    /** The number of elements the buffer holds, a power of two. */
+    static final int CAPACITY = 16;
+
+    /** The buffered elements, at their write count modulo CAPACITY. */
+    private final AtomicReferenceArray<E> slots = new AtomicReferenceArray<>(CAPACITY);
+    /** The number of elements ever added. */
+    private final AtomicLong writeCount = new AtomicLong();
+    /** The number of elements ever drained.  Only written by the draining thread. */
+    private volatile long readCount;
+
+    /**
+     * Add an element, unless the buffer is full.  If another thread adds an element at the same moment, the element is
+     * dropped rather than retried.
+     *
+     * @param element The element.
+     * @return Whether the buffer had room, so the caller need not drain it.
+     */
+    boolean offer(E element) {
+        long tail = writeCount.get();
+        if (tail - readCount >= CAPACITY) {
+            return false;
+        }
+        if (claim(tail)) {
+            slots.lazySet((int) tail & (CAPACITY - 1), element);
+        }
+        return true;
+    }
+
+    /**
+     * Claim the slot for the next element, unless another thread claimed it first.  Overridden in tests to lose the
+     * race.
+     *
+     * @param tail The number of elements added when the caller checked for room.
+     * @return Whether the caller claimed the slot, and must store its element in it.
+     */
+    boolean claim(long tail) {
+        return writeCount.compareAndSet(tail, tail + 1);
+    }
+
+    /**
+     * Pass the buffered elements to a consumer, oldest first, emptying their slots.  Only one thread may drain the
+     * buffer at a time.
+     *
+     * @param consumer Receives each element.
+     */
+    void drainTo(Consumer<? super E> consumer) {
+        long head = readCount;
+        long tail = writeCount.get();
+        for (; head != tail; head++) {
+            int index = (int) head & (CAPACITY - 1);
+            E element = slots.get(index);
+            // A thread which claimed this slot has not stored its element yet; the next drain picks it up.
+            if (element == null) {
+                break;
+            }
+            slots.lazySet(index, null);
+            consumer.accept(element);
+        }
+        readCount = head;
+    }
+}
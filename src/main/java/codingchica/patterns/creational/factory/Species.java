@@ -0,0 +1,34 @@
+package codingchica.patterns.creational.factory;
+
+import codingchica.patterns.behavioral.strategy.model.ScientificClassification;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * A species registered with a SpeciesRegistry: what it is called, how it is classified, and how its members fly.
+ */
+@Getter
+@ToString
+public final class Species {
+    /** The common name the species is registered under, such as "Flying Squirrel". */
+    private final String commonName;
+    /** The scientific classification shared by every Animal of the species. */
+    private final ScientificClassification scientificClassification;
+    /** Decides the flying strategy of each new Animal of the species. */
+    private final FlyingStrategyRule flyingStrategyRule;
+
+    /**
+     * Constructor for Species objects.
+     *
+     * @param commonName               The common name the species is registered under.
+     * @param scientificClassification The scientific classification of the species.
+     * @param flyingStrategyRule       Decides the flying strategy of each new Animal of the species.
+     */
+    Species(@NonNull String commonName, @NonNull ScientificClassification scientificClassification,
+            @NonNull FlyingStrategyRule flyingStrategyRule) {
+        this.commonName = commonName;
+        this.scientificClassification = scientificClassification;
+        this.flyingStrategyRule = flyingStrategyRule;
+    }
+}
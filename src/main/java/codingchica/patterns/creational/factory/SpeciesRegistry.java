@@ -0,0 +1,263 @@
+package codingchica.patterns.creational.factory;
+
+import codingchica.patterns.behavioral.strategy.FlyingStrategy;
+import codingchica.patterns.behavioral.strategy.model.ScientificClassification;
+import codingchica.patterns.behavioral.strategy.model.TaxonomyIndex;
+import codingchica.patterns.creational.factory.catalog.PerfectHashSpeciesCatalog;
+import codingchica.patterns.creational.factory.catalog.SpeciesCatalog;
+import codingchica.patterns.creational.factory.catalog.SpeciesNameIndex;
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+/**
+ * The species an AnimalFactory knows how to create, keyed by common name.
+ * <p>
+ * Species may be registered at any time, from any number of threads.  The registry is backed by a ConcurrentHashMap,
+ * so lookups never take a lock and take the same time however many species are registered.
+ * <p>
+ * Large sets of species can instead be provided by attaching a SpeciesCatalog.  A common name that was not registered
+ * directly is looked up in the attached catalogs, in the order they were attached, and the species found is then
+ * registered, so each catalog species is only resolved once.  Catalog species are not included in
+ * getCommonNames() or size() until they have been looked up.
+ * <p>
+ * The flying strategies decided by rules that opted in through FlyingStrategyRule.cacheable are cached in a
+ * FlyingStrategyCache, since such rules are expensive to evaluate.  Other rules are evaluated every time, as a cache
+ * lookup would cost more than the rule.  Registering or unregistering a species invalidates the entries for its
+ * classification.
+ */
+public class SpeciesRegistry {
+    /** The maximum number of flying strategies cached, unless another size is given. */
+    public static final int DEFAULT_FLYING_STRATEGY_CACHE_SIZE = 10_000;
+
+    /** The registered species, keyed by common name. */
+    private final Map<String, Species> speciesByCommonName = new ConcurrentHashMap<>();
+    /** The catalogs to fall back to, in the order they were attached. */
+    private final List<AttachedCatalog> attachedCatalogs = new CopyOnWriteArrayList<>();
+    /** The flying strategies decided by the cacheable rules of the registered species. */
+    private final FlyingStrategyCache flyingStrategyCache;
+
+    /**
+     * Constructor for SpeciesRegistry objects, caching up to DEFAULT_FLYING_STRATEGY_CACHE_SIZE flying strategies.
+     */
+    public SpeciesRegistry() {
+        this(DEFAULT_FLYING_STRATEGY_CACHE_SIZE);
+    }
+
+    /**
+     * Constructor for SpeciesRegistry objects.
+     *
+     * @param flyingStrategyCacheSize The maximum number of flying strategies cached, for cacheable rules.
+     * @throws IllegalArgumentException If the cache size is not positive.
+     */
+    public SpeciesRegistry(int flyingStrategyCacheSize) {
+        flyingStrategyCache = new FlyingStrategyCache(flyingStrategyCacheSize);
+    }
+
+    /**
+     * Register a species, replacing any species already registered under the same common name.
+     *
+     * @param commonName               The common name to register the species under, such as "Flying Squirrel".
+     * @param scientificClassification The scientific classification of the species.
+     * @param flyingStrategyRule       Decides the flying strategy of each new Animal of the species.
+     * @return An Optional containing the species previously registered under the common name, if there was one.
+     */
+    public Optional<Species> register(@NonNull String commonName,
+                                      @NonNull ScientificClassification scientificClassification,
+                                      @NonNull FlyingStrategyRule flyingStrategyRule) {
+        Species species = new Species(commonName, scientificClassification, flyingStrategyRule);
+        Optional<Species> previous = Optional.ofNullable(speciesByCommonName.put(commonName, species));
+        flyingStrategyCache.invalidate(scientificClassification);
+        previous.ifPresent(item -> flyingStrategyCache.invalidate(item.getScientificClassification()));
+        return previous;
+    }
+
+    /**
+     * Register many species which share a flying strategy rule, replacing any species already registered under the
+     * same common names.
+     *
+     * @param classificationsByCommonName The scientific classification of each species, keyed by common name.
+     * @param flyingStrategyRule          Decides the flying strategy of each new Animal of the species.
+     */
+    public void registerAll(@NonNull Map<String, ScientificClassification> classificationsByCommonName,
+                            @NonNull FlyingStrategyRule flyingStrategyRule) {
+        Map<String, Species> species = new HashMap<>(classificationsByCommonName.size() * 4 / 3 + 1);
+        classificationsByCommonName.forEach((commonName, scientificClassification) ->
+                species.put(commonName, new Species(commonName, scientificClassification, flyingStrategyRule)));
+        speciesByCommonName.putAll(species);
+        classificationsByCommonName.values().forEach(flyingStrategyCache::invalidate);
+    }
+
+    /**
+     * Attach a catalog to fall back to when looking up a common name that is not registered.
+     *
+     * @param catalog            The catalog.
+     * @param flyingStrategyRule Decides the flying strategy of each new Animal of the catalog's species.
+     */
+    public void attachCatalog(@NonNull SpeciesCatalog catalog, @NonNull FlyingStrategyRule flyingStrategyRule) {
+        attachedCatalogs.add(new AttachedCatalog(catalog, flyingStrategyRule));
+    }
+
+    /**
+     * Remove the species registered under the common name provided.  A species that came from an attached catalog
+     * will be resolved from the catalog again on its next lookup.
+     *
+     * @param commonName The common name of the species.
+     * @return An Optional containing the species removed, if there was one.
+     */
+    public Optional<Species> unregister(@NonNull String commonName) {
+        Optional<Species> removed = Optional.ofNullable(speciesByCommonName.remove(commonName));
+        removed.ifPresent(item -> flyingStrategyCache.invalidate(item.getScientificClassification()));
+        return removed;
+    }
+
+    /**
+     * Decide the flying strategy for a new Animal of a species, from the cache if the species' rule is cacheable and
+     * decided it before.
+     *
+     * @param species The species.
+     * @param isAdult Whether the Animal is an adult.
+     * @return An Optional containing the strategy, or empty if the Animal is unable to fly.
+     */
+    public Optional<FlyingStrategy> getFlyingStrategy(@NonNull Species species, boolean isAdult) {
+        FlyingStrategyRule flyingStrategyRule = species.getFlyingStrategyRule();
+        if (!flyingStrategyRule.isCacheable()) {
+            return flyingStrategyRule.getFlyingStrategy(species.getScientificClassification(), isAdult);
+        }
+        return flyingStrategyCache.getFlyingStrategy(species.getScientificClassification(), isAdult,
+                flyingStrategyRule);
+    }
+
+    /**
+     * Retrieve the cache of flying strategies, such as to read its statistics.
+     *
+     * @return The cache.
+     */
+    public FlyingStrategyCache getFlyingStrategyCache() {
+        return flyingStrategyCache;
+    }
+
+    /**
+     * Retrieve the species registered under the common name provided.
+     *
+     * @param commonName The common name of the species.
+     * @return An Optional containing the species, if one is registered.
+     */
+    public Optional<Species> lookup(@NonNull String commonName) {
+        Species species = speciesByCommonName.get(commonName);
+        if (species != null || attachedCatalogs.isEmpty()) {
+            return Optional.ofNullable(species);
+        }
+        return lookupInCatalogs(commonName);
+    }
+
+    /**
+     * Resolve a species from the attached catalogs, and register it.
+     *
+     * @param commonName The common name of the species.
+     * @return An Optional containing the species, if any catalog holds it.
+     */
+    private Optional<Species> lookupInCatalogs(String commonName) {
+        for (AttachedCatalog attachedCatalog : attachedCatalogs) {
+            Optional<ScientificClassification> scientificClassification =
+                    attachedCatalog.catalog.getScientificClassification(commonName);
+            if (scientificClassification.isPresent()) {
+                Species species = new Species(commonName, scientificClassification.get(),
+                        attachedCatalog.flyingStrategyRule);
+                // Another thread may have resolved or registered the species in the meantime.
+                Species existing = speciesByCommonName.putIfAbsent(commonName, species);
+                return Optional.of(existing == null ? species : existing);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Retrieve the common names of the registered species.
+     *
+     * @return An unmodifiable, live view of the common names, which reflects later registrations.
+     */
+    public Set<String> getCommonNames() {
+        return Collections.unmodifiableSet(speciesByCommonName.keySet());
+    }
+
+    /**
+     * Retrieve the number of registered species.
+     *
+     * @return The number of species.
+     */
+    public int size() {
+        return speciesByCommonName.size();
+    }
+
+    /**
+     * Build a taxonomy index over the registered species, for queries such as every species under order Rodentia.
+     * The index is a snapshot, which does not reflect later registrations.
+     *
+     * @return The index.
+     */
+    public TaxonomyIndex buildTaxonomyIndex() {
+        return TaxonomyIndex.of(speciesByCommonName.values().stream()
+                .map(Species::getScientificClassification)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Build a frozen catalog of the registered species, which can look them up by common name or species name with a
+     * minimal perfect hash, and can be written out and attached to a new registry at startup.  The catalog is a
+     * snapshot, which does not reflect later registrations.
+     *
+     * @return The catalog, in no particular order.
+     */
+    public PerfectHashSpeciesCatalog buildPerfectHashCatalog() {
+        Map<String, ScientificClassification> classifications = new HashMap<>(speciesByCommonName.size() * 4 / 3 + 1);
+        speciesByCommonName.forEach((commonName, species) ->
+                classifications.put(commonName, species.getScientificClassification()));
+        return PerfectHashSpeciesCatalog.of(classifications);
+    }
+
+    /**
+     * Build a prefix index over the common names and species names of the registered species, such as for a species
+     * picker that completes partial names.  The index is a snapshot, which does not reflect later registrations.
+     *
+     * @return The index.
+     */
+    public SpeciesNameIndex buildNameIndex() {
+        List<String> names = new ArrayList<>(speciesByCommonName.size() * 2);
+        speciesByCommonName.forEach((commonName, species) -> {
+            names.add(commonName);
+            names.add(species.getScientificClassification().getSpeciesName());
+        });
+        return SpeciesNameIndex.of(names);
+    }
+
+    /**
+     * A catalog attached to the registry, along with the rule for its species.
+     */
+    private static final class AttachedCatalog {
+        /** The catalog. */
+        private final SpeciesCatalog catalog;
+        /** Decides the flying strategy of each new Animal of the catalog's species. */
+        private final FlyingStrategyRule flyingStrategyRule;
+
+        /**
+         * Constructor for AttachedCatalog objects.
+         *
+         * @param catalog            The catalog.
+         * @param flyingStrategyRule Decides the flying strategy of each new Animal of the catalog's species.
+         */
+        private AttachedCatalog(SpeciesCatalog catalog, FlyingStrategyRule flyingStrategyRule) {
+            this.catalog = catalog;
+            this.flyingStrategyRule = flyingStrategyRule;
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package codingchica.patterns.creational.factory;
+
+import codingchica.patterns.behavioral.strategy.FlyingStrategy;
+import codingchica.patterns.behavioral.strategy.FlyingStrategyRegistry;
+import codingchica.patterns.behavioral.strategy.model.Rank;
+import codingchica.patterns.behavioral.strategy.model.ScientificClassification;
+import codingchica.patterns.behavioral.strategy.model.TaxonomyDictionary;
+import lombok.NonNull;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A FlyingStrategyRule which decides the strategy of adult animals from their taxonomy, with rules such as "order
+ * Chiroptera flaps its wings" or "tribe Pteromyini glides".  When several rules match a classification, the rule on
+ * its most specific rank wins, so a genus can override its family.  Young animals, and adults no rule matches, are
+ * unable to fly.
+ * <p>
+ * The rules are compiled into one small hash table per rank that has rules, from the most specific rank up, so
+ * deciding a strategy takes at most one probe per rank however many rules there are.  The tables of the ranks from
+ * kingdom down to tribe are keyed by the TaxonomyDictionary id of the rank's value, which every
+ * ScientificClassification already holds, so they never compare a String.  Genus and species values are not
+ * dictionary-encoded, so their tables are keyed by the value itself, and a probe compares its cached String hash
+ * before calling equals.
+ */
+public final class TaxonomyFlyingStrategyRule implements FlyingStrategyRule {
+    /** An empty id table slot, which no dictionary id is equal to. */
+    private static final int EMPTY = TaxonomyDictionary.NO_ID;
+    /** The strategy of each registry entry, indexed by registry id, so that no Optional is created per decision. */
+    private static final Optional<FlyingStrategy>[] STRATEGIES = sharedStrategies();
+    /** The rules the AnimalFactory's species are registered with. */
+    private static final TaxonomyFlyingStrategyRule DEFAULT = builder()
+            .rule(Rank.ORDER, "Chiroptera", FlyingStrategyRegistry.FLAP_WINGS)
+            .rule(Rank.TRIBE, "Pteromyini", FlyingStrategyRegistry.GLIDING)
+            .rule(Rank.GENUS, "Homo", FlyingStrategyRegistry.AIRPLANE)
+            .build();
+
+    /** The ranks that have rules, from the most specific to the broadest. */
+    private final Rank[] ranks;
+    /**
+     * The dictionary ids that have rules, per rank in ranks, in open-addressed slots, or null for a rank that is not
+     * dictionary-encoded.
+     */
+    private final int[][] slotIds;
+    /**
+     * The rank values that have rules, per rank in ranks, in open-addressed slots, or null for a rank that is
+     * dictionary-encoded.
+     */
+    private final String[][] slotNames;
+    /** The registry id of the strategy for the dictionary id or rank value in the same slot. */
+    private final byte[][] slotEntries;
+    /** The number of rules. */
+    private final int size;
+
+    /**
+     * Private constructor, which compiles the rules.
+     *
+     * @param rules The registry entry of each rule, keyed by rank and then by rank value.
+     */
+    private TaxonomyFlyingStrategyRule(Map<Rank, Map<String, FlyingStrategyRegistry>> rules) {
+        TaxonomyDictionary dictionary = TaxonomyDictionary.getInstance();
+        Rank[] allRanks = Rank.values();
+        ranks = new Rank[rules.size()];
+        slotIds = new int[rules.size()][];
+        slotNames = new String[rules.size()][];
+        slotEntries = new byte[rules.size()][];
+        int rankIndex = 0;
+        int ruleCount = 0;
+        for (int ordinal = allRanks.length - 1; ordinal >= 0; ordinal--) {
+            Map<String, FlyingStrategyRegistry> rankRules = rules.get(allRanks[ordinal]);
+            if (rankRules == null) {
+                continue;
+            }
+            int slotCount = Integer.highestOneBit(rankRules.size() * 2 - 1) * 2;
+            boolean encoded = ScientificClassification.isDictionaryEncoded(allRanks[ordinal]);
+            int[] ids = encoded ? new int[slotCount] : null;
+            String[] names = encoded ? null : new String[slotCount];
+            byte[] entries = new byte[slotCount];
+            if (encoded) {
+                Arrays.fill(ids, EMPTY);
+            }
+            for (Map.Entry<String, FlyingStrategyRegistry> rule : rankRules.entrySet()) {
+                int slot;
+                if (encoded) {
+                    int id = dictionary.idOf(rule.getKey());
+                    slot = firstSlot(id, slotCount);
+                    while (ids[slot] != EMPTY) {
+                        slot = (slot + 1) & (slotCount - 1);
+                    }
+                    ids[slot] = id;
+                } else {
+                    slot = firstSlot(rule.getKey().hashCode(), slotCount);
+                    while (names[slot] != null) {
+                        slot = (slot + 1) & (slotCount - 1);
+                    }
+                    names[slot] = rule.getKey();
+                }
+                entries[slot] = (byte) rule.getValue().getId();
+            }
+            ranks[rankIndex] = allRanks[ordinal];
+            slotIds[rankIndex] = ids;
+            slotNames[rankIndex] = names;
+            slotEntries[rankIndex] = entries;
+            rankIndex++;
+            ruleCount += rankRules.size();
+        }
+        size = ruleCount;
+    }
+
+    /**
+     * Retrieve the rules the AnimalFactory's species are registered with: bats (order Chiroptera) flap their wings,
+     * flying squirrels (tribe Pteromyini) glide, and people (genus Homo) take an airplane.
+     *
+     * @return The shared rule.
+     */
+    public static TaxonomyFlyingStrategyRule getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Start building a rule.
+     *
+     * @return A new builder, without any rules.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Build the Optional holding each registry entry's shared strategy.
+     *
+     * @return The Optionals, indexed by registry id.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Optional<FlyingStrategy>[] sharedStrategies() {
+        Optional<FlyingStrategy>[] strategies = new Optional[FlyingStrategyRegistry.values().length];
+        for (FlyingStrategyRegistry entry : FlyingStrategyRegistry.values()) {
+            strategies[entry.getId()] = Optional.of(entry.getStrategy());
+        }
+        return strategies;
+    }
+
+    /**
+     * Find the slot to start probing from for a dictionary id, or the hash of a rank value.
+     *
+     * @param key       The dictionary id, or the String hash.
+     * @param slotCount The number of slots, which is a power of two.
+     * @return The slot.
+     */
+    private static int firstSlot(int key, int slotCount) {
+        int hash = key * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & (slotCount - 1);
+    }
+
+    /**
+     * Find the slot holding the rule for a dictionary id.
+     *
+     * @param ids The id table of the rule's rank.
+     * @param id  The dictionary id, or NO_ID if the rank is unset.
+     * @return The slot, or -1 if there is no rule for the id.
+     */
+    private static int findId(int[] ids, int id) {
+        if (id == EMPTY) {
+            return -1;
+        }
+        int mask = ids.length - 1;
+        for (int slot = firstSlot(id, ids.length); ids[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (ids[slot] == id) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Find the slot holding the rule for a rank value.
+     *
+     * @param names The name table of the rule's rank.
+     * @param name  The rank value, or null if the rank is unset.
+     * @return The slot, or -1 if there is no rule for the value.
+     */
+    private static int findName(String[] names, String name) {
+        if (name == null) {
+            return -1;
+        }
+        int mask = names.length - 1;
+        for (int slot = firstSlot(name.hashCode(), names.length); names[slot] != null; slot = (slot + 1) & mask) {
+            if (names[slot].equals(name)) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Decide the flying strategy for a new Animal, from the rule on the most specific rank matching its
+     * classification.
+     *
+     * @param scientificClassification The scientific classification of the Animal's species.
+     * @param isAdult                  Whether the Animal is an adult.
+     * @return An Optional containing the shared strategy of the matching rule, or empty if the Animal is not an adult
+     * or no rule matches.
+     */
+    @Override
+    public Optional<FlyingStrategy> getFlyingStrategy(@NonNull ScientificClassification scientificClassification,
+                                                      boolean isAdult) {
+        if (!isAdult) {
+            return Optional.empty();
+        }
+        for (int rankIndex = 0; rankIndex < ranks.length; rankIndex++) {
+            int[] ids = slotIds[rankIndex];
+            int slot = ids == null
+                    ? findName(slotNames[rankIndex], scientificClassification.getRank(ranks[rankIndex]))
+                    : findId(ids, scientificClassification.getRankId(ranks[rankIndex]));
+            if (slot >= 0) {
+                return STRATEGIES[slotEntries[rankIndex][slot]];
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Retrieve the number of rules.
+     *
+     * @return The number of rules.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Collects rules, and compiles them into a TaxonomyFlyingStrategyRule.
+     */
+    public static final class Builder {
+        /** The registry entry of each rule, keyed by rank and then by rank value. */
+        private final Map<Rank, Map<String, FlyingStrategyRegistry>> rules = new EnumMap<>(Rank.class);
+
+        /**
+         * Private constructor, as builders are created through TaxonomyFlyingStrategyRule.builder().
+         */
+        private Builder() {
+        }
+
+        /**
+         * Add a rule under which adults with the rank value provided use the registry entry's strategy.
+         *
+         * @param rank  The rank the rule applies to.
+         * @param name  The value of the rank, such as "Chiroptera" for the order of bats.
+         * @param entry The registry entry holding the strategy for matching adults.
+         * @return This builder.
+         * @throws IllegalArgumentException If a rule with a different entry was already added for the rank value.
+         */
+        public Builder rule(@NonNull Rank rank, @NonNull String name, @NonNull FlyingStrategyRegistry entry) {
+            FlyingStrategyRegistry existing = rules.computeIfAbsent(rank, key -> new HashMap<>())
+                    .putIfAbsent(name, entry);
+            if (existing != null && existing != entry) {
+                throw new IllegalArgumentException(String.format("Conflicting rules for %s %s: %s and %s",
+                        rank, name, existing, entry));
+            }
+            return this;
+        }
+
+        /**
+         * Compile the rules added so far.  The builder may be used to build further rules afterwards.
+         *
+         * @return The compiled rule.
+         */
+        public TaxonomyFlyingStrategyRule build() {
+            return new TaxonomyFlyingStrategyRule(rules);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package codingchica.patterns.creational.factory.catalog;
+
+/**
+ * The layout of a binary species catalog, as written by BinaryCatalogWriter and read by BinarySpeciesCatalog.  All
+ * ints are big-endian, and every section position is a byte offset from the start of the file, which limits a
+ * catalog to 2 GiB.
+ * <ol>
+ *     <li>The header, of HEADER_INTS ints: MAGIC, VERSION, the number of ranks, species and strings, and the
+ *     positions of the string offsets, string bytes, records and name index sections.</li>
+ *     <li>The string offsets: one int per string giving its start within the string bytes, followed by the end of the
+ *     last string.</li>
+ *     <li>The string bytes: the UTF-8 bytes of every distinct string, each stored once.</li>
+ *     <li>The records: per species, in catalog order, the string id of its common name followed by the string id of
+ *     each Rank's value, or NO_VALUE for an unset optional rank.</li>
+ *     <li>The name index: the record number of every species, sorted by the unsigned UTF-8 bytes of the common
+ *     name.</li>
+ * </ol>
+ */
+final class BinaryCatalogFormat {
+    /** The first int of every binary catalog, "SPCT" in ASCII. */
+    static final int MAGIC = 0x53504354;
+    /** The version of the layout. */
+    static final int VERSION = 1;
+    /** The number of ints in the header. */
+    static final int HEADER_INTS = 9;
+    /** The string id recorded for an unset optional rank. */
+    static final int NO_VALUE = -1;
+
+    /** The index of the magic number in the header. */
+    static final int MAGIC_INDEX = 0;
+    /** The index of the version in the header. */
+    static final int VERSION_INDEX = 1;
+    /** The index of the number of ranks per record in the header. */
+    static final int RANK_COUNT_INDEX = 2;
+    /** The index of the number of species in the header. */
+    static final int SPECIES_COUNT_INDEX = 3;
+    /** The index of the number of strings in the header. */
+    static final int STRING_COUNT_INDEX = 4;
+    /** The index of the position of the string offsets in the header. */
+    static final int STRING_OFFSETS_INDEX = 5;
+    /** The index of the position of the string bytes in the header. */
+    static final int STRING_BYTES_INDEX = 6;
+    /** The index of the position of the records in the header. */
+    static final int RECORDS_INDEX = 7;
+    /** The index of the position of the name index in the header. */
+    static final int NAME_INDEX_INDEX = 8;
+
+    /**
+     * Private constructor, as this class only exposes constants.
+     */
+    private BinaryCatalogFormat() {
+    }
+}
@@ -0,0 +1,145 @@
+package codingchica.patterns.creational.factory.catalog;
+
+import codingchica.patterns.behavioral.strategy.model.Rank;
+import codingchica.patterns.behavioral.strategy.model.ScientificClassification;
+import lombok.NonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static codingchica.patterns.creational.factory.catalog.BinaryCatalogFormat.*;
+
+/**
+ * Writes a SpeciesCatalog in the binary layout described by BinaryCatalogFormat, so that later runs can open it with
+ * BinarySpeciesCatalog instead of parsing text.
+ */
+public final class BinaryCatalogWriter {
+    /** The number of ints in each record: the common name, then one per rank. */
+    private static final int RECORD_INTS = 1 + Rank.values().length;
+
+    /**
+     * Private constructor, as this class only exposes static methods.
+     */
+    private BinaryCatalogWriter() {
+    }
+
+    /**
+     * Write every species in a catalog to a file, replacing any existing file.
+     *
+     * @param catalog The catalog to write.
+     * @param path    The path of the binary catalog file.
+     * @throws IOException              If the file cannot be written.
+     * @throws IllegalArgumentException If the catalog is too large for the layout.
+     */
+    public static void write(@NonNull SpeciesCatalog catalog, @NonNull Path path) throws IOException {
+        List<String> commonNames = catalog.getCommonNames();
+        int speciesCount = commonNames.size();
+        Map<String, Integer> stringIds = new HashMap<>();
+        ByteArrayOutputStream stringBytes = new ByteArrayOutputStream();
+        int[] stringOffsets = new int[16];
+        int[] records = new int[speciesCount * RECORD_INTS];
+        byte[][] nameBytes = new byte[speciesCount][];
+        String[] values = new String[RECORD_INTS];
+
+        for (int species = 0; species < speciesCount; species++) {
+            String commonName = commonNames.get(species);
+            ScientificClassification scientificClassification =
+                    catalog.getScientificClassification(commonName).orElseThrow();
+            values[0] = commonName;
+            fillRankValues(scientificClassification, values);
+            for (int column = 0; column < RECORD_INTS; column++) {
+                String value = values[column];
+                int id = NO_VALUE;
+                if (value != null) {
+                    Integer existing = stringIds.get(value);
+                    if (existing == null) {
+                        id = stringIds.size();
+                        stringIds.put(value, id);
+                        if (id + 1 == stringOffsets.length) {
+                            stringOffsets = Arrays.copyOf(stringOffsets, stringOffsets.length * 2);
+                        }
+                        stringOffsets[id] = stringBytes.size();
+                        stringBytes.writeBytes(value.getBytes(StandardCharsets.UTF_8));
+                    } else {
+                        id = existing;
+                    }
+                }
+                records[species * RECORD_INTS + column] = id;
+            }
+            nameBytes[species] = commonName.getBytes(StandardCharsets.UTF_8);
+        }
+        int stringCount = stringIds.size();
+        stringOffsets[stringCount] = stringBytes.size();
+
+        Integer[] nameIndex = new Integer[speciesCount];
+        for (int species = 0; species < speciesCount; species++) {
+            nameIndex[species] = species;
+        }
+        Arrays.sort(nameIndex, (left, right) -> Arrays.compareUnsigned(nameBytes[left], nameBytes[right]));
+
+        long stringOffsetsPosition = (long) HEADER_INTS * Integer.BYTES;
+        long stringBytesPosition = stringOffsetsPosition + (long) (stringCount + 1) * Integer.BYTES;
+        long recordsPosition = stringBytesPosition + stringBytes.size();
+        long nameIndexPosition = recordsPosition + (long) records.length * Integer.BYTES;
+        long fileSize = nameIndexPosition + (long) speciesCount * Integer.BYTES;
+        if (fileSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Catalog is too large for the binary format: " + fileSize + " bytes");
+        }
+
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path),
+                1 << 16))) {
+            int[] header = new int[HEADER_INTS];
+            header[MAGIC_INDEX] = MAGIC;
+            header[VERSION_INDEX] = VERSION;
+            header[RANK_COUNT_INDEX] = RECORD_INTS - 1;
+            header[SPECIES_COUNT_INDEX] = speciesCount;
+            header[STRING_COUNT_INDEX] = stringCount;
+            header[STRING_OFFSETS_INDEX] = (int) stringOffsetsPosition;
+            header[STRING_BYTES_INDEX] = (int) stringBytesPosition;
+            header[RECORDS_INDEX] = (int) recordsPosition;
+            header[NAME_INDEX_INDEX] = (int) nameIndexPosition;
+            writeInts(output, header, header.length);
+            writeInts(output, stringOffsets, stringCount + 1);
+            stringBytes.writeTo(output);
+            writeInts(output, records, records.length);
+            for (Integer species : nameIndex) {
+                output.writeInt(species);
+            }
+        }
+    }
+
+    /**
+     * Copy the value of each rank of a classification into the record columns after the common name.
+     *
+     * @param scientificClassification The classification.
+     * @param values                   Receives the value of each rank, indexed by ordinal plus one.
+     */
+    private static void fillRankValues(ScientificClassification scientificClassification, String[] values) {
+        for (Rank rank : Rank.values()) {
+            values[rank.ordinal() + 1] = scientificClassification.getRank(rank);
+        }
+    }
+
+    /**
+     * Write the leading ints of an array.
+     *
+     * @param output The stream to write to.
+     * @param values The ints.
+     * @param count  The number of ints to write.
+     * @throws IOException If the ints cannot be written.
+     */
+    private static void writeInts(DataOutputStream output, int[] values, int count) throws IOException {
+        for (int i = 0; i < count; i++) {
+            output.writeInt(values[i]);
+        }
+    }
+}
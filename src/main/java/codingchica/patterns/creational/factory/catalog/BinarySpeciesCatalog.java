@@ -0,0 +1,295 @@
+package codingchica.patterns.creational.factory.catalog;
+
+import codingchica.patterns.behavioral.strategy.model.Rank;
+import codingchica.patterns.behavioral.strategy.model.ScientificClassification;
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static codingchica.patterns.creational.factory.catalog.BinaryCatalogFormat.*;
+
+/**
+ * A SpeciesCatalog read from a binary catalog file written by BinaryCatalogWriter.
+ * <p>
+ * Opening the catalog memory-maps the file and checks its header, without reading the sections themselves, so it
+ * takes the same time however many species the file holds, and leaves the data to the operating system's page cache
+ * rather than the heap.  A lookup binary searches the sorted name index, comparing the mapped bytes of each name
+ * directly, and only then materializes the ScientificClassification, which is memoized.  The strings shared between
+ * classifications, such as the names of common ranks, are decoded once and then shared as well.
+ *
+ * @see BinaryCatalogFormat
+ */
+public final class BinarySpeciesCatalog implements SpeciesCatalog {
+    /** The number of ints in each record: the common name, then one per rank. */
+    private static final int RECORD_INTS = 1 + Rank.values().length;
+
+    /** The mapped file. */
+    private final ByteBuffer buffer;
+    /** The number of species. */
+    private final int speciesCount;
+    /** The position of the string offsets. */
+    private final int stringOffsetsPosition;
+    /** The position of the string bytes. */
+    private final int stringBytesPosition;
+    /** The position of the records. */
+    private final int recordsPosition;
+    /** The position of the name index. */
+    private final int nameIndexPosition;
+    /** The classifications materialized so far, keyed by record number. */
+    private final Map<Integer, ScientificClassification> classifications = new ConcurrentHashMap<>();
+    /** The strings decoded so far for the ranks above species, keyed by string id. */
+    private final Map<Integer, String> rankValues = new ConcurrentHashMap<>();
+    /** A view of the common names, decoded on demand. */
+    private final List<String> commonNames = new CommonNames();
+
+    /**
+     * Constructor for BinarySpeciesCatalog objects.
+     *
+     * @param buffer The mapped file, whose header has been checked.
+     */
+    private BinarySpeciesCatalog(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.speciesCount = headerInt(buffer, SPECIES_COUNT_INDEX);
+        this.stringOffsetsPosition = headerInt(buffer, STRING_OFFSETS_INDEX);
+        this.stringBytesPosition = headerInt(buffer, STRING_BYTES_INDEX);
+        this.recordsPosition = headerInt(buffer, RECORDS_INDEX);
+        this.nameIndexPosition = headerInt(buffer, NAME_INDEX_INDEX);
+    }
+
+    /**
+     * Memory-map a binary catalog file.
+     *
+     * @param path The path of the binary catalog file.
+     * @return The catalog.
+     * @throws IOException If the file cannot be read, or is not a binary catalog of the supported version.
+     */
+    public static BinarySpeciesCatalog open(@NonNull Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_INTS * Integer.BYTES || size > Integer.MAX_VALUE) {
+                throw new IOException("Not a binary species catalog: " + path);
+            }
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            checkHeader(buffer, path);
+            return new BinarySpeciesCatalog(buffer);
+        }
+    }
+
+    /**
+     * Check that the header describes sections that fit the file.
+     *
+     * @param buffer The mapped file.
+     * @param path   The path of the file, for error messages.
+     * @throws IOException If the header is not that of a binary catalog of the supported version.
+     */
+    private static void checkHeader(ByteBuffer buffer, Path path) throws IOException {
+        if (headerInt(buffer, MAGIC_INDEX) != MAGIC) {
+            throw new IOException("Not a binary species catalog: " + path);
+        }
+        int version = headerInt(buffer, VERSION_INDEX);
+        if (version != VERSION) {
+            throw new IOException("Unsupported binary species catalog version " + version + ": " + path);
+        }
+        long speciesCount = headerInt(buffer, SPECIES_COUNT_INDEX);
+        long stringCount = headerInt(buffer, STRING_COUNT_INDEX);
+        long stringOffsets = headerInt(buffer, STRING_OFFSETS_INDEX);
+        long stringBytes = headerInt(buffer, STRING_BYTES_INDEX);
+        long records = headerInt(buffer, RECORDS_INDEX);
+        long nameIndex = headerInt(buffer, NAME_INDEX_INDEX);
+        if (headerInt(buffer, RANK_COUNT_INDEX) != RECORD_INTS - 1
+                || speciesCount < 0 || stringCount < 0
+                || stringOffsets != HEADER_INTS * Integer.BYTES
+                || stringBytes != stringOffsets + (stringCount + 1) * Integer.BYTES
+                || records < stringBytes
+                || nameIndex != records + speciesCount * RECORD_INTS * Integer.BYTES
+                || buffer.capacity() != nameIndex + speciesCount * Integer.BYTES) {
+            throw new IOException("Corrupt binary species catalog: " + path);
+        }
+    }
+
+    /**
+     * Read an int from the header.
+     *
+     * @param buffer The mapped file.
+     * @param index  The index of the int within the header.
+     * @return The int.
+     */
+    private static int headerInt(ByteBuffer buffer, int index) {
+        return buffer.getInt(index * Integer.BYTES);
+    }
+
+    /**
+     * Retrieve the classification of the species with the common name provided, materializing it on the first
+     * request.
+     *
+     * @param commonName The common name of the species.
+     * @return An Optional containing the classification, or empty if the catalog has no such species.
+     */
+    @Override
+    public Optional<ScientificClassification> getScientificClassification(@NonNull String commonName) {
+        int record = findRecord(commonName.getBytes(StandardCharsets.UTF_8));
+        if (record < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(classifications.computeIfAbsent(record, this::materialize));
+    }
+
+    /**
+     * Binary search the name index.
+     *
+     * @param name The UTF-8 bytes of the common name.
+     * @return The record number of the species, or -1 if there is none.
+     */
+    private int findRecord(byte[] name) {
+        int low = 0;
+        int high = speciesCount - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int record = buffer.getInt(nameIndexPosition + middle * Integer.BYTES);
+            int comparison = compareString(recordInt(record, 0), name);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return record;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Compare a dictionary string with a name, as unsigned bytes.
+     *
+     * @param stringId The id of the dictionary string.
+     * @param name     The UTF-8 bytes of the name.
+     * @return A negative number, zero or a positive number as the string sorts before, equal to or after the name.
+     */
+    private int compareString(int stringId, byte[] name) {
+        int from = stringStart(stringId);
+        int length = stringStart(stringId + 1) - from;
+        int common = Math.min(length, name.length);
+        for (int i = 0; i < common; i++) {
+            int comparison = Byte.compareUnsigned(buffer.get(from + i), name[i]);
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+        return length - name.length;
+    }
+
+    /**
+     * Build the classification held in a record.
+     *
+     * @param record The record number.
+     * @return The classification.
+     */
+    private ScientificClassification materialize(int record) {
+        return ScientificClassification.builder()
+                .kingdomName(rankValue(record, Rank.KINGDOM))
+                .phylumName(rankValue(record, Rank.PHYLUM))
+                .className(rankValue(record, Rank.CLASS))
+                .orderName(rankValue(record, Rank.ORDER))
+                .subOrderName(rankValue(record, Rank.SUB_ORDER))
+                .infraOrder(rankValue(record, Rank.INFRA_ORDER))
+                .familyName(rankValue(record, Rank.FAMILY))
+                .subFamilyName(rankValue(record, Rank.SUB_FAMILY))
+                .tribeName(rankValue(record, Rank.TRIBE))
+                .genusName(rankValue(record, Rank.GENUS))
+                // Species names are rarely shared, so they are decoded without being cached.
+                .speciesName(decodeString(recordInt(record, Rank.SPECIES.ordinal() + 1)))
+                .build();
+    }
+
+    /**
+     * Retrieve the value of a rank in a record, sharing the decoded String with other records.
+     *
+     * @param record The record number.
+     * @param rank   The rank.
+     * @return The value, or null if the rank is unset.
+     */
+    private String rankValue(int record, Rank rank) {
+        int stringId = recordInt(record, rank.ordinal() + 1);
+        return stringId == NO_VALUE ? null : rankValues.computeIfAbsent(stringId, this::decodeString);
+    }
+
+    /**
+     * Read an int from a record.
+     *
+     * @param record The record number.
+     * @param column The column within the record, 0 for the common name or a rank ordinal plus one.
+     * @return The string id.
+     */
+    private int recordInt(int record, int column) {
+        return buffer.getInt(recordsPosition + (record * RECORD_INTS + column) * Integer.BYTES);
+    }
+
+    /**
+     * Find the start of a dictionary string.
+     *
+     * @param stringId The id of the string, or the string count for the end of the last string.
+     * @return The position of the first byte of the string.
+     */
+    private int stringStart(int stringId) {
+        return stringBytesPosition + buffer.getInt(stringOffsetsPosition + stringId * Integer.BYTES);
+    }
+
+    /**
+     * Decode a dictionary string.
+     *
+     * @param stringId The id of the string.
+     * @return The string.
+     */
+    private String decodeString(int stringId) {
+        int from = stringStart(stringId);
+        byte[] bytes = new byte[stringStart(stringId + 1) - from];
+        buffer.get(from, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Retrieve the common names of the species in the catalog.  Each name is decoded when the list element is read.
+     *
+     * @return An unmodifiable list of the common names, in catalog order.
+     */
+    @Override
+    public List<String> getCommonNames() {
+        return commonNames;
+    }
+
+    /**
+     * Retrieve the number of species in the catalog.
+     *
+     * @return The number of species.
+     */
+    @Override
+    public int size() {
+        return speciesCount;
+    }
+
+    /**
+     * A read-only view of the common names, decoded from the mapped file on each read.
+     */
+    private final class CommonNames extends AbstractList<String> {
+        @Override
+        public String get(int index) {
+            return decodeString(recordInt(Objects.checkIndex(index, speciesCount), 0));
+        }
+
+        @Override
+        public int size() {
+            return speciesCount;
+        }
+    }
+}
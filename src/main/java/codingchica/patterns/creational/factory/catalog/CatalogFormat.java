@@ -0,0 +1,257 @@
+package codingchica.patterns.creational.factory.catalog;
+
+import codingchica.patterns.behavioral.strategy.model.Rank;
+import codingchica.patterns.behavioral.strategy.model.ScientificClassification;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads the text format shared by the species catalogs: UTF-8, one species per line, with tab-separated columns in the
+ * order listed in COLUMN_NAMES, which is the common name followed by each Rank from the broadest to the most specific.
+ * An empty column leaves an optional rank unset.  Blank lines and lines starting with '#' are skipped, and a trailing
+ * '\r' is ignored, so files written on Windows load as well.
+ */
+final class CatalogFormat {
+    /** The names of the columns, in the order they appear on each line. */
+    static final String[] COLUMN_NAMES = {"commonName", "kingdom", "phylum", "class", "order", "subOrder",
+            "infraOrder", "family", "subFamily", "tribe", "genus", "species"};
+    /** The ranks, in column order after the common name. */
+    private static final Rank[] RANKS = Rank.values();
+    /** The index of the species column. */
+    private static final int SPECIES_COLUMN = Rank.SPECIES.ordinal() + 1;
+    /** The byte separating the columns of a line. */
+    static final byte SEPARATOR = '\t';
+    /** The byte ending each line. */
+    private static final byte LINE_FEED = '\n';
+    /** The byte which, at the start of a line, marks it as a comment. */
+    private static final byte COMMENT = '#';
+
+    /**
+     * Private constructor, as this class only exposes static methods.
+     */
+    private CatalogFormat() {
+    }
+
+    /**
+     * Find the end of the line starting at the index provided.
+     *
+     * @param content The catalog content.
+     * @param from    The index of the first byte of the line.
+     * @return The index of the line feed ending the line, or the content length for the last line.
+     */
+    static int lineEnd(byte[] content, int from) {
+        return lineEnd(content, from, content.length);
+    }
+
+    /**
+     * Find the end of the line starting at the index provided, within a limit.
+     *
+     * @param content The catalog content.
+     * @param from    The index of the first byte of the line.
+     * @param to      The index just past the last byte of content to consider.
+     * @return The index of the line feed ending the line, or to for the last line.
+     */
+    static int lineEnd(byte[] content, int from, int to) {
+        int index = from;
+        while (index < to && content[index] != LINE_FEED) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Find the end of the data on a line, excluding any trailing carriage return.
+     *
+     * @param content The catalog content.
+     * @param from    The index of the first byte of the line.
+     * @param lineEnd The index returned by lineEnd.
+     * @return The index just past the last byte of data on the line.
+     */
+    static int dataEnd(byte[] content, int from, int lineEnd) {
+        return lineEnd > from && content[lineEnd - 1] == '\r' ? lineEnd - 1 : lineEnd;
+    }
+
+    /**
+     * Indicates whether a line holds no species.
+     *
+     * @param content The catalog content.
+     * @param from    The index of the first byte of the line.
+     * @param to      The index returned by dataEnd.
+     * @return Whether the line is blank or a comment.
+     */
+    static boolean isSkipped(byte[] content, int from, int to) {
+        return from == to || content[from] == COMMENT;
+    }
+
+    /**
+     * Find the end of the common name column, without scanning the rest of the line.
+     *
+     * @param content The catalog content.
+     * @param from    The index of the first byte of the line.
+     * @return The index of the separator after the common name, or the end of the data if the line has a single
+     * column.
+     */
+    static int nameEnd(byte[] content, int from) {
+        int index = from;
+        while (index < content.length && content[index] != SEPARATOR && content[index] != LINE_FEED) {
+            index++;
+        }
+        return index < content.length && content[index] == SEPARATOR ? index : dataEnd(content, from, index);
+    }
+
+    /**
+     * Hash a run of bytes.
+     *
+     * @param bytes The bytes.
+     * @param from  The index of the first byte to hash.
+     * @param to    The index just past the last byte to hash.
+     * @return The hash.
+     */
+    static int hash(byte[] bytes, int from, int to) {
+        int hash = 0;
+        for (int i = from; i < to; i++) {
+            hash = 31 * hash + bytes[i];
+        }
+        return hash;
+    }
+
+    /**
+     * Decode the common name at the start of a line.
+     *
+     * @param content The catalog content.
+     * @param from    The index of the first byte of the line.
+     * @return The common name.
+     */
+    static String decodeName(byte[] content, int from) {
+        return new String(content, from, nameEnd(content, from) - from, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Parse the classification on a line.
+     *
+     * @param content The catalog content.
+     * @param from    The index of the first byte of the line.
+     * @return The classification.
+     * @throws IllegalArgumentException If the line does not have exactly one value per column, or a required rank
+     *                                  is empty.
+     */
+    static ScientificClassification parse(byte[] content, int from) {
+        String[] values = new String[COLUMN_NAMES.length];
+        int columnCount = splitColumns(content, from, dataEnd(content, from, lineEnd(content, from)), SEPARATOR,
+                values);
+        if (columnCount != COLUMN_NAMES.length) {
+            throw new IllegalArgumentException(String.format("Malformed catalog entry for %s: expected %d columns "
+                    + "but found %d", decodeName(content, from), COLUMN_NAMES.length, columnCount));
+        }
+        int missingColumn = findMissingColumn(values);
+        if (missingColumn >= 0) {
+            throw new IllegalArgumentException(String.format("Malformed catalog entry for %s: the %s column is "
+                    + "required", decodeName(content, from), COLUMN_NAMES[missingColumn]));
+        }
+        return build(values);
+    }
+
+    /**
+     * Split the data on a line into column values.
+     *
+     * @param content   The catalog content.
+     * @param from      The index of the first byte of the line.
+     * @param to        The index just past the last byte of data on the line.
+     * @param separator The byte separating the columns.
+     * @param values    Receives the value of each column, or null for an empty column.  Columns beyond its length
+     *                  are counted, but not decoded.
+     * @return The number of columns on the line.
+     */
+    static int splitColumns(byte[] content, int from, int to, byte separator, String[] values) {
+        return splitColumns(content, from, to, separator, values, null);
+    }
+
+    /**
+     * Split the data on a line into column values, sharing the decoded rank names through a cache.
+     *
+     * @param content    The catalog content.
+     * @param from       The index of the first byte of the line.
+     * @param to         The index just past the last byte of data on the line.
+     * @param separator  The byte separating the columns.
+     * @param values     Receives the value of each column, or null for an empty column.  Columns beyond its length
+     *                   are counted, but not decoded.
+     * @param valueCache Decodes the ranks above species, which repeat across rows, or null to decode every value.
+     * @return The number of columns on the line.
+     */
+    static int splitColumns(byte[] content, int from, int to, byte separator, String[] values,
+                            ValueCache valueCache) {
+        int column = 0;
+        int start = from;
+        for (int index = from; index <= to; index++) {
+            if (index == to || content[index] == separator) {
+                if (column < values.length) {
+                    values[column] = decode(content, start, index, column, valueCache);
+                }
+                column++;
+                start = index + 1;
+            }
+        }
+        return column;
+    }
+
+    /**
+     * Decode the value of a column.
+     *
+     * @param content    The catalog content.
+     * @param from       The index of the first byte of the value.
+     * @param to         The index just past the last byte of the value.
+     * @param column     The index of the column.
+     * @param valueCache Decodes the ranks above species, or null to decode every value.
+     * @return The value, or null if it is empty.
+     */
+    private static String decode(byte[] content, int from, int to, int column, ValueCache valueCache) {
+        if (from == to) {
+            return null;
+        }
+        // The common name and species are unique to each row, so caching them would only evict the shared values.
+        if (valueCache != null && column != 0 && column != SPECIES_COLUMN) {
+            return valueCache.decode(content, from, to);
+        }
+        return new String(content, from, to - from, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Find the first required column without a value.
+     *
+     * @param values The value of each column, as filled in by splitColumns.
+     * @return The index of the column, or -1 if every required column has a value.
+     */
+    static int findMissingColumn(String[] values) {
+        if (values[0] == null) {
+            return 0;
+        }
+        for (Rank rank : RANKS) {
+            if (rank.isRequired() && values[rank.ordinal() + 1] == null) {
+                return rank.ordinal() + 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Build the classification from the column values of a line, which findMissingColumn has accepted.
+     *
+     * @param values The value of each column.
+     * @return The classification.
+     */
+    static ScientificClassification build(String[] values) {
+        return ScientificClassification.builder()
+                .kingdomName(values[Rank.KINGDOM.ordinal() + 1])
+                .phylumName(values[Rank.PHYLUM.ordinal() + 1])
+                .className(values[Rank.CLASS.ordinal() + 1])
+                .orderName(values[Rank.ORDER.ordinal() + 1])
+                .subOrderName(values[Rank.SUB_ORDER.ordinal() + 1])
+                .infraOrder(values[Rank.INFRA_ORDER.ordinal() + 1])
+                .familyName(values[Rank.FAMILY.ordinal() + 1])
+                .subFamilyName(values[Rank.SUB_FAMILY.ordinal() + 1])
+                .tribeName(values[Rank.TRIBE.ordinal() + 1])
+                .genusName(values[Rank.GENUS.ordinal() + 1])
+                .speciesName(values[Rank.SPECIES.ordinal() + 1])
+                .build();
+    }
+}
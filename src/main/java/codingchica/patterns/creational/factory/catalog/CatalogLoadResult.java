@@ -0,0 +1,27 @@
+package codingchica.patterns.creational.factory.catalog;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * The outcome of loading a delimited taxonomy catalog with a TaxonomyCatalogLoader.
+ */
+@Getter
+@ToString
+public final class CatalogLoadResult {
+    /** The number of rows registered, counting each row of a repeated common name. */
+    private final long loadedCount;
+    /** The number of rows rejected, as they had the wrong number of columns or lacked a required rank. */
+    private final long rejectedCount;
+
+    /**
+     * Constructor for CatalogLoadResult objects.
+     *
+     * @param loadedCount   The number of rows registered.
+     * @param rejectedCount The number of rows rejected.
+     */
+    CatalogLoadResult(long loadedCount, long rejectedCount) {
+        this.loadedCount = loadedCount;
+        this.rejectedCount = rejectedCount;
+    }
+}
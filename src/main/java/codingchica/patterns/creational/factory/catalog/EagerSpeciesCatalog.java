@@ -0,0 +1,92 @@
+package codingchica.patterns.creational.factory.catalog;
+
+import codingchica.patterns.behavioral.strategy.model.ScientificClassification;
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A SpeciesCatalog which parses every classification up front, so that a malformed entry is reported at load time,
+ * at the cost of building every classification before the first one is needed.
+ *
+ * @see LazySpeciesCatalog
+ */
+public final class EagerSpeciesCatalog implements SpeciesCatalog {
+    /** The classifications, keyed by common name. */
+    private final Map<String, ScientificClassification> classificationsByCommonName;
+    /** The common names, in catalog order. */
+    private final List<String> commonNames;
+
+    /**
+     * Constructor for EagerSpeciesCatalog objects.
+     *
+     * @param classificationsByCommonName The classifications, keyed by common name, in catalog order.
+     */
+    private EagerSpeciesCatalog(LinkedHashMap<String, ScientificClassification> classificationsByCommonName) {
+        this.classificationsByCommonName = new HashMap<>(classificationsByCommonName);
+        this.commonNames = List.copyOf(classificationsByCommonName.keySet());
+    }
+
+    /**
+     * Load a catalog file.
+     *
+     * @param path The path of the catalog file.
+     * @return The catalog.
+     * @throws IOException              If the file cannot be read.
+     * @throws IllegalArgumentException If any entry is malformed.
+     */
+    public static EagerSpeciesCatalog load(@NonNull Path path) throws IOException {
+        return fromBytes(Files.readAllBytes(path));
+    }
+
+    /**
+     * Parse catalog content.  When a common name appears more than once, the last entry wins, at the position of the
+     * first.
+     *
+     * @param content The UTF-8 catalog content.
+     * @return The catalog.
+     * @throws IllegalArgumentException If any entry is malformed.
+     */
+    public static EagerSpeciesCatalog fromBytes(byte @NonNull [] content) {
+        LinkedHashMap<String, ScientificClassification> classifications = new LinkedHashMap<>();
+        int lineEnd;
+        for (int lineStart = 0; lineStart < content.length; lineStart = lineEnd + 1) {
+            lineEnd = CatalogFormat.lineEnd(content, lineStart);
+            if (!CatalogFormat.isSkipped(content, lineStart, CatalogFormat.dataEnd(content, lineStart, lineEnd))) {
+                ScientificClassification scientificClassification = CatalogFormat.parse(content, lineStart);
+                String commonName = CatalogFormat.decodeName(content, lineStart);
+                // Replacing a LinkedHashMap value keeps its key's position, the first appearance.
+                classifications.put(commonName, scientificClassification);
+            }
+        }
+        return new EagerSpeciesCatalog(classifications);
+    }
+
+    /**
+     * Retrieve the classification of the species with the common name provided.
+     *
+     * @param commonName The common name of the species.
+     * @return An Optional containing the classification, or empty if the catalog has no such species.
+     */
+    @Override
+    public Optional<ScientificClassification> getScientificClassification(@NonNull String commonName) {
+        return Optional.ofNullable(classificationsByCommonName.get(commonName));
+    }
+
+    /**
+     * Retrieve the common names of the species in the catalog.
+     *
+     * @return An unmodifiable list of the common names, in catalog order.
+     */
+    @Override
+    public List<String> getCommonNames() {
+        return commonNames;
+    }
+}
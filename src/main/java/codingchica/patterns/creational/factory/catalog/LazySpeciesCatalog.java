@@ -0,0 +1,231 @@
+package codingchica.patterns.creational.factory.catalog;
+
+import codingchica.patterns.behavioral.strategy.model.ScientificClassification;
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A SpeciesCatalog which defers parsing each classification until it is first requested, so that loading a large
+ * catalog costs little more than reading the file.
+ * <p>
+ * Loading only records where each entry starts, and indexes the entries in an open-addressing hash table of ints
+ * keyed by the raw bytes of the common name, so no String or ScientificClassification is created per entry up front.
+ * A lookup encodes the requested name once, probes the table and compares bytes, so its cost does not grow with the
+ * size of the catalog.  Each classification is parsed on its first request and memoized; if two threads race to
+ * parse the same entry, both get the instance published first.
+ * <p>
+ * As entries are not parsed at load time, a malformed entry is only reported when it is requested.
+ *
+ * @see EagerSpeciesCatalog
+ */
+public final class LazySpeciesCatalog implements SpeciesCatalog {
+    /** The UTF-8 catalog content. */
+    private final byte[] content;
+    /** The index into content at which each entry starts, in catalog order. */
+    private final int[] entryStarts;
+    /** The hash of the common name of each entry. */
+    private final int[] entryHashes;
+    /** The hash table, holding one plus the entry index of each occupied slot, and 0 for an empty one. */
+    private final int[] slots;
+    /** The classification of each entry, once parsed. */
+    private final AtomicReferenceArray<ScientificClassification> classifications;
+    /** A view of the common names, decoded on demand. */
+    private final List<String> commonNames = new CommonNames();
+
+    /**
+     * Constructor for LazySpeciesCatalog objects.
+     *
+     * @param content     The UTF-8 catalog content.
+     * @param entryStarts The index into content at which each distinct entry starts.
+     * @param entryHashes The hash of the common name of each entry.
+     * @param slots       The hash table.
+     */
+    private LazySpeciesCatalog(byte[] content, int[] entryStarts, int[] entryHashes, int[] slots) {
+        this.content = content;
+        this.entryStarts = entryStarts;
+        this.entryHashes = entryHashes;
+        this.slots = slots;
+        this.classifications = new AtomicReferenceArray<>(entryStarts.length);
+    }
+
+    /**
+     * Load a catalog file.
+     *
+     * @param path The path of the catalog file.
+     * @return The catalog.
+     * @throws IOException If the file cannot be read.
+     */
+    public static LazySpeciesCatalog load(@NonNull Path path) throws IOException {
+        return fromBytes(Files.readAllBytes(path));
+    }
+
+    /**
+     * Index catalog content, which must not be modified afterwards.  When a common name appears more than once, the
+     * last entry wins, at the position of the first.
+     *
+     * @param content The UTF-8 catalog content.
+     * @return The catalog.
+     */
+    public static LazySpeciesCatalog fromBytes(byte @NonNull [] content) {
+        // Collect the start and name hash of every entry, duplicates included.
+        int[] starts = new int[16];
+        int[] hashes = new int[16];
+        int count = 0;
+        int lineEnd;
+        for (int lineStart = 0; lineStart < content.length; lineStart = lineEnd + 1) {
+            lineEnd = CatalogFormat.lineEnd(content, lineStart);
+            if (!CatalogFormat.isSkipped(content, lineStart, CatalogFormat.dataEnd(content, lineStart, lineEnd))) {
+                if (count == starts.length) {
+                    starts = Arrays.copyOf(starts, count * 2);
+                    hashes = Arrays.copyOf(hashes, count * 2);
+                }
+                starts[count] = lineStart;
+                hashes[count] = CatalogFormat.hash(content, lineStart, CatalogFormat.nameEnd(content, lineStart));
+                count++;
+            }
+        }
+
+        // Build the table, keeping the table at most half full.  A later duplicate takes over the earlier entry's
+        // index, so the entries stay in order of first appearance.
+        int[] slots = new int[Math.max(2, Integer.highestOneBit(Math.max(1, count)) << 2)];
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            int slot = findSlot(content, starts, hashes, slots, content, starts[i],
+                    CatalogFormat.nameEnd(content, starts[i]), hashes[i]);
+            if (slots[slot] == 0) {
+                starts[distinct] = starts[i];
+                hashes[distinct] = hashes[i];
+                slots[slot] = ++distinct;
+            } else {
+                starts[slots[slot] - 1] = starts[i];
+            }
+        }
+        return new LazySpeciesCatalog(content, Arrays.copyOf(starts, distinct), Arrays.copyOf(hashes, distinct),
+                slots);
+    }
+
+    /**
+     * Find the slot holding a name, or the empty slot at which it would be inserted.
+     *
+     * @param content     The catalog content.
+     * @param entryStarts The start of each entry.
+     * @param entryHashes The hash of the name of each entry.
+     * @param slots       The hash table.
+     * @param name        The bytes holding the name to find.
+     * @param nameStart   The index of the first byte of the name.
+     * @param nameEnd     The index just past the last byte of the name.
+     * @param hash        The hash of the name.
+     * @return The slot index.
+     */
+    private static int findSlot(byte[] content, int[] entryStarts, int[] entryHashes, int[] slots, byte[] name,
+                                int nameStart, int nameEnd, int hash) {
+        int mask = slots.length - 1;
+        // Spread the high bits into the low ones, as the table is indexed by the low bits alone.
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        while (slots[slot] != 0) {
+            int entry = slots[slot] - 1;
+            if (entryHashes[entry] == hash) {
+                int entryStart = entryStarts[entry];
+                int entryNameEnd = CatalogFormat.nameEnd(content, entryStart);
+                if (Arrays.equals(content, entryStart, entryNameEnd, name, nameStart, nameEnd)) {
+                    return slot;
+                }
+            }
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Retrieve the classification of the species with the common name provided, parsing it on the first request.
+     *
+     * @param commonName The common name of the species.
+     * @return An Optional containing the classification, or empty if the catalog has no such species.
+     * @throws IllegalArgumentException If the catalog's entry for the species is malformed.
+     */
+    @Override
+    public Optional<ScientificClassification> getScientificClassification(@NonNull String commonName) {
+        byte[] name = commonName.getBytes(StandardCharsets.UTF_8);
+        int slot = findSlot(content, entryStarts, entryHashes, slots, name, 0, name.length,
+                CatalogFormat.hash(name, 0, name.length));
+        if (slots[slot] == 0) {
+            return Optional.empty();
+        }
+        int entry = slots[slot] - 1;
+        ScientificClassification scientificClassification = classifications.get(entry);
+        if (scientificClassification == null) {
+            scientificClassification = parse(entry);
+        }
+        return Optional.of(scientificClassification);
+    }
+
+    /**
+     * Parse and memoize the classification of an entry.
+     *
+     * @param entry The entry index.
+     * @return The memoized classification, which may have been published by another thread.
+     */
+    ScientificClassification parse(int entry) {
+        ScientificClassification parsed = CatalogFormat.parse(content, entryStarts[entry]);
+        return classifications.compareAndSet(entry, null, parsed) ? parsed : classifications.get(entry);
+    }
+
+    /**
+     * Retrieve the number of classifications parsed so far.
+     *
+     * @return The number of entries that have been requested at least once.
+     */
+    public int getParsedCount() {
+        int parsed = 0;
+        for (int i = 0; i < classifications.length(); i++) {
+            if (classifications.get(i) != null) {
+                parsed++;
+            }
+        }
+        return parsed;
+    }
+
+    /**
+     * Retrieve the common names of the species in the catalog.  Each name is decoded when the list element is read.
+     *
+     * @return An unmodifiable list of the common names, in catalog order.
+     */
+    @Override
+    public List<String> getCommonNames() {
+        return commonNames;
+    }
+
+    /**
+     * Retrieve the number of species in the catalog.
+     *
+     * @return The number of species.
+     */
+    @Override
+    public int size() {
+        return entryStarts.length;
+    }
+
+    /**
+     * A read-only view of the common names, decoded from the catalog content on each read.
+     */
+    private final class CommonNames extends AbstractList<String> {
+        @Override
+        public String get(int index) {
+            return CatalogFormat.decodeName(content, entryStarts[index]);
+        }
+
+        @Override
+        public int size() {
+            return entryStarts.length;
+        }
+    }
+}
@@ -0,0 +1,326 @@
+package codingchica.patterns.creational.factory.catalog;
+
+import lombok.NonNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A minimal perfect hash function over a fixed set of string keys: each of the n keys maps to its own slot in the
+ * range 0 to n - 1, with no empty slots, so a table indexed by slot needs no keys, chains or probing.
+ * <p>
+ * The function is built with the compress, hash and displace algorithm.  Each key's 64-bit hash picks one of about
+ * n / 4 buckets.  Working from the largest bucket down, each bucket is given the smallest displacement that moves all
+ * of its keys into slots which are still free.  A bucket of one key is simply given the next free slot.  A lookup
+ * hashes the key once, reads its bucket's displacement, and computes the slot.
+ * <p>
+ * A key outside the set also maps to some slot, so each slot records its key's full 64-bit hash as a fingerprint.  An
+ * unknown key is only accepted if its hash equals that of the key in its slot, which is as unlikely as the hash
+ * collision between two keys that build already rejects, so callers need not keep the keys to compare them.
+ */
+public final class MinimalPerfectHash {
+    /** The first int of every serialized hash function, "MPHF" in ASCII. */
+    static final int MAGIC = 0x4D504846;
+    /** The average number of keys per bucket. */
+    private static final int KEYS_PER_BUCKET = 4;
+    /** The multiplier that spreads successive displacements across the hash space. */
+    private static final long DISPLACEMENT_STEP = 0x9E3779B97F4A7C15L;
+
+    /** The number of keys, and slots. */
+    private final int size;
+    /** The displacement of each bucket, or -(slot + 1) for a bucket whose only key was placed directly. */
+    private final int[] displacements;
+    /** The fingerprint of the key in each slot, which is its hash. */
+    private final long[] fingerprints;
+
+    /**
+     * Constructor for MinimalPerfectHash objects.
+     *
+     * @param size          The number of keys, and slots.
+     * @param displacements The displacement of each bucket.
+     * @param fingerprints  The fingerprint of the key in each slot.
+     */
+    private MinimalPerfectHash(int size, int[] displacements, long[] fingerprints) {
+        this.size = size;
+        this.displacements = displacements;
+        this.fingerprints = fingerprints;
+    }
+
+    /**
+     * Build a minimal perfect hash function over a set of keys.
+     *
+     * @param keys The keys, which must be distinct.
+     * @return The hash function.
+     * @throws IllegalArgumentException If a key is repeated.
+     */
+    public static MinimalPerfectHash build(@NonNull List<String> keys) {
+        int size = keys.size();
+        int bucketCount = Math.max(1, (size + KEYS_PER_BUCKET - 1) / KEYS_PER_BUCKET);
+        if (size == 0) {
+            return new MinimalPerfectHash(0, new int[bucketCount], new long[0]);
+        }
+        long[] hashes = new long[size];
+        int[] bucketStarts = new int[bucketCount + 1];
+        int[] bucketOfKey = new int[size];
+        for (int i = 0; i < size; i++) {
+            hashes[i] = hash(keys.get(i));
+            bucketOfKey[i] = bucket(hashes[i], bucketCount);
+            bucketStarts[bucketOfKey[i] + 1]++;
+        }
+        int maxBucketSize = 0;
+        for (int bucket = 0; bucket < bucketCount; bucket++) {
+            maxBucketSize = Math.max(maxBucketSize, bucketStarts[bucket + 1]);
+            bucketStarts[bucket + 1] += bucketStarts[bucket];
+        }
+        // Group the keys by bucket.
+        int[] members = new int[size];
+        int[] fill = bucketStarts.clone();
+        for (int i = 0; i < size; i++) {
+            members[fill[bucketOfKey[i]]++] = i;
+        }
+
+        int[] displacements = new int[bucketCount];
+        long[] fingerprints = new long[size];
+        boolean[] taken = new boolean[size];
+        int[] slots = new int[maxBucketSize];
+        int nextFree = 0;
+        for (int bucket : bucketsLargestFirst(bucketStarts, maxBucketSize)) {
+            int from = bucketStarts[bucket];
+            int to = bucketStarts[bucket + 1];
+            if (to - from == 1) {
+                while (taken[nextFree]) {
+                    nextFree++;
+                }
+                place(members[from], nextFree, hashes, taken, fingerprints);
+                displacements[bucket] = -(nextFree + 1);
+                continue;
+            }
+            checkDistinct(keys, hashes, members, from, to);
+            int displacement = 0;
+            while (!tryDisplacement(displacement, hashes, members, from, to, taken, slots)) {
+                displacement++;
+            }
+            for (int i = from; i < to; i++) {
+                place(members[i], slots[i - from], hashes, taken, fingerprints);
+            }
+            displacements[bucket] = displacement;
+        }
+        return new MinimalPerfectHash(size, displacements, fingerprints);
+    }
+
+    /**
+     * Read a hash function written by writeTo.
+     *
+     * @param input The input to read from.
+     * @return The hash function.
+     * @throws IOException If the input cannot be read, or does not hold a valid hash function.
+     */
+    public static MinimalPerfectHash readFrom(@NonNull DataInput input) throws IOException {
+        if (input.readInt() != MAGIC) {
+            throw new IOException("Not a minimal perfect hash");
+        }
+        int size = input.readInt();
+        int bucketCount = input.readInt();
+        if (size < 0 || bucketCount != Math.max(1, (size + KEYS_PER_BUCKET - 1) / KEYS_PER_BUCKET)) {
+            throw new IOException("Corrupt minimal perfect hash");
+        }
+        int[] displacements = new int[bucketCount];
+        for (int bucket = 0; bucket < bucketCount; bucket++) {
+            displacements[bucket] = input.readInt();
+            if (displacements[bucket] < -size) {
+                throw new IOException("Corrupt minimal perfect hash");
+            }
+        }
+        long[] fingerprints = new long[size];
+        for (int slot = 0; slot < size; slot++) {
+            fingerprints[slot] = input.readLong();
+        }
+        return new MinimalPerfectHash(size, displacements, fingerprints);
+    }
+
+    /**
+     * Write the hash function, so that it can be read back with readFrom rather than built again.
+     *
+     * @param output The output to write to.
+     * @throws IOException If the output cannot be written.
+     */
+    public void writeTo(@NonNull DataOutput output) throws IOException {
+        output.writeInt(MAGIC);
+        output.writeInt(size);
+        output.writeInt(displacements.length);
+        for (int displacement : displacements) {
+            output.writeInt(displacement);
+        }
+        for (long fingerprint : fingerprints) {
+            output.writeLong(fingerprint);
+        }
+    }
+
+    /**
+     * Find the slot of a key.
+     *
+     * @param key The key.
+     * @return The slot of the key, from 0 to size() - 1, or -1 if the key is known not to be one of the keys the
+     * function was built over.
+     */
+    public int lookup(@NonNull String key) {
+        if (size == 0) {
+            return -1;
+        }
+        long hash = hash(key);
+        int displacement = displacements[bucket(hash, displacements.length)];
+        int slot = displacement < 0 ? -displacement - 1 : slot(hash, displacement, size);
+        return fingerprints[slot] == hash ? slot : -1;
+    }
+
+    /**
+     * Retrieve the number of keys the function was built over.
+     *
+     * @return The number of keys, which is also the number of slots.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Order the buckets from the largest to the smallest, leaving out empty buckets.
+     *
+     * @param bucketStarts  The index of each bucket's first member, followed by the number of keys.
+     * @param maxBucketSize The size of the largest bucket.
+     * @return The non-empty buckets, largest first.
+     */
+    private static int[] bucketsLargestFirst(int[] bucketStarts, int maxBucketSize) {
+        int bucketCount = bucketStarts.length - 1;
+        int[] sizeStarts = new int[maxBucketSize + 2];
+        for (int bucket = 0; bucket < bucketCount; bucket++) {
+            sizeStarts[maxBucketSize - (bucketStarts[bucket + 1] - bucketStarts[bucket]) + 1]++;
+        }
+        for (int i = 1; i < sizeStarts.length; i++) {
+            sizeStarts[i] += sizeStarts[i - 1];
+        }
+        int[] ordered = new int[bucketCount];
+        for (int bucket = 0; bucket < bucketCount; bucket++) {
+            ordered[sizeStarts[maxBucketSize - (bucketStarts[bucket + 1] - bucketStarts[bucket])]++] = bucket;
+        }
+        // The empty buckets sort last.
+        return Arrays.copyOf(ordered, sizeStarts[maxBucketSize - 1]);
+    }
+
+    /**
+     * Verify that no two keys of a bucket have the same hash, as no displacement could then separate them.
+     *
+     * @param keys    The keys.
+     * @param hashes  The hash of each key.
+     * @param members The keys grouped by bucket.
+     * @param from    The index of the bucket's first member.
+     * @param to      The index just past the bucket's last member.
+     * @throws IllegalArgumentException If a key is repeated.
+     */
+    private static void checkDistinct(List<String> keys, long[] hashes, int[] members, int from, int to) {
+        for (int i = from; i < to; i++) {
+            for (int j = i + 1; j < to; j++) {
+                if (hashes[members[i]] == hashes[members[j]]) {
+                    String key = keys.get(members[i]);
+                    throw new IllegalArgumentException(key.equals(keys.get(members[j]))
+                            ? "Duplicate key: " + key
+                            : "Keys with the same 64-bit hash: " + key + ", " + keys.get(members[j]));
+                }
+            }
+        }
+    }
+
+    /**
+     * Try to place every key of a bucket with a displacement.
+     *
+     * @param displacement The displacement.
+     * @param hashes       The hash of each key.
+     * @param members      The keys grouped by bucket.
+     * @param from         The index of the bucket's first member.
+     * @param to           The index just past the bucket's last member.
+     * @param taken        Whether each slot holds a key already.
+     * @param slots        Filled in with the slot of each of the bucket's keys.
+     * @return True if every key landed in a free slot of its own, otherwise false.
+     */
+    private static boolean tryDisplacement(int displacement, long[] hashes, int[] members, int from, int to,
+                                           boolean[] taken, int[] slots) {
+        for (int i = from; i < to; i++) {
+            int slot = slot(hashes[members[i]], displacement, taken.length);
+            if (taken[slot]) {
+                return false;
+            }
+            for (int j = 0; j < i - from; j++) {
+                if (slots[j] == slot) {
+                    return false;
+                }
+            }
+            slots[i - from] = slot;
+        }
+        return true;
+    }
+
+    /**
+     * Place a key in a slot.
+     *
+     * @param key          The index of the key.
+     * @param slot         The slot.
+     * @param hashes       The hash of each key.
+     * @param taken        Whether each slot holds a key already.
+     * @param fingerprints The fingerprint of the key in each slot.
+     */
+    private static void place(int key, int slot, long[] hashes, boolean[] taken, long[] fingerprints) {
+        taken[slot] = true;
+        fingerprints[slot] = hashes[key];
+    }
+
+    /**
+     * Hash a key, with 64-bit FNV-1a over its chars followed by the MurmurHash3 finalizer.
+     *
+     * @param key The key.
+     * @return The hash.
+     */
+    static long hash(String key) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash = (hash ^ key.charAt(i)) * 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+    /**
+     * Scramble the bits of a hash, with the MurmurHash3 finalizer.
+     *
+     * @param hash The hash.
+     * @return The scrambled hash.
+     */
+    private static long mix(long hash) {
+        long mixed = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+        mixed = (mixed ^ (mixed >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return mixed ^ (mixed >>> 33);
+    }
+
+    /**
+     * Find the bucket of a hash, from its low 32 bits.
+     *
+     * @param hash        The hash.
+     * @param bucketCount The number of buckets.
+     * @return The bucket.
+     */
+    private static int bucket(long hash, int bucketCount) {
+        return (int) (((hash & 0xFFFFFFFFL) * bucketCount) >>> Integer.SIZE);
+    }
+
+    /**
+     * Find the slot of a hash under a displacement.
+     *
+     * @param hash         The hash.
+     * @param displacement The displacement of the hash's bucket.
+     * @param size         The number of slots.
+     * @return The slot.
+     */
+    private static int slot(long hash, int displacement, int size) {
+        return (int) (((mix(hash + displacement * DISPLACEMENT_STEP) >>> Integer.SIZE) * size) >>> Integer.SIZE);
+    }
+}
@@ -0,0 +1,282 @@
+package codingchica.patterns.creational.factory.catalog;
+
+import codingchica.patterns.behavioral.strategy.model.Rank;
+import codingchica.patterns.behavioral.strategy.model.ScientificClassification;
+import lombok.NonNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A frozen SpeciesCatalog, for species sets that change rarely, which can look a species up by its common name or by
+ * its species name, such as "Homo sapiens", with a single hash and array access either way.
+ * <p>
+ * Each name space has its own MinimalPerfectHash.  The entries are stored in the slot order of the common name hash,
+ * and the species name hash maps to the same slots.  The fingerprint held by each hash rejects unknown names, so a
+ * lookup never has to read the name held for the slot.  The catalog can be written with writeTo and read back with
+ * readFrom, so that the hash functions do not have to be built again at startup.
+ */
+public final class PerfectHashSpeciesCatalog implements SpeciesCatalog {
+    /** The first int of every serialized catalog, "SPMH" in ASCII. */
+    static final int MAGIC = 0x53504D48;
+    /** The version of the serialized form. */
+    static final int VERSION = 1;
+    /** The ranks, indexed by ordinal. */
+    private static final Rank[] RANKS = Rank.values();
+
+    /** The hash of the common names. */
+    private final MinimalPerfectHash commonNameHash;
+    /** The common name of each entry, in slot order. */
+    private final String[] commonNames;
+    /** The classification of each entry, in slot order. */
+    private final ScientificClassification[] classifications;
+    /** The hash of the species names, each held by the first entry with that species name. */
+    private final MinimalPerfectHash speciesNameHash;
+    /** The entry slot for each slot of the species name hash. */
+    private final int[] entrySlots;
+    /** The common names, in catalog order. */
+    private final List<String> commonNamesInOrder;
+
+    /**
+     * Constructor for PerfectHashSpeciesCatalog objects.
+     *
+     * @param commonNameHash     The hash of the common names.
+     * @param commonNames        The common name of each entry, in slot order.
+     * @param classifications    The classification of each entry, in slot order.
+     * @param speciesNameHash    The hash of the species names.
+     * @param entrySlots         The entry slot for each slot of the species name hash.
+     * @param commonNamesInOrder The common names, in catalog order.
+     */
+    private PerfectHashSpeciesCatalog(MinimalPerfectHash commonNameHash, String[] commonNames,
+                                      ScientificClassification[] classifications,
+                                      MinimalPerfectHash speciesNameHash, int[] entrySlots,
+                                      List<String> commonNamesInOrder) {
+        this.commonNameHash = commonNameHash;
+        this.commonNames = commonNames;
+        this.classifications = classifications;
+        this.speciesNameHash = speciesNameHash;
+        this.entrySlots = entrySlots;
+        this.commonNamesInOrder = Collections.unmodifiableList(commonNamesInOrder);
+    }
+
+    /**
+     * Build a catalog of the classifications provided.
+     *
+     * @param classificationsByCommonName The classification of each species, keyed by common name, in catalog order.
+     * @return The catalog.
+     */
+    public static PerfectHashSpeciesCatalog of(
+            @NonNull Map<String, ScientificClassification> classificationsByCommonName) {
+        List<String> names = new ArrayList<>(classificationsByCommonName.keySet());
+        MinimalPerfectHash commonNameHash = MinimalPerfectHash.build(names);
+        String[] commonNames = new String[names.size()];
+        ScientificClassification[] classifications = new ScientificClassification[names.size()];
+        Map<String, Integer> slotsBySpeciesName = new LinkedHashMap<>();
+        for (String name : names) {
+            int slot = commonNameHash.lookup(name);
+            commonNames[slot] = name;
+            classifications[slot] = classificationsByCommonName.get(name);
+            slotsBySpeciesName.putIfAbsent(classifications[slot].getSpeciesName(), slot);
+        }
+        List<String> speciesNames = new ArrayList<>(slotsBySpeciesName.keySet());
+        MinimalPerfectHash speciesNameHash = MinimalPerfectHash.build(speciesNames);
+        int[] entrySlots = new int[speciesNames.size()];
+        for (String speciesName : speciesNames) {
+            entrySlots[speciesNameHash.lookup(speciesName)] = slotsBySpeciesName.get(speciesName);
+        }
+        return new PerfectHashSpeciesCatalog(commonNameHash, commonNames, classifications, speciesNameHash,
+                entrySlots, names);
+    }
+
+    /**
+     * Build a catalog holding every species of another catalog, such as one loaded from a text file.
+     *
+     * @param catalog The catalog to copy.
+     * @return The catalog.
+     * @throws IllegalArgumentException If an entry of the catalog is malformed.
+     */
+    public static PerfectHashSpeciesCatalog from(@NonNull SpeciesCatalog catalog) {
+        Map<String, ScientificClassification> classifications = new LinkedHashMap<>();
+        for (String commonName : catalog.getCommonNames()) {
+            classifications.put(commonName, catalog.getScientificClassification(commonName).orElseThrow());
+        }
+        return of(classifications);
+    }
+
+    /**
+     * Read a catalog written by writeTo.
+     *
+     * @param input The input to read from.
+     * @return The catalog.
+     * @throws IOException If the input cannot be read, or does not hold a catalog of the supported version.
+     */
+    public static PerfectHashSpeciesCatalog readFrom(@NonNull DataInput input) throws IOException {
+        if (input.readInt() != MAGIC) {
+            throw new IOException("Not a perfect hash species catalog");
+        }
+        int version = input.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported perfect hash species catalog version " + version);
+        }
+        MinimalPerfectHash commonNameHash = MinimalPerfectHash.readFrom(input);
+        MinimalPerfectHash speciesNameHash = MinimalPerfectHash.readFrom(input);
+        int size = commonNameHash.size();
+        if (speciesNameHash.size() > size) {
+            throw new IOException("Corrupt perfect hash species catalog");
+        }
+        String[] commonNames = new String[size];
+        ScientificClassification[] classifications = new ScientificClassification[size];
+        String[] values = new String[RANKS.length + 1];
+        for (int slot = 0; slot < size; slot++) {
+            for (int column = 0; column < values.length; column++) {
+                values[column] = input.readBoolean() ? input.readUTF() : null;
+            }
+            if (CatalogFormat.findMissingColumn(values) != -1) {
+                throw new IOException("Corrupt perfect hash species catalog");
+            }
+            commonNames[slot] = values[0];
+            classifications[slot] = CatalogFormat.build(values);
+        }
+        int[] entrySlots = readSlots(input, speciesNameHash.size(), size);
+        int[] order = readSlots(input, size, size);
+        List<String> commonNamesInOrder = new ArrayList<>(size);
+        for (int slot : order) {
+            commonNamesInOrder.add(commonNames[slot]);
+        }
+        return new PerfectHashSpeciesCatalog(commonNameHash, commonNames, classifications, speciesNameHash,
+                entrySlots, commonNamesInOrder);
+    }
+
+    /**
+     * Read an array of entry slots.
+     *
+     * @param input The input to read from.
+     * @param count The number of slots to read.
+     * @param size  The number of entries.
+     * @return The slots.
+     * @throws IOException If the input cannot be read, or a slot is out of range.
+     */
+    private static int[] readSlots(DataInput input, int count, int size) throws IOException {
+        int[] slots = new int[count];
+        for (int i = 0; i < count; i++) {
+            slots[i] = input.readInt();
+            if (slots[i] < 0 || slots[i] >= size) {
+                throw new IOException("Corrupt perfect hash species catalog");
+            }
+        }
+        return slots;
+    }
+
+    /**
+     * Write the catalog, so that it can be read back with readFrom rather than built again.
+     *
+     * @param output The output to write to.
+     * @throws IOException If the output cannot be written.
+     */
+    public void writeTo(@NonNull DataOutput output) throws IOException {
+        output.writeInt(MAGIC);
+        output.writeInt(VERSION);
+        commonNameHash.writeTo(output);
+        speciesNameHash.writeTo(output);
+        for (int slot = 0; slot < commonNames.length; slot++) {
+            writeValue(output, commonNames[slot]);
+            for (Rank rank : RANKS) {
+                writeValue(output, classifications[slot].getRank(rank));
+            }
+        }
+        for (int entrySlot : entrySlots) {
+            output.writeInt(entrySlot);
+        }
+        for (String commonName : commonNamesInOrder) {
+            output.writeInt(commonNameHash.lookup(commonName));
+        }
+    }
+
+    /**
+     * Write a value which may be null.
+     *
+     * @param output The output to write to.
+     * @param value  The value.
+     * @throws IOException If the output cannot be written.
+     */
+    private static void writeValue(DataOutput output, String value) throws IOException {
+        output.writeBoolean(value != null);
+        if (value != null) {
+            output.writeUTF(value);
+        }
+    }
+
+    /**
+     * Retrieve the classification of the species with the common name provided.
+     *
+     * @param commonName The common name of the species.
+     * @return An Optional containing the classification, or empty if the catalog has no such species.
+     */
+    @Override
+    public Optional<ScientificClassification> getScientificClassification(@NonNull String commonName) {
+        int slot = commonNameHash.lookup(commonName);
+        return slot < 0 ? Optional.empty() : Optional.of(classifications[slot]);
+    }
+
+    /**
+     * Retrieve the classification of the species with the species name provided.
+     *
+     * @param speciesName The species name, such as "Homo sapiens".
+     * @return An Optional containing the classification, or empty if the catalog has no such species.
+     */
+    public Optional<ScientificClassification> getScientificClassificationBySpeciesName(@NonNull String speciesName) {
+        int slot = entrySlotOf(speciesName);
+        return slot < 0 ? Optional.empty() : Optional.of(classifications[slot]);
+    }
+
+    /**
+     * Retrieve the common name of the species with the species name provided, such as to create an Animal of the
+     * species with AnimalFactory.getAnimal.
+     *
+     * @param speciesName The species name, such as "Homo sapiens".
+     * @return An Optional containing the common name, which is the first in catalog order if the species has several,
+     * or empty if the catalog has no such species.
+     */
+    public Optional<String> getCommonName(@NonNull String speciesName) {
+        int slot = entrySlotOf(speciesName);
+        return slot < 0 ? Optional.empty() : Optional.of(commonNames[slot]);
+    }
+
+    /**
+     * Find the entry of a species name.
+     *
+     * @param speciesName The species name.
+     * @return The entry slot, or -1 if the catalog has no such species.
+     */
+    private int entrySlotOf(String speciesName) {
+        int slot = speciesNameHash.lookup(speciesName);
+        return slot < 0 ? -1 : entrySlots[slot];
+    }
+
+    /**
+     * Retrieve the common names of the species in the catalog.
+     *
+     * @return An unmodifiable list of the common names, in catalog order.
+     */
+    @Override
+    public List<String> getCommonNames() {
+        return commonNamesInOrder;
+    }
+
+    /**
+     * Retrieve the number of species in the catalog.
+     *
+     * @return The number of species.
+     */
+    @Override
+    public int size() {
+        return commonNames.length;
+    }
+}
@@ -0,0 +1,39 @@
+package codingchica.patterns.creational.factory.catalog;
+
+import codingchica.patterns.behavioral.strategy.model.ScientificClassification;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A read-only source of scientific classifications, keyed by common name, such as a catalog file loaded at startup.
+ * A catalog can be attached to a SpeciesRegistry, which then falls back to it for common names that were not
+ * registered directly.
+ */
+public interface SpeciesCatalog {
+    /**
+     * Retrieve the classification of the species with the common name provided.
+     *
+     * @param commonName The common name of the species.
+     * @return An Optional containing the classification, or empty if the catalog has no such species.
+     * @throws IllegalArgumentException If the catalog's entry for the species is malformed.
+     */
+    Optional<ScientificClassification> getScientificClassification(String commonName);
+
+    /**
+     * Retrieve the common names of the species in the catalog.  A common name listed more than once in the catalog
+     * appears once, at the position of its first listing.
+     *
+     * @return An unmodifiable list of the common names, in catalog order.
+     */
+    List<String> getCommonNames();
+
+    /**
+     * Retrieve the number of species in the catalog.
+     *
+     * @return The number of species.
+     */
+    default int size() {
+        return getCommonNames().size();
+    }
+}
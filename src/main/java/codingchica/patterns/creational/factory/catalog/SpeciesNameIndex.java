@@ -0,0 +1,139 @@
+package codingchica.patterns.creational.factory.catalog;
+
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * An immutable prefix index over species names, such as common names and species names, for completing what a user
+ * has typed so far.
+ * <p>
+ * The distinct names are held in a sorted array, where every name with a given prefix forms one contiguous range, so a
+ * completion is a binary search for the start of the range followed by a scan of at most the number of completions
+ * wanted.  A second array holds the same String references in case-insensitive order, so that prefixes can also be
+ * matched ignoring case, comparing a char at a time rather than lower-casing copies of the names.
+ */
+public final class SpeciesNameIndex {
+    /** The distinct names, in natural order. */
+    private final String[] names;
+    /** The same names, in case-insensitive order, with names that only differ by case in natural order. */
+    private final String[] namesIgnoringCase;
+
+    /**
+     * Constructor for SpeciesNameIndex objects.
+     *
+     * @param names The distinct names, in any order.
+     */
+    private SpeciesNameIndex(String[] names) {
+        Arrays.sort(names);
+        this.names = names;
+        // The sort is stable, so names that only differ by case stay in natural order.
+        namesIgnoringCase = names.clone();
+        Arrays.sort(namesIgnoringCase, String.CASE_INSENSITIVE_ORDER);
+    }
+
+    /**
+     * Build an index of the names provided.
+     *
+     * @param names The names, which may repeat.
+     * @return The index.
+     */
+    public static SpeciesNameIndex of(@NonNull Collection<String> names) {
+        Set<String> distinct = new LinkedHashSet<>(names);
+        if (distinct.contains(null)) {
+            throw new NullPointerException("names contains null");
+        }
+        return new SpeciesNameIndex(distinct.toArray(new String[0]));
+    }
+
+    /**
+     * Build an index of the common names and species names of a catalog.  Every species of the catalog is read.
+     *
+     * @param catalog The catalog.
+     * @return The index.
+     * @throws IllegalArgumentException If an entry of the catalog is malformed.
+     */
+    public static SpeciesNameIndex from(@NonNull SpeciesCatalog catalog) {
+        List<String> names = new ArrayList<>(catalog.getCommonNames().size() * 2);
+        for (String commonName : catalog.getCommonNames()) {
+            names.add(commonName);
+            names.add(catalog.getScientificClassification(commonName).orElseThrow().getSpeciesName());
+        }
+        return of(names);
+    }
+
+    /**
+     * Find the names that start with a prefix, matching case exactly.
+     *
+     * @param prefix The prefix, such as "Flying S".
+     * @param limit  The most names to return.
+     * @return Up to limit names with the prefix, in natural order.
+     * @throws IllegalArgumentException If the limit is negative.
+     */
+    public List<String> complete(@NonNull String prefix, int limit) {
+        return complete(names, prefix, limit, false, Comparator.naturalOrder());
+    }
+
+    /**
+     * Find the names that start with a prefix, ignoring case.
+     *
+     * @param prefix The prefix, such as "flying s".
+     * @param limit  The most names to return.
+     * @return Up to limit names with the prefix, in case-insensitive order.
+     * @throws IllegalArgumentException If the limit is negative.
+     */
+    public List<String> completeIgnoreCase(@NonNull String prefix, int limit) {
+        return complete(namesIgnoringCase, prefix, limit, true, String.CASE_INSENSITIVE_ORDER);
+    }
+
+    /**
+     * Retrieve the number of distinct names indexed.
+     *
+     * @return The number of names.
+     */
+    public int size() {
+        return names.length;
+    }
+
+    /**
+     * Find the names in a sorted array that start with a prefix.
+     *
+     * @param sorted     The names, sorted by the order provided.
+     * @param prefix     The prefix.
+     * @param limit      The most names to return.
+     * @param ignoreCase Whether to match the prefix ignoring case.
+     * @param order      The order of the names, which must keep names with a common prefix together.
+     * @return Up to limit names with the prefix, in order.
+     * @throws IllegalArgumentException If the limit is negative.
+     */
+    private static List<String> complete(String[] sorted, String prefix, int limit, boolean ignoreCase,
+                                         Comparator<String> order) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("limit must not be negative: " + limit);
+        }
+        // Every name with the prefix sorts at or after the prefix itself.
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (order.compare(sorted[middle], prefix) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        List<String> completions = new ArrayList<>(Math.min(limit, sorted.length - low));
+        for (int i = low; i < sorted.length && completions.size() < limit
+                && sorted[i].regionMatches(ignoreCase, 0, prefix, 0, prefix.length()); i++) {
+            completions.add(sorted[i]);
+        }
+        return Collections.unmodifiableList(completions);
+    }
+}
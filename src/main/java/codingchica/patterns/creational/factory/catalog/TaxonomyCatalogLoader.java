@@ -0,0 +1,249 @@
+package codingchica.patterns.creational.factory.catalog;
+
+import codingchica.patterns.behavioral.strategy.model.ScientificClassification;
+import codingchica.patterns.creational.factory.FlyingStrategyRule;
+import codingchica.patterns.creational.factory.SpeciesRegistry;
+import lombok.NonNull;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Streams a delimited taxonomy catalog into a SpeciesRegistry.  Each row holds a species' common name followed by one
+ * column per Rank, from the broadest to the most specific, with an empty column for an unset optional rank.  Quoting
+ * is not supported, so values must not contain the delimiter.  Blank lines and lines starting with '#' are skipped.
+ * <p>
+ * The input is read in chunks that end on a line boundary, and each chunk is parsed on the executor while the next one
+ * is read.  At most maxChunksInFlight chunks are held at once, so memory use is bounded by the chunk size rather than
+ * the size of the catalog.  The parsed chunks are registered in input order, so when a common name is repeated, the
+ * last row wins.  Rows with the wrong number of columns or without a required rank are counted and skipped, without
+ * an exception being created for each one.  Within a chunk, repeated rank names are decoded once and shared.
+ */
+public final class TaxonomyCatalogLoader {
+    /** The default number of bytes read per chunk. */
+    static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+
+    /** The byte separating the columns of a row. */
+    private final byte delimiter;
+    /** Whether the first line holds column names rather than a species. */
+    private final boolean hasHeader;
+    /** Decides the flying strategy of each new Animal of the loaded species. */
+    private final FlyingStrategyRule flyingStrategyRule;
+    /** The number of bytes read per chunk, unless a single row is longer. */
+    private final int chunkSize;
+    /** The largest number of chunks read but not yet registered. */
+    private final int maxChunksInFlight;
+    /** Runs the chunk parsing. */
+    private final Executor executor;
+
+    /**
+     * Constructor for TaxonomyCatalogLoader objects, used by the builder.
+     *
+     * @param delimiter          The character separating the columns of a row, a tab by default.
+     * @param hasHeader          Whether the first line holds column names, false by default.
+     * @param flyingStrategyRule Decides the flying strategy of each new Animal of the loaded species, none by default.
+     * @param chunkSize          The number of bytes read per chunk, 1 MiB by default.
+     * @param maxChunksInFlight  The largest number of chunks read but not yet registered, twice the number of
+     *                           processors by default.
+     * @param executor           Runs the chunk parsing, the common ForkJoinPool by default.
+     * @throws IllegalArgumentException If the delimiter is not a single-byte character other than a line break, or
+     *                                  chunkSize or maxChunksInFlight is not positive.
+     */
+    @lombok.Builder(builderClassName = "Builder")
+    TaxonomyCatalogLoader(Character delimiter, Boolean hasHeader, FlyingStrategyRule flyingStrategyRule,
+                          Integer chunkSize, Integer maxChunksInFlight, Executor executor) {
+        char delimiterChar = delimiter == null ? (char) CatalogFormat.SEPARATOR : delimiter;
+        if (delimiterChar > 0x7F || delimiterChar == '\n' || delimiterChar == '\r') {
+            throw new IllegalArgumentException("delimiter must be an ASCII character other than a line break: "
+                    + (int) delimiterChar);
+        }
+        this.delimiter = (byte) delimiterChar;
+        this.hasHeader = hasHeader != null && hasHeader;
+        this.flyingStrategyRule = flyingStrategyRule == null ? FlyingStrategyRule.none() : flyingStrategyRule;
+        this.chunkSize = requirePositive("chunkSize", chunkSize == null ? DEFAULT_CHUNK_SIZE : chunkSize);
+        this.maxChunksInFlight = requirePositive("maxChunksInFlight", maxChunksInFlight == null
+                ? 2 * Runtime.getRuntime().availableProcessors() : maxChunksInFlight);
+        this.executor = executor == null ? ForkJoinPool.commonPool() : executor;
+    }
+
+    /**
+     * Check that a setting is positive.
+     *
+     * @param name  The name of the setting.
+     * @param value The value of the setting.
+     * @return The value.
+     * @throws IllegalArgumentException If the value is not positive.
+     */
+    private static int requirePositive(String name, int value) {
+        if (value <= 0) {
+            throw new IllegalArgumentException(name + " must be positive: " + value);
+        }
+        return value;
+    }
+
+    /**
+     * Load a catalog file from the filesystem.
+     *
+     * @param path            The path of the catalog file.
+     * @param speciesRegistry The registry to register the species with.
+     * @return The number of rows loaded and rejected.
+     * @throws IOException If the file cannot be read.
+     */
+    public CatalogLoadResult load(@NonNull Path path, @NonNull SpeciesRegistry speciesRegistry) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            return load(inputStream, speciesRegistry);
+        }
+    }
+
+    /**
+     * Load a catalog from the classpath.
+     *
+     * @param resourceName    The name of the resource, as passed to ClassLoader.getResourceAsStream.
+     * @param speciesRegistry The registry to register the species with.
+     * @return The number of rows loaded and rejected.
+     * @throws IOException If the resource cannot be found or read.
+     */
+    public CatalogLoadResult loadResource(@NonNull String resourceName, @NonNull SpeciesRegistry speciesRegistry)
+            throws IOException {
+        InputStream resource = TaxonomyCatalogLoader.class.getClassLoader().getResourceAsStream(resourceName);
+        if (resource == null) {
+            throw new FileNotFoundException("Catalog resource not found: " + resourceName);
+        }
+        try (InputStream inputStream = resource) {
+            return load(inputStream, speciesRegistry);
+        }
+    }
+
+    /**
+     * Load a catalog from a stream, which is read to the end but not closed.
+     *
+     * @param inputStream     The UTF-8 catalog content.
+     * @param speciesRegistry The registry to register the species with.
+     * @return The number of rows loaded and rejected.
+     * @throws IOException If the stream cannot be read.
+     */
+    public CatalogLoadResult load(@NonNull InputStream inputStream, @NonNull SpeciesRegistry speciesRegistry)
+            throws IOException {
+        Deque<CompletableFuture<ParsedChunk>> inFlight = new ArrayDeque<>();
+        long[] counts = new long[2];
+        byte[] buffer = new byte[chunkSize];
+        int length = 0;
+        boolean skipHeader = hasHeader;
+        boolean endOfInput = false;
+        while (!endOfInput) {
+            length += inputStream.readNBytes(buffer, length, buffer.length - length);
+            endOfInput = length < buffer.length;
+            int end = endOfInput ? length : lastLineFeed(buffer, length) + 1;
+            if (end == 0) {
+                if (endOfInput) {
+                    break;
+                }
+                // A single row is longer than the buffer, so grow it rather than split the row.
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                continue;
+            }
+            byte[] chunk = buffer;
+            boolean chunkHasHeader = skipHeader;
+            inFlight.addLast(CompletableFuture.supplyAsync(() -> parse(chunk, end, chunkHasHeader), executor));
+            skipHeader = false;
+
+            // Carry the partial row at the end of the chunk over to the next buffer.
+            int remainder = length - end;
+            buffer = new byte[Math.max(chunkSize, 2 * remainder)];
+            System.arraycopy(chunk, end, buffer, 0, remainder);
+            length = remainder;
+
+            while (inFlight.size() >= maxChunksInFlight) {
+                register(inFlight.removeFirst(), speciesRegistry, counts);
+            }
+        }
+        while (!inFlight.isEmpty()) {
+            register(inFlight.removeFirst(), speciesRegistry, counts);
+        }
+        return new CatalogLoadResult(counts[0], counts[1]);
+    }
+
+    /**
+     * Find the last line feed in a buffer.
+     *
+     * @param buffer The buffer.
+     * @param length The number of bytes in the buffer.
+     * @return The index of the last line feed, or -1 if there is none.
+     */
+    private static int lastLineFeed(byte[] buffer, int length) {
+        int index = length - 1;
+        while (index >= 0 && buffer[index] != '\n') {
+            index--;
+        }
+        return index;
+    }
+
+    /**
+     * Wait for a chunk to be parsed, then register its species and add its counts to the totals.
+     *
+     * @param parsing         The parsing of the chunk.
+     * @param speciesRegistry The registry to register the species with.
+     * @param counts          The number of rows loaded and rejected so far.
+     */
+    private void register(CompletableFuture<ParsedChunk> parsing, SpeciesRegistry speciesRegistry, long[] counts) {
+        ParsedChunk parsedChunk = parsing.join();
+        speciesRegistry.registerAll(parsedChunk.classificationsByCommonName, flyingStrategyRule);
+        counts[0] += parsedChunk.loadedCount;
+        counts[1] += parsedChunk.rejectedCount;
+    }
+
+    /**
+     * Parse the rows of a chunk.
+     *
+     * @param chunk      The chunk, starting at the start of a row.
+     * @param end        The index just past the end of the last complete row.
+     * @param skipHeader Whether the first line holds column names.
+     * @return The species parsed, and the number of rows loaded and rejected.
+     */
+    private ParsedChunk parse(byte[] chunk, int end, boolean skipHeader) {
+        ParsedChunk parsedChunk = new ParsedChunk();
+        String[] values = new String[CatalogFormat.COLUMN_NAMES.length];
+        ValueCache valueCache = new ValueCache();
+        int lineEnd;
+        for (int lineStart = 0; lineStart < end; lineStart = lineEnd + 1) {
+            lineEnd = CatalogFormat.lineEnd(chunk, lineStart, end);
+            int dataEnd = CatalogFormat.dataEnd(chunk, lineStart, lineEnd);
+            if (skipHeader) {
+                skipHeader = false;
+            } else if (!CatalogFormat.isSkipped(chunk, lineStart, dataEnd)) {
+                int columnCount = CatalogFormat.splitColumns(chunk, lineStart, dataEnd, delimiter, values,
+                        valueCache);
+                if (columnCount == values.length && CatalogFormat.findMissingColumn(values) < 0) {
+                    parsedChunk.classificationsByCommonName.put(values[0], CatalogFormat.build(values));
+                    parsedChunk.loadedCount++;
+                } else {
+                    parsedChunk.rejectedCount++;
+                }
+            }
+        }
+        return parsedChunk;
+    }
+
+    /**
+     * The species parsed from a single chunk.
+     */
+    private static final class ParsedChunk {
+        /** The classification of each species, keyed by common name, with the last row of a repeated name winning. */
+        private final Map<String, ScientificClassification> classificationsByCommonName = new HashMap<>();
+        /** The number of rows parsed. */
+        private long loadedCount;
+        /** The number of rows rejected. */
+        private long rejectedCount;
+    }
+}
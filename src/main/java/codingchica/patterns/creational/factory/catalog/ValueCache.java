@@ -0,0 +1,40 @@
+package codingchica.patterns.creational.factory.catalog;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A small, direct-mapped cache of decoded column values, so that the rank names repeated across thousands of rows,
+ * such as Animalia, are decoded once and then shared, rather than creating and retaining a String per row.  A value
+ * whose slot is taken replaces the previous one, so the cache never grows.  Instances are not thread-safe.
+ */
+final class ValueCache {
+    /** The number of slots, a power of two. */
+    static final int SIZE = 1024;
+
+    /** The UTF-8 bytes of the value in each slot. */
+    private final byte[][] keys = new byte[SIZE][];
+    /** The decoded value in each slot. */
+    private final String[] values = new String[SIZE];
+
+    /**
+     * Decode a run of bytes, returning the shared String if the same bytes were decoded recently.
+     *
+     * @param content The bytes.
+     * @param from    The index of the first byte of the value.
+     * @param to      The index just past the last byte of the value.
+     * @return The decoded value.
+     */
+    String decode(byte[] content, int from, int to) {
+        int hash = CatalogFormat.hash(content, from, to);
+        int slot = (hash ^ (hash >>> 16)) & (SIZE - 1);
+        byte[] key = keys[slot];
+        if (key != null && Arrays.equals(key, 0, key.length, content, from, to)) {
+            return values[slot];
+        }
+        String value = new String(content, from, to - from, StandardCharsets.UTF_8);
+        keys[slot] = Arrays.copyOfRange(content, from, to);
+        values[slot] = value;
+        return value;
+    }
+}
@@ -0,0 +1,279 @@
+package codingchica.patterns.creational.factory.enums;
+
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Counts the responses in an access log per HTTP status code and per HttpStatusCategory.
+ * <p>
+ * The log is expected in the Common or Combined Log Format, where the status code is the field right after the quoted
+ * request line, for example:
+ * <pre>127.0.0.1 - frank [10/Oct/2000:13:55:36 -0700] "GET /apache_pb.gif HTTP/1.0" 200 2326</pre>
+ * The file is split into chunks on line boundaries, and each chunk is memory-mapped and scanned by a task in a
+ * fork-join pool.  Status codes are read straight from the mapped bytes into per-task primitive counters, without
+ * creating a String per line, and the counters are summed as the tasks complete.
+ */
+public class AccessLogAnalyzer {
+    /** The default number of bytes scanned by each task. */
+    static final int DEFAULT_CHUNK_SIZE = 32 * 1024 * 1024;
+    /** The number of bytes read at a time when looking for the line ending that closes a chunk. */
+    private static final int BOUNDARY_SCAN_SIZE = 8 * 1024;
+
+    /** The pool the chunk tasks run in. */
+    private final ForkJoinPool pool;
+    /** The number of bytes scanned by each task, before rounding up to the end of the line. */
+    private final int chunkSize;
+
+    /**
+     * Constructor for AccessLogAnalyzer objects, running in the common fork-join pool.
+     */
+    public AccessLogAnalyzer() {
+        this(ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Constructor for AccessLogAnalyzer objects.
+     *
+     * @param pool      The pool to run the chunk tasks in.
+     * @param chunkSize The number of bytes scanned by each task, before rounding up to the end of the line.
+     * @throws IllegalArgumentException If the chunk size is not positive.
+     */
+    public AccessLogAnalyzer(@NonNull ForkJoinPool pool, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Count the responses in the access log provided.
+     *
+     * @param path The access log file.
+     * @return The counts for the file.
+     * @throws IOException If the file cannot be read.
+     */
+    public AccessLogReport analyze(@NonNull Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long[] boundaries = findChunkBoundaries(channel);
+            return new AccessLogReport(pool.invoke(new ChunkTask(channel, boundaries, 0, boundaries.length - 1)));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Count the responses in each of the access logs provided, one after the other.
+     *
+     * @param paths The access log files.
+     * @return The combined counts for all the files.
+     * @throws IOException If a file cannot be read.
+     */
+    public AccessLogReport analyze(@NonNull Iterable<Path> paths) throws IOException {
+        AccessLogReport report = new AccessLogReport(new long[AccessLogReport.COUNTS_LENGTH]);
+        for (Path path : paths) {
+            report = report.merge(analyze(path));
+        }
+        return report;
+    }
+
+    /**
+     * Split the file into chunks of roughly chunkSize bytes, each ending just after a line feed (or at the end of the
+     * file), so that no line is split across two chunks.
+     *
+     * @param channel The open file.
+     * @return The chunk boundaries: chunk i covers the bytes from boundaries[i] up to boundaries[i + 1].
+     * @throws IOException If the file cannot be read.
+     */
+    private long[] findChunkBoundaries(FileChannel channel) throws IOException {
+        long size = channel.size();
+        long[] boundaries = new long[(int) ((size + chunkSize - 1) / chunkSize) + 2];
+        int count = 1;
+        ByteBuffer scan = ByteBuffer.allocate(BOUNDARY_SCAN_SIZE);
+        for (long target = chunkSize; target < size; target += chunkSize) {
+            long previous = boundaries[count - 1];
+            // A long line may already have carried the previous boundary past this target.
+            long boundary = nextLineStart(channel, scan, Math.max(target, previous + 1), size);
+            if (boundary < size) {
+                boundaries[count++] = boundary;
+            }
+        }
+        boundaries[count++] = size;
+        return Arrays.copyOf(boundaries, count);
+    }
+
+    /**
+     * Find the start of the first line beginning at or after the position provided.
+     *
+     * @param channel  The open file.
+     * @param scan     A buffer to read into.
+     * @param position The position to search from.
+     * @param size     The size of the file.
+     * @return The position just after the first line feed at or after position - 1, or the file size if there is
+     * none.
+     * @throws IOException If the file cannot be read.
+     */
+    private static long nextLineStart(FileChannel channel, ByteBuffer scan, long position, long size)
+            throws IOException {
+        // Start one byte back, so that a chunk that already starts a line stays where it is.
+        long offset = position - 1;
+        while (offset < size) {
+            scan.clear();
+            int read = channel.read(scan, offset);
+            if (read < 0) {
+                // The file was truncated while it was being read.
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (scan.get(i) == '\n') {
+                    return offset + i + 1;
+                }
+            }
+            offset += read;
+        }
+        return size;
+    }
+
+    /**
+     * Count the lines in a mapped region of the file.
+     *
+     * @param buffer The mapped region, starting at the beginning of a line.
+     * @param counts The counters to add to, laid out as described in AccessLogReport.
+     */
+    static void countLines(ByteBuffer buffer, long[] counts) {
+        int limit = buffer.limit();
+        int lineStart = 0;
+        while (lineStart < limit) {
+            int lineEnd = lineStart;
+            while (lineEnd < limit && buffer.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            int contentEnd = lineEnd > lineStart && buffer.get(lineEnd - 1) == '\r' ? lineEnd - 1 : lineEnd;
+            if (contentEnd > lineStart) {
+                counts[countIndex(parseStatusCode(buffer, lineStart, contentEnd))]++;
+            }
+            lineStart = lineEnd + 1;
+        }
+    }
+
+    /**
+     * Map a parsed status code to its index in the counts array.
+     *
+     * @param code The parsed code, or HttpStatusLineParser.MALFORMED.
+     * @return The index to increment.
+     */
+    private static int countIndex(int code) {
+        if (code == HttpStatusLineParser.MALFORMED) {
+            return AccessLogReport.MALFORMED_INDEX;
+        }
+        int index = code - HttpStatusCategory.MIN_CODE;
+        return index >= 0 && index < AccessLogReport.CODE_COUNT ? index : AccessLogReport.OUT_OF_RANGE_INDEX;
+    }
+
+    /**
+     * Read the status code from a single log line: the 3-digit field following the quoted request line.
+     *
+     * @param buffer The buffer holding the line.
+     * @param from   The index of the first byte of the line.
+     * @param to     The index just past the last byte of the line, excluding any line ending.
+     * @return The 3-digit code, which may be outside the range of valid HTTP status codes, or
+     * HttpStatusLineParser.MALFORMED if the line does not have the expected shape.
+     */
+    static int parseStatusCode(ByteBuffer buffer, int from, int to) {
+        int index = from;
+        while (index < to && buffer.get(index) != '"') {
+            index++;
+        }
+        // Skip to the closing quote, stepping over backslash-escaped characters in the request line.
+        index++;
+        while (index < to && buffer.get(index) != '"') {
+            index += buffer.get(index) == '\\' ? 2 : 1;
+        }
+        // Expect: closing quote, space, three digits, then a space or the end of the line.
+        if (index + 4 >= to || buffer.get(index + 1) != ' ') {
+            return HttpStatusLineParser.MALFORMED;
+        }
+        int code = 0;
+        for (int i = index + 2; i < index + 5; i++) {
+            int digit = buffer.get(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return HttpStatusLineParser.MALFORMED;
+            }
+            code = code * 10 + digit;
+        }
+        return index + 5 == to || buffer.get(index + 5) == ' ' ? code : HttpStatusLineParser.MALFORMED;
+    }
+
+    /**
+     * A task that counts the lines in a range of chunks, splitting the range in half until it covers a single chunk.
+     */
+    private static class ChunkTask extends RecursiveTask<long[]> {
+        /** The version of the serialized form, which RecursiveTask's Serializable requires. */
+        private static final long serialVersionUID = 1L;
+        /** The open file. */
+        private final FileChannel channel;
+        /** The chunk boundaries. */
+        private final long[] boundaries;
+        /** The index of the first chunk in the range. */
+        private final int fromChunk;
+        /** The index just past the last chunk in the range. */
+        private final int toChunk;
+
+        /**
+         * Constructor for ChunkTask objects.
+         *
+         * @param channel    The open file.
+         * @param boundaries The chunk boundaries.
+         * @param fromChunk  The index of the first chunk in the range.
+         * @param toChunk    The index just past the last chunk in the range.
+         */
+        ChunkTask(FileChannel channel, long[] boundaries, int fromChunk, int toChunk) {
+            this.channel = channel;
+            this.boundaries = boundaries;
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+        }
+
+        /**
+         * Count the lines in the range of chunks.
+         *
+         * @return The counters, laid out as described in AccessLogReport.
+         */
+        @Override
+        protected long[] compute() {
+            if (toChunk - fromChunk > 1) {
+                int middle = (fromChunk + toChunk) >>> 1;
+                ChunkTask right = new ChunkTask(channel, boundaries, middle, toChunk);
+                right.fork();
+                long[] counts = new ChunkTask(channel, boundaries, fromChunk, middle).compute();
+                long[] rightCounts = right.join();
+                for (int i = 0; i < counts.length; i++) {
+                    counts[i] += rightCounts[i];
+                }
+                return counts;
+            }
+            long[] counts = new long[AccessLogReport.COUNTS_LENGTH];
+            long start = boundaries[fromChunk];
+            long length = boundaries[toChunk] - start;
+            if (length > 0) {
+                try {
+                    MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+                    countLines(buffer, counts);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            return counts;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package codingchica.patterns.creational.factory.enums;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The response counts gathered from one or more access logs, per HTTP status code and per HttpStatusCategory.
+ *
+ * @see AccessLogAnalyzer
+ */
+public class AccessLogReport {
+    /** The number of codes in the range <pre>100 &lt;= code &lt;= 599</pre>. */
+    static final int CODE_COUNT = HttpStatusCategory.MAX_CODE - HttpStatusCategory.MIN_CODE + 1;
+    /** The index, in the raw counts array, of lines with a 3-digit code outside the valid range. */
+    static final int OUT_OF_RANGE_INDEX = CODE_COUNT;
+    /** The index, in the raw counts array, of lines that held no status code. */
+    static final int MALFORMED_INDEX = CODE_COUNT + 1;
+    /** The length of the raw counts array. */
+    static final int COUNTS_LENGTH = CODE_COUNT + 2;
+
+    /** The number of lines per code, indexed by <pre>code - 100</pre>. */
+    private final long[] codeCounts;
+    /** The number of lines per category, indexed by ordinal. */
+    private final long[] categoryCounts = new long[HttpStatusCategory.values().length];
+    /**
+     * The number of lines with a 3-digit status code outside the range <pre>100 &lt;= code &lt;= 599</pre>.
+     */
+    @Getter
+    private final long outOfRangeCount;
+    /**
+     * The number of non-empty lines in which no status code could be found.
+     */
+    @Getter
+    private final long malformedCount;
+    /**
+     * The total number of non-empty lines read.
+     */
+    @Getter
+    private final long total;
+
+    /**
+     * Constructor for AccessLogReport objects.
+     *
+     * @param counts The raw counts: one per code, indexed by <pre>code - 100</pre>, followed by the out-of-range
+     *               count at {@link #OUT_OF_RANGE_INDEX} and the malformed count at {@link #MALFORMED_INDEX}.
+     */
+    AccessLogReport(long[] counts) {
+        this.codeCounts = Arrays.copyOf(counts, CODE_COUNT);
+        this.outOfRangeCount = counts[OUT_OF_RANGE_INDEX];
+        this.malformedCount = counts[MALFORMED_INDEX];
+        long sum = outOfRangeCount + malformedCount;
+        for (int i = 0; i < CODE_COUNT; i++) {
+            categoryCounts[i / 100] += codeCounts[i];
+            sum += codeCounts[i];
+        }
+        this.total = sum;
+    }
+
+    /**
+     * Retrieve the number of lines with the status code provided.
+     *
+     * @param code The int value representing the Http status code.
+     * @return The number of lines, which is 0 for codes outside the range <pre>100 &lt;= code &lt;= 599</pre>.
+     */
+    public long getCount(int code) {
+        int index = code - HttpStatusCategory.MIN_CODE;
+        return index >= 0 && index < CODE_COUNT ? codeCounts[index] : 0;
+    }
+
+    /**
+     * Retrieve the number of lines with the status code provided.
+     *
+     * @param statusCode The status code.
+     * @return The number of lines.
+     */
+    public long getCount(@NonNull HttpStatusCode statusCode) {
+        return codeCounts[statusCode.getCode() - HttpStatusCategory.MIN_CODE];
+    }
+
+    /**
+     * Retrieve the number of lines with a status code in the category provided, including codes that are not in the
+     * HttpStatusCode registry.
+     *
+     * @param category The category.
+     * @return The number of lines.
+     */
+    public long getCount(@NonNull HttpStatusCategory category) {
+        return categoryCounts[category.ordinal()];
+    }
+
+    /**
+     * Retrieve the number of lines for each HttpStatusCode that was seen at least once.
+     *
+     * @return A new map of status code to number of lines.
+     */
+    public Map<HttpStatusCode, Long> getCountsByStatusCode() {
+        Map<HttpStatusCode, Long> result = new EnumMap<>(HttpStatusCode.class);
+        for (HttpStatusCode statusCode : HttpStatusCode.values()) {
+            long count = getCount(statusCode);
+            if (count > 0) {
+                result.put(statusCode, count);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Combine this report with another one, such as the report for another log file.
+     *
+     * @param other The report to combine with this one.
+     * @return A new report holding the sum of both reports' counts.
+     */
+    public AccessLogReport merge(@NonNull AccessLogReport other) {
+        long[] counts = new long[COUNTS_LENGTH];
+        for (int i = 0; i < CODE_COUNT; i++) {
+            counts[i] = codeCounts[i] + other.codeCounts[i];
+        }
+        counts[OUT_OF_RANGE_INDEX] = outOfRangeCount + other.outOfRangeCount;
+        counts[MALFORMED_INDEX] = malformedCount + other.malformedCount;
+        return new AccessLogReport(counts);
+    }
+
+    /**
+     * Generate a String representation of this object.
+     *
+     * @return A summary of the counts per category.
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("AccessLogReport(total=").append(total);
+        for (HttpStatusCategory category : HttpStatusCategory.values()) {
+            builder.append(", ").append(category).append('=').append(getCount(category));
+        }
+        return builder.append(", outOfRangeCount=").append(outOfRangeCount)
+                .append(", malformedCount=").append(malformedCount)
+                .append(')')
+                .toString();
+    }
+}
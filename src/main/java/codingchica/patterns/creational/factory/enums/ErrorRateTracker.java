@@ -0,0 +1,297 @@
+package codingchica.patterns.creational.factory.enums;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Tracks the responses seen over a sliding time window, per HttpStatusCategory, so that questions such as "what
+ * fraction of the last minute were server errors?" can be answered while requests keep flowing.
+ * <p>
+ * The window is split into a ring of time buckets, and each bucket into a number of stripes.  A recording thread only
+ * touches the stripe picked by its thread id, so threads rarely contend for the same counters, and every
+ * (bucket, stripe) cell is padded out to its own cache lines so that neighbouring cells do not share them either.
+ * Recording never takes a lock: the counters are bumped with atomic increments, and a cell left over from an earlier
+ * turn of the ring is reset by the first writer to claim it with a compare-and-set on the cell's epoch.  Readers sum
+ * the cells that belong to the window without blocking writers, so a rate is a close, not an exact, snapshot of the
+ * counts while writes are in flight.
+ */
+public class ErrorRateTracker {
+    /** The default number of buckets the window is split into. */
+    static final int DEFAULT_BUCKET_COUNT = 60;
+    /** The largest number of stripes per bucket. */
+    static final int MAX_STRIPE_COUNT = 1 << 12;
+    /** The largest number of cells, which keeps the cells array well within the limits of an int index. */
+    static final int MAX_CELL_COUNT = 1 << 24;
+    /** The number of longs per cell: the epoch, one counter per category, then padding up to 128 bytes. */
+    static final int STRIDE = 16;
+    /** The offset of the epoch within a cell. */
+    private static final int EPOCH_OFFSET = 0;
+    /** The offset of the first category counter within a cell. */
+    private static final int COUNTS_OFFSET = 1;
+    /** The epoch a cell holds while its counters are being reset by a writer. */
+    static final long RESETTING = Long.MIN_VALUE;
+    /** The epoch a cell holds until it is first written, which is older than any epoch a time can fall in. */
+    static final long UNUSED = Long.MIN_VALUE + 1;
+    /**
+     * The earliest time that can be recorded, in milliseconds since the epoch, which keeps every real epoch well clear
+     * of RESETTING and UNUSED, and the start of any window from overflowing.
+     */
+    static final long MIN_TIME_MILLIS = Long.MIN_VALUE / 2;
+    /** The categories, cached to avoid cloning the values array on each read. */
+    private static final HttpStatusCategory[] CATEGORIES = HttpStatusCategory.values();
+
+    /** The source of the current time. */
+    private final Clock clock;
+    /** The length of a single bucket, in milliseconds. */
+    private final long bucketMillis;
+    /** The number of buckets in the ring. */
+    @Getter
+    private final int bucketCount;
+    /** The number of stripes per bucket, which is always a power of two. */
+    @Getter
+    private final int stripeCount;
+    /**
+     * The cells, laid out bucket by bucket and stripe by stripe, with a cell's worth of padding at each end of the
+     * array.
+     */
+    final AtomicLongArray cells;
+
+    /**
+     * Constructor for ErrorRateTracker objects, using the system clock, the default number of buckets, and one stripe
+     * per available processor.
+     *
+     * @param window The length of time to report rates over.
+     * @throws IllegalArgumentException If the window is shorter than one millisecond per bucket.
+     */
+    public ErrorRateTracker(@NonNull Duration window) {
+        this(window, DEFAULT_BUCKET_COUNT, Runtime.getRuntime().availableProcessors(), Clock.systemUTC());
+    }
+
+    /**
+     * Constructor for ErrorRateTracker objects.
+     *
+     * @param window      The length of time to report rates over.  It is rounded down to a whole number of buckets.
+     * @param bucketCount The number of buckets the window is split into.  More buckets make the window slide more
+     *                    smoothly, at the cost of more memory and slower reads.
+     * @param stripeCount The number of stripes per bucket, which is rounded up to a power of two.  Use roughly the
+     *                    number of threads expected to record at the same time.
+     * @param clock       The source of the current time.
+     * @throws IllegalArgumentException If a count is out of range, or the window is shorter than one millisecond per
+     *                                  bucket.
+     */
+    public ErrorRateTracker(@NonNull Duration window, int bucketCount, int stripeCount, @NonNull Clock clock) {
+        if (bucketCount <= 0) {
+            throw new IllegalArgumentException("bucketCount must be positive: " + bucketCount);
+        }
+        if (stripeCount <= 0 || stripeCount > MAX_STRIPE_COUNT) {
+            throw new IllegalArgumentException(
+                    "stripeCount must be between 1 and " + MAX_STRIPE_COUNT + ": " + stripeCount);
+        }
+        int roundedStripeCount = stripeCount == 1 ? 1 : Integer.highestOneBit(stripeCount - 1) << 1;
+        if ((long) bucketCount * roundedStripeCount > MAX_CELL_COUNT) {
+            throw new IllegalArgumentException("bucketCount * stripeCount must be at most " + MAX_CELL_COUNT);
+        }
+        long windowMillis = window.toMillis();
+        if (windowMillis < bucketCount) {
+            throw new IllegalArgumentException("window must be at least " + bucketCount + "ms: " + window);
+        }
+        this.clock = clock;
+        this.bucketMillis = windowMillis / bucketCount;
+        this.bucketCount = bucketCount;
+        this.stripeCount = roundedStripeCount;
+        this.cells = new AtomicLongArray((bucketCount * this.stripeCount + 2) * STRIDE);
+        for (int bucket = 0; bucket < bucketCount; bucket++) {
+            for (int stripe = 0; stripe < this.stripeCount; stripe++) {
+                cells.set(cellIndex(bucket, stripe) + EPOCH_OFFSET, UNUSED);
+            }
+        }
+    }
+
+    /**
+     * Retrieve the length of time that rates are reported over.  The current bucket is only partly elapsed, so the
+     * counts cover between one bucket less than this duration and this duration.
+     *
+     * @return The window, which is a whole number of buckets.
+     */
+    public Duration getWindow() {
+        return Duration.ofMillis(bucketMillis * bucketCount);
+    }
+
+    /**
+     * Record a response.
+     *
+     * @param statusCode The status code of the response.
+     */
+    public void record(@NonNull HttpStatusCode statusCode) {
+        record(statusCode.getCategory(), clock.millis());
+    }
+
+    /**
+     * Record a response at a time the caller has already read, which saves reading the clock again.  Reading the
+     * system clock can cost more than the rest of the recording put together, so this is worth using on hot paths that
+     * already hold a timestamp for the request.
+     *
+     * @param statusCode The status code of the response.
+     * @param timeMillis The time of the response, in milliseconds since the epoch, read from the same clock as this
+     *                   tracker uses.  Times before 1970 are negative.
+     * @throws IllegalArgumentException If the time is before MIN_TIME_MILLIS.
+     */
+    public void record(@NonNull HttpStatusCode statusCode, long timeMillis) {
+        record(statusCode.getCategory(), timeMillis);
+    }
+
+    /**
+     * Record a response by its raw status code, which need not be in the HttpStatusCode registry.
+     *
+     * @param code The int value representing the Http status code.
+     * @return Whether the response was recorded, which is false when the code is outside the range
+     * <pre>100 &lt;= code &lt;= 599</pre>.
+     */
+    public boolean record(int code) {
+        HttpStatusCategory category = HttpStatusCategory.fromCodeOrNull(code);
+        if (category == null) {
+            return false;
+        }
+        record(category, clock.millis());
+        return true;
+    }
+
+    /**
+     * Retrieve the number of responses in the category provided that were recorded within the window.
+     *
+     * @param category The category.
+     * @return The number of responses.
+     */
+    public long getCount(@NonNull HttpStatusCategory category) {
+        return sumWindow()[category.ordinal()];
+    }
+
+    /**
+     * Retrieve the number of responses recorded within the window.
+     *
+     * @return The number of responses.
+     */
+    public long getTotal() {
+        long total = 0;
+        for (long count : sumWindow()) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * Retrieve the fraction of the responses recorded within the window that were in the category provided.
+     *
+     * @param category The category.
+     * @return The rate, in the range <pre>0.0 &lt;= rate &lt;= 1.0</pre>, which is 0.0 when nothing was recorded.
+     */
+    public double getRate(@NonNull HttpStatusCategory category) {
+        long[] counts = sumWindow();
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        return total == 0 ? 0.0 : (double) counts[category.ordinal()] / total;
+    }
+
+    /**
+     * Record a response in the cell for the current bucket and the calling thread's stripe.
+     *
+     * @param category   The category of the response.
+     * @param timeMillis The time of the response, in milliseconds since the epoch.
+     */
+    private void record(HttpStatusCategory category, long timeMillis) {
+        long epoch = epochOf(timeMillis);
+        int base = cellIndex(Math.floorMod(epoch, bucketCount), stripe());
+        claim(base, epoch);
+        cells.getAndIncrement(base + COUNTS_OFFSET + category.ordinal());
+    }
+
+    /**
+     * Make sure that the cell belongs to the epoch provided (or a later one), resetting its counters if it is left
+     * over from an earlier turn of the ring.  A writer that loses the race to reset the cell waits for the winner to
+     * finish, which only takes a handful of stores.
+     *
+     * @param base  The index of the cell.
+     * @param epoch The bucket number the caller is recording into.
+     */
+    void claim(int base, long epoch) {
+        while (true) {
+            long cellEpoch = cells.get(base + EPOCH_OFFSET);
+            if (cellEpoch == RESETTING) {
+                Thread.onSpinWait();
+            } else if (cellEpoch >= epoch) {
+                // A writer whose clock reading is slightly behind may land in the next bucket, which is harmless.
+                return;
+            } else if (cells.compareAndSet(base + EPOCH_OFFSET, cellEpoch, RESETTING)) {
+                for (int i = 0; i < CATEGORIES.length; i++) {
+                    cells.set(base + COUNTS_OFFSET + i, 0);
+                }
+                cells.set(base + EPOCH_OFFSET, epoch);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Sum the counters of every cell whose epoch falls within the window.
+     *
+     * @return The counts, indexed by category ordinal.
+     */
+    private long[] sumWindow() {
+        long epoch = epochOf(clock.millis());
+        long oldestEpoch = epoch - bucketCount + 1;
+        long[] counts = new long[CATEGORIES.length];
+        for (int bucket = 0; bucket < bucketCount; bucket++) {
+            for (int stripe = 0; stripe < stripeCount; stripe++) {
+                int base = cellIndex(bucket, stripe);
+                long cellEpoch = cells.get(base + EPOCH_OFFSET);
+                if (cellEpoch >= oldestEpoch && cellEpoch <= epoch) {
+                    for (int i = 0; i < counts.length; i++) {
+                        counts[i] += cells.get(base + COUNTS_OFFSET + i);
+                    }
+                }
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Calculate the number of the bucket a time falls in, counting from the bucket starting at the epoch, so that
+     * times before 1970 fall in negative buckets.
+     *
+     * @param timeMillis The time, in milliseconds since the epoch.
+     * @return The bucket number.
+     * @throws IllegalArgumentException If the time is before MIN_TIME_MILLIS.
+     */
+    private long epochOf(long timeMillis) {
+        if (timeMillis < MIN_TIME_MILLIS) {
+            throw new IllegalArgumentException("timeMillis must be at least " + MIN_TIME_MILLIS + ": " + timeMillis);
+        }
+        return Math.floorDiv(timeMillis, bucketMillis);
+    }
+
+    /**
+     * Pick the calling thread's stripe, by spreading the bits of its id.
+     *
+     * @return The stripe index.
+     */
+    private int stripe() {
+        return (int) ((Thread.currentThread().getId() * 0x9E3779B97F4A7C15L) >>> 32) & (stripeCount - 1);
+    }
+
+    /**
+     * Calculate the index of a cell's epoch in the cells array.
+     *
+     * @param bucket The bucket index.
+     * @param stripe The stripe index.
+     * @return The index, skipping the leading padding.
+     */
+    int cellIndex(int bucket, int stripe) {
+        return (1 + bucket * stripeCount + stripe) * STRIDE;
+    }
+}
@@ -0,0 +1,101 @@
+package codingchica.patterns.creational.factory.enums;
+
+import java.util.Optional;
+
+/**
+ * The classes of HTTP status codes, as defined by the first digit of the code.
+ *
+ * @see <a href="https://www.rfc-editor.org/rfc/rfc9110#section-15">RFC 9110, Section 15: Status Codes</a>
+ */
+public enum HttpStatusCategory {
+    /**
+     * 1xx - The request was received, continuing process.
+     */
+    INFORMATIONAL(100),
+    /**
+     * 2xx - The request was successfully received, understood, and accepted.
+     */
+    SUCCESSFUL(200),
+    /**
+     * 3xx - Further action needs to be taken in order to complete the request.
+     */
+    REDIRECTION(300),
+    /**
+     * 4xx - The request contains bad syntax or cannot be fulfilled.
+     */
+    CLIENT_ERROR(400),
+    /**
+     * 5xx - The server failed to fulfill an apparently valid request.
+     */
+    SERVER_ERROR(500);
+
+    /** The lowest valid HTTP status code. */
+    public static final int MIN_CODE = 100;
+    /** The highest valid HTTP status code. */
+    public static final int MAX_CODE = 599;
+
+    /** The categories, indexed by (code / 100) - 1. */
+    private static final HttpStatusCategory[] BY_HUNDREDS = values();
+
+    /**
+     * The lowest code in this category.
+     */
+    private final int minCode;
+
+    /**
+     * Constructor for HttpStatusCategory objects.
+     *
+     * @param minCode The lowest code in the category.
+     */
+    HttpStatusCategory(int minCode) {
+        this.minCode = minCode;
+    }
+
+    /**
+     * Getter for the minCode field.
+     *
+     * @return The lowest code in this category.
+     */
+    public int getMinCode() {
+        return minCode;
+    }
+
+    /**
+     * Retrieve the highest code in this category.
+     *
+     * @return The highest code in this category.
+     */
+    public int getMaxCode() {
+        return minCode + 99;
+    }
+
+    /**
+     * Indicates whether the code provided falls within this category.
+     *
+     * @param code The int value representing the Http status code.
+     * @return Returns true if and only if the code is in the range <pre>minCode &lt;= code &lt;= maxCode</pre>.
+     */
+    public boolean contains(int code) {
+        return code >= minCode && code <= minCode + 99;
+    }
+
+    /**
+     * Retrieve the category that the code provided falls within, without allocating.
+     *
+     * @param code The int value representing the Http status code.
+     * @return The category, or null if the code is outside the range <pre>100 &lt;= code &lt;= 599</pre>.
+     */
+    public static HttpStatusCategory fromCodeOrNull(int code) {
+        return code >= MIN_CODE && code <= MAX_CODE ? BY_HUNDREDS[code / 100 - 1] : null;
+    }
+
+    /**
+     * Retrieve the category that the code provided falls within.
+     *
+     * @param code The int value representing the Http status code.
+     * @return An Optional containing the category, if the code is in the range <pre>100 &lt;= code &lt;= 599</pre>.
+     */
+    public static Optional<HttpStatusCategory> fromCode(int code) {
+        return Optional.ofNullable(fromCodeOrNull(code));
+    }
+}
@@ -1,50 +1,323 @@
 package codingchica.patterns.creational.factory.enums;
 
-import java.util.Arrays;
+import lombok.NonNull;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 
 /**
  * In Java, an enum is a class where factory and execution logic may co-exist.
  * In this example, the creation of HTTP Status Code objects is delegated to the enum/factory, as is the logic to
- * interpret that status code's meaning.  Only a few values are listed here, as examples, where a real HTTP status code
- * enum would need to be exhaustive.
+ * interpret that status code's meaning.  The values listed here are the full set of codes assigned in the IANA HTTP
+ * Status Code Registry.  Codes that the registry marks as unused (306 and 418) are not included.
+ * <p>
+ * Each constant also holds its complete HTTP/1.1 status line, such as <pre>HTTP/1.1 404 Not Found\r\n</pre>, encoded
+ * once when the class is loaded.  A responder can hand {@link #getStatusLine()} to a GatheringByteChannel alongside the
+ * headers and body, without formatting or encoding the line for every response.
  *
  * @see <a href="https://developer.mozilla.org/en-US/docs/Web/HTTP/Status">Mozilla Developer Network Web Docs: HTTP response status codes</a>
+ * @see <a href="https://www.iana.org/assignments/http-status-codes/http-status-codes.xhtml">IANA: Hypertext Transfer Protocol (HTTP) Status Code Registry</a>
  */
 public enum HttpStatusCode {
     /**
      * 100 - Continue
      */
-    CONTINUE(100),
+    CONTINUE(100, "Continue"),
+    /**
+     * 101 - Switching Protocols
+     */
+    SWITCHING_PROTOCOLS(101, "Switching Protocols"),
+    /**
+     * 102 - Processing
+     */
+    PROCESSING(102, "Processing"),
+    /**
+     * 103 - Early Hints
+     */
+    EARLY_HINTS(103, "Early Hints"),
     /**
      * 200 - OK
      */
-    OK(200),
+    OK(200, "OK"),
+    /**
+     * 201 - Created
+     */
+    CREATED(201, "Created"),
+    /**
+     * 202 - Accepted
+     */
+    ACCEPTED(202, "Accepted"),
+    /**
+     * 203 - Non-Authoritative Information
+     */
+    NON_AUTHORITATIVE_INFORMATION(203, "Non-Authoritative Information"),
+    /**
+     * 204 - No Content
+     */
+    NO_CONTENT(204, "No Content"),
+    /**
+     * 205 - Reset Content
+     */
+    RESET_CONTENT(205, "Reset Content"),
+    /**
+     * 206 - Partial Content
+     */
+    PARTIAL_CONTENT(206, "Partial Content"),
+    /**
+     * 207 - Multi-Status
+     */
+    MULTI_STATUS(207, "Multi-Status"),
+    /**
+     * 208 - Already Reported
+     */
+    ALREADY_REPORTED(208, "Already Reported"),
+    /**
+     * 226 - IM Used
+     */
+    IM_USED(226, "IM Used"),
+    /**
+     * 300 - Multiple Choices
+     */
+    MULTIPLE_CHOICES(300, "Multiple Choices"),
     /**
      * 301 - Moved Permanently
      */
-    MOVED_PERMANENTLY(301),
+    MOVED_PERMANENTLY(301, "Moved Permanently"),
+    /**
+     * 302 - Found
+     */
+    FOUND(302, "Found"),
+    /**
+     * 303 - See Other
+     */
+    SEE_OTHER(303, "See Other"),
+    /**
+     * 304 - Not Modified
+     */
+    NOT_MODIFIED(304, "Not Modified"),
+    /**
+     * 305 - Use Proxy
+     */
+    USE_PROXY(305, "Use Proxy"),
+    /**
+     * 307 - Temporary Redirect
+     */
+    TEMPORARY_REDIRECT(307, "Temporary Redirect"),
+    /**
+     * 308 - Permanent Redirect
+     */
+    PERMANENT_REDIRECT(308, "Permanent Redirect"),
+    /**
+     * 400 - Bad Request
+     */
+    BAD_REQUEST(400, "Bad Request"),
+    /**
+     * 401 - Unauthorized
+     */
+    UNAUTHORIZED(401, "Unauthorized"),
+    /**
+     * 402 - Payment Required
+     */
+    PAYMENT_REQUIRED(402, "Payment Required"),
+    /**
+     * 403 - Forbidden
+     */
+    FORBIDDEN(403, "Forbidden"),
     /**
      * 404 - Not Found
      */
-    NOT_FOUND(404),
+    NOT_FOUND(404, "Not Found"),
+    /**
+     * 405 - Method Not Allowed
+     */
+    METHOD_NOT_ALLOWED(405, "Method Not Allowed"),
+    /**
+     * 406 - Not Acceptable
+     */
+    NOT_ACCEPTABLE(406, "Not Acceptable"),
+    /**
+     * 407 - Proxy Authentication Required
+     */
+    PROXY_AUTHENTICATION_REQUIRED(407, "Proxy Authentication Required"),
+    /**
+     * 408 - Request Timeout
+     */
+    REQUEST_TIMEOUT(408, "Request Timeout"),
+    /**
+     * 409 - Conflict
+     */
+    CONFLICT(409, "Conflict"),
+    /**
+     * 410 - Gone
+     */
+    GONE(410, "Gone"),
+    /**
+     * 411 - Length Required
+     */
+    LENGTH_REQUIRED(411, "Length Required"),
+    /**
+     * 412 - Precondition Failed
+     */
+    PRECONDITION_FAILED(412, "Precondition Failed"),
+    /**
+     * 413 - Content Too Large
+     */
+    CONTENT_TOO_LARGE(413, "Content Too Large"),
+    /**
+     * 414 - URI Too Long
+     */
+    URI_TOO_LONG(414, "URI Too Long"),
+    /**
+     * 415 - Unsupported Media Type
+     */
+    UNSUPPORTED_MEDIA_TYPE(415, "Unsupported Media Type"),
+    /**
+     * 416 - Range Not Satisfiable
+     */
+    RANGE_NOT_SATISFIABLE(416, "Range Not Satisfiable"),
+    /**
+     * 417 - Expectation Failed
+     */
+    EXPECTATION_FAILED(417, "Expectation Failed"),
+    /**
+     * 421 - Misdirected Request
+     */
+    MISDIRECTED_REQUEST(421, "Misdirected Request"),
+    /**
+     * 422 - Unprocessable Content
+     */
+    UNPROCESSABLE_CONTENT(422, "Unprocessable Content"),
+    /**
+     * 423 - Locked
+     */
+    LOCKED(423, "Locked"),
+    /**
+     * 424 - Failed Dependency
+     */
+    FAILED_DEPENDENCY(424, "Failed Dependency"),
+    /**
+     * 425 - Too Early
+     */
+    TOO_EARLY(425, "Too Early"),
+    /**
+     * 426 - Upgrade Required
+     */
+    UPGRADE_REQUIRED(426, "Upgrade Required"),
+    /**
+     * 428 - Precondition Required
+     */
+    PRECONDITION_REQUIRED(428, "Precondition Required"),
+    /**
+     * 429 - Too Many Requests
+     */
+    TOO_MANY_REQUESTS(429, "Too Many Requests"),
+    /**
+     * 431 - Request Header Fields Too Large
+     */
+    REQUEST_HEADER_FIELDS_TOO_LARGE(431, "Request Header Fields Too Large"),
+    /**
+     * 451 - Unavailable For Legal Reasons
+     */
+    UNAVAILABLE_FOR_LEGAL_REASONS(451, "Unavailable For Legal Reasons"),
     /**
      * 500 - Internal Server Error
      */
-    INTERNAL_SERVER_ERROR(500);
+    INTERNAL_SERVER_ERROR(500, "Internal Server Error"),
+    /**
+     * 501 - Not Implemented
+     */
+    NOT_IMPLEMENTED(501, "Not Implemented"),
+    /**
+     * 502 - Bad Gateway
+     */
+    BAD_GATEWAY(502, "Bad Gateway"),
+    /**
+     * 503 - Service Unavailable
+     */
+    SERVICE_UNAVAILABLE(503, "Service Unavailable"),
+    /**
+     * 504 - Gateway Timeout
+     */
+    GATEWAY_TIMEOUT(504, "Gateway Timeout"),
+    /**
+     * 505 - HTTP Version Not Supported
+     */
+    HTTP_VERSION_NOT_SUPPORTED(505, "HTTP Version Not Supported"),
+    /**
+     * 506 - Variant Also Negotiates
+     */
+    VARIANT_ALSO_NEGOTIATES(506, "Variant Also Negotiates"),
+    /**
+     * 507 - Insufficient Storage
+     */
+    INSUFFICIENT_STORAGE(507, "Insufficient Storage"),
+    /**
+     * 508 - Loop Detected
+     */
+    LOOP_DETECTED(508, "Loop Detected"),
+    /**
+     * 510 - Not Extended
+     */
+    NOT_EXTENDED(510, "Not Extended"),
+    /**
+     * 511 - Network Authentication Required
+     */
+    NETWORK_AUTHENTICATION_REQUIRED(511, "Network Authentication Required");
+
+    /**
+     * The values, indexed by <pre>code - 100</pre>, so that lookups by code are a bounds check and an array read.
+     * Codes without a value hold null.
+     */
+    private static final HttpStatusCode[] BY_CODE =
+            new HttpStatusCode[HttpStatusCategory.MAX_CODE - HttpStatusCategory.MIN_CODE + 1];
+
+    static {
+        for (HttpStatusCode value : values()) {
+            BY_CODE[value.code - HttpStatusCategory.MIN_CODE] = value;
+        }
+    }
 
     /**
      * The underlying HTTP status code value represented by this object.
      */
-    private int code;
+    private final int code;
+
+    /**
+     * The category that the code falls within, computed once so the isXxx() predicates are a single comparison.
+     */
+    private final HttpStatusCategory category;
+
+    /**
+     * The reason phrase the IANA registry gives for the code.
+     */
+    private final String reasonPhrase;
+
+    /**
+     * The encoded HTTP/1.1 status line.  The array is never handed out, so it cannot be modified.
+     */
+    private final byte[] statusLineBytes;
+
+    /**
+     * A read-only, direct buffer holding the encoded HTTP/1.1 status line, from which duplicates are handed out.
+     */
+    private final ByteBuffer statusLine;
 
     /**
      * Constructor for HttpStatusCode objects.
      *
-     * @param code The numeric HTTP status code.
+     * @param code         The numeric HTTP status code.
+     * @param reasonPhrase The reason phrase the IANA registry gives for the code.
      */
-    HttpStatusCode(int code) {
+    HttpStatusCode(int code, String reasonPhrase) {
         this.code = code;
+        this.category = HttpStatusCategory.fromCodeOrNull(code);
+        this.reasonPhrase = reasonPhrase;
+        this.statusLineBytes = ("HTTP/1.1 " + code + " " + reasonPhrase + "\r\n").getBytes(StandardCharsets.US_ASCII);
+        this.statusLine = ByteBuffer.allocateDirect(statusLineBytes.length)
+                .put(statusLineBytes)
+                .flip()
+                .asReadOnlyBuffer();
     }
 
     /**
@@ -56,14 +329,75 @@ public enum HttpStatusCode {
         return code;
     }
 
+    /**
+     * Getter for the category field.
+     *
+     * @return The category that the code falls within.
+     */
+    public HttpStatusCategory getCategory() {
+        return category;
+    }
+
+    /**
+     * Getter for the reasonPhrase field.
+     *
+     * @return The reason phrase the IANA registry gives for the code, such as <pre>Not Found</pre>.
+     */
+    public String getReasonPhrase() {
+        return reasonPhrase;
+    }
+
+    /**
+     * Retrieve the HTTP/1.1 status line for the code, such as <pre>HTTP/1.1 404 Not Found\r\n</pre>, ready to be
+     * written to a channel.  The bytes were encoded once, into a direct buffer, so writing them neither encodes nor
+     * copies anything on the heap.
+     *
+     * @return A new read-only view of the shared status line buffer, positioned at its start, whose position and limit
+     * may be changed independently of every other view.
+     */
+    public ByteBuffer getStatusLine() {
+        return statusLine.duplicate();
+    }
+
+    /**
+     * Retrieve the HTTP/1.1 status line for the code, such as <pre>HTTP/1.1 404 Not Found\r\n</pre>, as bytes.
+     *
+     * @return A new copy of the encoded status line.  Use {@link #copyStatusLineTo(byte[], int)} to write the line
+     * into an existing array without allocating.
+     */
+    public byte[] getStatusLineBytes() {
+        return statusLineBytes.clone();
+    }
+
+    /**
+     * Retrieve the length of the encoded HTTP/1.1 status line, including the trailing CRLF.
+     *
+     * @return The number of bytes in the status line.
+     */
+    public int getStatusLineLength() {
+        return statusLineBytes.length;
+    }
+
+    /**
+     * Copy the encoded HTTP/1.1 status line into an existing array, such as a response buffer being assembled.
+     *
+     * @param destination The array to copy into.
+     * @param offset      The index in the destination at which to start.
+     * @return The number of bytes copied, which is {@link #getStatusLineLength()}.
+     * @throws IndexOutOfBoundsException If the status line does not fit in the destination at the offset provided.
+     */
+    public int copyStatusLineTo(@NonNull byte[] destination, int offset) {
+        System.arraycopy(statusLineBytes, 0, destination, offset, statusLineBytes.length);
+        return statusLineBytes.length;
+    }
+
     /**
      * Indicates whether this Http status code is informational.
      *
      * @return Returns a boolean if and only if the code is in the range <pre>100 &lt;= code &lt; 200</pre>.
      */
     public boolean isInformational() {
-        // 100 is the current minimum value
-        return code <= 199;
+        return category == HttpStatusCategory.INFORMATIONAL;
     }
 
     /**
@@ -72,7 +406,7 @@ public enum HttpStatusCode {
      * @return Returns a boolean if and only if the code is in the range <pre>200 &lt;= code &lt; 300</pre>.
      */
     public boolean isSuccessful() {
-        return code >= 200 && code <= 299;
+        return category == HttpStatusCategory.SUCCESSFUL;
     }
 
     /**
@@ -81,7 +415,7 @@ public enum HttpStatusCode {
      * @return Returns a boolean if and only if the code is in the range <pre>300 &lt;= code &lt; 400</pre>.
      */
     public boolean isRedirection() {
-        return code >= 300 && code <= 399;
+        return category == HttpStatusCategory.REDIRECTION;
     }
 
     /**
@@ -90,7 +424,7 @@ public enum HttpStatusCode {
      * @return Returns a boolean if and only if the code is in the range <pre>400 &lt;= code &lt; 500</pre>.
      */
     public boolean isClientError() {
-        return code >= 400 && code <= 499;
+        return category == HttpStatusCategory.CLIENT_ERROR;
     }
 
     /**
@@ -99,8 +433,18 @@ public enum HttpStatusCode {
      * @return Returns a boolean if and only if the code is in the range <pre>500 &lt;= code &lt; 600</pre>.
      */
     public boolean isServerError() {
-        // 599 is the current maximum value
-        return code >= 500;
+        return category == HttpStatusCategory.SERVER_ERROR;
+    }
+
+    /**
+     * Retrieve the corresponding HttpStatusCode based upon the int code value provided, without allocating.
+     *
+     * @param code The int value representing the Http status code.
+     * @return The HttpStatusCode object, or null if there is none for the code.
+     */
+    public static HttpStatusCode fromCodeOrNull(int code) {
+        int index = code - HttpStatusCategory.MIN_CODE;
+        return index >= 0 && index < BY_CODE.length ? BY_CODE[index] : null;
     }
 
     /**
@@ -110,6 +454,6 @@ public enum HttpStatusCode {
      * @return An Optional containing the HttpStatusCode object, if one was found.
      */
     public static Optional<HttpStatusCode> fromCode(int code) {
-        return Arrays.stream(HttpStatusCode.values()).filter(value -> value.code == code).findFirst();
+        return Optional.ofNullable(fromCodeOrNull(code));
     }
 }
\ No newline at end of file
@@ -0,0 +1,206 @@
+package codingchica.patterns.creational.factory.enums;
+
+import lombok.NonNull;
+
+import java.nio.IntBuffer;
+import java.util.Objects;
+
+/**
+ * Classifies batches of raw status codes into HttpStatusCategory counts in a single pass, for callers such as metrics
+ * pipelines that would otherwise look each code up with HttpStatusCode.fromCode and test it with isServerError() and
+ * friends.
+ * <p>
+ * When only the category counts are needed, each category range is tested with arithmetic rather than branches, in a
+ * straight-line loop over an int array that sums into a single counter, which the JIT compiler can unroll and
+ * vectorize.  The codes are processed in cache-sized blocks, so the five category loops still read memory once.  When
+ * per-code counts are requested as well, each code is instead routed into a histogram slot, again without a branch,
+ * and the category counts are derived from the histogram.
+ */
+public final class HttpStatusCodeClassifier {
+    /** The number of codes in each category. */
+    private static final int CATEGORY_WIDTH = 100;
+    /** The histogram slot that values outside the range <pre>100 &lt;= code &lt;= 599</pre> are routed to. */
+    private static final int OTHER_SLOT = StatusCodeCounts.CODE_COUNT;
+    /** The number of codes counted per block, small enough for a block to stay in the L1 cache. */
+    private static final int BLOCK_SIZE = 4096;
+    /** The number of codes copied out of a buffer without a backing array at a time. */
+    static final int BUFFER_CHUNK_SIZE = 4096;
+
+    /**
+     * Private constructor, as this class only exposes static methods.
+     */
+    private HttpStatusCodeClassifier() {
+    }
+
+    /**
+     * Count the codes in the array per category.
+     *
+     * @param codes The int values representing the Http status codes.
+     * @return The counts, without a histogram.
+     */
+    public static StatusCodeCounts classify(@NonNull int[] codes) {
+        return classify(codes, 0, codes.length, false);
+    }
+
+    /**
+     * Count the codes in the array per category, and optionally per code.
+     *
+     * @param codes         The int values representing the Http status codes.
+     * @param withHistogram Whether to count each code as well.
+     * @return The counts.
+     */
+    public static StatusCodeCounts classify(@NonNull int[] codes, boolean withHistogram) {
+        return classify(codes, 0, codes.length, withHistogram);
+    }
+
+    /**
+     * Count the codes in a slice of the array per category, and optionally per code.
+     *
+     * @param codes         The int values representing the Http status codes.
+     * @param offset        The index of the first code to count.
+     * @param length        The number of codes to count.
+     * @param withHistogram Whether to count each code as well.
+     * @return The counts.
+     * @throws IndexOutOfBoundsException If the slice is not within the array.
+     */
+    public static StatusCodeCounts classify(@NonNull int[] codes, int offset, int length, boolean withHistogram) {
+        Objects.checkFromIndexSize(offset, length, codes.length);
+        if (withHistogram) {
+            int[] histogram = new int[StatusCodeCounts.CODE_COUNT + 1];
+            accumulateHistogram(codes, offset, offset + length, histogram);
+            return fromHistogram(histogram);
+        }
+        long[] categoryCounts = new long[HttpStatusCategory.values().length];
+        accumulateCategories(codes, offset, offset + length, categoryCounts);
+        return fromCategories(categoryCounts, length);
+    }
+
+    /**
+     * Count the remaining codes in the buffer per category, and optionally per code.  The position, limit and mark of
+     * the buffer are left untouched.
+     *
+     * @param codes         The buffer holding the int values representing the Http status codes.
+     * @param withHistogram Whether to count each code as well.
+     * @return The counts.
+     */
+    public static StatusCodeCounts classify(@NonNull IntBuffer codes, boolean withHistogram) {
+        if (codes.hasArray()) {
+            return classify(codes.array(), codes.arrayOffset() + codes.position(), codes.remaining(), withHistogram);
+        }
+        // Direct and read-only buffers are copied out a chunk at a time, so the counting loops still run over an array.
+        IntBuffer source = codes.duplicate();
+        int[] chunk = new int[Math.min(BUFFER_CHUNK_SIZE, source.remaining())];
+        int[] histogram = withHistogram ? new int[StatusCodeCounts.CODE_COUNT + 1] : null;
+        long[] categoryCounts = new long[HttpStatusCategory.values().length];
+        int total = source.remaining();
+        while (source.hasRemaining()) {
+            int length = Math.min(chunk.length, source.remaining());
+            source.get(chunk, 0, length);
+            if (withHistogram) {
+                accumulateHistogram(chunk, 0, length, histogram);
+            } else {
+                accumulateCategories(chunk, 0, length, categoryCounts);
+            }
+        }
+        return withHistogram ? fromHistogram(histogram) : fromCategories(categoryCounts, total);
+    }
+
+    /**
+     * Add the number of codes in each category to the counts provided.
+     *
+     * @param codes          The int values representing the Http status codes.
+     * @param from           The index of the first code to count.
+     * @param to             The index just past the last code to count.
+     * @param categoryCounts The counts to add to, indexed by category ordinal.
+     */
+    private static void accumulateCategories(int[] codes, int from, int to, long[] categoryCounts) {
+        HttpStatusCategory[] categories = HttpStatusCategory.values();
+        // The JIT only vectorizes a loop holding a single reduction, so each category gets its own pass over a block
+        // small enough to stay in the L1 cache, which keeps it to one pass over memory.
+        int blockEnd;
+        for (int blockStart = from; blockStart < to; blockStart = blockEnd) {
+            blockEnd = blockStart + Math.min(BLOCK_SIZE, to - blockStart);
+            for (HttpStatusCategory category : categories) {
+                categoryCounts[category.ordinal()] += countInCategory(codes, blockStart, blockEnd,
+                        category.getMinCode());
+            }
+        }
+    }
+
+    /**
+     * Count the codes within a single category.
+     *
+     * @param codes   The int values representing the Http status codes.
+     * @param from    The index of the first code to count.
+     * @param to      The index just past the last code to count.
+     * @param minCode The category's minimum code.
+     * @return The number of codes in the range <pre>minCode &lt;= code &lt; minCode + 100</pre>.
+     */
+    private static int countInCategory(int[] codes, int from, int to, int minCode) {
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            count += inCategory(codes[i] - minCode);
+        }
+        return count;
+    }
+
+    /**
+     * Add one to the histogram slot of each code.
+     *
+     * @param codes     The int values representing the Http status codes.
+     * @param from      The index of the first code to count.
+     * @param to        The index just past the last code to count.
+     * @param histogram The counts to add to, indexed by <pre>code - 100</pre>, with values outside the range
+     *                  <pre>100 &lt;= code &lt;= 599</pre> counted in the last slot.
+     */
+    private static void accumulateHistogram(int[] codes, int from, int to, int[] histogram) {
+        for (int i = from; i < to; i++) {
+            int index = codes[i] - HttpStatusCategory.MIN_CODE;
+            int inRange = ((index | (OTHER_SLOT - 1 - index)) >>> 31) ^ 1;
+            // -inRange is all ones when in range, and inRange - 1 is all ones when not.
+            histogram[(index & -inRange) | (OTHER_SLOT & (inRange - 1))]++;
+        }
+    }
+
+    /**
+     * Indicates, as a 0 or 1, whether an offset from the start of a category falls within it.
+     *
+     * @param offset The code minus the category's minimum code.
+     * @return 1 if <pre>0 &lt;= offset &lt; 100</pre>, otherwise 0.
+     */
+    private static int inCategory(int offset) {
+        // The sign bit is set if either offset or 99 - offset is negative.
+        return ((offset | (CATEGORY_WIDTH - 1 - offset)) >>> 31) ^ 1;
+    }
+
+    /**
+     * Build the counts from per-category counts.
+     *
+     * @param categoryCounts The counts per category.
+     * @param total          The number of values classified.
+     * @return The counts, without a histogram.
+     */
+    private static StatusCodeCounts fromCategories(long[] categoryCounts, long total) {
+        long otherCount = total;
+        for (long count : categoryCounts) {
+            otherCount -= count;
+        }
+        return new StatusCodeCounts(categoryCounts, otherCount, null);
+    }
+
+    /**
+     * Build the counts from a histogram.
+     *
+     * @param histogram The counts per code, followed by the count of values outside the range.
+     * @return The counts, with the histogram.
+     */
+    private static StatusCodeCounts fromHistogram(int[] histogram) {
+        long[] categoryCounts = new long[HttpStatusCategory.values().length];
+        long[] codeCounts = new long[StatusCodeCounts.CODE_COUNT];
+        for (int i = 0; i < codeCounts.length; i++) {
+            codeCounts[i] = histogram[i];
+            categoryCounts[i / CATEGORY_WIDTH] += histogram[i];
+        }
+        return new StatusCodeCounts(categoryCounts, histogram[OTHER_SLOT], codeCounts);
+    }
+}
@@ -0,0 +1,167 @@
+package codingchica.patterns.creational.factory.enums;
+
+import lombok.NonNull;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Reads the status code out of a raw <pre>HTTP/1.x NNN Reason</pre> status line, straight from the bytes received,
+ * without decoding them into a String first.
+ * <p>
+ * None of the methods allocate, and input that does not look like a status line is reported through the
+ * {@link #MALFORMED} return value rather than an exception.  Exceptions are only thrown for invalid arguments, such as
+ * an offset outside the array.
+ *
+ * @see <a href="https://www.rfc-editor.org/rfc/rfc9112#section-4">RFC 9112, Section 4: Status Line</a>
+ */
+public final class HttpStatusLineParser {
+    /** Returned by the parseCode methods when the input is not a valid status line. */
+    public static final int MALFORMED = -1;
+
+    /** The bytes every HTTP/1.x status line starts with. */
+    private static final byte[] VERSION_PREFIX = {'H', 'T', 'T', 'P', '/', '1', '.'};
+    /** The index of the minor version digit. */
+    private static final int MINOR_VERSION_INDEX = VERSION_PREFIX.length;
+    /** The index of the space between the version and the status code. */
+    private static final int SEPARATOR_INDEX = MINOR_VERSION_INDEX + 1;
+    /** The index of the first status code digit. */
+    private static final int CODE_INDEX = SEPARATOR_INDEX + 1;
+    /** The index just past the status code, which must be a space, a line ending, or the end of the input. */
+    private static final int CODE_END_INDEX = CODE_INDEX + 3;
+
+    /**
+     * Private constructor, as this class only exposes static methods.
+     */
+    private HttpStatusLineParser() {
+    }
+
+    /**
+     * Read the status code from a status line held in a slice of a byte array.
+     *
+     * @param bytes  The array holding the status line.
+     * @param offset The index of the first byte of the status line.
+     * @param length The number of bytes available, which may run past the end of the status line.
+     * @return The status code, in the range <pre>100 &lt;= code &lt;= 599</pre>, or {@link #MALFORMED}.
+     * @throws IndexOutOfBoundsException If the slice is not within the array.
+     */
+    public static int parseCode(@NonNull byte[] bytes, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        if (length < CODE_END_INDEX) {
+            return MALFORMED;
+        }
+        for (int i = 0; i < VERSION_PREFIX.length; i++) {
+            if (bytes[offset + i] != VERSION_PREFIX[i]) {
+                return MALFORMED;
+            }
+        }
+        if (!isDigit(bytes[offset + MINOR_VERSION_INDEX]) || bytes[offset + SEPARATOR_INDEX] != ' ') {
+            return MALFORMED;
+        }
+        if (length > CODE_END_INDEX && !isCodeTerminator(bytes[offset + CODE_END_INDEX])) {
+            return MALFORMED;
+        }
+        return toCode(bytes[offset + CODE_INDEX], bytes[offset + CODE_INDEX + 1], bytes[offset + CODE_INDEX + 2]);
+    }
+
+    /**
+     * Read the status code from a status line held in a byte array.
+     *
+     * @param bytes The array holding the status line, starting at index 0.
+     * @return The status code, in the range <pre>100 &lt;= code &lt;= 599</pre>, or {@link #MALFORMED}.
+     */
+    public static int parseCode(@NonNull byte[] bytes) {
+        return parseCode(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Read the status code from a status line held in the remaining bytes of a buffer.  Only absolute reads are used,
+     * so the position, limit and mark of the buffer are left untouched.
+     *
+     * @param buffer The buffer holding the status line, starting at its position.
+     * @return The status code, in the range <pre>100 &lt;= code &lt;= 599</pre>, or {@link #MALFORMED}.
+     */
+    public static int parseCode(@NonNull ByteBuffer buffer) {
+        int start = buffer.position();
+        int length = buffer.limit() - start;
+        if (length < CODE_END_INDEX) {
+            return MALFORMED;
+        }
+        for (int i = 0; i < VERSION_PREFIX.length; i++) {
+            if (buffer.get(start + i) != VERSION_PREFIX[i]) {
+                return MALFORMED;
+            }
+        }
+        if (!isDigit(buffer.get(start + MINOR_VERSION_INDEX)) || buffer.get(start + SEPARATOR_INDEX) != ' ') {
+            return MALFORMED;
+        }
+        if (length > CODE_END_INDEX && !isCodeTerminator(buffer.get(start + CODE_END_INDEX))) {
+            return MALFORMED;
+        }
+        return toCode(buffer.get(start + CODE_INDEX), buffer.get(start + CODE_INDEX + 1),
+                buffer.get(start + CODE_INDEX + 2));
+    }
+
+    /**
+     * Read the status line held in a slice of a byte array and retrieve the matching HttpStatusCode.
+     *
+     * @param bytes  The array holding the status line.
+     * @param offset The index of the first byte of the status line.
+     * @param length The number of bytes available, which may run past the end of the status line.
+     * @return The HttpStatusCode, or null if the line is malformed or its code is not in the registry.  Use
+     * {@link #parseCode(byte[], int, int)} to tell the two apart and retrieve the raw code.
+     * @throws IndexOutOfBoundsException If the slice is not within the array.
+     */
+    public static HttpStatusCode parse(@NonNull byte[] bytes, int offset, int length) {
+        return HttpStatusCode.fromCodeOrNull(parseCode(bytes, offset, length));
+    }
+
+    /**
+     * Read the status line held in the remaining bytes of a buffer and retrieve the matching HttpStatusCode.  The
+     * position, limit and mark of the buffer are left untouched.
+     *
+     * @param buffer The buffer holding the status line, starting at its position.
+     * @return The HttpStatusCode, or null if the line is malformed or its code is not in the registry.  Use
+     * {@link #parseCode(ByteBuffer)} to tell the two apart and retrieve the raw code.
+     */
+    public static HttpStatusCode parse(@NonNull ByteBuffer buffer) {
+        return HttpStatusCode.fromCodeOrNull(parseCode(buffer));
+    }
+
+    /**
+     * Indicates whether the byte is an ASCII digit.
+     *
+     * @param value The byte to check.
+     * @return Whether the byte is in the range <pre>'0' &lt;= value &lt;= '9'</pre>.
+     */
+    private static boolean isDigit(byte value) {
+        return value >= '0' && value <= '9';
+    }
+
+    /**
+     * Indicates whether the byte may follow the status code.  The reason phrase is optional, so the line may also end
+     * right after the code.
+     *
+     * @param value The byte following the status code.
+     * @return Whether the byte is a space, carriage return or line feed.
+     */
+    private static boolean isCodeTerminator(byte value) {
+        return value == ' ' || value == '\r' || value == '\n';
+    }
+
+    /**
+     * Combine the three status code digits into the code.
+     *
+     * @param hundreds The first digit.
+     * @param tens     The second digit.
+     * @param units    The third digit.
+     * @return The status code, or {@link #MALFORMED} if any byte is not a digit or the code is outside the range
+     * <pre>100 &lt;= code &lt;= 599</pre>.
+     */
+    private static int toCode(byte hundreds, byte tens, byte units) {
+        if (hundreds < '1' || hundreds > '5' || !isDigit(tens) || !isDigit(units)) {
+            return MALFORMED;
+        }
+        return (hundreds - '0') * 100 + (tens - '0') * 10 + (units - '0');
+    }
+}
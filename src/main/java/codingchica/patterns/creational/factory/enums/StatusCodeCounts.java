@@ -0,0 +1,116 @@
+package codingchica.patterns.creational.factory.enums;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * The number of status codes seen per HttpStatusCategory, and optionally per code, in a batch classified by
+ * HttpStatusCodeClassifier.
+ *
+ * @see HttpStatusCodeClassifier
+ */
+public final class StatusCodeCounts {
+    /** The number of codes in the range <pre>100 &lt;= code &lt;= 599</pre>. */
+    static final int CODE_COUNT = HttpStatusCategory.MAX_CODE - HttpStatusCategory.MIN_CODE + 1;
+
+    /** The number of codes per category, indexed by ordinal. */
+    private final long[] categoryCounts;
+    /**
+     * The number of values outside the range <pre>100 &lt;= code &lt;= 599</pre>.
+     */
+    @Getter
+    private final long otherCount;
+    /** The number of values per code, indexed by <pre>code - 100</pre>, or null if no histogram was collected. */
+    private final long[] histogram;
+
+    /**
+     * Constructor for StatusCodeCounts objects.
+     *
+     * @param categoryCounts The number of codes per category, indexed by ordinal, which the new object takes
+     *                       ownership of.
+     * @param otherCount     The number of values outside the range <pre>100 &lt;= code &lt;= 599</pre>.
+     * @param histogram      The number of values per code, indexed by <pre>code - 100</pre>, which the new object
+     *                       takes ownership of, or null if no histogram was collected.
+     */
+    StatusCodeCounts(long[] categoryCounts, long otherCount, long[] histogram) {
+        this.categoryCounts = categoryCounts;
+        this.otherCount = otherCount;
+        this.histogram = histogram;
+    }
+
+    /**
+     * Retrieve the number of values in the category provided, including codes that are not in the HttpStatusCode
+     * registry.
+     *
+     * @param category The category.
+     * @return The number of values.
+     */
+    public long getCount(@NonNull HttpStatusCategory category) {
+        return categoryCounts[category.ordinal()];
+    }
+
+    /**
+     * Retrieve the number of values classified.
+     *
+     * @return The number of values, in a category or not.
+     */
+    public long getTotal() {
+        long total = otherCount;
+        for (long count : categoryCounts) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * Indicates whether per-code counts were collected.
+     *
+     * @return Whether the getCount methods that take a code may be called.
+     */
+    public boolean hasHistogram() {
+        return histogram != null;
+    }
+
+    /**
+     * Retrieve the number of values equal to the code provided.
+     *
+     * @param code The int value representing the Http status code.
+     * @return The number of values, which is 0 for codes outside the range <pre>100 &lt;= code &lt;= 599</pre>.
+     * @throws IllegalStateException If no histogram was collected.
+     */
+    public long getCount(int code) {
+        if (histogram == null) {
+            throw new IllegalStateException("No histogram was collected");
+        }
+        int index = code - HttpStatusCategory.MIN_CODE;
+        return index >= 0 && index < CODE_COUNT ? histogram[index] : 0;
+    }
+
+    /**
+     * Retrieve the number of values equal to the status code provided.
+     *
+     * @param statusCode The status code.
+     * @return The number of values.
+     * @throws IllegalStateException If no histogram was collected.
+     */
+    public long getCount(@NonNull HttpStatusCode statusCode) {
+        return getCount(statusCode.getCode());
+    }
+
+    /**
+     * Generate a String representation of this object.
+     *
+     * @return A summary of the counts per category.
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("StatusCodeCounts(");
+        for (HttpStatusCategory category : HttpStatusCategory.values()) {
+            builder.append(category).append('=').append(getCount(category)).append(", ");
+        }
+        return builder.append("otherCount=").append(otherCount)
+                .append(", histogram=").append(hasHistogram())
+                .append(')')
+                .toString();
+    }
+}
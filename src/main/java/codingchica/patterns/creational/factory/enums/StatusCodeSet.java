@@ -0,0 +1,418 @@
+package codingchica.patterns.creational.factory.enums;
+
+import lombok.NonNull;
+
+import java.util.Arrays;
+import java.util.StringJoiner;
+import java.util.stream.IntStream;
+
+/**
+ * An immutable set of HTTP status codes in the range <pre>100 &lt;= code &lt;= 599</pre>, such as the codes a retry
+ * policy retries on or an alert fires for.
+ * <p>
+ * Unlike an EnumSet of HttpStatusCode, the set can hold codes that are not in the registry, and unlike a
+ * Set&lt;Integer&gt; it does not box its values: each code is a single bit in a 500-bit array of longs, so lookups
+ * are a shift and a mask, and the set operations work a whole word of codes at a time.
+ */
+public final class StatusCodeSet {
+    /** The number of codes in the range <pre>100 &lt;= code &lt;= 599</pre>. */
+    private static final int CODE_COUNT = HttpStatusCategory.MAX_CODE - HttpStatusCategory.MIN_CODE + 1;
+    /** The number of longs needed to hold one bit per code. */
+    private static final int WORD_COUNT = 8;
+    /** The bits of the last word that represent codes. */
+    private static final long LAST_WORD_MASK = -1L >>> (WORD_COUNT * Long.SIZE - CODE_COUNT);
+    /** The set holding no codes. */
+    private static final StatusCodeSet EMPTY = new StatusCodeSet(new long[WORD_COUNT]);
+    /** The set holding every code in the range. */
+    private static final StatusCodeSet ALL = EMPTY.complement();
+
+    /** One bit per code, where bit <pre>code - 100</pre> is set if the code is in the set. */
+    private final long[] words;
+
+    /**
+     * Constructor for StatusCodeSet objects.
+     *
+     * @param words The bits of the set, which the new set takes ownership of.
+     */
+    private StatusCodeSet(long[] words) {
+        this.words = words;
+    }
+
+    /**
+     * Retrieve the set holding no codes.
+     *
+     * @return The empty set.
+     */
+    public static StatusCodeSet empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Retrieve the set holding every code in the range <pre>100 &lt;= code &lt;= 599</pre>.
+     *
+     * @return The full set.
+     */
+    public static StatusCodeSet all() {
+        return ALL;
+    }
+
+    /**
+     * Create a set holding the codes provided.
+     *
+     * @param codes The int values representing the Http status codes.
+     * @return The new set.
+     * @throws IllegalArgumentException If a code is outside the range <pre>100 &lt;= code &lt;= 599</pre>.
+     */
+    public static StatusCodeSet of(@NonNull int... codes) {
+        Builder builder = builder();
+        for (int code : codes) {
+            builder.add(code);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Create a set holding the status codes provided.
+     *
+     * @param statusCodes The status codes.
+     * @return The new set.
+     */
+    public static StatusCodeSet of(@NonNull HttpStatusCode... statusCodes) {
+        Builder builder = builder();
+        for (HttpStatusCode statusCode : statusCodes) {
+            builder.add(statusCode);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Create a set holding every code in the categories provided, including codes that are not in the HttpStatusCode
+     * registry.
+     *
+     * @param categories The categories.
+     * @return The new set.
+     */
+    public static StatusCodeSet of(@NonNull HttpStatusCategory... categories) {
+        Builder builder = builder();
+        for (HttpStatusCategory category : categories) {
+            builder.add(category);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Create a set holding a range of codes.
+     *
+     * @param fromCode The first code in the range.
+     * @param toCode   The last code in the range, inclusive.
+     * @return The new set.
+     * @throws IllegalArgumentException If either code is outside the range <pre>100 &lt;= code &lt;= 599</pre>, or
+     *                                  fromCode is greater than toCode.
+     */
+    public static StatusCodeSet range(int fromCode, int toCode) {
+        return builder().addRange(fromCode, toCode).build();
+    }
+
+    /**
+     * Create a builder, to assemble a set from several codes, ranges and categories.
+     *
+     * @return A new, empty builder.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Indicates whether the code is in the set.  Codes outside the range <pre>100 &lt;= code &lt;= 599</pre> are never
+     * in the set.  The check compiles to straight-line code, without a branch for the range check.
+     *
+     * @param code The int value representing the Http status code.
+     * @return Whether the code is in the set.
+     */
+    public boolean contains(int code) {
+        int index = code - HttpStatusCategory.MIN_CODE;
+        // 1 when 0 <= index <= 499, otherwise 0: the sign bit is set if either index or 499 - index is negative.
+        long inRange = ((index | (CODE_COUNT - 1 - index)) >>> 31) ^ 1;
+        // The word index is masked so that it stays within the array for any index; inRange discards the result.
+        return ((words[(index >>> 6) & (WORD_COUNT - 1)] >>> index) & inRange) != 0;
+    }
+
+    /**
+     * Indicates whether the status code is in the set.
+     *
+     * @param statusCode The status code.
+     * @return Whether the status code is in the set.
+     */
+    public boolean contains(@NonNull HttpStatusCode statusCode) {
+        return contains(statusCode.getCode());
+    }
+
+    /**
+     * Retrieve the number of codes in the set.
+     *
+     * @return The number of codes.
+     */
+    public int size() {
+        int size = 0;
+        for (long word : words) {
+            size += Long.bitCount(word);
+        }
+        return size;
+    }
+
+    /**
+     * Indicates whether the set holds no codes.
+     *
+     * @return Whether the set is empty.
+     */
+    public boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Create a set holding the codes in either this set or the other set.
+     *
+     * @param other The other set.
+     * @return The new set.
+     */
+    public StatusCodeSet union(@NonNull StatusCodeSet other) {
+        long[] result = new long[WORD_COUNT];
+        for (int i = 0; i < WORD_COUNT; i++) {
+            result[i] = words[i] | other.words[i];
+        }
+        return new StatusCodeSet(result);
+    }
+
+    /**
+     * Create a set holding the codes in both this set and the other set.
+     *
+     * @param other The other set.
+     * @return The new set.
+     */
+    public StatusCodeSet intersection(@NonNull StatusCodeSet other) {
+        long[] result = new long[WORD_COUNT];
+        for (int i = 0; i < WORD_COUNT; i++) {
+            result[i] = words[i] & other.words[i];
+        }
+        return new StatusCodeSet(result);
+    }
+
+    /**
+     * Create a set holding the codes in this set that are not in the other set.
+     *
+     * @param other The other set.
+     * @return The new set.
+     */
+    public StatusCodeSet difference(@NonNull StatusCodeSet other) {
+        long[] result = new long[WORD_COUNT];
+        for (int i = 0; i < WORD_COUNT; i++) {
+            result[i] = words[i] & ~other.words[i];
+        }
+        return new StatusCodeSet(result);
+    }
+
+    /**
+     * Create a set holding the codes in the range <pre>100 &lt;= code &lt;= 599</pre> that are not in this set.
+     *
+     * @return The new set.
+     */
+    public StatusCodeSet complement() {
+        long[] result = new long[WORD_COUNT];
+        for (int i = 0; i < WORD_COUNT; i++) {
+            result[i] = ~words[i];
+        }
+        result[WORD_COUNT - 1] &= LAST_WORD_MASK;
+        return new StatusCodeSet(result);
+    }
+
+    /**
+     * Retrieve the codes in the set.
+     *
+     * @return The codes, in ascending order.
+     */
+    public IntStream stream() {
+        return IntStream.of(toArray());
+    }
+
+    /**
+     * Retrieve the codes in the set.
+     *
+     * @return A new array holding the codes, in ascending order.
+     */
+    public int[] toArray() {
+        int[] result = new int[size()];
+        int count = 0;
+        for (int i = 0; i < WORD_COUNT; i++) {
+            long word = words[i];
+            while (word != 0) {
+                result[count++] = HttpStatusCategory.MIN_CODE + i * Long.SIZE + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Indicates whether some other object is "equal to" this one.
+     *
+     * @param obj The reference object with which to compare.
+     * @return Whether the other object is a StatusCodeSet holding the same codes.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof StatusCodeSet && Arrays.equals(words, ((StatusCodeSet) obj).words);
+    }
+
+    /**
+     * Returns a hash code value for the object.
+     *
+     * @return A hash code value for this object.
+     */
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(words);
+    }
+
+    /**
+     * Generate a String representation of this object, with runs of consecutive codes collapsed into ranges.
+     *
+     * @return The codes, such as <pre>StatusCodeSet[200-299, 404]</pre>.
+     */
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "StatusCodeSet[", "]");
+        int[] codes = toArray();
+        int start = 0;
+        while (start < codes.length) {
+            int end = start;
+            while (end + 1 < codes.length && codes[end + 1] == codes[end] + 1) {
+                end++;
+            }
+            joiner.add(start == end ? Integer.toString(codes[start]) : codes[start] + "-" + codes[end]);
+            start = end + 1;
+        }
+        return joiner.toString();
+    }
+
+    /**
+     * Assembles a StatusCodeSet from codes, ranges and categories.
+     */
+    public static class Builder {
+        /** The bits of the set being built. */
+        private final long[] words = new long[WORD_COUNT];
+
+        /**
+         * Constructor for Builder objects.
+         */
+        Builder() {
+        }
+
+        /**
+         * Add a code to the set.
+         *
+         * @param code The int value representing the Http status code.
+         * @return This builder.
+         * @throws IllegalArgumentException If the code is outside the range <pre>100 &lt;= code &lt;= 599</pre>.
+         */
+        public Builder add(int code) {
+            int index = toIndex(code);
+            words[index >>> 6] |= 1L << index;
+            return this;
+        }
+
+        /**
+         * Add a status code to the set.
+         *
+         * @param statusCode The status code.
+         * @return This builder.
+         */
+        public Builder add(@NonNull HttpStatusCode statusCode) {
+            return add(statusCode.getCode());
+        }
+
+        /**
+         * Add every code in a category to the set, including codes that are not in the HttpStatusCode registry.
+         *
+         * @param category The category.
+         * @return This builder.
+         */
+        public Builder add(@NonNull HttpStatusCategory category) {
+            return addRange(category.getMinCode(), category.getMaxCode());
+        }
+
+        /**
+         * Add every code in another set to the set.
+         *
+         * @param other The other set.
+         * @return This builder.
+         */
+        public Builder addAll(@NonNull StatusCodeSet other) {
+            for (int i = 0; i < WORD_COUNT; i++) {
+                words[i] |= other.words[i];
+            }
+            return this;
+        }
+
+        /**
+         * Add a range of codes to the set.
+         *
+         * @param fromCode The first code in the range.
+         * @param toCode   The last code in the range, inclusive.
+         * @return This builder.
+         * @throws IllegalArgumentException If either code is outside the range <pre>100 &lt;= code &lt;= 599</pre>,
+         *                                  or fromCode is greater than toCode.
+         */
+        public Builder addRange(int fromCode, int toCode) {
+            int from = toIndex(fromCode);
+            int to = toIndex(toCode);
+            if (from > to) {
+                throw new IllegalArgumentException("fromCode must not be greater than toCode: " + fromCode + " > "
+                        + toCode);
+            }
+            int fromWord = from >>> 6;
+            int toWord = to >>> 6;
+            // Shifts only use the low 6 bits of the index, so these are the masks from / up to the bit in its word.
+            long fromMask = -1L << from;
+            long toMask = -1L >>> (Long.SIZE - 1 - (to & (Long.SIZE - 1)));
+            if (fromWord == toWord) {
+                words[fromWord] |= fromMask & toMask;
+            } else {
+                words[fromWord] |= fromMask;
+                for (int i = fromWord + 1; i < toWord; i++) {
+                    words[i] = -1L;
+                }
+                words[toWord] |= toMask;
+            }
+            return this;
+        }
+
+        /**
+         * Create the set.  The builder may be used again afterwards, without affecting the set created.
+         *
+         * @return The new set.
+         */
+        public StatusCodeSet build() {
+            return new StatusCodeSet(words.clone());
+        }
+
+        /**
+         * Convert a code to its bit index.
+         *
+         * @param code The int value representing the Http status code.
+         * @return The bit index.
+         * @throws IllegalArgumentException If the code is outside the range <pre>100 &lt;= code &lt;= 599</pre>.
+         */
+        private static int toIndex(int code) {
+            if (code < HttpStatusCategory.MIN_CODE || code > HttpStatusCategory.MAX_CODE) {
+                throw new IllegalArgumentException("code must be between " + HttpStatusCategory.MIN_CODE + " and "
+                        + HttpStatusCategory.MAX_CODE + ": " + code);
+            }
+            return code - HttpStatusCategory.MIN_CODE;
+        }
+    }
+}
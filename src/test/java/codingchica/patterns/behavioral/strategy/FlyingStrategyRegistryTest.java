@@ -0,0 +1,158 @@
+package codingchica.patterns.behavioral.strategy;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static codingchica.patterns.behavioral.strategy.FlyingStrategyRegistry.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Unit tests for the codingchica.patterns.behavioral.strategy.FlyingStrategyRegistry class. */
+class FlyingStrategyRegistryTest {
+    /** Tests to ensure that the enums are configured as expected. */
+    @Nested
+    public class ConfigurationTest {
+        @Test
+        void ids_stable() {
+            // Setup
+
+            // Execution
+
+            // Validation
+            // These ids may be persisted, so they must never change.
+            assertEquals(0, UNABLE_TO_FLY.getId(), "UNABLE_TO_FLY");
+            assertEquals(1, FLAP_WINGS.getId(), "FLAP_WINGS");
+            assertEquals(2, GLIDING.getId(), "GLIDING");
+            assertEquals(3, AIRPLANE.getId(), "AIRPLANE");
+        }
+
+        @Test
+        void ids_unique() {
+            // Setup
+            FlyingStrategyRegistry[] values = FlyingStrategyRegistry.values();
+
+            // Execution
+            Set<Integer> result = Arrays.stream(values).map(FlyingStrategyRegistry::getId).collect(Collectors.toSet());
+
+            // Validation
+            assertEquals(values.length, result.size(), "size");
+        }
+
+        @Test
+        void strategies_expectedClasses() {
+            // Setup
+
+            // Execution
+
+            // Validation
+            assertEquals(new UnableToFlyStrategy(), UNABLE_TO_FLY.getStrategy(), "UNABLE_TO_FLY");
+            assertEquals(new FlapWingsStrategy(), FLAP_WINGS.getStrategy(), "FLAP_WINGS");
+            assertEquals(new GlidingStrategy(), GLIDING.getStrategy(), "GLIDING");
+            assertEquals(new AirplaneStrategy(), AIRPLANE.getStrategy(), "AIRPLANE");
+        }
+
+        @ParameterizedTest
+        @EnumSource(FlyingStrategyRegistry.class)
+        void getStrategy_whenInvokedRepeatedly_thenSameInstance(FlyingStrategyRegistry value) {
+            // Setup
+            FlyingStrategy strategy = value.getStrategy();
+
+            // Execution
+            FlyingStrategy result = value.getStrategy();
+
+            // Validation
+            assertSame(strategy, result);
+        }
+    }
+
+    /** Tests to ensure that the fromId method functions as expected. */
+    @Nested
+    public class FromIdTest {
+        @ParameterizedTest
+        @EnumSource(FlyingStrategyRegistry.class)
+        void fromId_whenFound_thenOptionalPopulatedReturned(FlyingStrategyRegistry value) {
+            // Setup
+
+            // Execution
+            Optional<FlyingStrategyRegistry> result = fromId(value.getId());
+
+            // Validation
+            assertEquals(Optional.of(value), result);
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {-1, 4, Integer.MAX_VALUE, Integer.MIN_VALUE})
+        void fromId_whenNotFound_thenOptionalEmptyReturned(int id) {
+            // Setup
+
+            // Execution
+            Optional<FlyingStrategyRegistry> result = fromId(id);
+
+            // Validation
+            assertTrue(result.isEmpty(), "result.isEmpty()");
+        }
+    }
+
+    /** Tests to ensure that the fromStrategy method functions as expected. */
+    @Nested
+    public class FromStrategyTest {
+        @ParameterizedTest
+        @EnumSource(FlyingStrategyRegistry.class)
+        void fromStrategy_whenSharedInstance_thenOptionalPopulatedReturned(FlyingStrategyRegistry value) {
+            // Setup
+
+            // Execution
+            Optional<FlyingStrategyRegistry> result = fromStrategy(value.getStrategy());
+
+            // Validation
+            assertEquals(Optional.of(value), result);
+        }
+
+        @Test
+        void fromStrategy_whenSeparateInstanceOfBuiltInClass_thenOptionalPopulatedReturned() {
+            // Setup
+
+            // Execution
+            Optional<FlyingStrategyRegistry> result = fromStrategy(new GlidingStrategy());
+
+            // Validation
+            assertEquals(Optional.of(GLIDING), result);
+        }
+
+        @Test
+        void fromStrategy_whenSubclassOfBuiltInClass_thenOptionalEmptyReturned() {
+            // Setup
+            FlyingStrategy strategy = new GlidingStrategy() {
+                @Override
+                public String getFlyingMessage() {
+                    return "Glide with a parachute.";
+                }
+            };
+
+            // Execution
+            Optional<FlyingStrategyRegistry> result = fromStrategy(strategy);
+
+            // Validation
+            assertTrue(result.isEmpty(), "result.isEmpty()");
+        }
+
+        @Test
+        void fromStrategy_whenNull_thenExceptionThrown() {
+            // Setup
+
+            // Execution
+            Executable executable = () -> fromStrategy(null);
+
+            // Validation
+            assertThrows(NullPointerException.class, executable);
+        }
+    }
+}
@@ -3,6 +3,8 @@ package codingchica.patterns.behavioral.strategy.model;
 import codingchica.patterns.behavioral.strategy.AirplaneStrategy;
 import codingchica.patterns.behavioral.strategy.FlapWingsStrategy;
 import codingchica.patterns.behavioral.strategy.FlyingStrategy;
+import codingchica.patterns.behavioral.strategy.FlyingStrategyRegistry;
+import codingchica.patterns.behavioral.strategy.GlidingStrategy;
 import codingchica.patterns.behavioral.strategy.UnableToFlyStrategy;
 import lombok.Builder;
 import lombok.Getter;
@@ -15,9 +17,18 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.platform.commons.util.ReflectionUtils;
 
+import java.lang.management.ManagementFactory;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.api.Assumptions.assumeFalse;
@@ -337,6 +348,385 @@ class AnimalTest {
         }
     }
 
+    /**
+     * Unit tests for the allocation-free flying strategy accessors.
+     */
+    @Nested
+    public class FlyingStrategyAccessorTest {
+        /**
+         * An Animal subclass which records its own flying strategy changes, in a field only initialized after the
+         * Animal constructor returns.
+         */
+        private class RecordingAnimal extends Animal {
+            private final List<FlyingStrategy> changes = new ArrayList<>();
+
+            RecordingAnimal(FlyingStrategy flyingStrategy) {
+                super(animalBuilder.build().getScientificClassification(), "name", "description", flyingStrategy);
+            }
+
+            @Override
+            public void setFlyingStrategy(FlyingStrategy flyingStrategy) {
+                changes.add(flyingStrategy);
+                super.setFlyingStrategy(flyingStrategy);
+            }
+        }
+
+        @Test
+        public void constructor_whenSetterOverridden_thenOverrideNotCalled() {
+            // Setup
+            FlyingStrategy strategy = new FlapWingsStrategy();
+
+            // Execution
+            RecordingAnimal animal = new RecordingAnimal(strategy);
+
+            // Validation
+            assertSame(strategy, animal.getFlyingStrategyOrDefault());
+            assertEquals(List.of(), animal.changes);
+        }
+
+        @Test
+        public void hasFlyingStrategy_whenNull_returnsFalse() {
+            // Setup
+            Animal animal = animalBuilder.build();
+
+            // Execution
+            boolean result = animal.hasFlyingStrategy();
+
+            // Validation
+            assertFalse(result);
+        }
+
+        @Test
+        public void hasFlyingStrategy_whenSet_returnsTrue() {
+            // Setup
+            Animal animal = animalBuilder.flyingStrategy(new GlidingStrategy()).build();
+
+            // Execution
+            boolean result = animal.hasFlyingStrategy();
+
+            // Validation
+            assertTrue(result);
+        }
+
+        @Test
+        public void getFlyingStrategyOrDefault_whenNull_returnsSharedUnableToFly() {
+            // Setup
+            Animal animal = animalBuilder.build();
+
+            // Execution
+            FlyingStrategy result = animal.getFlyingStrategyOrDefault();
+
+            // Validation
+            assertSame(FlyingStrategyRegistry.UNABLE_TO_FLY.getStrategy(), result);
+        }
+
+        @Test
+        public void getFlyingStrategyOrDefault_whenSet_returnsStrategy() {
+            // Setup
+            FlyingStrategy strategy = new GlidingStrategy();
+            Animal animal = animalBuilder.flyingStrategy(strategy).build();
+
+            // Execution
+            FlyingStrategy result = animal.getFlyingStrategyOrDefault();
+
+            // Validation
+            assertSame(strategy, result);
+        }
+
+        @Test
+        public void getFlyingStrategyOrDefault_whenNullWithDefault_returnsDefault() {
+            // Setup
+            Animal animal = animalBuilder.build();
+            FlyingStrategy defaultStrategy = FlyingStrategyRegistry.FLAP_WINGS.getStrategy();
+
+            // Execution
+            FlyingStrategy result = animal.getFlyingStrategyOrDefault(defaultStrategy);
+
+            // Validation
+            assertSame(defaultStrategy, result);
+        }
+
+        @Test
+        public void getFlyingStrategyOrDefault_whenSetWithDefault_returnsStrategy() {
+            // Setup
+            FlyingStrategy strategy = new AirplaneStrategy();
+            Animal animal = animalBuilder.flyingStrategy(strategy).build();
+
+            // Execution
+            FlyingStrategy result = animal.getFlyingStrategyOrDefault(FlyingStrategyRegistry.FLAP_WINGS.getStrategy());
+
+            // Validation
+            assertSame(strategy, result);
+        }
+    }
+
+    /**
+     * Unit tests for the compareAndSetFlyingStrategy method, and for replacing the strategy while it is being read.
+     */
+    @Nested
+    public class CompareAndSetFlyingStrategyTest {
+        /**
+         * Build a strategy outside the registry.
+         *
+         * @param message The strategy's message.
+         * @return The strategy.
+         */
+        private FlyingStrategy customStrategy(String message) {
+            return new FlyingStrategy() {
+                @Override
+                public String getFlyingMessage() {
+                    return message;
+                }
+            };
+        }
+
+        /**
+         * Start threads which wait for the latch before running.
+         *
+         * @param count The number of threads.
+         * @param start The latch to wait for.
+         * @param task  The work of each thread, given its index.
+         * @return The started threads.
+         */
+        private List<Thread> startThreads(int count, CountDownLatch start, IntConsumer task) {
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < count; t++) {
+                int threadIndex = t;
+                Thread thread = new Thread(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    task.accept(threadIndex);
+                });
+                thread.start();
+                threads.add(thread);
+            }
+            return threads;
+        }
+
+        @Test
+        public void compareAndSetFlyingStrategy_whenExpectedMatches_replacesStrategy() {
+            // Setup
+            FlyingStrategy flapWings = FlyingStrategyRegistry.FLAP_WINGS.getStrategy();
+            FlyingStrategy airplane = FlyingStrategyRegistry.AIRPLANE.getStrategy();
+            Animal animal = animalBuilder.flyingStrategy(flapWings).build();
+
+            // Execution
+            boolean result = animal.compareAndSetFlyingStrategy(flapWings, airplane);
+
+            // Validation
+            assertTrue(result, "result");
+            assertSame(airplane, animal.getFlyingStrategyOrDefault(), "flyingStrategy");
+            assertEquals(airplane.getFlyingMessage(), animal.getFlyingMessage(), "flyingMessage");
+        }
+
+        @Test
+        public void compareAndSetFlyingStrategy_whenExpectedNullAndNoStrategy_replacesStrategy() {
+            // Setup
+            FlyingStrategy custom = customStrategy("Ride the thermals.");
+            Animal animal = animalBuilder.build();
+
+            // Execution
+            boolean result = animal.compareAndSetFlyingStrategy(null, custom);
+
+            // Validation
+            assertTrue(result, "result");
+            assertSame(custom, animal.getFlyingStrategyOrDefault(), "flyingStrategy");
+            assertEquals("Ride the thermals.", animal.getFlyingMessage(), "flyingMessage");
+        }
+
+        @Test
+        public void compareAndSetFlyingStrategy_whenNewStrategyNull_clearsStrategy() {
+            // Setup
+            FlyingStrategy custom = customStrategy("Ride the thermals.");
+            Animal animal = animalBuilder.flyingStrategy(custom).build();
+
+            // Execution
+            boolean result = animal.compareAndSetFlyingStrategy(custom, null);
+
+            // Validation
+            assertTrue(result, "result");
+            assertFalse(animal.hasFlyingStrategy(), "hasFlyingStrategy");
+            assertEquals(new UnableToFlyStrategy().getFlyingMessage(), animal.getFlyingMessage(), "flyingMessage");
+        }
+
+        @Test
+        public void compareAndSetFlyingStrategy_whenExpectedDiffers_leavesStrategy() {
+            // Setup
+            FlyingStrategy flapWings = FlyingStrategyRegistry.FLAP_WINGS.getStrategy();
+            Animal animal = animalBuilder.flyingStrategy(flapWings).build();
+
+            // Execution
+            boolean result = animal.compareAndSetFlyingStrategy(null, FlyingStrategyRegistry.AIRPLANE.getStrategy());
+
+            // Validation
+            assertFalse(result, "result");
+            assertSame(flapWings, animal.getFlyingStrategyOrDefault(), "flyingStrategy");
+        }
+
+        @Test
+        public void compareAndSetFlyingStrategy_whenExpectedOnlyEqual_leavesStrategy() {
+            // Setup
+            FlyingStrategy gliding = new GlidingStrategy();
+            Animal animal = animalBuilder.flyingStrategy(gliding).build();
+
+            // Execution
+            boolean result = animal.compareAndSetFlyingStrategy(new GlidingStrategy(), new AirplaneStrategy());
+
+            // Validation
+            assertFalse(result, "result");
+            assertSame(gliding, animal.getFlyingStrategyOrDefault(), "flyingStrategy");
+        }
+
+        @Test
+        public void compareAndSetFlyingStrategy_whenManyThreadsUpgrade_thenExactlyOneWins() throws InterruptedException {
+            // Setup
+            int threadCount = 8;
+            Animal animal = animalBuilder.build();
+            FlyingStrategy[] strategies = new FlyingStrategy[threadCount];
+            for (int i = 0; i < threadCount; i++) {
+                strategies[i] = customStrategy("Strategy " + i);
+            }
+            AtomicInteger winners = new AtomicInteger();
+            CountDownLatch start = new CountDownLatch(1);
+            List<Thread> threads = startThreads(threadCount, start, threadIndex -> {
+                if (animal.compareAndSetFlyingStrategy(null, strategies[threadIndex])) {
+                    winners.incrementAndGet();
+                }
+            });
+
+            // Execution
+            start.countDown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            // Validation
+            assertEquals(1, winners.get(), "winners");
+            assertTrue(Arrays.asList(strategies).contains(animal.getFlyingStrategyOrDefault()), "flyingStrategy");
+        }
+
+        @Test
+        public void setFlyingStrategy_whenReadConcurrently_thenMessageMatchesAStrategy() throws InterruptedException {
+            // Setup
+            int readerCount = 4;
+            int iterations = 20_000;
+            FlyingStrategy flapWings = FlyingStrategyRegistry.FLAP_WINGS.getStrategy();
+            FlyingStrategy custom = customStrategy("Ride the thermals.");
+            Set<String> expectedMessages = Set.of(flapWings.getFlyingMessage(), "Ride the thermals.");
+            Animal animal = animalBuilder.flyingStrategy(flapWings).build();
+            Set<String> unexpectedMessages = ConcurrentHashMap.newKeySet();
+            CountDownLatch start = new CountDownLatch(1);
+            List<Thread> threads = startThreads(readerCount + 1, start, threadIndex -> {
+                for (int i = 0; i < iterations; i++) {
+                    if (threadIndex == readerCount) {
+                        animal.setFlyingStrategy(i % 2 == 0 ? custom : flapWings);
+                    } else if (!expectedMessages.contains(animal.getFlyingMessage())) {
+                        unexpectedMessages.add(String.valueOf(animal.getFlyingMessage()));
+                    }
+                }
+            });
+
+            // Execution
+            start.countDown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            // Validation
+            assertEquals(Set.of(), unexpectedMessages);
+        }
+    }
+
+    /**
+     * Allocation budget tests for the accessors used in tight loops, which must not allocate at all.
+     */
+    @Nested
+    public class AllocationTest {
+        /** The number of calls measured, so that a few stray bytes cannot add up to one byte per call. */
+        private static final int CALLS = 100_000;
+        /** Reads the bytes allocated by the current thread. */
+        private final com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        /**
+         * Measure the bytes allocated per call of an accessor, after a warm-up run.
+         *
+         * @param call   The accessor call.
+         * @param animal The animal to call it on.
+         * @return The bytes allocated per call, rounded down.
+         */
+        private long bytesPerCall(Predicate<Animal> call, Animal animal) {
+            assumeTrue(threadMXBean.isThreadAllocatedMemorySupported() && threadMXBean.isThreadAllocatedMemoryEnabled(),
+                    "Thread allocation measurement is not available");
+            boolean sink = false;
+            for (int i = 0; i < CALLS; i++) {
+                sink ^= call.test(animal);
+            }
+            long before = threadMXBean.getCurrentThreadAllocatedBytes();
+            for (int i = 0; i < CALLS; i++) {
+                sink ^= call.test(animal);
+            }
+            long allocated = threadMXBean.getCurrentThreadAllocatedBytes() - before;
+            log.trace("Sink: {}", sink);
+            return allocated / CALLS;
+        }
+
+        @ParameterizedTest
+        @EnumSource(FlyingStrategyRegistry.class)
+        public void hasFlyingStrategy_whenInvoked_allocatesNothing(FlyingStrategyRegistry entry) {
+            // Setup
+            Animal animal = animalBuilder.flyingStrategy(entry.getStrategy()).build();
+
+            // Execution
+            long result = bytesPerCall(Animal::hasFlyingStrategy, animal);
+
+            // Validation
+            assertEquals(0, result);
+        }
+
+        @Test
+        public void getFlyingStrategyOrDefault_whenNull_allocatesNothing() {
+            // Setup
+            Animal animal = animalBuilder.build();
+
+            // Execution
+            long result = bytesPerCall(item -> item.getFlyingStrategyOrDefault() != null, animal);
+
+            // Validation
+            assertEquals(0, result);
+        }
+
+        @ParameterizedTest
+        @EnumSource(FlyingStrategyRegistry.class)
+        public void getFlyingStrategyOrDefault_whenSet_allocatesNothing(FlyingStrategyRegistry entry) {
+            // Setup
+            Animal animal = animalBuilder.flyingStrategy(entry.getStrategy()).build();
+
+            // Execution
+            long result = bytesPerCall(item -> item.getFlyingStrategyOrDefault() != null, animal);
+
+            // Validation
+            assertEquals(0, result);
+        }
+
+        @ParameterizedTest
+        @EnumSource(FlyingStrategyRegistry.class)
+        public void getFlyingMessage_whenRegistryStrategy_allocatesNothing(FlyingStrategyRegistry entry) {
+            // Setup
+            Animal animal = animalBuilder.flyingStrategy(entry.getStrategy()).build();
+
+            // Execution
+            long result = bytesPerCall(item -> item.getFlyingMessage() != null, animal);
+
+            // Validation
+            assertEquals(0, result);
+        }
+    }
+
     /**
      * Unit tests for the getFlyingMessage method
      */
@@ -356,6 +746,82 @@ class AnimalTest {
             // Validation
             assertEquals(expectedFlyingStrategy.getFlyingMessage(), result);
         }
+
+        @ParameterizedTest
+        @EnumSource(FlyingStrategyRegistry.class)
+        public void getFlyingMessage_whenBuiltWithRegistryStrategy_returnsStrategyMessage(FlyingStrategyRegistry entry) {
+            // Setup
+            Animal animal = animalBuilder.flyingStrategy(entry.getStrategy()).build();
+
+            // Execution
+            String result = animal.getFlyingMessage();
+
+            // Validation
+            assertEquals(entry.getStrategy().getFlyingMessage(), result);
+        }
+
+        @Test
+        public void getFlyingMessage_whenStrategyReplaced_returnsNewStrategyMessage() {
+            // Setup
+            Animal animal = animalBuilder.flyingStrategy(new FlapWingsStrategy()).build();
+            animal.setFlyingStrategy(new AirplaneStrategy());
+
+            // Execution
+            String result = animal.getFlyingMessage();
+
+            // Validation
+            assertEquals(new AirplaneStrategy().getFlyingMessage(), result);
+        }
+
+        @Test
+        public void getFlyingMessage_whenStrategyCleared_returnsDefault() {
+            // Setup
+            Animal animal = animalBuilder.flyingStrategy(new FlapWingsStrategy()).build();
+            animal.setFlyingStrategy(null);
+
+            // Execution
+            String result = animal.getFlyingMessage();
+
+            // Validation
+            assertEquals(new UnableToFlyStrategy().getFlyingMessage(), result);
+        }
+
+        @Test
+        public void getFlyingMessage_whenCustomStrategy_returnsCustomMessage() {
+            // Setup
+            FlyingStrategy strategy = new FlyingStrategy() {
+                @Override
+                public String getFlyingMessage() {
+                    return "Ride the thermals.";
+                }
+            };
+            Animal animal = animalBuilder.flyingStrategy(strategy).build();
+
+            // Execution
+            String result = animal.getFlyingMessage();
+
+            // Validation
+            assertEquals("Ride the thermals.", result);
+        }
+
+        @Test
+        public void getFlyingMessage_whenRegistryStrategySubclass_returnsOverriddenMessage() {
+            // Setup
+            FlyingStrategy strategy = new FlapWingsStrategy() {
+                @Override
+                public String getFlyingMessage() {
+                    return "Flap wings and hover.";
+                }
+            };
+            Animal animal = animalBuilder.build();
+            animal.setFlyingStrategy(strategy);
+
+            // Execution
+            String result = animal.getFlyingMessage();
+
+            // Validation
+            assertEquals("Flap wings and hover.", result);
+        }
     }
 
     /**
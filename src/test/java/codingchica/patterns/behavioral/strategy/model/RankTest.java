@@ -0,0 +1,33 @@
+package codingchica.patterns.behavioral.strategy.model;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Unit tests for the codingchica.patterns.behavioral.strategy.model.Rank enum */
+class RankTest {
+    @ParameterizedTest
+    @EnumSource(value = Rank.class, names = {"SUB_ORDER", "INFRA_ORDER", "GENUS"})
+    public void isRequired_whenOptionalRank_thenFalse(Rank rank) {
+        // Setup
+
+        // Execution
+        boolean result = rank.isRequired();
+
+        // Validation
+        assertFalse(result);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = Rank.class, names = {"SUB_ORDER", "INFRA_ORDER", "GENUS"}, mode = EnumSource.Mode.EXCLUDE)
+    public void isRequired_whenRequiredRank_thenTrue(Rank rank) {
+        // Setup
+
+        // Execution
+        boolean result = rank.isRequired();
+
+        // Validation
+        assertTrue(result);
+    }
+}
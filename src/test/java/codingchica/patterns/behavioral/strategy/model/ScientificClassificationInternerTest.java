@@ -0,0 +1,241 @@
+package codingchica.patterns.behavioral.strategy.model;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Unit tests for the codingchica.patterns.behavioral.strategy.model.ScientificClassificationInterner class. */
+class ScientificClassificationInternerTest {
+    /** An isolated instance of the class under test. */
+    private final ScientificClassificationInterner interner = new ScientificClassificationInterner();
+
+    /**
+     * Build a classification, creating new Strings each time so that no references are shared between calls.
+     *
+     * @param speciesName The name of the species.
+     * @return A newly built ScientificClassification.
+     */
+    private static ScientificClassification classification(String speciesName) {
+        return ScientificClassification.builder()
+                .kingdomName(new String("Animalia"))
+                .phylumName(new String("Chordata"))
+                .className(new String("Mammalia"))
+                .orderName(new String("Rodentia"))
+                .familyName(new String("Sciuridae"))
+                .subFamilyName(new String("Sciuridae"))
+                .tribeName(new String("Pteromyini"))
+                .speciesName(new String(speciesName))
+                .build();
+    }
+
+    /** Unit tests for the getInstance method. */
+    @Nested
+    public class GetInstanceTest {
+        @Test
+        public void getInstance_whenInvoked_returnsSingleton() {
+            // Setup
+            ScientificClassificationInterner interner1 = ScientificClassificationInterner.getInstance();
+
+            // Execution
+            ScientificClassificationInterner interner2 = ScientificClassificationInterner.getInstance();
+
+            // Validation
+            assertNotNull(interner1, "interner1");
+            assertSame(interner1, interner2);
+        }
+    }
+
+    /** Unit tests for the intern method. */
+    @Nested
+    public class InternTest {
+        @Test
+        public void intern_whenNull_thenExceptionThrown() {
+            // Setup
+
+            // Execution
+            Executable executable = () -> interner.intern(null);
+
+            // Validation
+            assertThrows(NullPointerException.class, executable);
+        }
+
+        @Test
+        public void intern_whenFirstOfItsValue_thenSameInstanceReturned() {
+            // Setup
+            ScientificClassification classification = classification("Glaucomys sabrinus");
+
+            // Execution
+            ScientificClassification result = interner.intern(classification);
+
+            // Validation
+            assertSame(classification, result);
+            assertEquals(1, interner.size(), "size");
+        }
+
+        @Test
+        public void intern_whenValueEqualAlreadyInterned_thenCanonicalInstanceReturned() {
+            // Setup
+            ScientificClassification canonical = interner.intern(classification("Glaucomys sabrinus"));
+            ScientificClassification copy = classification("Glaucomys sabrinus");
+
+            // Execution
+            ScientificClassification result = interner.intern(copy);
+
+            // Validation
+            assertNotSame(copy, result);
+            assertSame(canonical, result);
+            assertEquals(1, interner.size(), "size");
+        }
+
+        @Test
+        public void intern_whenValuesDiffer_thenEachIsCanonical() {
+            // Setup
+            ScientificClassification classification1 = classification("Glaucomys sabrinus");
+            ScientificClassification classification2 = classification("Glaucomys volans");
+
+            // Execution
+            ScientificClassification result1 = interner.intern(classification1);
+            ScientificClassification result2 = interner.intern(classification2);
+
+            // Validation
+            assertSame(classification1, result1);
+            assertSame(classification2, result2);
+            assertEquals(2, interner.size(), "size");
+        }
+
+        @Test
+        public void intern_whenCanonicalInstanceUnreachable_thenEntryRemoved() throws InterruptedException {
+            // Setup
+            WeakReference<ScientificClassification> reference =
+                    new WeakReference<>(interner.intern(classification("Glaucomys sabrinus")));
+
+            // Execution
+            for (int i = 0; i < 50 && (reference.get() != null || interner.size() != 0); i++) {
+                System.gc();
+                Thread.sleep(10);
+            }
+
+            // Validation
+            assertNull(reference.get(), "reference.get()");
+            assertEquals(0, interner.size(), "size");
+        }
+
+        @Test
+        public void intern_whenCanonicalInstanceCollectedDuringLookup_thenReplaced() {
+            // Setup
+            ScientificClassification collected = classification("Glaucomys sabrinus");
+            // Simulates the garbage collector clearing the reference between the map lookup and the get() call.
+            ScientificClassificationInterner.WeakKey staleKey = new ScientificClassificationInterner.WeakKey(collected, null) {
+                private int calls;
+
+                @Override
+                public ScientificClassification get() {
+                    return calls++ == 0 ? super.get() : null;
+                }
+            };
+            interner.table.put(staleKey, staleKey);
+            ScientificClassification classification = classification("Glaucomys sabrinus");
+
+            // Execution
+            ScientificClassification result = interner.intern(classification);
+
+            // Validation
+            assertSame(classification, result);
+            assertFalse(interner.table.containsKey(staleKey), "containsKey(staleKey)");
+            assertEquals(1, interner.size(), "size");
+        }
+
+        @Test
+        public void intern_whenCalledConcurrently_thenOneCanonicalInstance() throws Exception {
+            // Setup
+            int threadCount = 8;
+            ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<ScientificClassification>> futures = new ArrayList<>();
+            try {
+                for (int i = 0; i < threadCount; i++) {
+                    futures.add(executorService.submit(() -> {
+                        start.await();
+                        return interner.intern(classification("Glaucomys sabrinus"));
+                    }));
+                }
+
+                // Execution
+                start.countDown();
+
+                // Validation
+                ScientificClassification first = futures.get(0).get();
+                for (Future<ScientificClassification> future : futures) {
+                    assertSame(first, future.get());
+                }
+            } finally {
+                executorService.shutdownNow();
+            }
+        }
+    }
+
+    /** Unit tests for the WeakKey class. */
+    @Nested
+    public class WeakKeyTest {
+        @Test
+        public void hashCode_whenReferentCollected_thenUnchanged() {
+            // Setup
+            ScientificClassification classification = classification("Glaucomys sabrinus");
+            ScientificClassificationInterner.WeakKey key = new ScientificClassificationInterner.WeakKey(classification, null);
+
+            // Execution
+            key.clear();
+
+            // Validation
+            assertEquals(classification.hashCode(), key.hashCode());
+        }
+
+        @Test
+        public void equals_whenReferentsEqual_thenTrue() {
+            // Setup
+            ScientificClassification classification1 = classification("Glaucomys sabrinus");
+            ScientificClassification classification2 = classification("Glaucomys sabrinus");
+
+            // Execution
+            ScientificClassificationInterner.WeakKey key1 = new ScientificClassificationInterner.WeakKey(classification1, null);
+            ScientificClassificationInterner.WeakKey key2 = new ScientificClassificationInterner.WeakKey(classification2, null);
+
+            // Validation
+            assertEquals(key1, key2);
+        }
+
+        @Test
+        public void equals_whenReferentCollected_thenFalse() {
+            // Setup
+            ScientificClassification classification = classification("Glaucomys sabrinus");
+            ScientificClassificationInterner.WeakKey key1 = new ScientificClassificationInterner.WeakKey(classification, null);
+            ScientificClassificationInterner.WeakKey key2 = new ScientificClassificationInterner.WeakKey(classification, null);
+
+            // Execution
+            key1.clear();
+
+            // Validation
+            assertFalse(key1.equals(key2), "key1.equals(key2)");
+            assertFalse(key2.equals(key1), "key2.equals(key1)");
+        }
+
+        @Test
+        public void equals_whenOtherObjectNotWeakKey_thenFalse() {
+            // Setup
+            ScientificClassification classification = classification("Glaucomys sabrinus");
+
+            // Execution
+            ScientificClassificationInterner.WeakKey key = new ScientificClassificationInterner.WeakKey(classification, null);
+
+            // Validation
+            assertFalse(key.equals(classification), "equals");
+        }
+    }
+}
@@ -3,16 +3,24 @@ package codingchica.patterns.behavioral.strategy.model;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.platform.commons.util.ReflectionUtils;
 
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.api.Assumptions.assumeFalse;
@@ -234,6 +242,28 @@ class ScientificClassificationTest {
             }
         }
 
+        /**
+         * Unit tests exercising the buildInterned method.
+         */
+        @Nested
+        public class BuildInternedTest {
+            @Test
+            public void buildInterned_whenValueEqualBuildersUsed_thenSameInstanceReturned() {
+                // Setup
+                populateAllFields(builder);
+                ScientificClassification.Builder builder2 = ScientificClassification.builder();
+                populateAllFields(builder2);
+
+                // Execution
+                ScientificClassification classification1 = builder.buildInterned();
+                ScientificClassification classification2 = builder2.buildInterned();
+
+                // Validation
+                assertSame(classification1, classification2);
+                assertEquals(builder.build(), classification1);
+            }
+        }
+
         /**
          * Unit tests exercising Animal.Builder.toString method.
          */
@@ -320,4 +350,352 @@ class ScientificClassificationTest {
             assertEquals("ScientificClassification(kingdomName=kingdom, phylumName=phylum, className=class, orderName=order, subOrderName=null, infraOrder=null, speciesName=species, familyName=family, subFamilyName=subFamily, tribeName=tribe, genusName=null)", result);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Setters for every field on the builder, including those not covered by ScientificClassificationField.
+     *
+     * @return A stream of arguments, each holding a field name and the builder setter for that field.
+     */
+    private static Stream<Arguments> allBuilderSetters() {
+        return Stream.of(
+                Arguments.of("kingdomName", (BiConsumer<ScientificClassification.Builder, String>) ScientificClassification.Builder::kingdomName),
+                Arguments.of("phylumName", (BiConsumer<ScientificClassification.Builder, String>) ScientificClassification.Builder::phylumName),
+                Arguments.of("className", (BiConsumer<ScientificClassification.Builder, String>) ScientificClassification.Builder::className),
+                Arguments.of("orderName", (BiConsumer<ScientificClassification.Builder, String>) ScientificClassification.Builder::orderName),
+                Arguments.of("subOrderName", (BiConsumer<ScientificClassification.Builder, String>) ScientificClassification.Builder::subOrderName),
+                Arguments.of("infraOrder", (BiConsumer<ScientificClassification.Builder, String>) ScientificClassification.Builder::infraOrder),
+                Arguments.of("speciesName", (BiConsumer<ScientificClassification.Builder, String>) ScientificClassification.Builder::speciesName),
+                Arguments.of("familyName", (BiConsumer<ScientificClassification.Builder, String>) ScientificClassification.Builder::familyName),
+                Arguments.of("subFamilyName", (BiConsumer<ScientificClassification.Builder, String>) ScientificClassification.Builder::subFamilyName),
+                Arguments.of("tribeName", (BiConsumer<ScientificClassification.Builder, String>) ScientificClassification.Builder::tribeName),
+                Arguments.of("genusName", (BiConsumer<ScientificClassification.Builder, String>) ScientificClassification.Builder::genusName));
+    }
+
+    /**
+     * Build a classification with every field populated, overriding a single field.
+     *
+     * @param setter The setter for the field to override.
+     * @param value  The value to give that field.
+     * @return A newly built ScientificClassification.
+     */
+    private static ScientificClassification buildWith(BiConsumer<ScientificClassification.Builder, String> setter, String value) {
+        ScientificClassification.Builder builder = ScientificClassification.builder()
+                .kingdomName("kingdom")
+                .phylumName("phylum")
+                .className("class")
+                .orderName("order")
+                .subOrderName("subOrder")
+                .infraOrder("infraOrder")
+                .speciesName("species")
+                .familyName("family")
+                .subFamilyName("subFamily")
+                .tribeName("tribe")
+                .genusName("genus");
+        setter.accept(builder, value);
+        return builder.build();
+    }
+
+    /**
+     * The hashes HashCodeBuilder.reflectionHashCode gave, before the hash was cached, for the classification buildWith
+     * builds for each field, keyed by field name.
+     */
+    private static final Map<String, Integer> BASELINE_HASHES = Map.ofEntries(
+            Map.entry("kingdomName", 193776408),
+            Map.entry("phylumName", -718176448),
+            Map.entry("className", 521627368),
+            Map.entry("orderName", -1837266308),
+            Map.entry("subOrderName", 1789213276),
+            Map.entry("infraOrder", -1267360155),
+            Map.entry("speciesName", -1971288300),
+            Map.entry("familyName", -1151981444),
+            Map.entry("subFamilyName", -900583608),
+            Map.entry("tribeName", 1696024768),
+            Map.entry("genusName", -708104352));
+
+    /**
+     * Build a classification with a genus and species name used nowhere else, and let it become unreachable.
+     *
+     * @return Weak references to the genus name and the species name.
+     */
+    private static List<WeakReference<String>> buildUnreachableWithUniqueNames() {
+        String genusName = "Uniquegenus" + System.nanoTime();
+        String speciesName = genusName + " unicus";
+        ScientificClassification.builder()
+                .kingdomName("kingdom")
+                .phylumName("phylum")
+                .className("class")
+                .orderName("order")
+                .familyName("family")
+                .subFamilyName("subFamily")
+                .tribeName("tribe")
+                .genusName(genusName)
+                .speciesName(speciesName)
+                .build();
+        return List.of(new WeakReference<>(genusName), new WeakReference<>(speciesName));
+    }
+
+    /**
+     * Unit tests for the getRank and getRankId methods.
+     */
+    @Nested
+    public class GetRankTest {
+        @ParameterizedTest(name = "{0}")
+        @MethodSource("codingchica.patterns.behavioral.strategy.model.ScientificClassificationTest#allBuilderSetters")
+        public void getRank_whenPopulated_thenMatchesGetter(String fieldName, BiConsumer<ScientificClassification.Builder, String> setter) {
+            // Setup
+            ScientificClassification classification = buildWith(setter, "valueFor" + fieldName);
+            ScientificClassification other = buildWith(setter, "valueFor" + fieldName);
+
+            // Execution
+            String[] ranks = Arrays.stream(Rank.values()).map(classification::getRank).toArray(String[]::new);
+
+            // Validation
+            assertArrayEquals(new String[]{classification.getKingdomName(), classification.getPhylumName(),
+                    classification.getClassName(), classification.getOrderName(), classification.getSubOrderName(),
+                    classification.getInfraOrder(), classification.getFamilyName(), classification.getSubFamilyName(),
+                    classification.getTribeName(), classification.getGenusName(), classification.getSpeciesName()},
+                    ranks, fieldName);
+            assertTrue(Arrays.asList(ranks).contains("valueFor" + fieldName), fieldName);
+            for (Rank rank : Rank.values()) {
+                assertTrue(classification.hasRank(rank) || classification.getRank(rank) == null, rank.name());
+                if (ScientificClassification.isDictionaryEncoded(rank) && classification.hasRank(rank)) {
+                    assertEquals(classification.getRankId(rank), other.getRankId(rank), rank.name());
+                    assertEquals(classification.getRank(rank),
+                            TaxonomyDictionary.getInstance().valueOf(classification.getRankId(rank)), rank.name());
+                }
+            }
+        }
+
+        @Test
+        public void getRank_whenUnset_thenNullAndNoId() {
+            // Setup
+            populateAllFields(builder);
+            builder.genusName(null);
+            ScientificClassification classification = builder.build();
+
+            // Execution
+            String genus = classification.getRank(Rank.GENUS);
+            String subOrder = classification.getRank(Rank.SUB_ORDER);
+
+            // Validation
+            assertNull(genus, "genus");
+            assertFalse(classification.hasRank(Rank.GENUS), "hasRank genus");
+            assertNull(subOrder, "subOrder");
+            assertFalse(classification.hasRank(Rank.SUB_ORDER), "hasRank subOrder");
+            assertEquals(TaxonomyDictionary.NO_ID, classification.getRankId(Rank.SUB_ORDER), "rankId");
+        }
+
+        @ParameterizedTest
+        @EnumSource(value = Rank.class, names = {"GENUS", "SPECIES"})
+        public void getRankId_whenNotDictionaryEncoded_thenExceptionThrown(Rank rank) {
+            // Setup
+            populateAllFields(builder);
+            ScientificClassification classification = builder.build();
+
+            // Execution
+            Executable executable = () -> classification.getRankId(rank);
+
+            // Validation
+            assertFalse(ScientificClassification.isDictionaryEncoded(rank), "isDictionaryEncoded");
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, executable);
+            assertEquals(rank + " values are not dictionary-encoded", exception.getMessage());
+        }
+
+        @ParameterizedTest
+        @EnumSource(value = Rank.class, names = {"GENUS", "SPECIES"}, mode = EnumSource.Mode.EXCLUDE)
+        public void isDictionaryEncoded_whenRankAboveGenus_thenTrue(Rank rank) {
+            // Setup
+
+            // Execution
+            boolean result = ScientificClassification.isDictionaryEncoded(rank);
+
+            // Validation
+            assertTrue(result);
+        }
+
+        @Test
+        public void build_whenUniqueGenusAndSpecies_thenNamesCollectedWithClassification() throws InterruptedException {
+            // Setup
+            int dictionarySize = TaxonomyDictionary.getInstance().size();
+            List<WeakReference<String>> references = buildUnreachableWithUniqueNames();
+
+            // Execution
+            for (int i = 0; i < 50 && references.stream().anyMatch(reference -> reference.get() != null); i++) {
+                System.gc();
+                Thread.sleep(10);
+            }
+
+            // Validation
+            assertNull(references.get(0).get(), "genus");
+            assertNull(references.get(1).get(), "species");
+            assertEquals(dictionarySize, TaxonomyDictionary.getInstance().size(), "dictionary size");
+        }
+
+        @Test
+        public void getRank_whenNullRank_thenExceptionThrown() {
+            // Setup
+            populateAllFields(builder);
+            ScientificClassification classification = builder.build();
+
+            // Execution
+            Executable getRank = () -> classification.getRank(null);
+            Executable getRankId = () -> classification.getRankId(null);
+
+            // Validation
+            assertThrows(NullPointerException.class, getRank, "getRank");
+            assertThrows(NullPointerException.class, getRankId, "getRankId");
+        }
+    }
+
+    /**
+     * Unit tests exercising the equals and hashCode methods.
+     */
+    @Nested
+    public class EqualsAndHashCodeTest {
+        @ParameterizedTest(name = "{0}")
+        @MethodSource("codingchica.patterns.behavioral.strategy.model.ScientificClassificationTest#allBuilderSetters")
+        public void hashCode_whenInvoked_thenMatchesBaselineHash(String fieldName, BiConsumer<ScientificClassification.Builder, String> setter) {
+            // Setup
+            ScientificClassification classification = buildWith(setter, "valueFor" + fieldName);
+
+            // Execution
+            int result = classification.hashCode();
+
+            // Validation
+            assertEquals(BASELINE_HASHES.get(fieldName), result, fieldName);
+        }
+
+        @Test
+        public void hashCode_whenEveryFieldPopulated_thenMatchesBaselineHash() {
+            // Setup
+            ScientificClassification classification = buildWith((unused, value) -> { }, null);
+
+            // Execution
+            int result = classification.hashCode();
+
+            // Validation
+            assertEquals(1164416941, result);
+        }
+
+        @Test
+        public void hashCode_whenOptionalFieldsNull_thenMatchesBaselineHash() {
+            // Setup
+            populateAllFields(builder);
+            builder.genusName(null);
+            ScientificClassification classification = builder.build();
+
+            // Execution
+            int result = classification.hashCode();
+
+            // Validation
+            assertEquals(24967507, result);
+        }
+
+        @Test
+        public void hashCode_whenHuman_thenMatchesBaselineHash() {
+            // Setup
+            ScientificClassification classification = ScientificClassification.builder()
+                    .kingdomName("Animalia")
+                    .phylumName("Chordata")
+                    .className("Mammalia")
+                    .orderName("Primates")
+                    .subOrderName("Haplorhini")
+                    .infraOrder("Simiformes")
+                    .familyName("Hominidae")
+                    .subFamilyName("Homininae")
+                    .tribeName("Hominini")
+                    .genusName("Homo")
+                    .speciesName("Homo sapiens")
+                    .build();
+
+            // Execution
+            int result = classification.hashCode();
+
+            // Validation
+            assertEquals(-247500447, result);
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @MethodSource("codingchica.patterns.behavioral.strategy.model.ScientificClassificationTest#allBuilderSetters")
+        public void equals_whenFieldValuesSame_thenEqual(String fieldName, BiConsumer<ScientificClassification.Builder, String> setter) {
+            // Setup
+            ScientificClassification classification1 = buildWith(setter, "valueFor" + fieldName);
+
+            // Execution
+            ScientificClassification classification2 = buildWith(setter, "valueFor" + fieldName);
+
+            // Validation
+            assertNotSame(classification1, classification2);
+            assertEquals(classification1, classification2, fieldName);
+            assertEquals(classification2, classification1, fieldName);
+            assertTrue(EqualsBuilder.reflectionEquals(classification1, classification2), "reflectionEquals");
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @MethodSource("codingchica.patterns.behavioral.strategy.model.ScientificClassificationTest#allBuilderSetters")
+        public void equals_whenFieldValuesDifferWithSameHash_thenNotEqual(String fieldName, BiConsumer<ScientificClassification.Builder, String> setter) {
+            // Setup
+            // "Aa" and "BB" share a String hashCode, so the cached hashes match and the field comparison decides.
+            ScientificClassification classification1 = buildWith(setter, "Aa");
+
+            // Execution
+            ScientificClassification classification2 = buildWith(setter, "BB");
+
+            // Validation
+            assertEquals(classification1.hashCode(), classification2.hashCode(), "hashCode");
+            assertNotEquals(classification1, classification2, fieldName);
+            assertNotEquals(classification2, classification1, fieldName);
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @MethodSource("codingchica.patterns.behavioral.strategy.model.ScientificClassificationTest#allBuilderSetters")
+        public void equals_whenFieldValuesDiffer_thenNotEqualAndHashCodesDiffer(String fieldName, BiConsumer<ScientificClassification.Builder, String> setter) {
+            // Setup
+            ScientificClassification classification1 = buildWith(setter, "value1");
+
+            // Execution
+            ScientificClassification classification2 = buildWith(setter, "value2");
+
+            // Validation
+            assertNotEquals(classification1, classification2, fieldName);
+            assertNotEquals(classification1.hashCode(), classification2.hashCode(), "hashCode");
+            assertFalse(EqualsBuilder.reflectionEquals(classification1, classification2), "reflectionEquals");
+        }
+
+        @Test
+        public void equals_whenObjectsSame_thenEqual() {
+            // Setup
+            populateAllFields(builder);
+
+            // Execution
+            ScientificClassification classification = builder.build();
+
+            // Validation
+            assertTrue(classification.equals(classification), "equals");
+        }
+
+        @Test
+        public void equals_whenOtherObjectNull_thenNotEqual() {
+            // Setup
+            populateAllFields(builder);
+
+            // Execution
+            ScientificClassification classification = builder.build();
+
+            // Validation
+            assertFalse(classification.equals(null), "equals");
+        }
+
+        @Test
+        public void equals_whenOtherObjectNotScientificClassification_thenNotEqual() {
+            // Setup
+            populateAllFields(builder);
+
+            // Execution
+            ScientificClassification classification = builder.build();
+
+            // Validation
+            assertFalse(classification.equals("Some other class"), "equals");
+        }
+    }
+}
@@ -0,0 +1,379 @@
+package codingchica.patterns.behavioral.strategy.model;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Unit tests for the codingchica.patterns.behavioral.strategy.model.TaxonomyAncestry class */
+class TaxonomyAncestryTest {
+    private static final ScientificClassification HUMAN = ScientificClassification.builder()
+            .kingdomName("Animalia")
+            .phylumName("Chordata")
+            .className("Mammalia")
+            .orderName("Primates")
+            .subOrderName("Haplorhini")
+            .infraOrder("Simiformes")
+            .familyName("Hominidae")
+            .subFamilyName("Homininae")
+            .tribeName("Hominini")
+            .genusName("Homo")
+            .speciesName("Homo sapiens")
+            .build();
+    private static final ScientificClassification NORTHERN_FLYING_SQUIRREL = squirrel("Glaucomys", "sabrinus");
+    private static final ScientificClassification SOUTHERN_FLYING_SQUIRREL = squirrel("Glaucomys", "volans");
+    private static final ScientificClassification SIBERIAN_FLYING_SQUIRREL = squirrel("Pteromys", "volans");
+    private static final ScientificClassification HONEY_BEE = ScientificClassification.builder()
+            .kingdomName("Animalia")
+            .phylumName("Arthropoda")
+            .className("Insecta")
+            .orderName("Hymenoptera")
+            .subOrderName("Apocrita")
+            .familyName("Apidae")
+            .subFamilyName("Apinae")
+            .tribeName("Apini")
+            .genusName("Apis")
+            .speciesName("Apis mellifera")
+            .build();
+    private static final ScientificClassification SUNFLOWER = ScientificClassification.builder()
+            .kingdomName("Plantae")
+            .phylumName("Tracheophyta")
+            .className("Magnoliopsida")
+            .orderName("Asterales")
+            .familyName("Asteraceae")
+            .subFamilyName("Asteroideae")
+            .tribeName("Heliantheae")
+            .genusName("Helianthus")
+            .speciesName("Helianthus annuus")
+            .build();
+
+    private final TaxonomyAncestry ancestry = TaxonomyAncestry.of(TaxonomyIndex.of(List.of(HUMAN,
+            NORTHERN_FLYING_SQUIRREL, SOUTHERN_FLYING_SQUIRREL, SIBERIAN_FLYING_SQUIRREL, HONEY_BEE, SUNFLOWER)));
+
+    /**
+     * Build a flying squirrel classification, which has no sub-order or infra-order.
+     *
+     * @param genus   The genus.
+     * @param epithet The second part of the species name.
+     * @return The classification.
+     */
+    private static ScientificClassification squirrel(String genus, String epithet) {
+        return ScientificClassification.builder()
+                .kingdomName("Animalia")
+                .phylumName("Chordata")
+                .className("Mammalia")
+                .orderName("Rodentia")
+                .familyName("Sciuridae")
+                .subFamilyName("Sciurinae")
+                .tribeName("Pteromyini")
+                .genusName(genus)
+                .speciesName(genus + " " + epithet)
+                .build();
+    }
+
+    /**
+     * Pairs of species, with their lowest shared rank and value, and the distance between them.
+     *
+     * @return A stream of arguments.
+     */
+    private static Stream<Arguments> pairs() {
+        return Stream.of(
+                Arguments.of(HUMAN, NORTHERN_FLYING_SQUIRREL, Rank.CLASS, "Mammalia", 14),
+                Arguments.of(SIBERIAN_FLYING_SQUIRREL, HUMAN, Rank.CLASS, "Mammalia", 14),
+                Arguments.of(NORTHERN_FLYING_SQUIRREL, SOUTHERN_FLYING_SQUIRREL, Rank.GENUS, "Glaucomys", 2),
+                Arguments.of(NORTHERN_FLYING_SQUIRREL, SIBERIAN_FLYING_SQUIRREL, Rank.TRIBE, "Pteromyini", 4),
+                Arguments.of(HONEY_BEE, HUMAN, Rank.KINGDOM, "Animalia", 19),
+                Arguments.of(HUMAN, HUMAN, Rank.SPECIES, "Homo sapiens", 0),
+                Arguments.of(squirrel("Glaucomys", "volans"), SOUTHERN_FLYING_SQUIRREL, Rank.SPECIES,
+                        "Glaucomys volans", 0));
+    }
+
+    /**
+     * Find the lowest common ancestor by walking up from both species, for comparison.
+     *
+     * @param index  The index.
+     * @param first  The first species.
+     * @param second The second species.
+     * @return The ancestor, or empty if the species are in different kingdoms.
+     */
+    private static Optional<TaxonomyNode> walk(TaxonomyIndex index, ScientificClassification first,
+                                               ScientificClassification second) {
+        List<TaxonomyNode> firstPath = path(index, first);
+        List<TaxonomyNode> secondPath = path(index, second);
+        TaxonomyNode ancestor = null;
+        for (int i = 0; i < Math.min(firstPath.size(), secondPath.size()) && firstPath.get(i) == secondPath.get(i);
+             i++) {
+            ancestor = firstPath.get(i);
+        }
+        return Optional.ofNullable(ancestor);
+    }
+
+    /**
+     * Find the taxa from the kingdom down to a species.
+     *
+     * @param index          The index.
+     * @param classification The species.
+     * @return The taxa, kingdom first.
+     */
+    private static List<TaxonomyNode> path(TaxonomyIndex index, ScientificClassification classification) {
+        List<TaxonomyNode> path = new ArrayList<>();
+        Optional<TaxonomyNode> node = index.getNodes(Rank.SPECIES, classification.getSpeciesName()).stream()
+                .filter(candidate -> index.getClassifications(candidate).get(0).equals(classification))
+                .findFirst();
+        while (node.isPresent()) {
+            path.add(node.get());
+            node = node.get().getParent();
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    /** Unit tests for the lowestCommonAncestor, lowestCommonRank and distance methods. */
+    @Nested
+    public class PairTest {
+        @ParameterizedTest
+        @MethodSource("codingchica.patterns.behavioral.strategy.model.TaxonomyAncestryTest#pairs")
+        public void lowestCommonAncestor_whenSameKingdom_thenSharedTaxonReturned(
+                ScientificClassification first, ScientificClassification second, Rank rank, String name,
+                int distance) {
+            // Setup
+
+            // Execution
+            TaxonomyNode result = ancestry.lowestCommonAncestor(first, second).orElseThrow();
+
+            // Validation
+            assertEquals(rank, result.getRank(), "rank");
+            assertEquals(name, result.getName(), "name");
+        }
+
+        @ParameterizedTest
+        @MethodSource("codingchica.patterns.behavioral.strategy.model.TaxonomyAncestryTest#pairs")
+        public void lowestCommonRank_whenSameKingdom_thenRankReturned(
+                ScientificClassification first, ScientificClassification second, Rank rank, String name,
+                int distance) {
+            // Setup
+
+            // Execution
+            Optional<Rank> result = ancestry.lowestCommonRank(first, second);
+
+            // Validation
+            assertEquals(Optional.of(rank), result);
+        }
+
+        @ParameterizedTest
+        @MethodSource("codingchica.patterns.behavioral.strategy.model.TaxonomyAncestryTest#pairs")
+        public void distance_whenSameKingdom_thenStepsReturned(
+                ScientificClassification first, ScientificClassification second, Rank rank, String name,
+                int distance) {
+            // Setup
+
+            // Execution
+            int result = ancestry.distance(first, second);
+
+            // Validation
+            assertEquals(distance, result);
+        }
+
+        @Test
+        public void lowestCommonRank_whenDifferentKingdoms_thenEmptyAndJoinedAboveKingdoms() {
+            // Setup
+
+            // Execution
+            Optional<Rank> rank = ancestry.lowestCommonRank(SUNFLOWER, HUMAN);
+            Optional<TaxonomyNode> ancestor = ancestry.lowestCommonAncestor(HUMAN, SUNFLOWER);
+            int distance = ancestry.distance(HUMAN, SUNFLOWER);
+
+            // Validation
+            assertEquals(Optional.empty(), rank, "rank");
+            assertEquals(Optional.empty(), ancestor, "ancestor");
+            assertEquals(20, distance, "distance");
+        }
+
+        @Test
+        public void distance_whenNotIndexed_thenExceptionThrown() {
+            // Setup
+            ScientificClassification marmot = squirrel("Marmota", "monax");
+
+            // Execution
+            Executable executable = () -> ancestry.distance(HUMAN, marmot);
+
+            // Validation
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, executable);
+            assertEquals("Species not in the taxonomy index: " + marmot, exception.getMessage());
+        }
+
+        @Test
+        public void lowestCommonRank_whenSingleSpecies_thenSpeciesReturned() {
+            // Setup
+            TaxonomyAncestry single = TaxonomyAncestry.of(TaxonomyIndex.of(List.of(HONEY_BEE)));
+
+            // Execution
+            Optional<Rank> result = single.lowestCommonRank(HONEY_BEE, HONEY_BEE);
+
+            // Validation
+            assertEquals(Optional.of(Rank.SPECIES), result);
+        }
+
+        @Test
+        public void lowestCommonRank_whenEmptyIndex_thenExceptionThrown() {
+            // Setup
+            TaxonomyAncestry empty = TaxonomyAncestry.of(TaxonomyIndex.of(List.of()));
+
+            // Execution
+            Executable executable = () -> empty.lowestCommonRank(HONEY_BEE, HONEY_BEE);
+
+            // Validation
+            assertThrows(IllegalArgumentException.class, executable);
+        }
+
+        @Test
+        public void lowestCommonAncestor_whenManySpecies_thenMatchesWalk() {
+            // Setup
+            Random random = new Random(42);
+            List<ScientificClassification> classifications = new ArrayList<>();
+            for (int i = 0; i < 1_000; i++) {
+                classifications.add(ScientificClassification.builder()
+                        .kingdomName("Kingdom" + random.nextInt(2))
+                        .phylumName("Phylum" + random.nextInt(3))
+                        .className("Class" + random.nextInt(3))
+                        .orderName("Order" + random.nextInt(4))
+                        .subOrderName(random.nextBoolean() ? null : "SubOrder" + random.nextInt(2))
+                        .familyName("Family" + random.nextInt(3))
+                        .subFamilyName("SubFamily" + random.nextInt(2))
+                        .tribeName("Tribe" + random.nextInt(2))
+                        .genusName(random.nextBoolean() ? null : "Genus" + random.nextInt(3))
+                        .speciesName("Species" + i)
+                        .build());
+            }
+            TaxonomyIndex index = TaxonomyIndex.of(classifications);
+            TaxonomyAncestry manyAncestry = TaxonomyAncestry.of(index);
+
+            // Execution & Validation
+            for (int i = 0; i < 2_000; i++) {
+                ScientificClassification first = classifications.get(random.nextInt(classifications.size()));
+                ScientificClassification second = classifications.get(random.nextInt(classifications.size()));
+                Optional<TaxonomyNode> expected = walk(index, first, second);
+                assertEquals(expected, manyAncestry.lowestCommonAncestor(first, second), first + " " + second);
+                int firstDepth = path(index, first).size();
+                int secondDepth = path(index, second).size();
+                int commonDepth = expected.map(node -> path(index, index.getClassifications(node).get(0))
+                        .indexOf(node) + 1).orElse(0);
+                assertEquals(firstDepth + secondDepth - 2 * commonDepth, manyAncestry.distance(first, second),
+                        "distance");
+            }
+        }
+
+        @Test
+        public void lowestCommonAncestor_whenNullArguments_thenExceptionThrown() {
+            // Setup
+
+            // Execution
+            List<Executable> executables = List.of(
+                    () -> TaxonomyAncestry.of(null),
+                    () -> ancestry.lowestCommonAncestor(null, HUMAN),
+                    () -> ancestry.lowestCommonAncestor(HUMAN, null),
+                    () -> ancestry.lowestCommonRank(null, HUMAN),
+                    () -> ancestry.lowestCommonRank(HUMAN, null),
+                    () -> ancestry.distance(null, HUMAN),
+                    () -> ancestry.distance(HUMAN, null));
+
+            // Validation
+            executables.forEach(executable -> assertThrows(NullPointerException.class, executable));
+        }
+    }
+
+    /** Unit tests for the lowestCommonRanks and distances methods. */
+    @Nested
+    public class BatchTest {
+        private final List<ScientificClassification> first = new ArrayList<>();
+        private final List<ScientificClassification> second = new ArrayList<>();
+
+        /**
+         * Fill the batch with every pair of the indexed species, many times over.
+         */
+        private void fillBatch() {
+            List<ScientificClassification> species = List.of(HUMAN, NORTHERN_FLYING_SQUIRREL,
+                    SOUTHERN_FLYING_SQUIRREL, SIBERIAN_FLYING_SQUIRREL, HONEY_BEE, SUNFLOWER);
+            for (int repeat = 0; repeat < 100; repeat++) {
+                for (ScientificClassification a : species) {
+                    for (ScientificClassification b : species) {
+                        first.add(a);
+                        second.add(b);
+                    }
+                }
+            }
+        }
+
+        @Test
+        public void lowestCommonRanks_whenInvoked_thenMatchesPairs() {
+            // Setup
+            fillBatch();
+
+            // Execution
+            Rank[] result = ancestry.lowestCommonRanks(first, second);
+
+            // Validation
+            assertEquals(first.size(), result.length, "length");
+            for (int i = 0; i < result.length; i++) {
+                assertEquals(ancestry.lowestCommonRank(first.get(i), second.get(i)).orElse(null), result[i],
+                        "index " + i);
+            }
+        }
+
+        @Test
+        public void distances_whenInvoked_thenMatchesPairs() {
+            // Setup
+            fillBatch();
+
+            // Execution
+            int[] result = ancestry.distances(first, second);
+
+            // Validation
+            assertEquals(first.size(), result.length, "length");
+            for (int i = 0; i < result.length; i++) {
+                assertEquals(ancestry.distance(first.get(i), second.get(i)), result[i], "index " + i);
+            }
+        }
+
+        @Test
+        public void distances_whenSizesDiffer_thenExceptionThrown() {
+            // Setup
+            first.add(HUMAN);
+
+            // Execution
+            Executable distances = () -> ancestry.distances(first, second);
+            Executable ranks = () -> ancestry.lowestCommonRanks(first, second);
+
+            // Validation
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, distances);
+            assertEquals("Cannot pair 1 species with 0", exception.getMessage(), "message");
+            assertThrows(IllegalArgumentException.class, ranks, "ranks");
+        }
+
+        @Test
+        public void distances_whenNullArguments_thenExceptionThrown() {
+            // Setup
+
+            // Execution
+            List<Executable> executables = List.of(
+                    () -> ancestry.distances(null, second),
+                    () -> ancestry.distances(first, null),
+                    () -> ancestry.lowestCommonRanks(null, second),
+                    () -> ancestry.lowestCommonRanks(first, null));
+
+            // Validation
+            executables.forEach(executable -> assertThrows(NullPointerException.class, executable));
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package codingchica.patterns.behavioral.strategy.model;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Unit tests for the codingchica.patterns.behavioral.strategy.model.TaxonomyDictionary class */
+class TaxonomyDictionaryTest {
+    private final TaxonomyDictionary dictionary = new TaxonomyDictionary();
+
+    /** Unit tests for the getInstance method. */
+    @Nested
+    public class GetInstanceTest {
+        @Test
+        public void getInstance_whenInvokedTwice_thenSameInstanceReturned() {
+            // Setup
+
+            // Execution
+            TaxonomyDictionary result = TaxonomyDictionary.getInstance();
+
+            // Validation
+            assertSame(TaxonomyDictionary.getInstance(), result);
+        }
+    }
+
+    /** Unit tests for the idOf and valueOf methods. */
+    @Nested
+    public class IdOfTest {
+        @Test
+        public void idOf_whenNewValues_thenDenseIdsAssigned() {
+            // Setup
+
+            // Execution
+            int animalia = dictionary.idOf("Animalia");
+            int chordata = dictionary.idOf("Chordata");
+
+            // Validation
+            assertEquals(0, animalia, "animalia");
+            assertEquals(1, chordata, "chordata");
+            assertEquals(2, dictionary.size(), "size");
+        }
+
+        @Test
+        public void idOf_whenValueEqualString_thenSameIdAndCanonicalValue() {
+            // Setup
+            String value = new String("Animalia".toCharArray());
+            int id = dictionary.idOf(value);
+
+            // Execution
+            int result = dictionary.idOf(new String("Animalia".toCharArray()));
+
+            // Validation
+            assertEquals(id, result, "id");
+            assertSame(value, dictionary.valueOf(result), "canonical value");
+            assertEquals(1, dictionary.size(), "size");
+        }
+
+        @Test
+        public void idOf_whenManyValues_thenEachRoundTrips() {
+            // Setup
+            int count = TaxonomyDictionary.PAGE_SIZE * 3 + 5;
+
+            // Execution
+            for (int i = 0; i < count; i++) {
+                assertEquals(i, dictionary.idOf("Value " + i), "assigned");
+            }
+
+            // Validation
+            for (int i = 0; i < count; i++) {
+                assertEquals(i, dictionary.idOf("Value " + i), "found");
+                assertEquals("Value " + i, dictionary.valueOf(i), "value");
+            }
+            assertEquals(count, dictionary.size(), "size");
+        }
+
+        @Test
+        public void idOf_whenFull_thenKnownValuesFoundAndNewValueRejected() {
+            // Setup
+            TaxonomyDictionary full = new TaxonomyDictionary(2);
+            full.idOf("Animalia");
+            full.idOf("Chordata");
+
+            // Execution
+            Executable executable = () -> full.idOf("Mammalia");
+
+            // Validation
+            IllegalStateException exception = assertThrows(IllegalStateException.class, executable);
+            assertEquals("TaxonomyDictionary is full, with 2 values", exception.getMessage(), "message");
+            assertEquals(1, full.idOf("Chordata"), "known value");
+            assertEquals(2, full.size(), "size");
+        }
+
+        @Test
+        public void maximumSize_whenLargestIdStoredPlusOne_thenFitsInIdBits() {
+            // Setup
+            int largestId = TaxonomyDictionary.MAXIMUM_SIZE - 1;
+
+            // Execution
+            long stored = largestId + 1L;
+
+            // Validation
+            assertEquals(stored, stored & ((1L << TaxonomyDictionary.ID_BITS) - 1));
+        }
+
+        @Test
+        public void idOf_whenSameHash_thenDistinctIds() {
+            // Setup
+            // "Aa" and "BB" share a String hashCode, so they probe the same slot.
+            int first = dictionary.idOf("Aa");
+
+            // Execution
+            int second = dictionary.idOf("BB");
+
+            // Validation
+            assertNotEquals(first, second, "ids");
+            assertEquals(first, dictionary.idOf("Aa"), "first");
+            assertEquals(second, dictionary.idOf("BB"), "second");
+        }
+
+        @Test
+        public void idOf_whenManyThreads_thenEachValueGetsOneId() throws InterruptedException {
+            // Setup
+            int threadCount = 8;
+            int valueCount = 5_000;
+            int[][] ids = new int[threadCount][valueCount];
+            CountDownLatch start = new CountDownLatch(1);
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < threadCount; t++) {
+                int threadIndex = t;
+                Thread thread = new Thread(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    for (int i = 0; i < valueCount; i++) {
+                        // Each thread walks the values from a different starting point.
+                        int value = (i + threadIndex * 613) % valueCount;
+                        ids[threadIndex][value] = dictionary.idOf("Value " + value);
+                        assertEquals("Value " + value, dictionary.valueOf(ids[threadIndex][value]));
+                    }
+                });
+                thread.start();
+                threads.add(thread);
+            }
+
+            // Execution
+            start.countDown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            // Validation
+            assertEquals(valueCount, dictionary.size(), "size");
+            for (int t = 1; t < threadCount; t++) {
+                assertArrayEquals(ids[0], ids[t], "thread " + t);
+            }
+        }
+
+        @Test
+        public void idOf_whenNull_thenExceptionThrown() {
+            // Setup
+
+            // Execution
+            Executable executable = () -> dictionary.idOf(null);
+
+            // Validation
+            assertThrows(NullPointerException.class, executable);
+        }
+    }
+
+    /** Unit tests for the valueOf method. */
+    @Nested
+    public class ValueOfTest {
+        @ParameterizedTest
+        @ValueSource(ints = {-1, 1, TaxonomyDictionary.PAGE_SIZE, TaxonomyDictionary.PAGE_SIZE * 3 + 1,
+                Integer.MAX_VALUE})
+        public void valueOf_whenUnassigned_thenExceptionThrown(int id) {
+            // Setup
+            dictionary.idOf("Animalia");
+            for (int i = 0; id == TaxonomyDictionary.PAGE_SIZE * 3 + 1 && i <= TaxonomyDictionary.PAGE_SIZE * 2; i++) {
+                // Grow to four page slots with only three pages allocated, so the id falls in a missing page.
+                dictionary.idOf("Value " + i);
+            }
+
+            // Execution
+            Executable executable = () -> dictionary.valueOf(id);
+
+            // Validation
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, executable);
+            assertEquals("Unknown taxonomy dictionary id: " + id, exception.getMessage());
+        }
+    }
+}
@@ -0,0 +1,541 @@
+package codingchica.patterns.behavioral.strategy.model;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Unit tests for the codingchica.patterns.behavioral.strategy.model.TaxonomyIndex class */
+class TaxonomyIndexTest {
+    private static final ScientificClassification HUMAN = ScientificClassification.builder()
+            .kingdomName("Animalia")
+            .phylumName("Chordata")
+            .className("Mammalia")
+            .orderName("Primates")
+            .subOrderName("Haplorhini")
+            .infraOrder("Simiformes")
+            .familyName("Hominidae")
+            .subFamilyName("Homininae")
+            .tribeName("Hominini")
+            .genusName("Homo")
+            .speciesName("Homo sapiens")
+            .build();
+    private static final ScientificClassification NORTHERN_FLYING_SQUIRREL = squirrel("Glaucomys", "sabrinus");
+    private static final ScientificClassification SOUTHERN_FLYING_SQUIRREL = squirrel("Glaucomys", "volans");
+    private static final ScientificClassification SIBERIAN_FLYING_SQUIRREL = squirrel("Pteromys", "volans");
+    private static final ScientificClassification HONEY_BEE = ScientificClassification.builder()
+            .kingdomName("Animalia")
+            .phylumName("Arthropoda")
+            .className("Insecta")
+            .orderName("Hymenoptera")
+            .subOrderName("Apocrita")
+            .familyName("Apidae")
+            .subFamilyName("Apinae")
+            .tribeName("Apini")
+            .genusName("Apis")
+            .speciesName("Apis mellifera")
+            .build();
+
+    private final TaxonomyIndex index = TaxonomyIndex.of(List.of(HUMAN, NORTHERN_FLYING_SQUIRREL,
+            SOUTHERN_FLYING_SQUIRREL, SIBERIAN_FLYING_SQUIRREL, HONEY_BEE, squirrel("Glaucomys", "volans")));
+
+    /**
+     * Build a flying squirrel classification, which has no sub-order or infra-order.
+     *
+     * @param genus   The genus.
+     * @param epithet The second part of the species name.
+     * @return The classification.
+     */
+    private static ScientificClassification squirrel(String genus, String epithet) {
+        return ScientificClassification.builder()
+                .kingdomName("Animalia")
+                .phylumName("Chordata")
+                .className("Mammalia")
+                .orderName("Rodentia")
+                .familyName("Sciuridae")
+                .subFamilyName("Sciurinae")
+                .tribeName("Pteromyini")
+                .genusName(genus)
+                .speciesName(genus + " " + epithet)
+                .build();
+    }
+
+    /**
+     * Retrieve the only node for a rank value.
+     *
+     * @param rank The rank.
+     * @param name The rank value.
+     * @return The node.
+     */
+    private TaxonomyNode node(Rank rank, String name) {
+        List<TaxonomyNode> nodes = index.getNodes(rank, name);
+        assertEquals(1, nodes.size(), rank + " " + name);
+        return nodes.get(0);
+    }
+
+    /**
+     * Retrieve the names of nodes.
+     *
+     * @param nodes The nodes.
+     * @return The names, in the same order.
+     */
+    private static List<String> names(List<TaxonomyNode> nodes) {
+        return nodes.stream().map(TaxonomyNode::getName).collect(Collectors.toList());
+    }
+
+    /** Unit tests for the of method. */
+    @Nested
+    public class OfTest {
+        @Test
+        public void of_whenValueEqualClassifications_thenIndexedOnce() {
+            // Setup
+
+            // Execution
+            int result = index.size();
+
+            // Validation
+            assertEquals(5, result);
+        }
+
+        @Test
+        public void of_whenEmpty_thenNoKingdoms() {
+            // Setup
+
+            // Execution
+            TaxonomyIndex result = TaxonomyIndex.of(Collections.emptyList());
+
+            // Validation
+            assertEquals(0, result.size(), "size");
+            assertTrue(result.getKingdoms().isEmpty(), "kingdoms");
+            assertFalse(result.contains(Rank.KINGDOM, "Animalia"), "contains");
+        }
+
+        @Test
+        public void of_whenNull_thenExceptionThrown() {
+            // Setup
+
+            // Execution
+            Executable executable = () -> TaxonomyIndex.of(null);
+
+            // Validation
+            assertThrows(NullPointerException.class, executable);
+        }
+    }
+
+    /** Unit tests for the structure of the tree. */
+    @Nested
+    public class TreeTest {
+        @Test
+        public void getKingdoms_whenInvoked_thenSharedKingdomReturned() {
+            // Setup
+
+            // Execution
+            List<TaxonomyNode> result = index.getKingdoms();
+
+            // Validation
+            assertEquals(List.of("Animalia"), names(result), "names");
+            TaxonomyNode kingdom = result.get(0);
+            assertEquals(Rank.KINGDOM, kingdom.getRank(), "rank");
+            assertEquals(Optional.empty(), kingdom.getParent(), "parent");
+            assertEquals(5, kingdom.getSpeciesCount(), "speciesCount");
+            assertEquals(List.of("Arthropoda", "Chordata"), names(kingdom.getChildren()), "children");
+        }
+
+        @Test
+        public void getChildren_whenRanksUnset_thenRanksSkipped() {
+            // Setup
+            TaxonomyNode rodentia = node(Rank.ORDER, "Rodentia");
+            TaxonomyNode primates = node(Rank.ORDER, "Primates");
+
+            // Execution
+            List<TaxonomyNode> rodentiaChildren = rodentia.getChildren();
+            List<TaxonomyNode> primatesChildren = primates.getChildren();
+
+            // Validation
+            assertEquals(Rank.FAMILY, rodentiaChildren.get(0).getRank(), "Rodentia");
+            assertEquals(Rank.SUB_ORDER, primatesChildren.get(0).getRank(), "Primates");
+            assertSame(rodentia, rodentiaChildren.get(0).getParent().orElseThrow(), "parent");
+        }
+
+        @Test
+        public void getChildren_whenSeveral_thenOrderedByName() {
+            // Setup
+            TaxonomyNode tribe = node(Rank.TRIBE, "Pteromyini");
+
+            // Execution
+            List<TaxonomyNode> result = tribe.getChildren();
+
+            // Validation
+            assertEquals(List.of("Glaucomys", "Pteromys"), names(result), "names");
+            assertEquals(3, tribe.getSpeciesCount(), "speciesCount");
+            assertEquals(2, result.get(0).getSpeciesCount(), "Glaucomys");
+        }
+
+        @Test
+        public void getChildren_whenSpecies_thenEmpty() {
+            // Setup
+            TaxonomyNode species = node(Rank.SPECIES, "Homo sapiens");
+
+            // Execution
+            List<TaxonomyNode> result = species.getChildren();
+
+            // Validation
+            assertTrue(result.isEmpty(), "children");
+            assertEquals(1, species.getSpeciesCount(), "speciesCount");
+            assertEquals("Homo", species.getParent().orElseThrow().getName(), "parent");
+        }
+
+        @Test
+        public void getChildren_whenModified_thenExceptionThrown() {
+            // Setup
+            List<TaxonomyNode> children = index.getKingdoms();
+
+            // Execution
+            Executable executable = () -> children.clear();
+
+            // Validation
+            assertThrows(UnsupportedOperationException.class, executable);
+        }
+
+        @Test
+        public void toString_whenInvoked_thenRankNameAndCountIncluded() {
+            // Setup
+            TaxonomyNode rodentia = node(Rank.ORDER, "Rodentia");
+
+            // Execution
+            String result = rodentia.toString();
+
+            // Validation
+            assertEquals("TaxonomyNode(rank=ORDER, name=Rodentia, speciesCount=3)", result);
+        }
+    }
+
+    /** Unit tests for the contains and getNodes methods. */
+    @Nested
+    public class ContainsTest {
+        @Test
+        public void contains_whenRankValueExists_thenTrue() {
+            // Setup
+
+            // Execution
+            boolean result = index.contains(Rank.INFRA_ORDER, "Simiformes");
+
+            // Validation
+            assertTrue(result);
+        }
+
+        @Test
+        public void contains_whenNameExistsAtAnotherRank_thenFalse() {
+            // Setup
+
+            // Execution
+            boolean result = index.contains(Rank.FAMILY, "Rodentia");
+
+            // Validation
+            assertFalse(result);
+        }
+
+        @Test
+        public void getNodes_whenAbsent_thenEmpty() {
+            // Setup
+
+            // Execution
+            List<TaxonomyNode> result = index.getNodes(Rank.GENUS, "Marmota");
+
+            // Validation
+            assertTrue(result.isEmpty());
+        }
+
+        @Test
+        public void getNodes_whenRank_thenEveryNodeInPreOrder() {
+            // Setup
+
+            // Execution
+            List<TaxonomyNode> result = index.getNodes(Rank.SPECIES);
+
+            // Validation
+            assertEquals(List.of("Apis mellifera", "Homo sapiens", "Glaucomys sabrinus", "Glaucomys volans",
+                    "Pteromys volans"), names(result));
+        }
+
+        @Test
+        public void contains_whenNullArguments_thenExceptionThrown() {
+            // Setup
+
+            // Execution
+            List<Executable> executables = List.of(
+                    () -> index.contains(null, "Animalia"),
+                    () -> index.contains(Rank.KINGDOM, null),
+                    () -> index.getNodes(null, "Animalia"),
+                    () -> index.getNodes(Rank.KINGDOM, null),
+                    () -> index.getNodes(null));
+
+            // Validation
+            executables.forEach(executable -> assertThrows(NullPointerException.class, executable));
+        }
+    }
+
+    /** Unit tests for the getClassifications methods. */
+    @Nested
+    public class GetClassificationsTest {
+        @Test
+        public void getClassifications_whenOrder_thenEverySpeciesBelowReturned() {
+            // Setup
+
+            // Execution
+            List<ScientificClassification> result = index.getClassifications(Rank.ORDER, "Rodentia");
+
+            // Validation
+            assertEquals(List.of(NORTHERN_FLYING_SQUIRREL, SOUTHERN_FLYING_SQUIRREL, SIBERIAN_FLYING_SQUIRREL), result);
+        }
+
+        @Test
+        public void getClassifications_whenSpecies_thenOnlyThatSpeciesReturned() {
+            // Setup
+            TaxonomyNode species = node(Rank.SPECIES, "Apis mellifera");
+
+            // Execution
+            List<ScientificClassification> result = index.getClassifications(species);
+
+            // Validation
+            assertEquals(List.of(HONEY_BEE), result);
+        }
+
+        @Test
+        public void getClassifications_whenAbsent_thenEmpty() {
+            // Setup
+
+            // Execution
+            List<ScientificClassification> result = index.getClassifications(Rank.ORDER, "Carnivora");
+
+            // Validation
+            assertTrue(result.isEmpty());
+        }
+
+        @Test
+        public void getClassifications_whenModifiedOrOutOfRange_thenExceptionThrown() {
+            // Setup
+            List<ScientificClassification> result = index.getClassifications(Rank.GENUS, "Glaucomys");
+
+            // Execution
+            Executable modify = () -> result.add(HUMAN);
+            Executable outOfRange = () -> result.get(2);
+
+            // Validation
+            assertThrows(UnsupportedOperationException.class, modify, "modify");
+            assertThrows(IndexOutOfBoundsException.class, outOfRange, "outOfRange");
+        }
+
+        @Test
+        public void getClassifications_whenNodeFromAnotherIndex_thenExceptionThrown() {
+            // Setup
+            TaxonomyNode otherNode = TaxonomyIndex.of(List.of(HUMAN)).getKingdoms().get(0);
+
+            // Execution
+            Executable executable = () -> index.getClassifications(otherNode);
+
+            // Validation
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, executable);
+            assertEquals("The node does not belong to this index: TaxonomyNode(rank=KINGDOM, name=Animalia, "
+                    + "speciesCount=1)", exception.getMessage());
+        }
+
+        @Test
+        public void getClassifications_whenNullArguments_thenExceptionThrown() {
+            // Setup
+
+            // Execution
+            List<Executable> executables = List.of(
+                    () -> index.getClassifications(null),
+                    () -> index.getClassifications(null, "Rodentia"),
+                    () -> index.getClassifications(Rank.ORDER, null));
+
+            // Validation
+            executables.forEach(executable -> assertThrows(NullPointerException.class, executable));
+        }
+    }
+
+    /** Unit tests for the getDescendants methods. */
+    @Nested
+    public class GetDescendantsTest {
+        @Test
+        public void getDescendants_whenFamiliesInPhylum_thenOnlyThatPhylumsFamiliesReturned() {
+            // Setup
+
+            // Execution
+            List<TaxonomyNode> result = index.getDescendants(Rank.PHYLUM, "Chordata", Rank.FAMILY);
+
+            // Validation
+            assertEquals(List.of("Hominidae", "Sciuridae"), names(result));
+        }
+
+        @Test
+        public void getDescendants_whenRankAtOrAboveNode_thenEmpty() {
+            // Setup
+            TaxonomyNode rodentia = node(Rank.ORDER, "Rodentia");
+
+            // Execution
+            List<TaxonomyNode> sameRank = index.getDescendants(rodentia, Rank.ORDER);
+            List<TaxonomyNode> higherRank = index.getDescendants(rodentia, Rank.PHYLUM);
+            List<TaxonomyNode> skippedRank = index.getDescendants(rodentia, Rank.SUB_ORDER);
+
+            // Validation
+            assertTrue(sameRank.isEmpty(), "sameRank");
+            assertTrue(higherRank.isEmpty(), "higherRank");
+            assertTrue(skippedRank.isEmpty(), "skippedRank");
+        }
+
+        @Test
+        public void getDescendants_whenAbsent_thenEmpty() {
+            // Setup
+
+            // Execution
+            List<TaxonomyNode> result = index.getDescendants(Rank.PHYLUM, "Mollusca", Rank.FAMILY);
+
+            // Validation
+            assertTrue(result.isEmpty());
+        }
+
+        @Test
+        public void getDescendants_whenNodeFromAnotherIndex_thenExceptionThrown() {
+            // Setup
+            TaxonomyNode otherNode = TaxonomyIndex.of(List.of(HUMAN)).getKingdoms().get(0);
+
+            // Execution
+            Executable executable = () -> index.getDescendants(otherNode, Rank.FAMILY);
+
+            // Validation
+            assertThrows(IllegalArgumentException.class, executable);
+        }
+
+        @Test
+        public void getDescendants_whenNullArguments_thenExceptionThrown() {
+            // Setup
+            TaxonomyNode kingdom = index.getKingdoms().get(0);
+
+            // Execution
+            List<Executable> executables = List.of(
+                    () -> index.getDescendants(null, Rank.FAMILY),
+                    () -> index.getDescendants(kingdom, null),
+                    () -> index.getDescendants(null, "Chordata", Rank.FAMILY),
+                    () -> index.getDescendants(Rank.PHYLUM, null, Rank.FAMILY),
+                    () -> index.getDescendants(Rank.PHYLUM, "Chordata", null));
+
+            // Validation
+            executables.forEach(executable -> assertThrows(NullPointerException.class, executable));
+        }
+    }
+
+    /** Unit tests for rank values used under more than one parent. */
+    @Nested
+    public class SharedNameTest {
+        private final TaxonomyIndex sharedIndex = TaxonomyIndex.of(List.of(
+                shared("Alpha", "Alpha one"), shared("Beta", "Beta one"), shared("Beta", "Beta two")));
+
+        /**
+         * Build a classification whose tribe name is also used in another sub-family.
+         *
+         * @param subFamily The sub-family.
+         * @param species   The species.
+         * @return The classification.
+         */
+        private ScientificClassification shared(String subFamily, String species) {
+            return ScientificClassification.builder()
+                    .kingdomName("Animalia")
+                    .phylumName("Chordata")
+                    .className("Mammalia")
+                    .orderName("Rodentia")
+                    .familyName("Sciuridae")
+                    .subFamilyName(subFamily)
+                    .tribeName("Shared")
+                    .speciesName(species)
+                    .build();
+        }
+
+        @Test
+        public void getNodes_whenNameUnderSeveralParents_thenEveryNodeReturned() {
+            // Setup
+
+            // Execution
+            List<TaxonomyNode> result = sharedIndex.getNodes(Rank.TRIBE, "Shared");
+
+            // Validation
+            assertEquals(List.of("Alpha", "Beta"), result.stream()
+                    .map(node -> node.getParent().orElseThrow().getName())
+                    .collect(Collectors.toList()));
+        }
+
+        @Test
+        public void getClassifications_whenNameUnderSeveralParents_thenSpeciesOfEveryNodeReturned() {
+            // Setup
+
+            // Execution
+            List<ScientificClassification> result = sharedIndex.getClassifications(Rank.TRIBE, "Shared");
+
+            // Validation
+            assertEquals(List.of("Alpha one", "Beta one", "Beta two"), result.stream()
+                    .map(ScientificClassification::getSpeciesName)
+                    .collect(Collectors.toList()));
+        }
+
+        @Test
+        public void getDescendants_whenNameUnderSeveralParents_thenDescendantsOfEveryNodeReturned() {
+            // Setup
+
+            // Execution
+            List<TaxonomyNode> result = sharedIndex.getDescendants(Rank.TRIBE, "Shared", Rank.SPECIES);
+
+            // Validation
+            assertEquals(List.of("Alpha one", "Beta one", "Beta two"), names(result));
+        }
+    }
+
+    /** Unit tests comparing the index with a scan over many classifications. */
+    @Nested
+    public class ScanTest {
+        @Test
+        public void getClassifications_whenManySpecies_thenMatchesScan() {
+            // Setup
+            List<ScientificClassification> classifications = new ArrayList<>();
+            for (int i = 0; i < 2_000; i++) {
+                classifications.add(ScientificClassification.builder()
+                        .kingdomName("Animalia")
+                        .phylumName("Phylum" + (i % 3))
+                        .className("Class" + (i % 7))
+                        .orderName("Order" + (i % 11))
+                        .familyName("Family" + (i % 13))
+                        .subFamilyName("SubFamily" + (i % 17))
+                        .tribeName("Tribe" + (i % 19))
+                        .genusName(i % 2 == 0 ? null : "Genus" + (i % 23))
+                        .speciesName("Species" + i)
+                        .build());
+            }
+            TaxonomyIndex manyIndex = TaxonomyIndex.of(classifications);
+
+            // Execution
+            List<ScientificClassification> result = manyIndex.getClassifications(Rank.ORDER, "Order5");
+
+            // Validation
+            assertEquals(2_000, manyIndex.size(), "size");
+            assertEquals(classifications.stream()
+                    .filter(classification -> classification.getOrderName().equals("Order5"))
+                    .collect(Collectors.toSet()), Set.copyOf(result), "Order5");
+            long familiesInPhylum = classifications.stream()
+                    .filter(classification -> classification.getPhylumName().equals("Phylum1"))
+                    .map(classification -> List.of(classification.getClassName(), classification.getOrderName(),
+                            classification.getFamilyName()))
+                    .distinct()
+                    .count();
+            assertEquals(familiesInPhylum,
+                    manyIndex.getDescendants(Rank.PHYLUM, "Phylum1", Rank.FAMILY).size(), "families");
+        }
+    }
+}
@@ -2,11 +2,13 @@ package codingchica.patterns.creational.factory;
 
 import codingchica.patterns.behavioral.strategy.AirplaneStrategy;
 import codingchica.patterns.behavioral.strategy.FlyingStrategy;
+import codingchica.patterns.behavioral.strategy.FlyingStrategyRegistry;
 import codingchica.patterns.behavioral.strategy.GlidingStrategy;
 import codingchica.patterns.behavioral.strategy.model.Animal;
 import codingchica.patterns.behavioral.strategy.model.ScientificClassification;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
@@ -35,6 +37,80 @@ class AnimalFactoryTest {
         }
     }
 
+    /** Unit tests for the getAnimal method. */
+    @Nested
+    public class GetAnimalTest {
+        @ParameterizedTest
+        @ValueSource(booleans = {true, false})
+        public void getAnimal_whenRegisteredAtRuntime_thenAnimalCreated(boolean isAdult){
+            // Setup
+            String commonName = "Sugar Glider " + isAdult;
+            ScientificClassification scientificClassification = ScientificClassification.builder()
+                    // https://en.wikipedia.org/wiki/Sugar_glider
+                    .kingdomName("Animalia")
+                    .phylumName("Chordata")
+                    .className("Mammalia")
+                    .orderName("Diprotodontia")
+                    .familyName("Petauridae")
+                    .subFamilyName("Petaurinae")
+                    .tribeName("Petaurini")
+                    .genusName("Petaurus")
+                    .speciesName("Petaurus breviceps")
+                    .build();
+            animalFactory.getSpeciesRegistry().register(commonName, scientificClassification,
+                    FlyingStrategyRule.adultsOnly(FlyingStrategyRegistry.GLIDING));
+
+            try {
+                // Execution
+                Optional<Animal> result = animalFactory.getAnimal(commonName, "name", "description", isAdult);
+
+                // Validation
+                Animal animal = result.orElseThrow();
+                assertEquals("name", animal.getName(), "name");
+                assertEquals("description", animal.getDescription(), "description");
+                assertSame(scientificClassification, animal.getScientificClassification(), "scientificClassification");
+                assertEquals(isAdult ? Optional.of(FlyingStrategyRegistry.GLIDING.getStrategy()) : Optional.empty(),
+                        animal.getFlyingStrategy(), "flyingStrategy");
+            } finally {
+                animalFactory.getSpeciesRegistry().unregister(commonName);
+            }
+        }
+
+        @Test
+        public void getAnimal_whenNotRegistered_thenEmptyReturned(){
+            // Setup
+
+            // Execution
+            Optional<Animal> result = animalFactory.getAnimal("Unicorn", "name", "description", true);
+
+            // Validation
+            assertTrue(result.isEmpty());
+        }
+
+        @Test
+        public void getAnimal_whenNullCommonName_thenExceptionThrown(){
+            // Setup
+
+            // Execution
+            Executable executable = () -> animalFactory.getAnimal(null, "name", "description", true);
+
+            // Validation
+            assertThrows(NullPointerException.class, executable);
+        }
+
+        @Test
+        public void getSpeciesRegistry_whenInvoked_thenBuiltInSpeciesRegistered(){
+            // Setup
+
+            // Execution
+            SpeciesRegistry result = animalFactory.getSpeciesRegistry();
+
+            // Validation
+            assertTrue(result.lookup(AnimalFactory.COMMON_NAME_HUMAN).isPresent(), "human");
+            assertTrue(result.lookup(AnimalFactory.COMMON_NAME_FLYING_SQUIRREL).isPresent(), "flyingSquirrel");
+        }
+    }
+
     /** Unit tests for the getHuman method. */
     @Nested
     public class GetHumanTest {
@@ -105,6 +181,19 @@ class AnimalFactoryTest {
                 assertFalse(flyingStrategyOptional.isPresent(), "isPresent");
             }
         }
+
+        @Test
+        public void getHuman_whenAdult_thenSharedFlyingStrategyInstanceUsed(){
+            // Setup
+            Animal animal1 = animalFactory.getHuman("name1", "description1", true);
+
+            // Execution
+            Animal animal2 = animalFactory.getHuman("name2", "description2", true);
+
+            // Validation
+            assertSame(FlyingStrategyRegistry.AIRPLANE.getStrategy(), animal1.getFlyingStrategy().orElseThrow(), "animal1");
+            assertSame(animal1.getFlyingStrategy().orElseThrow(), animal2.getFlyingStrategy().orElseThrow(), "animal2");
+        }
     }
 
     /** Unit tests for the getFlyingSquirrel method. */
@@ -174,5 +263,18 @@ class AnimalFactoryTest {
                 assertFalse(flyingStrategyOptional.isPresent(), "isPresent");
             }
         }
+
+        @Test
+        public void getFlyingSquirrel_whenAdult_thenSharedFlyingStrategyInstanceUsed(){
+            // Setup
+            Animal animal1 = animalFactory.getFlyingSquirrel("name1", "description1", true);
+
+            // Execution
+            Animal animal2 = animalFactory.getFlyingSquirrel("name2", "description2", true);
+
+            // Validation
+            assertSame(FlyingStrategyRegistry.GLIDING.getStrategy(), animal1.getFlyingStrategy().orElseThrow(), "animal1");
+            assertSame(animal1.getFlyingStrategy().orElseThrow(), animal2.getFlyingStrategy().orElseThrow(), "animal2");
+        }
     }
 }
\ No newline at end of file
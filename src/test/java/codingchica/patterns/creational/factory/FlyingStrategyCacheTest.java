@@ -0,0 +1,397 @@
+package codingchica.patterns.creational.factory;
+
+import codingchica.patterns.behavioral.strategy.FlyingStrategy;
+import codingchica.patterns.behavioral.strategy.FlyingStrategyRegistry;
+import codingchica.patterns.behavioral.strategy.model.ScientificClassification;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Unit tests for the codingchica.patterns.creational.factory.FlyingStrategyCache class */
+class FlyingStrategyCacheTest {
+    /** The number of times rule has been evaluated. */
+    private final AtomicInteger evaluations = new AtomicInteger();
+    /** A rule under which adults glide, which counts its evaluations. */
+    private final FlyingStrategyRule rule = (scientificClassification, isAdult) -> {
+        evaluations.incrementAndGet();
+        return FlyingStrategyRule.adultsOnly(FlyingStrategyRegistry.GLIDING)
+                .getFlyingStrategy(scientificClassification, isAdult);
+    };
+
+    /**
+     * Build a minimal classification for a numbered species.
+     *
+     * @param index The number of the species.
+     * @return The classification.
+     */
+    private static ScientificClassification classification(int index) {
+        return ScientificClassification.builder()
+                .kingdomName("Animalia")
+                .phylumName("Chordata")
+                .className("Mammalia")
+                .orderName("Rodentia")
+                .familyName("Sciuridae")
+                .subFamilyName("Sciurinae")
+                .tribeName("Pteromyini")
+                .speciesName("Species " + index)
+                .build();
+    }
+
+    /**
+     * Look up a range of numbered species as adults.
+     *
+     * @param cache The cache.
+     * @param from  The number of the first species.
+     * @param to    The number just past the last species.
+     */
+    private void lookUp(FlyingStrategyCache cache, int from, int to) {
+        for (int i = from; i < to; i++) {
+            cache.getFlyingStrategy(classification(i), true, rule);
+        }
+    }
+
+    /** Unit tests for the constructor. */
+    @Nested
+    public class ConstructorTest {
+        @ParameterizedTest
+        @ValueSource(ints = {0, -1})
+        public void constructor_whenSizeNotPositive_thenExceptionThrown(int maximumSize) {
+            // Setup
+
+            // Execution
+            Executable executable = () -> new FlyingStrategyCache(maximumSize);
+
+            // Validation
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, executable);
+            assertEquals("maximumSize must be positive: " + maximumSize, exception.getMessage());
+        }
+
+        @Test
+        public void constructor_whenInvoked_thenEmpty() {
+            // Setup
+
+            // Execution
+            FlyingStrategyCache cache = new FlyingStrategyCache(10);
+
+            // Validation
+            assertEquals(0, cache.size(), "size");
+            assertEquals(10, cache.getMaximumSize(), "maximumSize");
+            assertEquals(1.0, cache.getHitRate(), "hitRate");
+        }
+    }
+
+    /** Unit tests for the getFlyingStrategy method. */
+    @Nested
+    public class GetFlyingStrategyTest {
+        @Test
+        public void getFlyingStrategy_whenFirstLookup_thenRuleEvaluated() {
+            // Setup
+            FlyingStrategyCache cache = new FlyingStrategyCache(10);
+
+            // Execution
+            Optional<FlyingStrategy> result = cache.getFlyingStrategy(classification(1), true, rule);
+
+            // Validation
+            assertSame(FlyingStrategyRegistry.GLIDING.getStrategy(), result.orElseThrow(), "result");
+            assertEquals(1, evaluations.get(), "evaluations");
+            assertEquals(0, cache.getHitCount(), "hits");
+            assertEquals(1, cache.getMissCount(), "misses");
+            assertEquals(1, cache.size(), "size");
+        }
+
+        @Test
+        public void getFlyingStrategy_whenLookedUpAgain_thenCachedValueReturned() {
+            // Setup
+            FlyingStrategyCache cache = new FlyingStrategyCache(10);
+            Optional<FlyingStrategy> first = cache.getFlyingStrategy(classification(1), true, rule);
+
+            // Execution
+            Optional<FlyingStrategy> result = cache.getFlyingStrategy(classification(1), true, rule);
+
+            // Validation
+            assertSame(first, result, "result");
+            assertEquals(1, evaluations.get(), "evaluations");
+            assertEquals(1, cache.getHitCount(), "hits");
+            assertEquals(0.5, cache.getHitRate(), "hitRate");
+        }
+
+        @Test
+        public void getFlyingStrategy_whenAdultFlagDiffers_thenCachedSeparately() {
+            // Setup
+            FlyingStrategyCache cache = new FlyingStrategyCache(10);
+            cache.getFlyingStrategy(classification(1), true, rule);
+
+            // Execution
+            Optional<FlyingStrategy> result = cache.getFlyingStrategy(classification(1), false, rule);
+
+            // Validation
+            assertTrue(result.isEmpty(), "result");
+            assertEquals(2, evaluations.get(), "evaluations");
+            assertEquals(2, cache.size(), "size");
+        }
+
+        @Test
+        public void getFlyingStrategy_whenRuleDiffers_thenNewRuleEvaluatedAndCached() {
+            // Setup
+            FlyingStrategyCache cache = new FlyingStrategyCache(10);
+            cache.getFlyingStrategy(classification(1), true, rule);
+            FlyingStrategyRule otherRule = FlyingStrategyRule.adultsOnly(FlyingStrategyRegistry.AIRPLANE);
+
+            // Execution
+            Optional<FlyingStrategy> result = cache.getFlyingStrategy(classification(1), true, otherRule);
+
+            // Validation
+            assertSame(FlyingStrategyRegistry.AIRPLANE.getStrategy(), result.orElseThrow(), "result");
+            assertSame(result, cache.getFlyingStrategy(classification(1), true, otherRule), "cached");
+            assertEquals(1, cache.size(), "size");
+            assertEquals(1, cache.getHitCount(), "hits");
+        }
+
+        @Test
+        public void getFlyingStrategy_whenNullArguments_thenExceptionThrown() {
+            // Setup
+            FlyingStrategyCache cache = new FlyingStrategyCache(10);
+
+            // Execution & Validation
+            assertThrows(NullPointerException.class, () -> cache.getFlyingStrategy(null, true, rule),
+                    "scientificClassification");
+            assertThrows(NullPointerException.class, () -> cache.getFlyingStrategy(classification(1), true, null),
+                    "flyingStrategyRule");
+        }
+    }
+
+    /** Unit tests for eviction and admission. */
+    @Nested
+    public class EvictionTest {
+        @ParameterizedTest
+        @ValueSource(ints = {1, 2, 10, 100})
+        public void getFlyingStrategy_whenMoreKeysThanMaximum_thenSizeBounded(int maximumSize) {
+            // Setup
+            FlyingStrategyCache cache = new FlyingStrategyCache(maximumSize);
+
+            // Execution
+            lookUp(cache, 0, maximumSize * 10);
+
+            // Validation
+            assertEquals(maximumSize, cache.size(), "size");
+            assertEquals(maximumSize * 9L, cache.getEvictionCount(), "evictions");
+        }
+
+        @Test
+        public void getFlyingStrategy_whenScanOfColdKeys_thenHotKeysKept() {
+            // Setup
+            FlyingStrategyCache cache = new FlyingStrategyCache(100);
+            for (int round = 0; round < 5; round++) {
+                lookUp(cache, 0, 50);
+            }
+            lookUp(cache, 1_000, 1_500);
+            long hitsBefore = cache.getHitCount();
+
+            // Execution
+            lookUp(cache, 0, 50);
+
+            // Validation
+            assertEquals(50, cache.getHitCount() - hitsBefore, "hot key hits");
+        }
+
+        @Test
+        public void getFlyingStrategy_whenKeysHitRepeatedly_thenProtectedEntriesDemotedWithinBound() {
+            // Setup
+            FlyingStrategyCache cache = new FlyingStrategyCache(10);
+            lookUp(cache, 0, 10);
+
+            // Execution
+            for (int round = 0; round < 3; round++) {
+                lookUp(cache, 0, 10);
+            }
+
+            // Validation
+            assertEquals(10, cache.size(), "size");
+            assertTrue(cache.getHitCount() >= 20, "hits: " + cache.getHitCount());
+        }
+
+        @Test
+        public void getFlyingStrategy_whenMoreHitsThanReadBufferHolds_thenEveryHitCounted() {
+            // Setup
+            FlyingStrategyCache cache = new FlyingStrategyCache(10);
+            lookUp(cache, 0, 10);
+
+            // Execution
+            // Hits without a miss in between fill the read buffer, and are then applied without waiting for a miss.
+            for (int i = 0; i < 100; i++) {
+                cache.getFlyingStrategy(classification(0), true, rule);
+            }
+            lookUp(cache, 1_000, 1_100);
+            long hitsBefore = cache.getHitCount();
+            cache.getFlyingStrategy(classification(0), true, rule);
+
+            // Validation
+            assertEquals(1, cache.getHitCount() - hitsBefore, "hot key hits");
+        }
+
+        @Test
+        public void getFlyingStrategy_whenNewKeyMoreFrequentThanVictim_thenNewKeyAdmitted() {
+            // Setup
+            FlyingStrategyCache cache = new FlyingStrategyCache(10);
+            lookUp(cache, 0, 10);
+            // Make key 100 more frequent than any cached key, while it is not cached.
+            for (int i = 0; i < 5; i++) {
+                cache.getFlyingStrategy(classification(100), true, rule);
+                lookUp(cache, 200 + i * 10, 210 + i * 10);
+            }
+            long hitsBefore = cache.getHitCount();
+
+            // Execution
+            cache.getFlyingStrategy(classification(100), true, rule);
+
+            // Validation
+            assertEquals(1, cache.getHitCount() - hitsBefore, "hits");
+        }
+    }
+
+    /** Unit tests for the invalidate and invalidateAll methods. */
+    @Nested
+    public class InvalidateTest {
+        @Test
+        public void invalidate_whenCached_thenBothFlagsRemoved() {
+            // Setup
+            FlyingStrategyCache cache = new FlyingStrategyCache(10);
+            cache.getFlyingStrategy(classification(1), true, rule);
+            cache.getFlyingStrategy(classification(1), false, rule);
+            cache.getFlyingStrategy(classification(2), true, rule);
+
+            // Execution
+            cache.invalidate(classification(1));
+
+            // Validation
+            assertEquals(1, cache.size(), "size");
+            cache.getFlyingStrategy(classification(1), true, rule);
+            assertEquals(4, evaluations.get(), "evaluations");
+            assertEquals(0, cache.getEvictionCount(), "evictions");
+        }
+
+        @Test
+        public void invalidate_whenNotCached_thenNothingChanges() {
+            // Setup
+            FlyingStrategyCache cache = new FlyingStrategyCache(10);
+            cache.getFlyingStrategy(classification(1), true, rule);
+
+            // Execution
+            cache.invalidate(classification(2));
+
+            // Validation
+            assertEquals(1, cache.size());
+        }
+
+        @Test
+        public void invalidate_whenEntriesInEveryQueue_thenCacheStillBounded() {
+            // Setup
+            FlyingStrategyCache cache = new FlyingStrategyCache(10);
+            lookUp(cache, 0, 10);
+            lookUp(cache, 0, 5);
+
+            // Execution
+            for (int i = 0; i < 10; i += 2) {
+                cache.invalidate(classification(i));
+            }
+            lookUp(cache, 100, 120);
+
+            // Validation
+            assertEquals(10, cache.size());
+        }
+
+        @Test
+        public void invalidate_whenHitsBuffered_thenRemovedEntriesSkippedWhenApplied() {
+            // Setup
+            FlyingStrategyCache cache = new FlyingStrategyCache(10);
+            lookUp(cache, 0, 10);
+            lookUp(cache, 0, 10);
+
+            // Execution
+            cache.invalidateAll();
+            lookUp(cache, 0, 20);
+
+            // Validation
+            assertEquals(10, cache.size(), "size");
+            assertEquals(30, evaluations.get(), "evaluations");
+        }
+
+        @Test
+        public void invalidateAll_whenCached_thenEmptyAndStatisticsKept() {
+            // Setup
+            FlyingStrategyCache cache = new FlyingStrategyCache(10);
+            lookUp(cache, 0, 10);
+            lookUp(cache, 0, 10);
+
+            // Execution
+            cache.invalidateAll();
+
+            // Validation
+            assertEquals(0, cache.size(), "size");
+            assertEquals(10, cache.getHitCount(), "hits");
+            lookUp(cache, 0, 20);
+            assertEquals(10, cache.size(), "size after refill");
+            assertEquals(10, cache.getHitCount(), "hits after refill");
+        }
+    }
+
+    /** Unit tests for concurrent use. */
+    @Nested
+    public class ConcurrencyTest {
+        @Test
+        public void getFlyingStrategy_whenManyThreads_thenResultsCorrectAndSizeBounded() throws InterruptedException {
+            // Setup
+            FlyingStrategyCache cache = new FlyingStrategyCache(50);
+            int threadCount = 8;
+            int perThread = 5_000;
+            AtomicInteger wrongResults = new AtomicInteger();
+            CountDownLatch start = new CountDownLatch(1);
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < threadCount; t++) {
+                int threadIndex = t;
+                Thread thread = new Thread(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    for (int i = 0; i < perThread; i++) {
+                        int key = (i * (threadIndex + 1)) % 200;
+                        boolean isAdult = key % 2 == 0;
+                        if (key % 7 == 0) {
+                            cache.invalidate(classification(key));
+                        }
+                        Optional<FlyingStrategy> result = cache.getFlyingStrategy(classification(key), isAdult, rule);
+                        if (result.isPresent() != isAdult) {
+                            wrongResults.incrementAndGet();
+                        }
+                    }
+                });
+                thread.start();
+                threads.add(thread);
+            }
+
+            // Execution
+            start.countDown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            // Validation
+            assertEquals(0, wrongResults.get(), "wrongResults");
+            assertTrue(cache.size() <= 50, "size: " + cache.size());
+            assertEquals((long) threadCount * perThread, cache.getHitCount() + cache.getMissCount(), "lookups");
+        }
+    }
+}
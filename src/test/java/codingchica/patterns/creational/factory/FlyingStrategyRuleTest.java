@@ -0,0 +1,128 @@
+package codingchica.patterns.creational.factory;
+
+import codingchica.patterns.behavioral.strategy.FlyingStrategy;
+import codingchica.patterns.behavioral.strategy.FlyingStrategyRegistry;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Unit tests for the codingchica.patterns.creational.factory.FlyingStrategyRule interface */
+class FlyingStrategyRuleTest {
+    /** Unit tests for the adultsOnly method. */
+    @Nested
+    public class AdultsOnlyTest {
+        @ParameterizedTest
+        @EnumSource(FlyingStrategyRegistry.class)
+        public void adultsOnly_whenAdult_thenSharedStrategyReturned(FlyingStrategyRegistry entry) {
+            // Setup
+            FlyingStrategyRule rule = FlyingStrategyRule.adultsOnly(entry);
+
+            // Execution
+            Optional<FlyingStrategy> result = rule.getFlyingStrategy(null, true);
+
+            // Validation
+            assertSame(entry.getStrategy(), result.orElseThrow());
+        }
+
+        @Test
+        public void adultsOnly_whenNotAdult_thenEmptyReturned() {
+            // Setup
+            FlyingStrategyRule rule = FlyingStrategyRule.adultsOnly(FlyingStrategyRegistry.FLAP_WINGS);
+
+            // Execution
+            Optional<FlyingStrategy> result = rule.getFlyingStrategy(null, false);
+
+            // Validation
+            assertTrue(result.isEmpty());
+        }
+
+        @Test
+        public void adultsOnly_whenNullEntry_thenExceptionThrown() {
+            // Setup
+
+            // Execution
+            Executable executable = () -> FlyingStrategyRule.adultsOnly(null);
+
+            // Validation
+            assertThrows(NullPointerException.class, executable);
+        }
+    }
+
+    /** Unit tests for the none method. */
+    @Nested
+    public class NoneTest {
+        @ParameterizedTest
+        @ValueSource(booleans = {true, false})
+        public void none_whenInvoked_thenEmptyReturned(boolean isAdult) {
+            // Setup
+            FlyingStrategyRule rule = FlyingStrategyRule.none();
+
+            // Execution
+            Optional<FlyingStrategy> result = rule.getFlyingStrategy(null, isAdult);
+
+            // Validation
+            assertTrue(result.isEmpty());
+        }
+    }
+
+    /** Unit tests for the isCacheable and cacheable methods. */
+    @Nested
+    public class CacheableTest {
+        @Test
+        public void isCacheable_whenNotOptedIn_thenFalse() {
+            // Setup
+            FlyingStrategyRule rule = FlyingStrategyRule.adultsOnly(FlyingStrategyRegistry.GLIDING);
+
+            // Execution
+            boolean result = rule.isCacheable();
+
+            // Validation
+            assertFalse(result, "adultsOnly");
+            assertFalse(TaxonomyFlyingStrategyRule.getDefault().isCacheable(), "TaxonomyFlyingStrategyRule");
+        }
+
+        @ParameterizedTest
+        @ValueSource(booleans = {true, false})
+        public void cacheable_whenInvoked_thenSameDecisionsAndCacheable(boolean isAdult) {
+            // Setup
+            FlyingStrategyRule rule = FlyingStrategyRule.adultsOnly(FlyingStrategyRegistry.GLIDING);
+
+            // Execution
+            FlyingStrategyRule result = FlyingStrategyRule.cacheable(rule);
+
+            // Validation
+            assertTrue(result.isCacheable(), "isCacheable");
+            assertEquals(rule.getFlyingStrategy(null, isAdult), result.getFlyingStrategy(null, isAdult), "decision");
+        }
+
+        @Test
+        public void cacheable_whenAlreadyCacheable_thenSameRuleReturned() {
+            // Setup
+            FlyingStrategyRule rule = FlyingStrategyRule.cacheable(FlyingStrategyRule.none());
+
+            // Execution
+            FlyingStrategyRule result = FlyingStrategyRule.cacheable(rule);
+
+            // Validation
+            assertSame(rule, result);
+        }
+
+        @Test
+        public void cacheable_whenNullRule_thenExceptionThrown() {
+            // Setup
+
+            // Execution
+            Executable executable = () -> FlyingStrategyRule.cacheable(null);
+
+            // Validation
+            assertThrows(NullPointerException.class, executable);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package codingchica.patterns.creational.factory;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Unit tests for the codingchica.patterns.creational.factory.FrequencySketch class */
+class FrequencySketchTest {
+    /** Unit tests for the tableLength method. */
+    @Nested
+    public class TableLengthTest {
+        @ParameterizedTest(name = "{0} -> {1}")
+        @CsvSource({"0, 1", "1, 1", "2, 2", "3, 4", "1000, 1024", "1024, 1024", "268435455, 268435456",
+                "268435456, 268435456", "268435457, 268435456", "1073741825, 268435456", "2147483647, 268435456"})
+        public void tableLength_whenInvoked_thenPowerOfTwoAtMostMaximumReturned(int maximumSize, int expected) {
+            // Setup
+
+            // Execution
+            int result = FrequencySketch.tableLength(maximumSize);
+
+            // Validation
+            assertEquals(expected, result);
+        }
+    }
+
+    /** Unit tests for the frequency method. */
+    @Nested
+    public class FrequencyTest {
+        @Test
+        public void frequency_whenNeverIncremented_thenZeroReturned() {
+            // Setup
+            FrequencySketch sketch = new FrequencySketch(100);
+
+            // Execution
+            int result = sketch.frequency(42);
+
+            // Validation
+            assertEquals(0, result);
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {1, 5, 14})
+        public void frequency_whenIncremented_thenCountReturned(int count) {
+            // Setup
+            FrequencySketch sketch = new FrequencySketch(100);
+            for (int i = 0; i < count; i++) {
+                sketch.increment(42);
+            }
+
+            // Execution
+            int result = sketch.frequency(42);
+
+            // Validation
+            assertEquals(count, result);
+        }
+
+        @Test
+        public void frequency_whenIncrementedPastMaximum_thenMaximumReturned() {
+            // Setup
+            FrequencySketch sketch = new FrequencySketch(100);
+            for (int i = 0; i < FrequencySketch.MAX_FREQUENCY + 10; i++) {
+                sketch.increment(42);
+            }
+
+            // Execution
+            int result = sketch.frequency(42);
+
+            // Validation
+            assertEquals(FrequencySketch.MAX_FREQUENCY, result, "frequency");
+            assertEquals(FrequencySketch.MAX_FREQUENCY, sketch.getAdditions(), "additions");
+        }
+
+        @Test
+        public void frequency_whenOtherKeysIncremented_thenKeyMostlyUnaffected() {
+            // Setup
+            FrequencySketch sketch = new FrequencySketch(1000);
+            for (int key = 0; key < 500; key++) {
+                sketch.increment(key);
+            }
+
+            // Execution
+            int overestimated = 0;
+            for (int key = 500; key < 1500; key++) {
+                overestimated += sketch.frequency(key) > 0 ? 1 : 0;
+            }
+
+            // Validation
+            assertTrue(overestimated < 50, "overestimated: " + overestimated);
+        }
+    }
+
+    /** Unit tests for the increment method. */
+    @Nested
+    public class IncrementTest {
+        @Test
+        public void increment_whenSampleSizeReached_thenCountersHalved() {
+            // Setup
+            FrequencySketch sketch = new FrequencySketch(1);
+            for (int i = 0; i < 6; i++) {
+                sketch.increment(7);
+            }
+            sketch.increment(8);
+            sketch.increment(8);
+            sketch.increment(9);
+
+            // Execution
+            sketch.increment(9);
+
+            // Validation
+            assertEquals(3, sketch.frequency(7), "7");
+            assertEquals(1, sketch.frequency(8), "8");
+            assertEquals(1, sketch.frequency(9), "9");
+            assertEquals(5, sketch.getAdditions(), "additions");
+        }
+
+        @Test
+        public void increment_whenSmallCache_thenSketchStillCounts() {
+            // Setup
+            FrequencySketch sketch = new FrequencySketch(0);
+
+            // Execution
+            sketch.increment(3);
+
+            // Validation
+            assertEquals(1, sketch.frequency(3));
+        }
+    }
+}
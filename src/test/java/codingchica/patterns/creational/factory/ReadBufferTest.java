@@ -0,0 +1,134 @@
+package codingchica.patterns.creational.factory;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Unit tests for the codingchica.patterns.creational.factory.ReadBuffer class */
+class ReadBufferTest {
+    /** The elements drained. */
+    private final List<Integer> drained = new ArrayList<>();
+
+    /**
+     * A read buffer which, the first time an element is added, behaves as though another thread claimed the slot first
+     * and has not stored its element yet.
+     */
+    private static final class LosingReadBuffer extends ReadBuffer<Integer> {
+        /** Whether the race was already lost. */
+        private boolean lost;
+
+        @Override
+        boolean claim(long tail) {
+            boolean claimed = super.claim(tail);
+            if (lost) {
+                return claimed;
+            }
+            lost = true;
+            return false;
+        }
+    }
+
+    /** Unit tests for the offer method. */
+    @Nested
+    public class OfferTest {
+        @Test
+        public void offer_whenRoom_thenElementsDrainedInOrder() {
+            // Setup
+            ReadBuffer<Integer> readBuffer = new ReadBuffer<>();
+
+            // Execution
+            boolean first = readBuffer.offer(1);
+            boolean second = readBuffer.offer(2);
+
+            // Validation
+            assertTrue(first, "first");
+            assertTrue(second, "second");
+            readBuffer.drainTo(drained::add);
+            assertEquals(List.of(1, 2), drained, "drained");
+        }
+
+        @Test
+        public void offer_whenFull_thenFalseReturnedUntilDrained() {
+            // Setup
+            ReadBuffer<Integer> readBuffer = new ReadBuffer<>();
+            for (int i = 0; i < ReadBuffer.CAPACITY; i++) {
+                readBuffer.offer(i);
+            }
+
+            // Execution
+            boolean whenFull = readBuffer.offer(-1);
+            readBuffer.drainTo(drained::add);
+            boolean whenDrained = readBuffer.offer(ReadBuffer.CAPACITY);
+
+            // Validation
+            assertFalse(whenFull, "whenFull");
+            assertTrue(whenDrained, "whenDrained");
+            assertEquals(ReadBuffer.CAPACITY, drained.size(), "drained");
+            readBuffer.drainTo(drained::add);
+            assertEquals(ReadBuffer.CAPACITY, drained.get(drained.size() - 1), "after wrapping");
+        }
+
+        @Test
+        public void offer_whenAnotherThreadClaimsSlot_thenElementDropped() {
+            // Setup
+            ReadBuffer<Integer> readBuffer = new LosingReadBuffer();
+
+            // Execution
+            boolean result = readBuffer.offer(1);
+
+            // Validation
+            assertTrue(result, "result");
+            readBuffer.drainTo(drained::add);
+            assertEquals(List.of(), drained, "drained");
+        }
+    }
+
+    /** Unit tests for the drainTo method. */
+    @Nested
+    public class DrainToTest {
+        @Test
+        public void drainTo_whenEmpty_thenNothingDrained() {
+            // Setup
+            ReadBuffer<Integer> readBuffer = new ReadBuffer<>();
+
+            // Execution
+            readBuffer.drainTo(drained::add);
+
+            // Validation
+            assertEquals(List.of(), drained);
+        }
+
+        @Test
+        public void drainTo_whenClaimedSlotNotStored_thenLaterElementsWait() {
+            // Setup
+            ReadBuffer<Integer> readBuffer = new LosingReadBuffer();
+            readBuffer.offer(1);
+            readBuffer.offer(2);
+
+            // Execution
+            readBuffer.drainTo(drained::add);
+
+            // Validation
+            assertEquals(List.of(), drained);
+        }
+
+        @Test
+        public void drainTo_whenDrainedTwice_thenEachElementDrainedOnce() {
+            // Setup
+            ReadBuffer<Integer> readBuffer = new ReadBuffer<>();
+            readBuffer.offer(1);
+            readBuffer.drainTo(drained::add);
+            readBuffer.offer(2);
+
+            // Execution
+            readBuffer.drainTo(drained::add);
+
+            // Validation
+            assertEquals(List.of(1, 2), drained);
+        }
+    }
+}
@@ -0,0 +1,565 @@
+package codingchica.patterns.creational.factory;
+
+import codingchica.patterns.behavioral.strategy.FlyingStrategy;
+import codingchica.patterns.behavioral.strategy.FlyingStrategyRegistry;
+import codingchica.patterns.behavioral.strategy.model.Rank;
+import codingchica.patterns.behavioral.strategy.model.ScientificClassification;
+import codingchica.patterns.behavioral.strategy.model.TaxonomyIndex;
+import codingchica.patterns.creational.factory.catalog.LazySpeciesCatalog;
+import codingchica.patterns.creational.factory.catalog.PerfectHashSpeciesCatalog;
+import codingchica.patterns.creational.factory.catalog.SpeciesCatalog;
+import codingchica.patterns.creational.factory.catalog.SpeciesNameIndex;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Unit tests for the codingchica.patterns.creational.factory.SpeciesRegistry class */
+class SpeciesRegistryTest {
+    private final SpeciesRegistry speciesRegistry = new SpeciesRegistry();
+
+    /**
+     * Build a minimal classification for a species.
+     *
+     * @param speciesName The species name.
+     * @return The classification.
+     */
+    private static ScientificClassification classification(String speciesName) {
+        return ScientificClassification.builder()
+                .kingdomName("Animalia")
+                .phylumName("Chordata")
+                .className("Mammalia")
+                .orderName("Rodentia")
+                .familyName("Sciuridae")
+                .subFamilyName("Sciurinae")
+                .tribeName("Pteromyini")
+                .speciesName(speciesName)
+                .build();
+    }
+
+    /** Unit tests for the register method. */
+    @Nested
+    public class RegisterTest {
+        @Test
+        public void register_whenNew_thenLookupReturnsSpecies() {
+            // Setup
+            ScientificClassification scientificClassification = classification("Pteromys volans");
+            FlyingStrategyRule rule = FlyingStrategyRule.adultsOnly(FlyingStrategyRegistry.GLIDING);
+
+            // Execution
+            Optional<Species> previous = speciesRegistry.register("Siberian Flying Squirrel",
+                    scientificClassification, rule);
+
+            // Validation
+            assertTrue(previous.isEmpty(), "previous");
+            Species species = speciesRegistry.lookup("Siberian Flying Squirrel").orElseThrow();
+            assertEquals("Siberian Flying Squirrel", species.getCommonName(), "commonName");
+            assertSame(scientificClassification, species.getScientificClassification(), "scientificClassification");
+            assertSame(rule, species.getFlyingStrategyRule(), "flyingStrategyRule");
+            assertEquals(1, speciesRegistry.size(), "size");
+            assertEquals(Set.of("Siberian Flying Squirrel"), speciesRegistry.getCommonNames(), "commonNames");
+        }
+
+        @Test
+        public void register_whenAlreadyRegistered_thenReplacedAndPreviousReturned() {
+            // Setup
+            speciesRegistry.register("Southern Flying Squirrel", classification("Glaucomys volans"), FlyingStrategyRule.none());
+            FlyingStrategyRule rule = FlyingStrategyRule.adultsOnly(FlyingStrategyRegistry.FLAP_WINGS);
+
+            // Execution
+            Optional<Species> previous = speciesRegistry.register("Southern Flying Squirrel", classification("Glaucomys volans"), rule);
+
+            // Validation
+            assertNotSame(rule, previous.orElseThrow().getFlyingStrategyRule(), "previous");
+            assertSame(rule, speciesRegistry.lookup("Southern Flying Squirrel").orElseThrow().getFlyingStrategyRule(), "current");
+            assertEquals(1, speciesRegistry.size(), "size");
+        }
+
+        @Test
+        public void register_whenNullArguments_thenExceptionThrown() {
+            // Setup
+            ScientificClassification scientificClassification = classification("Glaucomys volans");
+            FlyingStrategyRule rule = FlyingStrategyRule.none();
+
+            // Execution
+            Executable nullCommonName = () -> speciesRegistry.register(null, scientificClassification, rule);
+            Executable nullClassification = () -> speciesRegistry.register("Southern Flying Squirrel", null, rule);
+            Executable nullRule = () -> speciesRegistry.register("Southern Flying Squirrel", scientificClassification, null);
+
+            // Validation
+            assertThrows(NullPointerException.class, nullCommonName, "commonName");
+            assertThrows(NullPointerException.class, nullClassification, "scientificClassification");
+            assertThrows(NullPointerException.class, nullRule, "flyingStrategyRule");
+        }
+
+        @Test
+        public void register_whenManyThreads_thenEverySpeciesRegistered() throws InterruptedException {
+            // Setup
+            int threadCount = 8;
+            int perThread = 1_000;
+            CountDownLatch start = new CountDownLatch(1);
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < threadCount; t++) {
+                int threadIndex = t;
+                Thread thread = new Thread(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    for (int i = 0; i < perThread; i++) {
+                        String name = "Species " + threadIndex + "-" + i;
+                        speciesRegistry.register(name, classification(name), FlyingStrategyRule.none());
+                        speciesRegistry.lookup(name).orElseThrow();
+                    }
+                });
+                thread.start();
+                threads.add(thread);
+            }
+
+            // Execution
+            start.countDown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            // Validation
+            assertEquals(threadCount * perThread, speciesRegistry.size(), "size");
+            assertTrue(speciesRegistry.lookup("Species 7-999").isPresent(), "last species");
+        }
+    }
+
+    /** Unit tests for the registerAll method. */
+    @Nested
+    public class RegisterAllTest {
+        @Test
+        public void registerAll_whenInvoked_thenEachRegisteredWithRule() {
+            // Setup
+            speciesRegistry.register("Southern Flying Squirrel", classification("Glaucomys volans"),
+                    FlyingStrategyRule.none());
+            FlyingStrategyRule rule = FlyingStrategyRule.adultsOnly(FlyingStrategyRegistry.GLIDING);
+            Map<String, ScientificClassification> classifications = Map.of(
+                    "Southern Flying Squirrel", classification("Glaucomys volans"),
+                    "Siberian Flying Squirrel", classification("Pteromys volans"));
+
+            // Execution
+            speciesRegistry.registerAll(classifications, rule);
+
+            // Validation
+            assertEquals(2, speciesRegistry.size(), "size");
+            for (Map.Entry<String, ScientificClassification> entry : classifications.entrySet()) {
+                Species species = speciesRegistry.lookup(entry.getKey()).orElseThrow();
+                assertEquals(entry.getKey(), species.getCommonName(), "commonName");
+                assertSame(entry.getValue(), species.getScientificClassification(), "scientificClassification");
+                assertSame(rule, species.getFlyingStrategyRule(), "flyingStrategyRule");
+            }
+        }
+
+        @Test
+        public void registerAll_whenNullArguments_thenExceptionThrown() {
+            // Setup
+
+            // Execution
+            Executable nullMap = () -> speciesRegistry.registerAll(null, FlyingStrategyRule.none());
+            Executable nullRule = () -> speciesRegistry.registerAll(Map.of(), null);
+
+            // Validation
+            assertThrows(NullPointerException.class, nullMap, "classificationsByCommonName");
+            assertThrows(NullPointerException.class, nullRule, "flyingStrategyRule");
+        }
+    }
+
+    /** Unit tests for the buildTaxonomyIndex method. */
+    @Nested
+    public class BuildTaxonomyIndexTest {
+        @Test
+        public void buildTaxonomyIndex_whenRegistered_thenRegisteredSpeciesIndexed() {
+            // Setup
+            speciesRegistry.register("Southern Flying Squirrel", classification("Glaucomys volans"),
+                    FlyingStrategyRule.none());
+            speciesRegistry.register("Siberian Flying Squirrel", classification("Pteromys volans"),
+                    FlyingStrategyRule.none());
+
+            // Execution
+            TaxonomyIndex index = speciesRegistry.buildTaxonomyIndex();
+
+            // Validation
+            assertEquals(2, index.size(), "size");
+            assertEquals(2, index.getNodes(Rank.ORDER, "Rodentia").get(0).getSpeciesCount(), "Rodentia");
+            assertTrue(index.contains(Rank.SPECIES, "Pteromys volans"), "Pteromys volans");
+        }
+
+        @Test
+        public void buildTaxonomyIndex_whenRegisteredAfterwards_thenNotIndexed() {
+            // Setup
+            TaxonomyIndex index = speciesRegistry.buildTaxonomyIndex();
+
+            // Execution
+            speciesRegistry.register("Southern Flying Squirrel", classification("Glaucomys volans"),
+                    FlyingStrategyRule.none());
+
+            // Validation
+            assertEquals(0, index.size(), "size");
+            assertTrue(index.getKingdoms().isEmpty(), "kingdoms");
+        }
+    }
+
+    /** Unit tests for the buildPerfectHashCatalog method. */
+    @Nested
+    public class BuildPerfectHashCatalogTest {
+        @Test
+        public void buildPerfectHashCatalog_whenRegistered_thenLookupByEitherName() {
+            // Setup
+            ScientificClassification scientificClassification = classification("Glaucomys volans");
+            speciesRegistry.register("Southern Flying Squirrel", scientificClassification, FlyingStrategyRule.none());
+
+            // Execution
+            PerfectHashSpeciesCatalog result = speciesRegistry.buildPerfectHashCatalog();
+
+            // Validation
+            assertEquals(1, result.size(), "size");
+            assertSame(scientificClassification,
+                    result.getScientificClassification("Southern Flying Squirrel").orElseThrow(), "commonName");
+            assertEquals(Optional.of("Southern Flying Squirrel"), result.getCommonName("Glaucomys volans"),
+                    "speciesName");
+        }
+    }
+
+    /** Unit tests for the buildNameIndex method. */
+    @Nested
+    public class BuildNameIndexTest {
+        @Test
+        public void buildNameIndex_whenRegistered_thenCommonAndSpeciesNamesCompleted() {
+            // Setup
+            speciesRegistry.register("Southern Flying Squirrel", classification("Glaucomys volans"),
+                    FlyingStrategyRule.none());
+            speciesRegistry.register("Siberian Flying Squirrel", classification("Pteromys volans"),
+                    FlyingStrategyRule.none());
+
+            // Execution
+            SpeciesNameIndex result = speciesRegistry.buildNameIndex();
+
+            // Validation
+            assertEquals(4, result.size(), "size");
+            assertEquals(List.of("Siberian Flying Squirrel", "Southern Flying Squirrel"), result.complete("S", 10),
+                    "common names");
+            assertEquals(List.of("Glaucomys volans"), result.completeIgnoreCase("glau", 10), "species names");
+        }
+    }
+
+    /** Unit tests for the unregister method. */
+    @Nested
+    public class UnregisterTest {
+        @Test
+        public void unregister_whenRegistered_thenRemovedAndReturned() {
+            // Setup
+            speciesRegistry.register("Southern Flying Squirrel", classification("Glaucomys volans"), FlyingStrategyRule.none());
+
+            // Execution
+            Optional<Species> result = speciesRegistry.unregister("Southern Flying Squirrel");
+
+            // Validation
+            assertEquals("Southern Flying Squirrel", result.orElseThrow().getCommonName(), "result");
+            assertTrue(speciesRegistry.lookup("Southern Flying Squirrel").isEmpty(), "lookup");
+            assertEquals(0, speciesRegistry.size(), "size");
+        }
+
+        @Test
+        public void unregister_whenNotRegistered_thenEmptyReturned() {
+            // Setup
+
+            // Execution
+            Optional<Species> result = speciesRegistry.unregister("Southern Flying Squirrel");
+
+            // Validation
+            assertTrue(result.isEmpty());
+        }
+
+        @Test
+        public void unregister_whenNullCommonName_thenExceptionThrown() {
+            // Setup
+
+            // Execution
+            Executable executable = () -> speciesRegistry.unregister(null);
+
+            // Validation
+            assertThrows(NullPointerException.class, executable);
+        }
+    }
+
+    /** Unit tests for the lookup and getCommonNames methods. */
+    @Nested
+    public class LookupTest {
+        @Test
+        public void lookup_whenNotRegistered_thenEmptyReturned() {
+            // Setup
+
+            // Execution
+            Optional<Species> result = speciesRegistry.lookup("Unicorn");
+
+            // Validation
+            assertTrue(result.isEmpty());
+        }
+
+        @Test
+        public void lookup_whenNullCommonName_thenExceptionThrown() {
+            // Setup
+
+            // Execution
+            Executable executable = () -> speciesRegistry.lookup(null);
+
+            // Validation
+            assertThrows(NullPointerException.class, executable);
+        }
+
+        @Test
+        public void getCommonNames_whenModified_thenExceptionThrown() {
+            // Setup
+            Set<String> commonNames = speciesRegistry.getCommonNames();
+
+            // Execution
+            Executable executable = () -> commonNames.add("Unicorn");
+
+            // Validation
+            assertThrows(UnsupportedOperationException.class, executable);
+        }
+    }
+
+    /** Unit tests for the attachCatalog method. */
+    @Nested
+    public class AttachCatalogTest {
+        /** Two generated species, the second without the optional ranks. */
+        private final SpeciesCatalog catalog = LazySpeciesCatalog.fromBytes((
+                "Human\tAnimalia\tChordata\tMammalia\tPrimates\tHaplorhini\tSimiformes\tHominidae\tHomininae"
+                        + "\tHominini\tHomo\tHomo sapiens\n"
+                        + "Southern Flying Squirrel\tAnimalia\tChordata\tMammalia\tRodentia\t\t\tSciuridae"
+                        + "\tSciurinae\tPteromyini\tGlaucomys\tGlaucomys volans\n").getBytes(StandardCharsets.UTF_8));
+
+        @Test
+        public void lookup_whenInCatalog_thenResolvedOnceAndRegistered() {
+            // Setup
+            FlyingStrategyRule rule = FlyingStrategyRule.adultsOnly(FlyingStrategyRegistry.GLIDING);
+            speciesRegistry.attachCatalog(catalog, rule);
+
+            // Execution
+            Species species = speciesRegistry.lookup("Southern Flying Squirrel").orElseThrow();
+
+            // Validation
+            assertEquals("Glaucomys volans", species.getScientificClassification().getSpeciesName(), "speciesName");
+            assertSame(rule, species.getFlyingStrategyRule(), "flyingStrategyRule");
+            assertSame(species, speciesRegistry.lookup("Southern Flying Squirrel").orElseThrow(), "memoized");
+            assertEquals(Set.of("Southern Flying Squirrel"), speciesRegistry.getCommonNames(), "commonNames");
+        }
+
+        @Test
+        public void lookup_whenRegisteredDirectly_thenCatalogIgnored() {
+            // Setup
+            FlyingStrategyRule rule = FlyingStrategyRule.none();
+            speciesRegistry.register("Human", classification("Glaucomys volans"), rule);
+            speciesRegistry.attachCatalog(catalog, FlyingStrategyRule.adultsOnly(FlyingStrategyRegistry.AIRPLANE));
+
+            // Execution
+            Species species = speciesRegistry.lookup("Human").orElseThrow();
+
+            // Validation
+            assertSame(rule, species.getFlyingStrategyRule());
+        }
+
+        @Test
+        public void lookup_whenSeveralCatalogs_thenSearchedInOrder() {
+            // Setup
+            FlyingStrategyRule first = FlyingStrategyRule.none();
+            FlyingStrategyRule second = FlyingStrategyRule.adultsOnly(FlyingStrategyRegistry.AIRPLANE);
+            speciesRegistry.attachCatalog(LazySpeciesCatalog.fromBytes(new byte[0]), first);
+            speciesRegistry.attachCatalog(catalog, second);
+
+            // Execution
+            Optional<Species> found = speciesRegistry.lookup("Human");
+            Optional<Species> missing = speciesRegistry.lookup("Unicorn");
+
+            // Validation
+            assertSame(second, found.orElseThrow().getFlyingStrategyRule(), "found");
+            assertTrue(missing.isEmpty(), "missing");
+        }
+
+        @Test
+        public void lookup_whenRegisteredWhileResolving_thenRegisteredSpeciesReturned() {
+            // Setup
+            FlyingStrategyRule rule = FlyingStrategyRule.none();
+            speciesRegistry.attachCatalog(new SpeciesCatalog() {
+                @Override
+                public Optional<ScientificClassification> getScientificClassification(String commonName) {
+                    // Simulate another thread registering the species while this one resolves it.
+                    speciesRegistry.register(commonName, classification("Glaucomys volans"), rule);
+                    return catalog.getScientificClassification(commonName);
+                }
+
+                @Override
+                public List<String> getCommonNames() {
+                    return catalog.getCommonNames();
+                }
+            }, FlyingStrategyRule.adultsOnly(FlyingStrategyRegistry.AIRPLANE));
+
+            // Execution
+            Species species = speciesRegistry.lookup("Human").orElseThrow();
+
+            // Validation
+            assertSame(rule, species.getFlyingStrategyRule());
+        }
+
+        @Test
+        public void unregister_whenFromCatalog_thenResolvedAgain() {
+            // Setup
+            speciesRegistry.attachCatalog(catalog, FlyingStrategyRule.none());
+            Species first = speciesRegistry.lookup("Human").orElseThrow();
+
+            // Execution
+            speciesRegistry.unregister("Human");
+
+            // Validation
+            Species second = speciesRegistry.lookup("Human").orElseThrow();
+            assertNotSame(first, second, "new species");
+            assertSame(first.getScientificClassification(), second.getScientificClassification(), "memoized");
+        }
+
+        @Test
+        public void attachCatalog_whenNullArguments_thenExceptionThrown() {
+            // Setup
+
+            // Execution
+            Executable nullCatalog = () -> speciesRegistry.attachCatalog(null, FlyingStrategyRule.none());
+            Executable nullRule = () -> speciesRegistry.attachCatalog(catalog, null);
+
+            // Validation
+            assertThrows(NullPointerException.class, nullCatalog, "catalog");
+            assertThrows(NullPointerException.class, nullRule, "flyingStrategyRule");
+        }
+    }
+
+    /** Unit tests for the getFlyingStrategy and getFlyingStrategyCache methods. */
+    @Nested
+    public class GetFlyingStrategyTest {
+        @Test
+        public void getFlyingStrategy_whenLookedUpTwice_thenSecondAnsweredFromCache() {
+            // Setup
+            speciesRegistry.register("Siberian Flying Squirrel", classification("Pteromys volans"),
+                    FlyingStrategyRule.cacheable(FlyingStrategyRule.adultsOnly(FlyingStrategyRegistry.GLIDING)));
+            Species species = speciesRegistry.lookup("Siberian Flying Squirrel").orElseThrow();
+            speciesRegistry.getFlyingStrategy(species, true);
+
+            // Execution
+            Optional<FlyingStrategy> result = speciesRegistry.getFlyingStrategy(species, true);
+
+            // Validation
+            assertSame(FlyingStrategyRegistry.GLIDING.getStrategy(), result.orElseThrow(), "result");
+            assertEquals(1, speciesRegistry.getFlyingStrategyCache().getHitCount(), "hits");
+            assertEquals(1, speciesRegistry.getFlyingStrategyCache().getMissCount(), "misses");
+        }
+
+        @Test
+        public void getFlyingStrategy_whenRuleNotCacheable_thenRuleEvaluatedEveryTime() {
+            // Setup
+            AtomicInteger evaluations = new AtomicInteger();
+            speciesRegistry.register("Siberian Flying Squirrel", classification("Pteromys volans"),
+                    (scientificClassification, isAdult) -> {
+                        evaluations.incrementAndGet();
+                        return Optional.of(FlyingStrategyRegistry.GLIDING.getStrategy());
+                    });
+            Species species = speciesRegistry.lookup("Siberian Flying Squirrel").orElseThrow();
+            speciesRegistry.getFlyingStrategy(species, true);
+
+            // Execution
+            Optional<FlyingStrategy> result = speciesRegistry.getFlyingStrategy(species, true);
+
+            // Validation
+            assertSame(FlyingStrategyRegistry.GLIDING.getStrategy(), result.orElseThrow(), "result");
+            assertEquals(2, evaluations.get(), "evaluations");
+            assertEquals(0, speciesRegistry.getFlyingStrategyCache().size(), "size");
+            assertEquals(0, speciesRegistry.getFlyingStrategyCache().getMissCount(), "misses");
+        }
+
+        @Test
+        public void getFlyingStrategy_whenRegisteredAgain_thenEntriesInvalidated() {
+            // Setup
+            speciesRegistry.register("Siberian Flying Squirrel", classification("Pteromys volans"),
+                    FlyingStrategyRule.cacheable(FlyingStrategyRule.none()));
+            speciesRegistry.getFlyingStrategy(speciesRegistry.lookup("Siberian Flying Squirrel").orElseThrow(), true);
+
+            // Execution
+            speciesRegistry.register("Siberian Flying Squirrel", classification("Pteromys volans"),
+                    FlyingStrategyRule.cacheable(FlyingStrategyRule.adultsOnly(FlyingStrategyRegistry.GLIDING)));
+
+            // Validation
+            assertEquals(0, speciesRegistry.getFlyingStrategyCache().size(), "size");
+            Species species = speciesRegistry.lookup("Siberian Flying Squirrel").orElseThrow();
+            assertTrue(speciesRegistry.getFlyingStrategy(species, true).isPresent(), "new rule");
+        }
+
+        @Test
+        public void getFlyingStrategy_whenUnregistered_thenEntriesInvalidated() {
+            // Setup
+            speciesRegistry.register("Siberian Flying Squirrel", classification("Pteromys volans"),
+                    FlyingStrategyRule.cacheable(FlyingStrategyRule.none()));
+            Species species = speciesRegistry.lookup("Siberian Flying Squirrel").orElseThrow();
+            speciesRegistry.getFlyingStrategy(species, true);
+            speciesRegistry.getFlyingStrategy(species, false);
+            assertEquals(2, speciesRegistry.getFlyingStrategyCache().size(), "cached");
+
+            // Execution
+            speciesRegistry.unregister("Siberian Flying Squirrel");
+
+            // Validation
+            assertEquals(0, speciesRegistry.getFlyingStrategyCache().size());
+        }
+
+        @Test
+        public void getFlyingStrategy_whenRegisteredInBulk_thenEntriesInvalidated() {
+            // Setup
+            speciesRegistry.register("Siberian Flying Squirrel", classification("Pteromys volans"),
+                    FlyingStrategyRule.cacheable(FlyingStrategyRule.none()));
+            speciesRegistry.getFlyingStrategy(speciesRegistry.lookup("Siberian Flying Squirrel").orElseThrow(), true);
+
+            // Execution
+            speciesRegistry.registerAll(Map.of("Siberian Flying Squirrel", classification("Pteromys volans")),
+                    FlyingStrategyRule.cacheable(FlyingStrategyRule.adultsOnly(FlyingStrategyRegistry.GLIDING)));
+
+            // Validation
+            assertEquals(0, speciesRegistry.getFlyingStrategyCache().size());
+        }
+
+        @Test
+        public void getFlyingStrategyCache_whenSizeGiven_thenCacheBounded() {
+            // Setup
+
+            // Execution
+            SpeciesRegistry result = new SpeciesRegistry(5);
+
+            // Validation
+            assertEquals(5, result.getFlyingStrategyCache().getMaximumSize(), "given");
+            assertEquals(SpeciesRegistry.DEFAULT_FLYING_STRATEGY_CACHE_SIZE,
+                    speciesRegistry.getFlyingStrategyCache().getMaximumSize(), "default");
+        }
+
+        @Test
+        public void getFlyingStrategy_whenNullSpecies_thenExceptionThrown() {
+            // Setup
+
+            // Execution
+            Executable executable = () -> speciesRegistry.getFlyingStrategy(null, true);
+
+            // Validation
+            assertThrows(NullPointerException.class, executable);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package codingchica.patterns.creational.factory;
+
+import codingchica.patterns.behavioral.strategy.model.ScientificClassification;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Unit tests for the codingchica.patterns.creational.factory.Species class */
+class SpeciesTest {
+    private final ScientificClassification scientificClassification = ScientificClassification.builder()
+            .kingdomName("Animalia")
+            .phylumName("Chordata")
+            .className("Mammalia")
+            .orderName("Rodentia")
+            .familyName("Sciuridae")
+            .subFamilyName("Sciurinae")
+            .tribeName("Pteromyini")
+            .speciesName("Pteromys volans")
+            .build();
+
+    /** Unit tests for the constructor. */
+    @Nested
+    public class ConstructorTest {
+        @Test
+        public void constructor_whenPopulated_thenValuesRetained() {
+            // Setup
+            FlyingStrategyRule rule = FlyingStrategyRule.none();
+
+            // Execution
+            Species species = new Species("Siberian Flying Squirrel", scientificClassification, rule);
+
+            // Validation
+            assertEquals("Siberian Flying Squirrel", species.getCommonName(), "commonName");
+            assertSame(scientificClassification, species.getScientificClassification(), "scientificClassification");
+            assertSame(rule, species.getFlyingStrategyRule(), "flyingStrategyRule");
+            assertTrue(species.toString().startsWith("Species(commonName=Siberian Flying Squirrel, "), "toString");
+        }
+
+        @Test
+        public void constructor_whenNullArguments_thenExceptionThrown() {
+            // Setup
+            FlyingStrategyRule rule = FlyingStrategyRule.none();
+
+            // Execution
+            Executable nullCommonName = () -> new Species(null, scientificClassification, rule);
+            Executable nullClassification = () -> new Species("name", null, rule);
+            Executable nullRule = () -> new Species("name", scientificClassification, null);
+
+            // Validation
+            assertThrows(NullPointerException.class, nullCommonName, "commonName");
+            assertThrows(NullPointerException.class, nullClassification, "scientificClassification");
+            assertThrows(NullPointerException.class, nullRule, "flyingStrategyRule");
+        }
+    }
+}
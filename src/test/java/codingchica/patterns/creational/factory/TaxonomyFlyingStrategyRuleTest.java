@@ -0,0 +1,339 @@
+package codingchica.patterns.creational.factory;
+
+import codingchica.patterns.behavioral.strategy.FlyingStrategy;
+import codingchica.patterns.behavioral.strategy.FlyingStrategyRegistry;
+import codingchica.patterns.behavioral.strategy.model.Rank;
+import codingchica.patterns.behavioral.strategy.model.ScientificClassification;
+import codingchica.patterns.behavioral.strategy.model.TaxonomyDictionary;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Unit tests for the codingchica.patterns.creational.factory.TaxonomyFlyingStrategyRule class */
+class TaxonomyFlyingStrategyRuleTest {
+    /** A bat, https://en.wikipedia.org/wiki/Big_brown_bat */
+    private static final ScientificClassification BAT = ScientificClassification.builder()
+            .kingdomName("Animalia")
+            .phylumName("Chordata")
+            .className("Mammalia")
+            .orderName("Chiroptera")
+            .subOrderName("Yangochiroptera")
+            .familyName("Vespertilionidae")
+            .subFamilyName("Vespertilioninae")
+            .tribeName("Eptesicini")
+            .genusName("Eptesicus")
+            .speciesName("Eptesicus fuscus")
+            .build();
+    /** A flying squirrel, https://en.wikipedia.org/wiki/Flying_squirrel */
+    private static final ScientificClassification FLYING_SQUIRREL = ScientificClassification.builder()
+            .kingdomName("Animalia")
+            .phylumName("Chordata")
+            .className("Mammalia")
+            .orderName("Rodentia")
+            .familyName("Sciuridae")
+            .subFamilyName("Sciurinae")
+            .tribeName("Pteromyini")
+            .speciesName("Glaucomys sabrinus")
+            .build();
+    /** A person, https://en.wikipedia.org/wiki/Human_taxonomy */
+    private static final ScientificClassification HUMAN = ScientificClassification.builder()
+            .kingdomName("Animalia")
+            .phylumName("Chordata")
+            .className("Mammalia")
+            .orderName("Primates")
+            .subOrderName("Haplorhini")
+            .infraOrder("Simiformes")
+            .familyName("Hominidae")
+            .subFamilyName("Homininae")
+            .tribeName("Hominini")
+            .genusName("Homo")
+            .speciesName("Homo sapiens")
+            .build();
+
+    /** Unit tests for the getDefault method. */
+    @Nested
+    public class GetDefaultTest {
+        @Test
+        public void getDefault_whenAdultBat_thenFlapWingsReturned() {
+            // Setup
+            FlyingStrategyRule rule = TaxonomyFlyingStrategyRule.getDefault();
+
+            // Execution
+            Optional<FlyingStrategy> result = rule.getFlyingStrategy(BAT, true);
+
+            // Validation
+            assertSame(FlyingStrategyRegistry.FLAP_WINGS.getStrategy(), result.orElseThrow());
+        }
+
+        @Test
+        public void getDefault_whenAdultFlyingSquirrel_thenGlidingReturned() {
+            // Setup
+            FlyingStrategyRule rule = TaxonomyFlyingStrategyRule.getDefault();
+
+            // Execution
+            Optional<FlyingStrategy> result = rule.getFlyingStrategy(FLYING_SQUIRREL, true);
+
+            // Validation
+            assertSame(FlyingStrategyRegistry.GLIDING.getStrategy(), result.orElseThrow());
+        }
+
+        @Test
+        public void getDefault_whenAdultHuman_thenAirplaneReturned() {
+            // Setup
+            FlyingStrategyRule rule = TaxonomyFlyingStrategyRule.getDefault();
+
+            // Execution
+            Optional<FlyingStrategy> result = rule.getFlyingStrategy(HUMAN, true);
+
+            // Validation
+            assertSame(FlyingStrategyRegistry.AIRPLANE.getStrategy(), result.orElseThrow());
+        }
+
+        @Test
+        public void getDefault_whenInvoked_thenSameInstanceReturned() {
+            // Setup
+
+            // Execution
+            TaxonomyFlyingStrategyRule result = TaxonomyFlyingStrategyRule.getDefault();
+
+            // Validation
+            assertSame(TaxonomyFlyingStrategyRule.getDefault(), result, "instance");
+            assertEquals(3, result.size(), "size");
+        }
+    }
+
+    /** Unit tests for the getFlyingStrategy method. */
+    @Nested
+    public class GetFlyingStrategyTest {
+        @Test
+        public void getFlyingStrategy_whenNotAdult_thenEmptyReturned() {
+            // Setup
+            FlyingStrategyRule rule = TaxonomyFlyingStrategyRule.getDefault();
+
+            // Execution
+            Optional<FlyingStrategy> result = rule.getFlyingStrategy(BAT, false);
+
+            // Validation
+            assertTrue(result.isEmpty());
+        }
+
+        @Test
+        public void getFlyingStrategy_whenNoRuleMatches_thenEmptyReturned() {
+            // Setup
+            FlyingStrategyRule rule = TaxonomyFlyingStrategyRule.builder()
+                    .rule(Rank.ORDER, "Chiroptera", FlyingStrategyRegistry.FLAP_WINGS)
+                    .build();
+
+            // Execution
+            Optional<FlyingStrategy> result = rule.getFlyingStrategy(HUMAN, true);
+
+            // Validation
+            assertTrue(result.isEmpty());
+        }
+
+        @Test
+        public void getFlyingStrategy_whenNoRules_thenEmptyReturned() {
+            // Setup
+            TaxonomyFlyingStrategyRule rule = TaxonomyFlyingStrategyRule.builder().build();
+
+            // Execution
+            Optional<FlyingStrategy> result = rule.getFlyingStrategy(HUMAN, true);
+
+            // Validation
+            assertTrue(result.isEmpty(), "result");
+            assertEquals(0, rule.size(), "size");
+        }
+
+        @Test
+        public void getFlyingStrategy_whenRuleRankUnset_thenBroaderRuleApplies() {
+            // Setup
+            FlyingStrategyRule rule = TaxonomyFlyingStrategyRule.builder()
+                    .rule(Rank.GENUS, "Glaucomys", FlyingStrategyRegistry.AIRPLANE)
+                    .rule(Rank.TRIBE, "Pteromyini", FlyingStrategyRegistry.GLIDING)
+                    .build();
+
+            // Execution
+            Optional<FlyingStrategy> result = rule.getFlyingStrategy(FLYING_SQUIRREL, true);
+
+            // Validation
+            assertSame(FlyingStrategyRegistry.GLIDING.getStrategy(), result.orElseThrow());
+        }
+
+        @Test
+        public void getFlyingStrategy_whenSeveralRulesMatch_thenMostSpecificRankWins() {
+            // Setup
+            FlyingStrategyRule rule = TaxonomyFlyingStrategyRule.builder()
+                    .rule(Rank.CLASS, "Mammalia", FlyingStrategyRegistry.UNABLE_TO_FLY)
+                    .rule(Rank.GENUS, "Homo", FlyingStrategyRegistry.AIRPLANE)
+                    .rule(Rank.ORDER, "Primates", FlyingStrategyRegistry.GLIDING)
+                    .build();
+
+            // Execution
+            Optional<FlyingStrategy> human = rule.getFlyingStrategy(HUMAN, true);
+            Optional<FlyingStrategy> bat = rule.getFlyingStrategy(BAT, true);
+
+            // Validation
+            assertSame(FlyingStrategyRegistry.AIRPLANE.getStrategy(), human.orElseThrow(), "human");
+            assertSame(FlyingStrategyRegistry.UNABLE_TO_FLY.getStrategy(), bat.orElseThrow(), "bat");
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {1, 2, 3, 100, 1000})
+        public void getFlyingStrategy_whenManyRulesOnRank_thenEachMatches(int ruleCount) {
+            // Setup
+            TaxonomyFlyingStrategyRule.Builder builder = TaxonomyFlyingStrategyRule.builder();
+            FlyingStrategyRegistry[] entries = FlyingStrategyRegistry.values();
+            for (int i = 0; i < ruleCount; i++) {
+                builder.rule(Rank.SPECIES, "Species " + i, entries[i % entries.length]);
+            }
+            TaxonomyFlyingStrategyRule rule = builder.build();
+
+            // Execution & Validation
+            assertEquals(ruleCount, rule.size(), "size");
+            for (int i = 0; i < ruleCount; i++) {
+                ScientificClassification classification = ScientificClassification.builder()
+                        .kingdomName("Animalia")
+                        .phylumName("Chordata")
+                        .className("Mammalia")
+                        .orderName("Rodentia")
+                        .familyName("Sciuridae")
+                        .subFamilyName("Sciurinae")
+                        .tribeName("Pteromyini")
+                        .speciesName("Species " + i)
+                        .build();
+                assertSame(entries[i % entries.length].getStrategy(),
+                        rule.getFlyingStrategy(classification, true).orElseThrow(), "Species " + i);
+            }
+            assertTrue(rule.getFlyingStrategy(HUMAN, true).isEmpty(), "human");
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {1, 3, 1000})
+        public void getFlyingStrategy_whenManyRulesOnEncodedRank_thenEachMatches(int ruleCount) {
+            // Setup
+            TaxonomyFlyingStrategyRule.Builder builder = TaxonomyFlyingStrategyRule.builder();
+            FlyingStrategyRegistry[] entries = FlyingStrategyRegistry.values();
+            for (int i = 0; i < ruleCount; i++) {
+                builder.rule(Rank.TRIBE, "Tribe" + i, entries[i % entries.length]);
+            }
+            TaxonomyFlyingStrategyRule rule = builder.build();
+
+            // Execution & Validation
+            for (int i = 0; i < ruleCount; i++) {
+                ScientificClassification classification = ScientificClassification.builder()
+                        .kingdomName("Animalia")
+                        .phylumName("Chordata")
+                        .className("Mammalia")
+                        .orderName("Rodentia")
+                        .familyName("Sciuridae")
+                        .subFamilyName("Sciurinae")
+                        .tribeName("Tribe" + i)
+                        .speciesName("Species " + i)
+                        .build();
+                assertSame(entries[i % entries.length].getStrategy(),
+                        rule.getFlyingStrategy(classification, true).orElseThrow(), "Tribe" + i);
+            }
+            assertTrue(rule.getFlyingStrategy(HUMAN, true).isEmpty(), "human");
+        }
+
+        @Test
+        public void build_whenGenusAndSpeciesRules_thenDictionaryNotGrown() {
+            // Setup
+            int dictionarySize = TaxonomyDictionary.getInstance().size();
+            String genusName = "Rulegenus" + System.nanoTime();
+
+            // Execution
+            TaxonomyFlyingStrategyRule rule = TaxonomyFlyingStrategyRule.builder()
+                    .rule(Rank.GENUS, genusName, FlyingStrategyRegistry.GLIDING)
+                    .rule(Rank.SPECIES, genusName + " volans", FlyingStrategyRegistry.FLAP_WINGS)
+                    .build();
+
+            // Validation
+            assertEquals(dictionarySize, TaxonomyDictionary.getInstance().size(), "dictionary size");
+            assertEquals(2, rule.size(), "size");
+        }
+
+        @Test
+        public void getFlyingStrategy_whenNullClassification_thenExceptionThrown() {
+            // Setup
+            FlyingStrategyRule rule = TaxonomyFlyingStrategyRule.getDefault();
+
+            // Execution
+            Executable executable = () -> rule.getFlyingStrategy(null, true);
+
+            // Validation
+            assertThrows(NullPointerException.class, executable);
+        }
+    }
+
+    /** Unit tests for the Builder class. */
+    @Nested
+    public class BuilderTest {
+        @Test
+        public void rule_whenSameRuleAddedTwice_thenCountedOnce() {
+            // Setup
+            TaxonomyFlyingStrategyRule.Builder builder = TaxonomyFlyingStrategyRule.builder()
+                    .rule(Rank.GENUS, "Homo", FlyingStrategyRegistry.AIRPLANE);
+
+            // Execution
+            TaxonomyFlyingStrategyRule result = builder.rule(Rank.GENUS, "Homo", FlyingStrategyRegistry.AIRPLANE)
+                    .build();
+
+            // Validation
+            assertEquals(1, result.size());
+        }
+
+        @Test
+        public void rule_whenConflictingRuleAdded_thenExceptionThrown() {
+            // Setup
+            TaxonomyFlyingStrategyRule.Builder builder = TaxonomyFlyingStrategyRule.builder()
+                    .rule(Rank.GENUS, "Homo", FlyingStrategyRegistry.AIRPLANE);
+
+            // Execution
+            Executable executable = () -> builder.rule(Rank.GENUS, "Homo", FlyingStrategyRegistry.GLIDING);
+
+            // Validation
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, executable);
+            assertEquals("Conflicting rules for GENUS Homo: AIRPLANE and GLIDING", exception.getMessage());
+        }
+
+        @Test
+        public void rule_whenNullArguments_thenExceptionThrown() {
+            // Setup
+            TaxonomyFlyingStrategyRule.Builder builder = TaxonomyFlyingStrategyRule.builder();
+
+            // Execution & Validation
+            assertThrows(NullPointerException.class,
+                    () -> builder.rule(null, "Homo", FlyingStrategyRegistry.AIRPLANE), "rank");
+            assertThrows(NullPointerException.class,
+                    () -> builder.rule(Rank.GENUS, null, FlyingStrategyRegistry.AIRPLANE), "name");
+            assertThrows(NullPointerException.class,
+                    () -> builder.rule(Rank.GENUS, "Homo", null), "entry");
+        }
+
+        @Test
+        public void build_whenRulesAddedAfterward_thenEarlierRuleUnchanged() {
+            // Setup
+            TaxonomyFlyingStrategyRule.Builder builder = TaxonomyFlyingStrategyRule.builder()
+                    .rule(Rank.GENUS, "Homo", FlyingStrategyRegistry.AIRPLANE);
+            TaxonomyFlyingStrategyRule first = builder.build();
+
+            // Execution
+            TaxonomyFlyingStrategyRule second = builder.rule(Rank.ORDER, "Chiroptera", FlyingStrategyRegistry.FLAP_WINGS)
+                    .build();
+
+            // Validation
+            assertEquals(1, first.size(), "first");
+            assertEquals(2, second.size(), "second");
+            assertTrue(first.getFlyingStrategy(BAT, true).isEmpty(), "first bat");
+            assertSame(FlyingStrategyRegistry.FLAP_WINGS.getStrategy(), second.getFlyingStrategy(BAT, true)
+                    .orElseThrow(), "second bat");
+        }
+    }
+}
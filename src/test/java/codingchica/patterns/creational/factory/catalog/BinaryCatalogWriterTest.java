@@ -0,0 +1,60 @@
+package codingchica.patterns.creational.factory.catalog;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static codingchica.patterns.creational.factory.catalog.CatalogFormatTest.FLYING_SQUIRREL;
+import static codingchica.patterns.creational.factory.catalog.CatalogFormatTest.HUMAN;
+import static codingchica.patterns.creational.factory.catalog.CatalogFormatTest.bytes;
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Unit tests for the codingchica.patterns.creational.factory.catalog.BinaryCatalogWriter class */
+class BinaryCatalogWriterTest {
+    /** Unit tests for the write method. */
+    @Nested
+    public class WriteTest {
+        @Test
+        public void write_whenCatalog_thenHeaderDescribesSections(@TempDir Path directory) throws IOException {
+            // Setup
+            Path path = directory.resolve("species.bin");
+            SpeciesCatalog catalog = EagerSpeciesCatalog.fromBytes(bytes(HUMAN + "\n" + FLYING_SQUIRREL));
+
+            // Execution
+            BinaryCatalogWriter.write(catalog, path);
+
+            // Validation
+            ByteBuffer file = ByteBuffer.wrap(Files.readAllBytes(path));
+            assertEquals(BinaryCatalogFormat.MAGIC, file.getInt(0), "magic");
+            assertEquals(BinaryCatalogFormat.VERSION, file.getInt(4), "version");
+            assertEquals(11, file.getInt(8), "rankCount");
+            assertEquals(2, file.getInt(12), "speciesCount");
+            // Animalia, Chordata and Mammalia are shared, so they are stored once: 12 distinct values for the person,
+            // plus 6 for the flying squirrel.
+            assertEquals(18, file.getInt(16), "stringCount");
+            assertEquals(file.capacity(), file.getInt(32) + 2 * Integer.BYTES, "file size");
+            assertEquals(1, file.getInt(file.getInt(32)), "first by name is Flying Squirrel");
+            assertEquals(0, file.getInt(file.getInt(32) + 4), "second by name is Person");
+        }
+
+        @Test
+        public void write_whenNullArguments_thenExceptionThrown(@TempDir Path directory) {
+            // Setup
+            SpeciesCatalog catalog = EagerSpeciesCatalog.fromBytes(new byte[0]);
+
+            // Execution
+            Executable nullCatalog = () -> BinaryCatalogWriter.write(null, directory.resolve("species.bin"));
+            Executable nullPath = () -> BinaryCatalogWriter.write(catalog, null);
+
+            // Validation
+            assertThrows(NullPointerException.class, nullCatalog, "catalog");
+            assertThrows(NullPointerException.class, nullPath, "path");
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package codingchica.patterns.creational.factory.catalog;
+
+import codingchica.patterns.behavioral.strategy.model.ScientificClassification;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static codingchica.patterns.creational.factory.catalog.CatalogFormatTest.FLYING_SQUIRREL;
+import static codingchica.patterns.creational.factory.catalog.CatalogFormatTest.HUMAN;
+import static codingchica.patterns.creational.factory.catalog.CatalogFormatTest.bytes;
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Unit tests for the codingchica.patterns.creational.factory.catalog.BinarySpeciesCatalog class */
+class BinarySpeciesCatalogTest {
+    @TempDir
+    Path directory;
+
+    /**
+     * Write a catalog in the binary format and open it.
+     *
+     * @param content The text catalog content.
+     * @return The binary catalog.
+     * @throws IOException If the file cannot be written or read.
+     */
+    private BinarySpeciesCatalog roundTrip(String content) throws IOException {
+        Path path = directory.resolve("species.bin");
+        BinaryCatalogWriter.write(EagerSpeciesCatalog.fromBytes(bytes(content)), path);
+        return BinarySpeciesCatalog.open(path);
+    }
+
+    /** Unit tests for the getScientificClassification method. */
+    @Nested
+    public class GetScientificClassificationTest {
+        @Test
+        public void getScientificClassification_whenManySpecies_thenEachMatchesSource() throws IOException {
+            // Setup
+            StringBuilder content = new StringBuilder(HUMAN).append('\n');
+            for (int i = 0; i < 2_000; i++) {
+                content.append(FLYING_SQUIRREL.replace("Flying Squirrel", "Species " + i)
+                        .replace("Glaucomys sabrinus", "Glaucomys " + i)).append('\n');
+            }
+            content.append(HUMAN.replace("Person", "Écureuil")).append('\n');
+            EagerSpeciesCatalog expected = EagerSpeciesCatalog.fromBytes(bytes(content.toString()));
+
+            // Execution
+            BinarySpeciesCatalog catalog = roundTrip(content.toString());
+
+            // Validation
+            assertEquals(expected.size(), catalog.size(), "size");
+            assertEquals(expected.getCommonNames(), new ArrayList<>(catalog.getCommonNames()), "commonNames");
+            for (String commonName : expected.getCommonNames()) {
+                assertEquals(expected.getScientificClassification(commonName),
+                        catalog.getScientificClassification(commonName), commonName);
+            }
+        }
+
+        @Test
+        public void getScientificClassification_whenRepeated_thenMemoizedAndRanksShared() throws IOException {
+            // Setup
+            BinarySpeciesCatalog catalog = roundTrip(HUMAN + "\n" + FLYING_SQUIRREL);
+
+            // Execution
+            ScientificClassification first = catalog.getScientificClassification("Person").orElseThrow();
+            ScientificClassification second = catalog.getScientificClassification("Person").orElseThrow();
+            ScientificClassification other = catalog.getScientificClassification("Flying Squirrel").orElseThrow();
+
+            // Validation
+            assertSame(first, second, "memoized");
+            assertSame(first.getKingdomName(), other.getKingdomName(), "shared rank");
+            assertNull(other.getSubOrderName(), "unset rank");
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"", "A", "Flying", "Flying Squirrels", "Person ", "Zebra", "Écureuil"})
+        public void getScientificClassification_whenUnknown_thenEmpty(String commonName) throws IOException {
+            // Setup
+            BinarySpeciesCatalog catalog = roundTrip(HUMAN + "\n" + FLYING_SQUIRREL);
+
+            // Execution
+            Optional<ScientificClassification> result = catalog.getScientificClassification(commonName);
+
+            // Validation
+            assertTrue(result.isEmpty());
+        }
+
+        @Test
+        public void getScientificClassification_whenEmptyCatalog_thenEmpty() throws IOException {
+            // Setup
+            BinarySpeciesCatalog catalog = roundTrip("");
+
+            // Execution
+            Optional<ScientificClassification> result = catalog.getScientificClassification("Person");
+
+            // Validation
+            assertTrue(result.isEmpty(), "result");
+            assertEquals(0, catalog.size(), "size");
+            assertEquals(List.of(), catalog.getCommonNames(), "commonNames");
+        }
+
+        @Test
+        public void getScientificClassification_whenNull_thenExceptionThrown() throws IOException {
+            // Setup
+            BinarySpeciesCatalog catalog = roundTrip(HUMAN);
+
+            // Execution
+            Executable executable = () -> catalog.getScientificClassification(null);
+
+            // Validation
+            assertThrows(NullPointerException.class, executable);
+        }
+
+        @Test
+        public void getCommonNames_whenOutOfRange_thenExceptionThrown() throws IOException {
+            // Setup
+            List<String> commonNames = roundTrip(HUMAN).getCommonNames();
+
+            // Execution
+            Executable executable = () -> commonNames.get(1);
+
+            // Validation
+            assertThrows(IndexOutOfBoundsException.class, executable);
+        }
+    }
+
+    /** Unit tests for the open method. */
+    @Nested
+    public class OpenTest {
+        /**
+         * Write a catalog, change one int of its header, and try to open it.
+         *
+         * @param headerIndex The index of the header int to change.
+         * @param delta       The amount to add to the int.
+         * @return The exception thrown.
+         * @throws IOException If the file cannot be written.
+         */
+        private IOException openCorrupted(int headerIndex, int delta) throws IOException {
+            Path path = directory.resolve("species.bin");
+            BinaryCatalogWriter.write(EagerSpeciesCatalog.fromBytes(bytes(HUMAN)), path);
+            ByteBuffer file = ByteBuffer.wrap(Files.readAllBytes(path));
+            file.putInt(headerIndex * Integer.BYTES, file.getInt(headerIndex * Integer.BYTES) + delta);
+            Files.write(path, file.array());
+            return assertThrows(IOException.class, () -> BinarySpeciesCatalog.open(path));
+        }
+
+        @ParameterizedTest
+        @CsvSource({"2,1", "3,-2", "4,-21", "5,4", "6,4", "7,-1", "7,-100", "8,4", "3,1"})
+        public void open_whenHeaderInconsistent_thenExceptionThrown(int headerIndex, int delta) throws IOException {
+            // Setup
+
+            // Execution
+            IOException exception = openCorrupted(headerIndex, delta);
+
+            // Validation
+            assertTrue(exception.getMessage().startsWith("Corrupt binary species catalog: "), exception.getMessage());
+        }
+
+        @Test
+        public void open_whenWrongMagic_thenExceptionThrown() throws IOException {
+            // Setup
+
+            // Execution
+            IOException exception = openCorrupted(0, 1);
+
+            // Validation
+            assertTrue(exception.getMessage().startsWith("Not a binary species catalog: "), exception.getMessage());
+        }
+
+        @Test
+        public void open_whenOtherVersion_thenExceptionThrown() throws IOException {
+            // Setup
+
+            // Execution
+            IOException exception = openCorrupted(1, 1);
+
+            // Validation
+            assertTrue(exception.getMessage().startsWith("Unsupported binary species catalog version 2: "),
+                    exception.getMessage());
+        }
+
+        @Test
+        public void open_whenTrailingBytes_thenExceptionThrown() throws IOException {
+            // Setup
+            Path path = directory.resolve("species.bin");
+            BinaryCatalogWriter.write(EagerSpeciesCatalog.fromBytes(bytes(HUMAN)), path);
+            byte[] content = Files.readAllBytes(path);
+            Files.write(path, Arrays.copyOf(content, content.length + 1));
+
+            // Execution
+            Executable executable = () -> BinarySpeciesCatalog.open(path);
+
+            // Validation
+            IOException exception = assertThrows(IOException.class, executable);
+            assertTrue(exception.getMessage().startsWith("Corrupt binary species catalog: "), exception.getMessage());
+        }
+
+        @Test
+        public void open_whenTooShort_thenExceptionThrown() throws IOException {
+            // Setup
+            Path path = directory.resolve("species.bin");
+            Files.write(path, new byte[8]);
+
+            // Execution
+            Executable executable = () -> BinarySpeciesCatalog.open(path);
+
+            // Validation
+            IOException exception = assertThrows(IOException.class, executable);
+            assertTrue(exception.getMessage().startsWith("Not a binary species catalog: "), exception.getMessage());
+        }
+
+        @Test
+        public void open_whenNull_thenExceptionThrown() {
+            // Setup
+
+            // Execution
+            Executable executable = () -> BinarySpeciesCatalog.open(null);
+
+            // Validation
+            assertThrows(NullPointerException.class, executable);
+        }
+    }
+}
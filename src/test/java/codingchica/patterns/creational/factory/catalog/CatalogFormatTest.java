@@ -0,0 +1,203 @@
+package codingchica.patterns.creational.factory.catalog;
+
+import codingchica.patterns.behavioral.strategy.model.ScientificClassification;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Unit tests for the codingchica.patterns.creational.factory.catalog.CatalogFormat class */
+class CatalogFormatTest {
+    /** A well-formed line, with every rank populated. */
+    static final String HUMAN = "Person\tAnimalia\tChordata\tMammalia\tPrimates\tHaplorhini\tSimiformes\tHominidae"
+            + "\tHomininae\tHominini\tHomo\tHomo sapiens";
+    /** A well-formed line, with the optional ranks empty. */
+    static final String FLYING_SQUIRREL = "Flying Squirrel\tAnimalia\tChordata\tMammalia\tRodentia\t\t\tSciuridae"
+            + "\tSciurinae\tPteromyini\t\tGlaucomys sabrinus";
+
+    /**
+     * Encode text as UTF-8.
+     *
+     * @param text The text.
+     * @return The bytes.
+     */
+    static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /** Unit tests for the line navigation methods. */
+    @Nested
+    public class LineTest {
+        @ParameterizedTest
+        @CsvSource(delimiter = '|', value = {"abc\\ndef|0|3|3", "abc\\r\\ndef|0|4|3", "abc\\r\\ndef|5|8|8",
+                "\\n|0|0|0", "\\r|0|1|0"})
+        public void lineEnd_whenInvoked_thenEndsFound(String escapedText, int from, int expectedLineEnd,
+                                                      int expectedDataEnd) {
+            // Setup
+            byte[] content = bytes(escapedText.replace("\\r", "\r").replace("\\n", "\n"));
+
+            // Execution
+            int lineEnd = CatalogFormat.lineEnd(content, from);
+            int dataEnd = CatalogFormat.dataEnd(content, from, lineEnd);
+
+            // Validation
+            assertEquals(expectedLineEnd, lineEnd, "lineEnd");
+            assertEquals(expectedDataEnd, dataEnd, "dataEnd");
+        }
+
+        @ParameterizedTest
+        @CsvSource(delimiter = '|', value = {"''|true", "#comment|true", "Person|false"})
+        public void isSkipped_whenInvoked_thenExpectedResult(String text, boolean expected) {
+            // Setup
+            byte[] content = bytes(text);
+
+            // Execution
+            boolean result = CatalogFormat.isSkipped(content, 0, content.length);
+
+            // Validation
+            assertEquals(expected, result);
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"Person\tAnimalia", "Person\nBat", "Person\r\nBat", "Person\r", "Person"})
+        public void decodeName_whenInvoked_thenFirstColumnReturned(String text) {
+            // Setup
+            byte[] content = bytes(text);
+
+            // Execution
+            String result = CatalogFormat.decodeName(content, 0);
+
+            // Validation
+            assertEquals("Person", result);
+        }
+
+        @Test
+        public void hash_whenSameBytes_thenSameHash() {
+            // Setup
+            byte[] content = bytes("xPersonx");
+
+            // Execution
+            int result = CatalogFormat.hash(content, 1, 7);
+
+            // Validation
+            assertEquals(CatalogFormat.hash(bytes("Person"), 0, 6), result);
+        }
+    }
+
+    /** Unit tests for the parse method. */
+    @Nested
+    public class ParseTest {
+        @Test
+        public void parse_whenAllRanks_thenPopulated() {
+            // Setup
+            byte[] content = bytes("#header\n" + HUMAN + "\r\n");
+
+            // Execution
+            ScientificClassification result = CatalogFormat.parse(content, 8);
+
+            // Validation
+            assertEquals(ScientificClassification.builder()
+                    .kingdomName("Animalia")
+                    .phylumName("Chordata")
+                    .className("Mammalia")
+                    .orderName("Primates")
+                    .subOrderName("Haplorhini")
+                    .infraOrder("Simiformes")
+                    .familyName("Hominidae")
+                    .subFamilyName("Homininae")
+                    .tribeName("Hominini")
+                    .genusName("Homo")
+                    .speciesName("Homo sapiens")
+                    .build(), result);
+        }
+
+        @Test
+        public void parse_whenOptionalRanksEmpty_thenNull() {
+            // Setup
+            byte[] content = bytes(FLYING_SQUIRREL);
+
+            // Execution
+            ScientificClassification result = CatalogFormat.parse(content, 0);
+
+            // Validation
+            assertNull(result.getSubOrderName(), "subOrderName");
+            assertNull(result.getInfraOrder(), "infraOrder");
+            assertNull(result.getGenusName(), "genusName");
+            assertEquals("Glaucomys sabrinus", result.getSpeciesName(), "speciesName");
+        }
+
+        @ParameterizedTest
+        @CsvSource(delimiter = '|', ignoreLeadingAndTrailingWhitespace = false, value = {
+                "Person\tAnimalia|Malformed catalog entry for Person: expected 12 columns but found 2",
+                "Person\ta\tb\tc\td\te\tf\tg\th\ti\tj\tk\tl|"
+                        + "Malformed catalog entry for Person: expected 12 columns but found 13",
+                "Person\ta\tb\tc\td\te\tf\t\th\ti\tj\tk|Malformed catalog entry for Person: the family column is "
+                        + "required",
+                "\ta\tb\tc\td\te\tf\tg\th\ti\tj\tk|Malformed catalog entry for : the commonName column is "
+                        + "required"})
+        public void parse_whenMalformed_thenExceptionThrown(String text, String expectedMessage) {
+            // Setup
+            byte[] content = bytes(text);
+
+            // Execution
+            Executable executable = () -> CatalogFormat.parse(content, 0);
+
+            // Validation
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, executable);
+            assertEquals(expectedMessage, exception.getMessage());
+        }
+    }
+
+    /** Unit tests for the splitColumns and findMissingColumn methods. */
+    @Nested
+    public class SplitColumnsTest {
+        @Test
+        public void splitColumns_whenOtherSeparator_thenSplitOnIt() {
+            // Setup
+            byte[] content = bytes("a,,b\tc,");
+            String[] values = {"stale", "stale", "stale", "stale"};
+
+            // Execution
+            int result = CatalogFormat.splitColumns(content, 0, content.length, (byte) ',', values);
+
+            // Validation
+            assertEquals(4, result, "columnCount");
+            assertArrayEquals(new String[]{"a", null, "b\tc", null}, values, "values");
+        }
+
+        @Test
+        public void splitColumns_whenMoreColumnsThanValues_thenCounted() {
+            // Setup
+            byte[] content = bytes("a,b,c");
+            String[] values = new String[1];
+
+            // Execution
+            int result = CatalogFormat.splitColumns(content, 0, content.length, (byte) ',', values);
+
+            // Validation
+            assertEquals(3, result, "columnCount");
+            assertArrayEquals(new String[]{"a"}, values, "values");
+        }
+
+        @ParameterizedTest
+        @CsvSource({"0,0", "1,1", "5,-1", "6,-1", "7,7", "9,9", "10,-1", "11,11"})
+        public void findMissingColumn_whenColumnEmpty_thenRequiredColumnsReported(int emptyColumn, int expected) {
+            // Setup
+            String[] values = new String[CatalogFormat.COLUMN_NAMES.length];
+            CatalogFormat.splitColumns(bytes(HUMAN), 0, HUMAN.length(), (byte) '\t', values);
+            values[emptyColumn] = null;
+
+            // Execution
+            int result = CatalogFormat.findMissingColumn(values);
+
+            // Validation
+            assertEquals(expected, result);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package codingchica.patterns.creational.factory.catalog;
+
+import codingchica.patterns.behavioral.strategy.model.ScientificClassification;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static codingchica.patterns.creational.factory.catalog.CatalogFormatTest.FLYING_SQUIRREL;
+import static codingchica.patterns.creational.factory.catalog.CatalogFormatTest.HUMAN;
+import static codingchica.patterns.creational.factory.catalog.CatalogFormatTest.bytes;
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Unit tests for the codingchica.patterns.creational.factory.catalog.EagerSpeciesCatalog class */
+class EagerSpeciesCatalogTest {
+    /** Unit tests for the load and fromBytes methods. */
+    @Nested
+    public class LoadTest {
+        @Test
+        public void load_whenFile_thenEveryEntryParsed(@TempDir Path directory) throws IOException {
+            // Setup
+            Path path = directory.resolve("species.tsv");
+            Files.writeString(path, "# commonName\tkingdom\n\n" + HUMAN + "\n" + FLYING_SQUIRREL + "\n");
+
+            // Execution
+            EagerSpeciesCatalog catalog = EagerSpeciesCatalog.load(path);
+
+            // Validation
+            assertEquals(List.of("Person", "Flying Squirrel"), catalog.getCommonNames(), "commonNames");
+            assertEquals(2, catalog.size(), "size");
+            assertEquals("Homo sapiens",
+                    catalog.getScientificClassification("Person").orElseThrow().getSpeciesName(), "person");
+        }
+
+        @Test
+        public void fromBytes_whenDuplicate_thenLastEntryWinsInFirstPosition() {
+            // Setup
+            byte[] content = bytes(HUMAN + "\n" + FLYING_SQUIRREL + "\n" + HUMAN.replace("Homo sapiens", "Homo"));
+
+            // Execution
+            EagerSpeciesCatalog catalog = EagerSpeciesCatalog.fromBytes(content);
+
+            // Validation
+            assertEquals(List.of("Person", "Flying Squirrel"), catalog.getCommonNames(), "commonNames");
+            assertEquals("Homo", catalog.getScientificClassification("Person").orElseThrow().getSpeciesName(),
+                    "speciesName");
+        }
+
+        @Test
+        public void fromBytes_whenMalformed_thenExceptionThrown() {
+            // Setup
+            byte[] content = bytes(HUMAN + "\nBat\tAnimalia\n");
+
+            // Execution
+            Executable executable = () -> EagerSpeciesCatalog.fromBytes(content);
+
+            // Validation
+            assertThrows(IllegalArgumentException.class, executable);
+        }
+
+        @Test
+        public void load_whenNull_thenExceptionThrown() {
+            // Setup
+
+            // Execution
+            Executable nullPath = () -> EagerSpeciesCatalog.load(null);
+            Executable nullContent = () -> EagerSpeciesCatalog.fromBytes(null);
+
+            // Validation
+            assertThrows(NullPointerException.class, nullPath, "path");
+            assertThrows(NullPointerException.class, nullContent, "content");
+        }
+    }
+
+    /** Unit tests for the getScientificClassification method. */
+    @Nested
+    public class GetScientificClassificationTest {
+        private final EagerSpeciesCatalog catalog = EagerSpeciesCatalog.fromBytes(bytes(HUMAN));
+
+        @Test
+        public void getScientificClassification_whenUnknown_thenEmpty() {
+            // Setup
+
+            // Execution
+            Optional<ScientificClassification> result = catalog.getScientificClassification("Unicorn");
+
+            // Validation
+            assertTrue(result.isEmpty());
+        }
+
+        @Test
+        public void getScientificClassification_whenNull_thenExceptionThrown() {
+            // Setup
+
+            // Execution
+            Executable executable = () -> catalog.getScientificClassification(null);
+
+            // Validation
+            assertThrows(NullPointerException.class, executable);
+        }
+    }
+}
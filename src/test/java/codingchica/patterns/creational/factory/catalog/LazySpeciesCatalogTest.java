@@ -0,0 +1,197 @@
+package codingchica.patterns.creational.factory.catalog;
+
+import codingchica.patterns.behavioral.strategy.model.ScientificClassification;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static codingchica.patterns.creational.factory.catalog.CatalogFormatTest.FLYING_SQUIRREL;
+import static codingchica.patterns.creational.factory.catalog.CatalogFormatTest.HUMAN;
+import static codingchica.patterns.creational.factory.catalog.CatalogFormatTest.bytes;
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Unit tests for the codingchica.patterns.creational.factory.catalog.LazySpeciesCatalog class */
+class LazySpeciesCatalogTest {
+    /**
+     * Build catalog content with many generated species.
+     *
+     * @param count The number of species.
+     * @return The content.
+     */
+    private static byte[] generated(int count) {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            content.append(FLYING_SQUIRREL.replace("Flying Squirrel", "Species " + i)
+                    .replace("Glaucomys sabrinus", "Glaucomys " + i)).append('\n');
+        }
+        return bytes(content.toString());
+    }
+
+    /** Unit tests for the load and fromBytes methods. */
+    @Nested
+    public class LoadTest {
+        @Test
+        public void load_whenFile_thenNothingParsed(@TempDir Path directory) throws IOException {
+            // Setup
+            Path path = directory.resolve("species.tsv");
+            Files.writeString(path, "# commonName\tkingdom\r\n\r\n" + HUMAN + "\r\n" + FLYING_SQUIRREL);
+
+            // Execution
+            LazySpeciesCatalog catalog = LazySpeciesCatalog.load(path);
+
+            // Validation
+            assertEquals(List.of("Person", "Flying Squirrel"), catalog.getCommonNames(), "commonNames");
+            assertEquals(2, catalog.size(), "size");
+            assertEquals(0, catalog.getParsedCount(), "parsedCount");
+        }
+
+        @Test
+        public void fromBytes_whenEmpty_thenEmptyCatalog() {
+            // Setup
+
+            // Execution
+            LazySpeciesCatalog catalog = LazySpeciesCatalog.fromBytes(new byte[0]);
+
+            // Validation
+            assertEquals(0, catalog.size(), "size");
+            assertTrue(catalog.getScientificClassification("Person").isEmpty(), "lookup");
+        }
+
+        @Test
+        public void fromBytes_whenDuplicate_thenLastEntryWinsInFirstPosition() {
+            // Setup
+            byte[] content = bytes(HUMAN + "\n" + FLYING_SQUIRREL + "\n" + HUMAN.replace("Homo sapiens", "Homo"));
+
+            // Execution
+            LazySpeciesCatalog catalog = LazySpeciesCatalog.fromBytes(content);
+
+            // Validation
+            assertEquals(List.of("Person", "Flying Squirrel"), catalog.getCommonNames(), "commonNames");
+            assertEquals("Homo", catalog.getScientificClassification("Person").orElseThrow().getSpeciesName(),
+                    "speciesName");
+        }
+
+        @Test
+        public void fromBytes_whenMalformed_thenReportedOnRequest() {
+            // Setup
+            LazySpeciesCatalog catalog = LazySpeciesCatalog.fromBytes(bytes(HUMAN + "\nBat\tAnimalia\n"));
+
+            // Execution
+            Executable executable = () -> catalog.getScientificClassification("Bat");
+
+            // Validation
+            assertThrows(IllegalArgumentException.class, executable);
+            assertTrue(catalog.getScientificClassification("Person").isPresent(), "person");
+        }
+
+        @Test
+        public void load_whenNull_thenExceptionThrown() {
+            // Setup
+
+            // Execution
+            Executable nullPath = () -> LazySpeciesCatalog.load(null);
+            Executable nullContent = () -> LazySpeciesCatalog.fromBytes(null);
+
+            // Validation
+            assertThrows(NullPointerException.class, nullPath, "path");
+            assertThrows(NullPointerException.class, nullContent, "content");
+        }
+    }
+
+    /** Unit tests for the getScientificClassification method. */
+    @Nested
+    public class GetScientificClassificationTest {
+        @Test
+        public void getScientificClassification_whenManySpecies_thenEachFoundAndMemoized() {
+            // Setup
+            int count = 10_000;
+            LazySpeciesCatalog catalog = LazySpeciesCatalog.fromBytes(generated(count));
+            EagerSpeciesCatalog expected = EagerSpeciesCatalog.fromBytes(generated(count));
+
+            // Execution
+            for (int i = 0; i < count; i += 7) {
+                String commonName = "Species " + i;
+                ScientificClassification first = catalog.getScientificClassification(commonName).orElseThrow();
+
+                // Validation
+                assertEquals(expected.getScientificClassification(commonName).orElseThrow(), first, commonName);
+                assertSame(first, catalog.getScientificClassification(commonName).orElseThrow(), "memoized");
+            }
+            assertEquals(count, catalog.size(), "size");
+            assertEquals((count + 6) / 7, catalog.getParsedCount(), "parsedCount");
+            assertEquals("Species 9999", catalog.getCommonNames().get(count - 1), "last name");
+        }
+
+        @Test
+        public void getScientificClassification_whenUnknownOrPrefix_thenEmpty() {
+            // Setup
+            LazySpeciesCatalog catalog = LazySpeciesCatalog.fromBytes(generated(100));
+
+            // Execution
+            Optional<ScientificClassification> unknown = catalog.getScientificClassification("Unicorn");
+            Optional<ScientificClassification> prefix = catalog.getScientificClassification("Species 1");
+            Optional<ScientificClassification> longer = catalog.getScientificClassification("Species 100");
+
+            // Validation
+            assertTrue(unknown.isEmpty(), "unknown");
+            assertTrue(prefix.isPresent(), "prefix");
+            assertTrue(longer.isEmpty(), "longer");
+        }
+
+        @Test
+        public void getScientificClassification_whenNonAsciiName_thenFound() {
+            // Setup
+            LazySpeciesCatalog catalog = LazySpeciesCatalog.fromBytes(bytes(HUMAN.replace("Person", "Écureuil")));
+
+            // Execution
+            Optional<ScientificClassification> result = catalog.getScientificClassification("Écureuil");
+
+            // Validation
+            assertTrue(result.isPresent());
+        }
+
+        @Test
+        public void parse_whenAlreadyPublished_thenPublishedInstanceReturned() {
+            // Setup
+            LazySpeciesCatalog catalog = LazySpeciesCatalog.fromBytes(bytes(HUMAN));
+            ScientificClassification published = catalog.parse(0);
+
+            // Execution
+            ScientificClassification result = catalog.parse(0);
+
+            // Validation
+            assertSame(published, result);
+        }
+
+        @Test
+        public void getScientificClassification_whenNull_thenExceptionThrown() {
+            // Setup
+            LazySpeciesCatalog catalog = LazySpeciesCatalog.fromBytes(bytes(HUMAN));
+
+            // Execution
+            Executable executable = () -> catalog.getScientificClassification(null);
+
+            // Validation
+            assertThrows(NullPointerException.class, executable);
+        }
+
+        @Test
+        public void getCommonNames_whenModified_thenExceptionThrown() {
+            // Setup
+            List<String> commonNames = LazySpeciesCatalog.fromBytes(bytes(HUMAN)).getCommonNames();
+
+            // Execution
+            Executable executable = () -> commonNames.add("Unicorn");
+
+            // Validation
+            assertThrows(UnsupportedOperationException.class, executable);
+        }
+    }
+}
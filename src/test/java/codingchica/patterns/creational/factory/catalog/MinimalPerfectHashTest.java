@@ -0,0 +1,200 @@
+package codingchica.patterns.creational.factory.catalog;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Unit tests for the codingchica.patterns.creational.factory.catalog.MinimalPerfectHash class */
+class MinimalPerfectHashTest {
+    /**
+     * Build a list of distinct keys.
+     *
+     * @param count The number of keys.
+     * @return The keys.
+     */
+    private static List<String> keys(int count) {
+        List<String> keys = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            keys.add("Species " + i);
+        }
+        return keys;
+    }
+
+    /**
+     * Write a hash function and read it back.
+     *
+     * @param hash The hash function.
+     * @return The hash function read back.
+     * @throws IOException If the hash function cannot be written or read.
+     */
+    private static MinimalPerfectHash roundTrip(MinimalPerfectHash hash) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        hash.writeTo(new DataOutputStream(bytes));
+        return MinimalPerfectHash.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+    }
+
+    /**
+     * Read a hash function from ints.
+     *
+     * @param ints The ints to read.
+     * @return The hash function.
+     * @throws IOException If the ints are not a valid hash function.
+     */
+    private static MinimalPerfectHash read(int... ints) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(bytes);
+        for (int value : ints) {
+            output.writeInt(value);
+        }
+        return MinimalPerfectHash.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+    }
+
+    /** Unit tests for the build and lookup methods. */
+    @Nested
+    public class LookupTest {
+        @ParameterizedTest
+        @ValueSource(ints = {1, 2, 3, 5, 100, 20_000})
+        public void lookup_whenKeysBuiltOver_thenEachGetsItsOwnSlot(int count) {
+            // Setup
+            List<String> keys = keys(count);
+
+            // Execution
+            MinimalPerfectHash hash = MinimalPerfectHash.build(keys);
+
+            // Validation
+            assertEquals(count, hash.size(), "size");
+            boolean[] seen = new boolean[count];
+            for (String key : keys) {
+                int slot = hash.lookup(key);
+                assertTrue(slot >= 0 && slot < count, key);
+                assertFalse(seen[slot], "repeated slot " + slot);
+                seen[slot] = true;
+            }
+        }
+
+        @Test
+        public void lookup_whenUnknownKeys_thenRejected() {
+            // Setup
+            MinimalPerfectHash hash = MinimalPerfectHash.build(keys(1_000));
+
+            // Execution & Validation
+            for (int i = 0; i < 100_000; i++) {
+                assertEquals(-1, hash.lookup("Unknown " + i), "Unknown " + i);
+            }
+        }
+
+        @Test
+        public void lookup_whenEmpty_thenRejected() {
+            // Setup
+            MinimalPerfectHash hash = MinimalPerfectHash.build(Collections.emptyList());
+
+            // Execution
+            int result = hash.lookup("Species 0");
+
+            // Validation
+            assertEquals(-1, result, "slot");
+            assertEquals(0, hash.size(), "size");
+        }
+
+        @Test
+        public void build_whenDuplicateKey_thenExceptionThrown() {
+            // Setup
+            List<String> keys = keys(10);
+            keys.add("Species 3");
+
+            // Execution
+            Executable executable = () -> MinimalPerfectHash.build(keys);
+
+            // Validation
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, executable);
+            assertEquals("Duplicate key: Species 3", exception.getMessage());
+        }
+
+        @Test
+        public void build_whenNullArguments_thenExceptionThrown() {
+            // Setup
+            MinimalPerfectHash hash = MinimalPerfectHash.build(keys(1));
+
+            // Execution
+            List<Executable> executables = List.of(
+                    () -> MinimalPerfectHash.build(null),
+                    () -> hash.lookup(null),
+                    () -> hash.writeTo(null),
+                    () -> MinimalPerfectHash.readFrom(null));
+
+            // Validation
+            executables.forEach(executable -> assertThrows(NullPointerException.class, executable));
+        }
+    }
+
+    /** Unit tests for the writeTo and readFrom methods. */
+    @Nested
+    public class SerializationTest {
+        @ParameterizedTest
+        @ValueSource(ints = {0, 1, 1_000})
+        public void readFrom_whenWritten_thenSameSlots(int count) throws IOException {
+            // Setup
+            List<String> keys = keys(count);
+            MinimalPerfectHash hash = MinimalPerfectHash.build(keys);
+
+            // Execution
+            MinimalPerfectHash result = roundTrip(hash);
+
+            // Validation
+            assertEquals(count, result.size(), "size");
+            for (String key : keys) {
+                assertEquals(hash.lookup(key), result.lookup(key), key);
+            }
+        }
+
+        @Test
+        public void readFrom_whenWrongMagic_thenExceptionThrown() {
+            // Setup
+
+            // Execution
+            Executable executable = () -> read(0, 0, 1);
+
+            // Validation
+            IOException exception = assertThrows(IOException.class, executable);
+            assertEquals("Not a minimal perfect hash", exception.getMessage());
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {-1, 2})
+        public void readFrom_whenSizeDoesNotMatchBuckets_thenExceptionThrown(int size) {
+            // Setup
+
+            // Execution
+            Executable executable = () -> read(MinimalPerfectHash.MAGIC, size, size == 2 ? 2 : 1);
+
+            // Validation
+            IOException exception = assertThrows(IOException.class, executable);
+            assertEquals("Corrupt minimal perfect hash", exception.getMessage());
+        }
+
+        @Test
+        public void readFrom_whenDirectSlotOutOfRange_thenExceptionThrown() {
+            // Setup
+
+            // Execution
+            Executable executable = () -> read(MinimalPerfectHash.MAGIC, 1, 1, -2, 0);
+
+            // Validation
+            IOException exception = assertThrows(IOException.class, executable);
+            assertEquals("Corrupt minimal perfect hash", exception.getMessage());
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package codingchica.patterns.creational.factory.catalog;
+
+import codingchica.patterns.behavioral.strategy.model.ScientificClassification;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static codingchica.patterns.creational.factory.catalog.CatalogFormatTest.FLYING_SQUIRREL;
+import static codingchica.patterns.creational.factory.catalog.CatalogFormatTest.HUMAN;
+import static codingchica.patterns.creational.factory.catalog.CatalogFormatTest.bytes;
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Unit tests for the codingchica.patterns.creational.factory.catalog.PerfectHashSpeciesCatalog class */
+class PerfectHashSpeciesCatalogTest {
+    private final EagerSpeciesCatalog source = EagerSpeciesCatalog.fromBytes(bytes(HUMAN + "\n" + FLYING_SQUIRREL
+            + "\n" + HUMAN.replace("Person", "Human") + "\n"));
+    private final PerfectHashSpeciesCatalog catalog = PerfectHashSpeciesCatalog.from(source);
+
+    /**
+     * Write a catalog.
+     *
+     * @param written The catalog.
+     * @return The bytes written.
+     * @throws IOException If the catalog cannot be written.
+     */
+    private static byte[] write(PerfectHashSpeciesCatalog written) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        written.writeTo(new DataOutputStream(bytes));
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Read a catalog.
+     *
+     * @param bytes The bytes to read.
+     * @return The catalog.
+     * @throws IOException If the bytes are not a valid catalog.
+     */
+    private static PerfectHashSpeciesCatalog read(byte[] bytes) throws IOException {
+        return PerfectHashSpeciesCatalog.readFrom(new DataInputStream(new ByteArrayInputStream(bytes)));
+    }
+
+    /** Unit tests for the getScientificClassification method. */
+    @Nested
+    public class GetScientificClassificationTest {
+        @ParameterizedTest
+        @ValueSource(strings = {"Person", "Human", "Flying Squirrel"})
+        public void getScientificClassification_whenKnown_thenSourceClassificationReturned(String commonName) {
+            // Setup
+
+            // Execution
+            Optional<ScientificClassification> result = catalog.getScientificClassification(commonName);
+
+            // Validation
+            assertEquals(source.getScientificClassification(commonName), result);
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"Platypus", "", "person"})
+        public void getScientificClassification_whenUnknown_thenEmpty(String commonName) {
+            // Setup
+
+            // Execution
+            Optional<ScientificClassification> result = catalog.getScientificClassification(commonName);
+
+            // Validation
+            assertEquals(Optional.empty(), result);
+        }
+
+        @Test
+        public void getScientificClassification_whenManySpecies_thenEachFound() {
+            // Setup
+            Map<String, ScientificClassification> classifications = new LinkedHashMap<>();
+            ScientificClassification human = source.getScientificClassification("Person").orElseThrow();
+            for (int i = 0; i < 5_000; i++) {
+                classifications.put("Species " + i, human);
+            }
+            PerfectHashSpeciesCatalog manyCatalog = PerfectHashSpeciesCatalog.of(classifications);
+
+            // Execution & Validation
+            for (int i = 0; i < 5_000; i++) {
+                assertSame(human, manyCatalog.getScientificClassification("Species " + i).orElseThrow(), "" + i);
+                assertEquals(Optional.empty(), manyCatalog.getScientificClassification("Other " + i), "" + i);
+            }
+            assertEquals(Optional.of("Species 0"), manyCatalog.getCommonName("Homo sapiens"), "first common name");
+        }
+
+        @Test
+        public void getCommonNames_whenInvoked_thenCatalogOrderAndUnmodifiable() {
+            // Setup
+
+            // Execution
+            List<String> result = catalog.getCommonNames();
+
+            // Validation
+            assertEquals(List.of("Person", "Flying Squirrel", "Human"), result, "commonNames");
+            assertEquals(3, catalog.size(), "size");
+            assertThrows(UnsupportedOperationException.class, () -> result.add("Platypus"), "unmodifiable");
+        }
+    }
+
+    /** Unit tests for the getScientificClassificationBySpeciesName and getCommonName methods. */
+    @Nested
+    public class BySpeciesNameTest {
+        @Test
+        public void getScientificClassificationBySpeciesName_whenKnown_thenClassificationReturned() {
+            // Setup
+
+            // Execution
+            Optional<ScientificClassification> result =
+                    catalog.getScientificClassificationBySpeciesName("Glaucomys sabrinus");
+
+            // Validation
+            assertEquals(source.getScientificClassification("Flying Squirrel"), result);
+        }
+
+        @Test
+        public void getCommonName_whenSeveralCommonNames_thenFirstInCatalogOrderReturned() {
+            // Setup
+
+            // Execution
+            Optional<String> result = catalog.getCommonName("Homo sapiens");
+
+            // Validation
+            assertEquals(Optional.of("Person"), result);
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"Homo erectus", "Person", ""})
+        public void getCommonName_whenUnknown_thenEmpty(String speciesName) {
+            // Setup
+
+            // Execution
+            Optional<String> commonName = catalog.getCommonName(speciesName);
+            Optional<ScientificClassification> classification =
+                    catalog.getScientificClassificationBySpeciesName(speciesName);
+
+            // Validation
+            assertEquals(Optional.empty(), commonName, "commonName");
+            assertEquals(Optional.empty(), classification, "classification");
+        }
+
+        @Test
+        public void getCommonName_whenNullArguments_thenExceptionThrown() {
+            // Setup
+
+            // Execution
+            List<Executable> executables = List.of(
+                    () -> catalog.getCommonName(null),
+                    () -> catalog.getScientificClassificationBySpeciesName(null),
+                    () -> catalog.getScientificClassification(null),
+                    () -> PerfectHashSpeciesCatalog.of(null),
+                    () -> PerfectHashSpeciesCatalog.from(null),
+                    () -> PerfectHashSpeciesCatalog.readFrom(null),
+                    () -> catalog.writeTo(null));
+
+            // Validation
+            executables.forEach(executable -> assertThrows(NullPointerException.class, executable));
+        }
+    }
+
+    /** Unit tests for the writeTo and readFrom methods. */
+    @Nested
+    public class SerializationTest {
+        @Test
+        public void readFrom_whenWritten_thenSameLookups() throws IOException {
+            // Setup
+            byte[] bytes = write(catalog);
+
+            // Execution
+            PerfectHashSpeciesCatalog result = read(bytes);
+
+            // Validation
+            assertEquals(catalog.getCommonNames(), result.getCommonNames(), "commonNames");
+            for (String commonName : catalog.getCommonNames()) {
+                assertEquals(catalog.getScientificClassification(commonName),
+                        result.getScientificClassification(commonName), commonName);
+            }
+            assertEquals(Optional.of("Person"), result.getCommonName("Homo sapiens"), "Homo sapiens");
+            assertEquals(Optional.of("Flying Squirrel"), result.getCommonName("Glaucomys sabrinus"),
+                    "Glaucomys sabrinus");
+        }
+
+        @Test
+        public void readFrom_whenEmpty_thenEmptyCatalog() throws IOException {
+            // Setup
+            byte[] bytes = write(PerfectHashSpeciesCatalog.of(Map.of()));
+
+            // Execution
+            PerfectHashSpeciesCatalog result = read(bytes);
+
+            // Validation
+            assertEquals(0, result.size(), "size");
+            assertEquals(Optional.empty(), result.getCommonName("Homo sapiens"), "Homo sapiens");
+        }
+
+        @Test
+        public void readFrom_whenWrongMagic_thenExceptionThrown() throws IOException {
+            // Setup
+            byte[] bytes = write(catalog);
+            bytes[0] = 0;
+
+            // Execution
+            Executable executable = () -> read(bytes);
+
+            // Validation
+            IOException exception = assertThrows(IOException.class, executable);
+            assertEquals("Not a perfect hash species catalog", exception.getMessage());
+        }
+
+        @Test
+        public void readFrom_whenWrongVersion_thenExceptionThrown() throws IOException {
+            // Setup
+            byte[] bytes = write(catalog);
+            ByteBuffer.wrap(bytes).putInt(Integer.BYTES, 7);
+
+            // Execution
+            Executable executable = () -> read(bytes);
+
+            // Validation
+            IOException exception = assertThrows(IOException.class, executable);
+            assertEquals("Unsupported perfect hash species catalog version 7", exception.getMessage());
+        }
+
+        @Test
+        public void readFrom_whenMoreSpeciesNamesThanEntries_thenExceptionThrown() throws IOException {
+            // Setup
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream output = new DataOutputStream(bytes);
+            output.writeInt(PerfectHashSpeciesCatalog.MAGIC);
+            output.writeInt(PerfectHashSpeciesCatalog.VERSION);
+            MinimalPerfectHash.build(List.of("Person")).writeTo(output);
+            MinimalPerfectHash.build(List.of("Homo sapiens", "Homo erectus")).writeTo(output);
+
+            // Execution
+            Executable executable = () -> read(bytes.toByteArray());
+
+            // Validation
+            IOException exception = assertThrows(IOException.class, executable);
+            assertEquals("Corrupt perfect hash species catalog", exception.getMessage());
+        }
+
+        @Test
+        public void readFrom_whenRequiredValueMissing_thenExceptionThrown() throws IOException {
+            // Setup
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream output = new DataOutputStream(bytes);
+            output.writeInt(PerfectHashSpeciesCatalog.MAGIC);
+            output.writeInt(PerfectHashSpeciesCatalog.VERSION);
+            MinimalPerfectHash.build(List.of("Person")).writeTo(output);
+            MinimalPerfectHash.build(List.of("Homo sapiens")).writeTo(output);
+            for (int column = 0; column < CatalogFormat.COLUMN_NAMES.length; column++) {
+                output.writeBoolean(false);
+            }
+
+            // Execution
+            Executable executable = () -> read(bytes.toByteArray());
+
+            // Validation
+            IOException exception = assertThrows(IOException.class, executable);
+            assertEquals("Corrupt perfect hash species catalog", exception.getMessage());
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {-1, 3})
+        public void readFrom_whenSlotOutOfRange_thenExceptionThrown(int slot) throws IOException {
+            // Setup
+            byte[] bytes = write(catalog);
+            // The catalog order is the last section, one int per species.
+            ByteBuffer.wrap(bytes).putInt(bytes.length - Integer.BYTES, slot);
+
+            // Execution
+            Executable executable = () -> read(bytes);
+
+            // Validation
+            IOException exception = assertThrows(IOException.class, executable);
+            assertEquals("Corrupt perfect hash species catalog", exception.getMessage());
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package codingchica.patterns.creational.factory.catalog;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static codingchica.patterns.creational.factory.catalog.CatalogFormatTest.FLYING_SQUIRREL;
+import static codingchica.patterns.creational.factory.catalog.CatalogFormatTest.HUMAN;
+import static codingchica.patterns.creational.factory.catalog.CatalogFormatTest.bytes;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the contract of the codingchica.patterns.creational.factory.catalog.SpeciesCatalog interface, shared
+ * by the catalogs parsed from the same content.
+ */
+class SpeciesCatalogTest {
+    /** Unit tests for the getCommonNames method. */
+    @Nested
+    public class GetCommonNamesTest {
+        @Test
+        public void getCommonNames_whenDuplicates_thenEagerAndLazyOrderMatch() {
+            // Setup
+            String bat = FLYING_SQUIRREL.replace("Flying Squirrel", "Bat");
+            byte[] content = bytes(HUMAN + "\n" + FLYING_SQUIRREL + "\n" + bat + "\n"
+                    + HUMAN.replace("Homo sapiens", "Homo") + "\n" + FLYING_SQUIRREL + "\n");
+
+            // Execution
+            SpeciesCatalog eager = EagerSpeciesCatalog.fromBytes(content);
+            SpeciesCatalog lazy = LazySpeciesCatalog.fromBytes(content);
+
+            // Validation
+            assertEquals(List.of("Person", "Flying Squirrel", "Bat"), eager.getCommonNames(), "eager");
+            assertEquals(eager.getCommonNames(), lazy.getCommonNames(), "lazy");
+            assertEquals(eager.getScientificClassification("Person"), lazy.getScientificClassification("Person"),
+                    "last entry wins");
+        }
+    }
+}
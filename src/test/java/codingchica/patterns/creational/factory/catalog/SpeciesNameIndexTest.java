@@ -0,0 +1,186 @@
+package codingchica.patterns.creational.factory.catalog;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static codingchica.patterns.creational.factory.catalog.CatalogFormatTest.FLYING_SQUIRREL;
+import static codingchica.patterns.creational.factory.catalog.CatalogFormatTest.HUMAN;
+import static codingchica.patterns.creational.factory.catalog.CatalogFormatTest.bytes;
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Unit tests for the codingchica.patterns.creational.factory.catalog.SpeciesNameIndex class */
+class SpeciesNameIndexTest {
+    private final SpeciesNameIndex index = SpeciesNameIndex.of(List.of("Flying Squirrel", "Glaucomys sabrinus",
+            "flying fox", "Flying Fish", "Fly", "Person", "Homo sapiens", "Flying Squirrel", "FLYING LEMUR"));
+
+    /**
+     * Split a comma-free, pipe-separated list.
+     *
+     * @param values The values, separated by '|', or null for none.
+     * @return The values.
+     */
+    private static List<String> split(String values) {
+        return values == null ? List.of() : Arrays.asList(values.split("\\|"));
+    }
+
+    /** Unit tests for the complete method. */
+    @Nested
+    public class CompleteTest {
+        @ParameterizedTest
+        @CsvSource({
+                "Flying S, 10, Flying Squirrel",
+                "Fly, 10, Fly|Flying Fish|Flying Squirrel",
+                "Fly, 2, Fly|Flying Fish",
+                "Fly, 0, ",
+                "H, 10, Homo sapiens",
+                "Homo sapiens, 10, Homo sapiens",
+                "Homo sapiens sapiens, 10, ",
+                "flying, 10, flying fox",
+                "Zebra, 10, ",
+                "'', 3, FLYING LEMUR|Fly|Flying Fish",
+        })
+        public void complete_whenPrefix_thenMatchingNamesInNaturalOrder(String prefix, int limit, String expected) {
+            // Setup
+
+            // Execution
+            List<String> result = index.complete(prefix, limit);
+
+            // Validation
+            assertEquals(split(expected), result);
+        }
+
+        @Test
+        public void complete_whenModified_thenExceptionThrown() {
+            // Setup
+            List<String> result = index.complete("Fly", 10);
+
+            // Execution
+            Executable executable = () -> result.add("Flea");
+
+            // Validation
+            assertThrows(UnsupportedOperationException.class, executable);
+        }
+
+        @Test
+        public void complete_whenNegativeLimit_thenExceptionThrown() {
+            // Setup
+
+            // Execution
+            Executable complete = () -> index.complete("Fly", -1);
+            Executable completeIgnoreCase = () -> index.completeIgnoreCase("Fly", -1);
+
+            // Validation
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, complete);
+            assertEquals("limit must not be negative: -1", exception.getMessage(), "message");
+            assertThrows(IllegalArgumentException.class, completeIgnoreCase, "completeIgnoreCase");
+        }
+
+        @Test
+        public void complete_whenManyNames_thenMatchesFilter() {
+            // Setup
+            List<String> names = new ArrayList<>();
+            for (int i = 0; i < 10_000; i++) {
+                names.add((i % 3 == 0 ? "flying " : "Flying ") + Integer.toString(i * 7919 % 10_007, 36));
+            }
+            SpeciesNameIndex manyIndex = SpeciesNameIndex.of(names);
+
+            // Execution & Validation
+            for (String prefix : List.of("Flying 1", "flying 1", "FLYING 1", "Flying a", "Flying 12")) {
+                assertEquals(names.stream().filter(name -> name.startsWith(prefix)).sorted().limit(5)
+                        .collect(Collectors.toList()), manyIndex.complete(prefix, 5), prefix);
+                assertEquals(names.stream().filter(name -> name.regionMatches(true, 0, prefix, 0, prefix.length()))
+                        .sorted(String.CASE_INSENSITIVE_ORDER.thenComparing(String::compareTo)).limit(5)
+                        .collect(Collectors.toList()), manyIndex.completeIgnoreCase(prefix, 5), prefix);
+            }
+        }
+    }
+
+    /** Unit tests for the completeIgnoreCase method. */
+    @Nested
+    public class CompleteIgnoreCaseTest {
+        @ParameterizedTest
+        @CsvSource({
+                "flying s, 10, Flying Squirrel",
+                "FLY, 10, Fly|Flying Fish|flying fox|FLYING LEMUR|Flying Squirrel",
+                "fLyInG f, 10, Flying Fish|flying fox",
+                "homo SAPIENS, 1, Homo sapiens",
+                "zebra, 10, ",
+        })
+        public void completeIgnoreCase_whenPrefix_thenMatchingNamesInCaseInsensitiveOrder(String prefix, int limit,
+                                                                                          String expected) {
+            // Setup
+
+            // Execution
+            List<String> result = index.completeIgnoreCase(prefix, limit);
+
+            // Validation
+            assertEquals(split(expected), result);
+        }
+
+        @Test
+        public void completeIgnoreCase_whenNamesOnlyDifferByCase_thenNaturalOrder() {
+            // Setup
+            SpeciesNameIndex caseIndex = SpeciesNameIndex.of(List.of("flying squirrel", "Flying Squirrel",
+                    "FLYING SQUIRREL"));
+
+            // Execution
+            List<String> result = caseIndex.completeIgnoreCase("Flying", 10);
+
+            // Validation
+            assertEquals(List.of("FLYING SQUIRREL", "Flying Squirrel", "flying squirrel"), result);
+        }
+    }
+
+    /** Unit tests for the of and from methods. */
+    @Nested
+    public class BuildTest {
+        @Test
+        public void of_whenRepeatedNames_thenIndexedOnce() {
+            // Setup
+
+            // Execution
+            int result = index.size();
+
+            // Validation
+            assertEquals(8, result);
+        }
+
+        @Test
+        public void from_whenCatalog_thenCommonAndSpeciesNamesIndexed() {
+            // Setup
+            EagerSpeciesCatalog catalog = EagerSpeciesCatalog.fromBytes(bytes(HUMAN + "\n" + FLYING_SQUIRREL + "\n"));
+
+            // Execution
+            SpeciesNameIndex result = SpeciesNameIndex.from(catalog);
+
+            // Validation
+            assertEquals(4, result.size(), "size");
+            assertEquals(List.of("Glaucomys sabrinus"), result.complete("G", 10), "species name");
+            assertEquals(List.of("Person"), result.completeIgnoreCase("per", 10), "common name");
+        }
+
+        @Test
+        public void of_whenNullArguments_thenExceptionThrown() {
+            // Setup
+
+            // Execution
+            List<Executable> executables = List.of(
+                    () -> SpeciesNameIndex.of(null),
+                    () -> SpeciesNameIndex.of(Arrays.asList("Fly", null)),
+                    () -> SpeciesNameIndex.from(null),
+                    () -> index.complete(null, 1),
+                    () -> index.completeIgnoreCase(null, 1));
+
+            // Validation
+            executables.forEach(executable -> assertThrows(NullPointerException.class, executable));
+        }
+    }
+}
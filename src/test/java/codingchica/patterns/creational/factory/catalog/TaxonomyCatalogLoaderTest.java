@@ -0,0 +1,228 @@
+package codingchica.patterns.creational.factory.catalog;
+
+import codingchica.patterns.behavioral.strategy.FlyingStrategyRegistry;
+import codingchica.patterns.creational.factory.FlyingStrategyRule;
+import codingchica.patterns.creational.factory.Species;
+import codingchica.patterns.creational.factory.SpeciesRegistry;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+import static codingchica.patterns.creational.factory.catalog.CatalogFormatTest.FLYING_SQUIRREL;
+import static codingchica.patterns.creational.factory.catalog.CatalogFormatTest.HUMAN;
+import static codingchica.patterns.creational.factory.catalog.CatalogFormatTest.bytes;
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Unit tests for the codingchica.patterns.creational.factory.catalog.TaxonomyCatalogLoader class */
+class TaxonomyCatalogLoaderTest {
+    private final SpeciesRegistry speciesRegistry = new SpeciesRegistry();
+
+    /**
+     * Build catalog content with many generated species.
+     *
+     * @param count The number of species.
+     * @return The content.
+     */
+    private static String generated(int count) {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            content.append(FLYING_SQUIRREL.replace("Flying Squirrel", "Species " + i)
+                    .replace("Glaucomys sabrinus", "Glaucomys " + i)).append('\n');
+        }
+        return content.toString();
+    }
+
+    /**
+     * Check the counts of a load.
+     *
+     * @param expectedLoadedCount   The expected number of rows loaded.
+     * @param expectedRejectedCount The expected number of rows rejected.
+     * @param result                The result to check.
+     */
+    private static void assertResult(long expectedLoadedCount, long expectedRejectedCount, CatalogLoadResult result) {
+        assertEquals(expectedLoadedCount, result.getLoadedCount(), "loadedCount");
+        assertEquals(expectedRejectedCount, result.getRejectedCount(), "rejectedCount");
+    }
+
+    /** Unit tests for the load methods. */
+    @Nested
+    public class LoadTest {
+        @Test
+        public void load_whenFile_thenValidRowsRegisteredAndInvalidRowsCounted(@TempDir Path directory)
+                throws IOException {
+            // Setup
+            Path path = directory.resolve("species.tsv");
+            Files.writeString(path, "# comment\r\n\r\n" + HUMAN + "\r\n" + FLYING_SQUIRREL + "\r\n"
+                    + "Bat\tAnimalia\r\n" + HUMAN.replace("Person", "Ghost").replace("Hominidae", "") + "\r\n");
+            FlyingStrategyRule rule = FlyingStrategyRule.adultsOnly(FlyingStrategyRegistry.GLIDING);
+            TaxonomyCatalogLoader loader = TaxonomyCatalogLoader.builder().flyingStrategyRule(rule).build();
+
+            // Execution
+            CatalogLoadResult result = loader.load(path, speciesRegistry);
+
+            // Validation
+            assertResult(2, 2, result);
+            assertEquals("CatalogLoadResult(loadedCount=2, rejectedCount=2)", result.toString(), "toString");
+            assertEquals(Set.of("Person", "Flying Squirrel"), speciesRegistry.getCommonNames(), "commonNames");
+            Species species = speciesRegistry.lookup("Flying Squirrel").orElseThrow();
+            assertEquals(CatalogFormat.parse(bytes(FLYING_SQUIRREL), 0), species.getScientificClassification(),
+                    "scientificClassification");
+            assertSame(rule, species.getFlyingStrategyRule(), "flyingStrategyRule");
+        }
+
+        @Test
+        public void loadResource_whenCsvWithHeader_thenHeaderSkipped() throws IOException {
+            // Setup
+            TaxonomyCatalogLoader loader = TaxonomyCatalogLoader.builder().delimiter(',').hasHeader(true).build();
+
+            // Execution
+            CatalogLoadResult result = loader.loadResource("codingchica/patterns/creational/factory/catalog/species.csv",
+                    speciesRegistry);
+
+            // Validation
+            assertResult(2, 1, result);
+            assertEquals(Set.of("Person", "Flying Squirrel"), speciesRegistry.getCommonNames(), "commonNames");
+            assertSame(FlyingStrategyRule.none().getClass(),
+                    speciesRegistry.lookup("Person").orElseThrow().getFlyingStrategyRule().getClass(), "default rule");
+        }
+
+        @Test
+        public void loadResource_whenMissing_thenExceptionThrown() {
+            // Setup
+            TaxonomyCatalogLoader loader = TaxonomyCatalogLoader.builder().build();
+
+            // Execution
+            Executable executable = () -> loader.loadResource("missing.tsv", speciesRegistry);
+
+            // Validation
+            FileNotFoundException exception = assertThrows(FileNotFoundException.class, executable);
+            assertEquals("Catalog resource not found: missing.tsv", exception.getMessage());
+        }
+
+        @ParameterizedTest
+        @CsvSource({"16,1", "16,3", "64,2", "4096,4"})
+        public void load_whenManyChunks_thenEveryRowRegisteredInOrder(int chunkSize, int maxChunksInFlight)
+                throws IOException {
+            // Setup
+            int count = 500;
+            String content = generated(count) + HUMAN + "\n" + generated(1).replace("Glaucomys 0", "Last") + HUMAN;
+            TaxonomyCatalogLoader loader = TaxonomyCatalogLoader.builder()
+                    .chunkSize(chunkSize)
+                    .maxChunksInFlight(maxChunksInFlight)
+                    .build();
+
+            // Execution
+            CatalogLoadResult result = loader.load(new ByteArrayInputStream(bytes(content)), speciesRegistry);
+
+            // Validation
+            assertResult(count + 3, 0, result);
+            assertEquals(count + 1, speciesRegistry.size(), "size");
+            assertEquals("Last", speciesRegistry.lookup("Species 0").orElseThrow()
+                    .getScientificClassification().getSpeciesName(), "last row wins");
+            assertEquals("Glaucomys 499", speciesRegistry.lookup("Species 499").orElseThrow()
+                    .getScientificClassification().getSpeciesName(), "last species");
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {1, 2, 3})
+        public void load_whenContentEndsOnChunkBoundary_thenEveryRowRegistered(int rows) throws IOException {
+            // Setup
+            byte[] content = bytes((HUMAN + "\n").repeat(rows));
+            TaxonomyCatalogLoader loader = TaxonomyCatalogLoader.builder()
+                    .chunkSize(content.length)
+                    .executor(Runnable::run)
+                    .build();
+
+            // Execution
+            CatalogLoadResult result = loader.load(new ByteArrayInputStream(content), speciesRegistry);
+
+            // Validation
+            assertResult(rows, 0, result);
+        }
+
+        @ParameterizedTest
+        @ValueSource(booleans = {true, false})
+        public void load_whenEmpty_thenNothingRegistered(boolean hasHeader) throws IOException {
+            // Setup
+            TaxonomyCatalogLoader loader = TaxonomyCatalogLoader.builder().hasHeader(hasHeader).build();
+
+            // Execution
+            CatalogLoadResult result = loader.load(new ByteArrayInputStream(new byte[0]), speciesRegistry);
+
+            // Validation
+            assertResult(0, 0, result);
+            assertEquals(0, speciesRegistry.size(), "size");
+        }
+
+        @Test
+        public void load_whenNullArguments_thenExceptionThrown() {
+            // Setup
+            TaxonomyCatalogLoader loader = TaxonomyCatalogLoader.builder().build();
+            InputStream inputStream = new ByteArrayInputStream(new byte[0]);
+
+            // Execution
+            Executable nullPath = () -> loader.load((Path) null, speciesRegistry);
+            Executable nullPathRegistry = () -> loader.load(Path.of("species.tsv"), null);
+            Executable nullResource = () -> loader.loadResource(null, speciesRegistry);
+            Executable nullResourceRegistry = () -> loader.loadResource("species.tsv", null);
+            Executable nullStream = () -> loader.load((InputStream) null, speciesRegistry);
+            Executable nullStreamRegistry = () -> loader.load(inputStream, null);
+
+            // Validation
+            assertThrows(NullPointerException.class, nullPath, "path");
+            assertThrows(NullPointerException.class, nullPathRegistry, "path registry");
+            assertThrows(NullPointerException.class, nullResource, "resource");
+            assertThrows(NullPointerException.class, nullResourceRegistry, "resource registry");
+            assertThrows(NullPointerException.class, nullStream, "stream");
+            assertThrows(NullPointerException.class, nullStreamRegistry, "stream registry");
+        }
+    }
+
+    /** Unit tests for the builder. */
+    @Nested
+    public class BuilderTest {
+        @ParameterizedTest
+        @ValueSource(chars = {'\n', '\r', 'é'})
+        public void build_whenInvalidDelimiter_thenExceptionThrown(char delimiter) {
+            // Setup
+            TaxonomyCatalogLoader.Builder builder = TaxonomyCatalogLoader.builder().delimiter(delimiter);
+
+            // Execution
+            Executable executable = builder::build;
+
+            // Validation
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, executable);
+            assertEquals("delimiter must be an ASCII character other than a line break: " + (int) delimiter,
+                    exception.getMessage());
+        }
+
+        @ParameterizedTest
+        @CsvSource({"0,1,chunkSize must be positive: 0", "1,-1,maxChunksInFlight must be positive: -1"})
+        public void build_whenNotPositive_thenExceptionThrown(int chunkSize, int maxChunksInFlight,
+                                                              String expectedMessage) {
+            // Setup
+            TaxonomyCatalogLoader.Builder builder = TaxonomyCatalogLoader.builder()
+                    .chunkSize(chunkSize)
+                    .maxChunksInFlight(maxChunksInFlight);
+
+            // Execution
+            Executable executable = builder::build;
+
+            // Validation
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, executable);
+            assertEquals(expectedMessage, exception.getMessage());
+        }
+    }
+}
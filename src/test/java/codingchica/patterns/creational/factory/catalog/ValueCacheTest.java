@@ -0,0 +1,64 @@
+package codingchica.patterns.creational.factory.catalog;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static codingchica.patterns.creational.factory.catalog.CatalogFormatTest.bytes;
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Unit tests for the codingchica.patterns.creational.factory.catalog.ValueCache class */
+class ValueCacheTest {
+    private final ValueCache valueCache = new ValueCache();
+
+    /**
+     * Find the cache slot of a value, as computed by ValueCache.
+     *
+     * @param value The value.
+     * @return The slot index.
+     */
+    private static int slotOf(String value) {
+        byte[] valueBytes = bytes(value);
+        int hash = CatalogFormat.hash(valueBytes, 0, valueBytes.length);
+        return (hash ^ (hash >>> 16)) & (ValueCache.SIZE - 1);
+    }
+
+    /** Unit tests for the decode method. */
+    @Nested
+    public class DecodeTest {
+        @Test
+        public void decode_whenRepeated_thenSameInstanceReturned() {
+            // Setup
+            byte[] content = bytes("Animalia\tAnimalia");
+
+            // Execution
+            String first = valueCache.decode(content, 0, 8);
+            String second = valueCache.decode(content, 9, 17);
+
+            // Validation
+            assertEquals("Animalia", first, "value");
+            assertSame(first, second, "shared");
+        }
+
+        @Test
+        public void decode_whenSlotTaken_thenReplaced() {
+            // Setup
+            String value = "Animalia";
+            String colliding = null;
+            for (int i = 0; colliding == null; i++) {
+                if (slotOf("Value " + i) == slotOf(value)) {
+                    colliding = "Value " + i;
+                }
+            }
+            String first = valueCache.decode(bytes(value), 0, value.length());
+
+            // Execution
+            String other = valueCache.decode(bytes(colliding), 0, colliding.length());
+            String second = valueCache.decode(bytes(value), 0, value.length());
+
+            // Validation
+            assertEquals(colliding, other, "colliding");
+            assertEquals(value, second, "value");
+            assertNotSame(first, second, "evicted");
+        }
+    }
+}
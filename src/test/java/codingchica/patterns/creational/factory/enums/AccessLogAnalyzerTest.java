@@ -0,0 +1,346 @@
+package codingchica.patterns.creational.factory.enums;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import static codingchica.patterns.creational.factory.enums.HttpStatusLineParser.MALFORMED;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the codingchica.patterns.creational.factory.enums.AccessLogAnalyzer class.
+ */
+class AccessLogAnalyzerTest {
+    /** A chunk size small enough that every test file is split into several chunks. */
+    private static final int SMALL_CHUNK_SIZE = 64;
+
+    @TempDir
+    Path tempDir;
+
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Build a Common Log Format line with the status code provided.
+     *
+     * @param code The status code field.
+     * @return The line, without a line ending.
+     */
+    private static String logLine(String code) {
+        return "127.0.0.1 - frank [10/Oct/2000:13:55:36 -0700] \"GET /apache_pb.gif HTTP/1.0\" " + code + " 2326";
+    }
+
+    /**
+     * Write the content provided to a new file in the temporary directory.
+     *
+     * @param name    The file name.
+     * @param content The file content.
+     * @return The path to the file.
+     * @throws IOException If the file cannot be written.
+     */
+    private Path writeLog(String name, String content) throws IOException {
+        return Files.write(tempDir.resolve(name), content.getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    /**
+     * Lines in which a status code should be found, along with the code each one holds.
+     *
+     * @return A stream of arguments, each holding a log line and its expected code.
+     */
+    private static Stream<Arguments> parsableLines() {
+        return Stream.of(
+                Arguments.of(logLine("200"), 200),
+                Arguments.of(logLine("404"), 404),
+                Arguments.of("1.2.3.4 - - [x] \"GET / HTTP/1.1\" 503", 503),
+                Arguments.of("1.2.3.4 - - [x] \"GET /a\\\"b HTTP/1.1\" 301 0", 301),
+                Arguments.of("1.2.3.4 - - [x] \"GET /a\\\\ HTTP/1.1\" 302 0", 302),
+                Arguments.of("1.2.3.4 - - [x] \"-\" 999 0", 999),
+                Arguments.of("1.2.3.4 - - [x] \"-\" 000 0", 0));
+    }
+
+    /** Tests to ensure that the constructors function as expected */
+    @Nested
+    public class ConstructorTest {
+        @ParameterizedTest
+        @ValueSource(ints = {0, -1, Integer.MIN_VALUE})
+        void constructor_whenChunkSizeNotPositive_thenExceptionThrown(int chunkSize) {
+            // Setup
+
+            // Execution
+            Executable executable = () -> new AccessLogAnalyzer(pool, chunkSize);
+
+            // Validation
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, executable);
+            assertEquals("chunkSize must be positive: " + chunkSize, exception.getMessage());
+        }
+
+        @Test
+        void constructor_whenNullPool_thenExceptionThrown() {
+            // Setup
+
+            // Execution
+            Executable executable = () -> new AccessLogAnalyzer(null, SMALL_CHUNK_SIZE);
+
+            // Validation
+            assertThrows(NullPointerException.class, executable);
+        }
+
+        @Test
+        void constructor_whenDefault_thenFileAnalyzed() throws IOException {
+            // Setup
+            Path path = writeLog("access.log", logLine("200") + "\n" + logLine("500") + "\n");
+
+            // Execution
+            AccessLogReport result = new AccessLogAnalyzer().analyze(path);
+
+            // Validation
+            assertEquals(2, result.getTotal(), "total");
+            assertEquals(1, result.getCount(HttpStatusCode.OK), "OK");
+            assertEquals(1, result.getCount(HttpStatusCode.INTERNAL_SERVER_ERROR), "INTERNAL_SERVER_ERROR");
+        }
+    }
+
+    /** Tests to ensure that the analyze methods function as expected */
+    @Nested
+    public class AnalyzeTest {
+        @Test
+        void analyze_whenManyChunks_thenEveryLineCountedOnce() throws IOException {
+            // Setup
+            StringBuilder content = new StringBuilder();
+            String[] codes = {"200", "201", "301", "404", "500", "103"};
+            for (int i = 0; i < 600; i++) {
+                content.append(logLine(codes[i % codes.length])).append('\n');
+            }
+            Path path = writeLog("access.log", content.toString());
+            AccessLogAnalyzer analyzer = new AccessLogAnalyzer(pool, SMALL_CHUNK_SIZE);
+
+            // Execution
+            AccessLogReport result = analyzer.analyze(path);
+
+            // Validation
+            assertEquals(600, result.getTotal(), "total");
+            for (String code : codes) {
+                assertEquals(100, result.getCount(Integer.parseInt(code)), code);
+            }
+            assertEquals(100, result.getCount(HttpStatusCategory.INFORMATIONAL), "INFORMATIONAL");
+            assertEquals(200, result.getCount(HttpStatusCategory.SUCCESSFUL), "SUCCESSFUL");
+            assertEquals(100, result.getCount(HttpStatusCategory.REDIRECTION), "REDIRECTION");
+            assertEquals(100, result.getCount(HttpStatusCategory.CLIENT_ERROR), "CLIENT_ERROR");
+            assertEquals(100, result.getCount(HttpStatusCategory.SERVER_ERROR), "SERVER_ERROR");
+            assertEquals(0, result.getMalformedCount(), "malformedCount");
+            assertEquals(0, result.getOutOfRangeCount(), "outOfRangeCount");
+        }
+
+        @Test
+        void analyze_whenLinesLongerThanChunk_thenEveryLineCountedOnce() throws IOException {
+            // Setup
+            String longPath = "/" + "a".repeat(SMALL_CHUNK_SIZE * 5);
+            String longLine = "1.2.3.4 - - [x] \"GET " + longPath + " HTTP/1.1\" 404 0";
+            String content = longLine + "\n" + logLine("200") + "\n" + longLine + "\n" + longLine + "\n";
+            Path path = writeLog("access.log", content);
+            AccessLogAnalyzer analyzer = new AccessLogAnalyzer(pool, SMALL_CHUNK_SIZE);
+
+            // Execution
+            AccessLogReport result = analyzer.analyze(path);
+
+            // Validation
+            assertEquals(4, result.getTotal(), "total");
+            assertEquals(3, result.getCount(HttpStatusCode.NOT_FOUND), "NOT_FOUND");
+            assertEquals(1, result.getCount(HttpStatusCode.OK), "OK");
+        }
+
+        @Test
+        void analyze_whenNoTrailingNewLineAndCrLf_thenEveryLineCounted() throws IOException {
+            // Setup
+            String content = logLine("200") + "\r\n\r\n\n" + logLine("302") + "\r\n" + logLine("503");
+            Path path = writeLog("access.log", content);
+            AccessLogAnalyzer analyzer = new AccessLogAnalyzer(pool, SMALL_CHUNK_SIZE);
+
+            // Execution
+            AccessLogReport result = analyzer.analyze(path);
+
+            // Validation
+            assertEquals(3, result.getTotal(), "total");
+            assertEquals(1, result.getCount(HttpStatusCode.OK), "OK");
+            assertEquals(1, result.getCount(HttpStatusCode.FOUND), "FOUND");
+            assertEquals(1, result.getCount(HttpStatusCode.SERVICE_UNAVAILABLE), "SERVICE_UNAVAILABLE");
+        }
+
+        @Test
+        void analyze_whenEmptyFile_thenNothingCounted() throws IOException {
+            // Setup
+            Path path = writeLog("access.log", "");
+            AccessLogAnalyzer analyzer = new AccessLogAnalyzer(pool, SMALL_CHUNK_SIZE);
+
+            // Execution
+            AccessLogReport result = analyzer.analyze(path);
+
+            // Validation
+            assertEquals(0, result.getTotal());
+        }
+
+        @Test
+        void analyze_whenMalformedAndOutOfRange_thenCountedSeparately() throws IOException {
+            // Setup
+            String content = logLine("200") + "\n"
+                    + logLine("600") + "\n"
+                    + logLine("099") + "\n"
+                    + logLine("2x0") + "\n"
+                    + "garbage\n";
+            Path path = writeLog("access.log", content);
+            AccessLogAnalyzer analyzer = new AccessLogAnalyzer(pool, SMALL_CHUNK_SIZE);
+
+            // Execution
+            AccessLogReport result = analyzer.analyze(path);
+
+            // Validation
+            assertEquals(5, result.getTotal(), "total");
+            assertEquals(1, result.getCount(HttpStatusCode.OK), "OK");
+            assertEquals(2, result.getOutOfRangeCount(), "outOfRangeCount");
+            assertEquals(2, result.getMalformedCount(), "malformedCount");
+        }
+
+        @Test
+        void analyze_whenMissingFile_thenExceptionThrown() {
+            // Setup
+            Path path = tempDir.resolve("missing.log");
+            AccessLogAnalyzer analyzer = new AccessLogAnalyzer(pool, SMALL_CHUNK_SIZE);
+
+            // Execution
+            Executable executable = () -> analyzer.analyze(path);
+
+            // Validation
+            assertThrows(IOException.class, executable);
+        }
+
+        @Test
+        void analyze_whenNullPath_thenExceptionThrown() {
+            // Setup
+            AccessLogAnalyzer analyzer = new AccessLogAnalyzer(pool, SMALL_CHUNK_SIZE);
+
+            // Execution
+            Executable executable = () -> analyzer.analyze((Path) null);
+
+            // Validation
+            assertThrows(NullPointerException.class, executable);
+        }
+
+        @Test
+        void analyze_whenMultiplePaths_thenCountsCombined() throws IOException {
+            // Setup
+            Path first = writeLog("first.log", logLine("200") + "\n" + logLine("404") + "\n");
+            Path second = writeLog("second.log", logLine("200") + "\ngarbage\n");
+            AccessLogAnalyzer analyzer = new AccessLogAnalyzer(pool, SMALL_CHUNK_SIZE);
+
+            // Execution
+            AccessLogReport result = analyzer.analyze(List.of(first, second));
+
+            // Validation
+            assertEquals(4, result.getTotal(), "total");
+            assertEquals(2, result.getCount(HttpStatusCode.OK), "OK");
+            assertEquals(1, result.getCount(HttpStatusCode.NOT_FOUND), "NOT_FOUND");
+            assertEquals(1, result.getMalformedCount(), "malformedCount");
+        }
+
+        @Test
+        void analyze_whenNoPaths_thenNothingCounted() throws IOException {
+            // Setup
+            AccessLogAnalyzer analyzer = new AccessLogAnalyzer(pool, SMALL_CHUNK_SIZE);
+
+            // Execution
+            AccessLogReport result = analyzer.analyze(List.of());
+
+            // Validation
+            assertEquals(0, result.getTotal());
+        }
+    }
+
+    /** Tests to ensure that the parseStatusCode method functions as expected */
+    @Nested
+    public class ParseStatusCodeTest {
+        @ParameterizedTest
+        @MethodSource("codingchica.patterns.creational.factory.enums.AccessLogAnalyzerTest#parsableLines")
+        void parseStatusCode_whenCodePresent_thenCodeReturned(String line, int expected) {
+            // Setup
+            ByteBuffer buffer = ByteBuffer.wrap(("xx" + line + "yy").getBytes(StandardCharsets.ISO_8859_1));
+
+            // Execution
+            int result = AccessLogAnalyzer.parseStatusCode(buffer, 2, 2 + line.length());
+
+            // Validation
+            assertEquals(expected, result);
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {
+                "",
+                "no quotes at all 200 0",
+                "1.2.3.4 - - [x] \"GET / HTTP/1.1 200 0",
+                "1.2.3.4 - - [x] \"GET / HTTP/1.1\\",
+                "1.2.3.4 - - [x] \"GET / HTTP/1.1\" 20",
+                "1.2.3.4 - - [x] \"GET / HTTP/1.1\"  200 0",
+                "1.2.3.4 - - [x] \"GET / HTTP/1.1\" 2000 0",
+                "1.2.3.4 - - [x] \"GET / HTTP/1.1\" 20/ 0",
+                "1.2.3.4 - - [x] \"GET / HTTP/1.1\" 20: 0",
+                "1.2.3.4 - - [x] \"GET / HTTP/1.1\" /00 0",
+                "1.2.3.4 - - [x] \"GET / HTTP/1.1\"\t200 0",
+                "1.2.3.4 - - [x] \"GET / HTTP/1.1\" 200-0"})
+        void parseStatusCode_whenMalformed_thenMalformedReturned(String line) {
+            // Setup
+            ByteBuffer buffer = ByteBuffer.wrap(line.getBytes(StandardCharsets.ISO_8859_1));
+
+            // Execution
+            int result = AccessLogAnalyzer.parseStatusCode(buffer, 0, line.length());
+
+            // Validation
+            assertEquals(MALFORMED, result);
+        }
+    }
+
+    /** Tests to ensure that the countLines method functions as expected */
+    @Nested
+    public class CountLinesTest {
+        @Test
+        void countLines_whenDirectBuffer_thenLinesCounted() {
+            // Setup
+            byte[] bytes = (logLine("200") + "\n" + logLine("418") + "\r\n\n").getBytes(StandardCharsets.ISO_8859_1);
+            ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+            buffer.put(bytes).flip();
+            long[] counts = new long[AccessLogReport.COUNTS_LENGTH];
+
+            // Execution
+            AccessLogAnalyzer.countLines(buffer, counts);
+
+            // Validation
+            AccessLogReport report = new AccessLogReport(counts);
+            assertEquals(2, report.getTotal(), "total");
+            assertEquals(1, report.getCount(200), "200");
+            assertEquals(1, report.getCount(418), "418");
+        }
+    }
+}
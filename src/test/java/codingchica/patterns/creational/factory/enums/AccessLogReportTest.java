@@ -0,0 +1,166 @@
+package codingchica.patterns.creational.factory.enums;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the codingchica.patterns.creational.factory.enums.AccessLogReport class.
+ */
+class AccessLogReportTest {
+    /**
+     * Build a report from the codes provided, one line per code.
+     *
+     * @param outOfRange The number of out-of-range lines.
+     * @param malformed  The number of malformed lines.
+     * @param codes      The codes seen.
+     * @return The report.
+     */
+    private static AccessLogReport report(long outOfRange, long malformed, int... codes) {
+        long[] counts = new long[AccessLogReport.COUNTS_LENGTH];
+        for (int code : codes) {
+            counts[code - HttpStatusCategory.MIN_CODE]++;
+        }
+        counts[AccessLogReport.OUT_OF_RANGE_INDEX] = outOfRange;
+        counts[AccessLogReport.MALFORMED_INDEX] = malformed;
+        return new AccessLogReport(counts);
+    }
+
+    /** Tests to ensure that the getCount methods function as expected */
+    @Nested
+    public class GetCountTest {
+        @Test
+        void getCount_whenCodesSeen_thenCountsReturned() {
+            // Setup
+            AccessLogReport report = report(3, 4, 200, 200, 299, 404, 599, 100);
+
+            // Execution
+
+            // Validation
+            assertEquals(2, report.getCount(200), "200");
+            assertEquals(2, report.getCount(HttpStatusCode.OK), "OK");
+            assertEquals(1, report.getCount(299), "299");
+            assertEquals(1, report.getCount(599), "599");
+            assertEquals(0, report.getCount(HttpStatusCode.CREATED), "CREATED");
+            assertEquals(3, report.getCount(HttpStatusCategory.SUCCESSFUL), "SUCCESSFUL");
+            assertEquals(1, report.getCount(HttpStatusCategory.INFORMATIONAL), "INFORMATIONAL");
+            assertEquals(0, report.getCount(HttpStatusCategory.REDIRECTION), "REDIRECTION");
+            assertEquals(1, report.getCount(HttpStatusCategory.CLIENT_ERROR), "CLIENT_ERROR");
+            assertEquals(1, report.getCount(HttpStatusCategory.SERVER_ERROR), "SERVER_ERROR");
+            assertEquals(3, report.getOutOfRangeCount(), "outOfRangeCount");
+            assertEquals(4, report.getMalformedCount(), "malformedCount");
+            assertEquals(13, report.getTotal(), "total");
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {99, 600, 0, -1, Integer.MIN_VALUE, Integer.MAX_VALUE})
+        void getCount_whenCodeOutOfRange_thenZero(int code) {
+            // Setup
+            AccessLogReport report = report(5, 0, 100, 599);
+
+            // Execution
+            long result = report.getCount(code);
+
+            // Validation
+            assertEquals(0, result);
+        }
+
+        @Test
+        void getCount_whenNullStatusCode_thenExceptionThrown() {
+            // Setup
+            AccessLogReport report = report(0, 0);
+
+            // Execution
+            Executable executable = () -> report.getCount((HttpStatusCode) null);
+
+            // Validation
+            assertThrows(NullPointerException.class, executable);
+        }
+
+        @Test
+        void getCount_whenNullCategory_thenExceptionThrown() {
+            // Setup
+            AccessLogReport report = report(0, 0);
+
+            // Execution
+            Executable executable = () -> report.getCount((HttpStatusCategory) null);
+
+            // Validation
+            assertThrows(NullPointerException.class, executable);
+        }
+    }
+
+    /** Tests to ensure that the getCountsByStatusCode method functions as expected */
+    @Nested
+    public class GetCountsByStatusCodeTest {
+        @Test
+        void getCountsByStatusCode_whenCodesSeen_thenOnlyRegisteredNonZeroCodesReturned() {
+            // Setup
+            AccessLogReport report = report(1, 1, 200, 200, 299, 404);
+
+            // Execution
+            Map<HttpStatusCode, Long> result = report.getCountsByStatusCode();
+
+            // Validation
+            assertEquals(Map.of(HttpStatusCode.OK, 2L, HttpStatusCode.NOT_FOUND, 1L), result);
+        }
+    }
+
+    /** Tests to ensure that the merge method functions as expected */
+    @Nested
+    public class MergeTest {
+        @Test
+        void merge_whenTwoReports_thenCountsSummed() {
+            // Setup
+            AccessLogReport first = report(1, 2, 200, 500);
+            AccessLogReport second = report(3, 4, 200, 302);
+
+            // Execution
+            AccessLogReport result = first.merge(second);
+
+            // Validation
+            assertEquals(2, result.getCount(HttpStatusCode.OK), "OK");
+            assertEquals(1, result.getCount(HttpStatusCode.FOUND), "FOUND");
+            assertEquals(1, result.getCount(HttpStatusCode.INTERNAL_SERVER_ERROR), "INTERNAL_SERVER_ERROR");
+            assertEquals(4, result.getOutOfRangeCount(), "outOfRangeCount");
+            assertEquals(6, result.getMalformedCount(), "malformedCount");
+            assertEquals(14, result.getTotal(), "total");
+            assertEquals(5, first.getTotal(), "first unchanged");
+        }
+
+        @Test
+        void merge_whenNull_thenExceptionThrown() {
+            // Setup
+            AccessLogReport report = report(0, 0);
+
+            // Execution
+            Executable executable = () -> report.merge(null);
+
+            // Validation
+            assertThrows(NullPointerException.class, executable);
+        }
+    }
+
+    /** Tests to ensure that the toString method functions as expected */
+    @Nested
+    public class ToStringTest {
+        @Test
+        void toString_whenInvoked_thenCategoryCountsReturned() {
+            // Setup
+            AccessLogReport report = report(1, 2, 101, 200, 200, 301, 404, 503);
+
+            // Execution
+            String result = report.toString();
+
+            // Validation
+            assertEquals("AccessLogReport(total=9, INFORMATIONAL=1, SUCCESSFUL=2, REDIRECTION=1, CLIENT_ERROR=1, "
+                    + "SERVER_ERROR=1, outOfRangeCount=1, malformedCount=2)", result);
+        }
+    }
+}
@@ -0,0 +1,415 @@
+package codingchica.patterns.creational.factory.enums;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the codingchica.patterns.creational.factory.enums.ErrorRateTracker class.
+ */
+class ErrorRateTrackerTest {
+    /** A window of 10 seconds. */
+    private static final Duration WINDOW = Duration.ofSeconds(10);
+    /** Splits the window into 1 second buckets. */
+    private static final int BUCKET_COUNT = 10;
+
+    /**
+     * A clock that only moves when told to.
+     */
+    private static class MutableClock extends Clock {
+        /** The current time, in milliseconds since the epoch. */
+        private volatile long millis = 1_000_000L;
+
+        /**
+         * Move the clock forward.
+         *
+         * @param duration The amount of time to move by.
+         */
+        void advance(Duration duration) {
+            millis += duration.toMillis();
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+
+    /** Tests to ensure that the constructors function as expected */
+    @Nested
+    public class ConstructorTest {
+        @ParameterizedTest
+        @CsvSource({"1,1", "2,2", "3,4", "4,4", "5,8", "64,64", "4096,4096"})
+        void constructor_whenStripeCount_thenRoundedUpToPowerOfTwo(int stripeCount, int expected) {
+            // Setup
+
+            // Execution
+            ErrorRateTracker tracker = new ErrorRateTracker(WINDOW, BUCKET_COUNT, stripeCount, new MutableClock());
+
+            // Validation
+            assertEquals(expected, tracker.getStripeCount(), "stripeCount");
+            assertEquals(BUCKET_COUNT, tracker.getBucketCount(), "bucketCount");
+        }
+
+        @Test
+        void constructor_whenWindowNotMultipleOfBuckets_thenRoundedDown() {
+            // Setup
+
+            // Execution
+            ErrorRateTracker tracker = new ErrorRateTracker(Duration.ofMillis(1005), 10, 1, new MutableClock());
+
+            // Validation
+            assertEquals(Duration.ofMillis(1000), tracker.getWindow());
+        }
+
+        @Test
+        void constructor_whenDefaults_thenSystemClockUsed() {
+            // Setup
+
+            // Execution
+            ErrorRateTracker tracker = new ErrorRateTracker(Duration.ofMinutes(1));
+            tracker.record(HttpStatusCode.OK);
+
+            // Validation
+            assertEquals(Duration.ofMinutes(1), tracker.getWindow(), "window");
+            assertEquals(ErrorRateTracker.DEFAULT_BUCKET_COUNT, tracker.getBucketCount(), "bucketCount");
+            assertEquals(1, tracker.getTotal(), "total");
+        }
+
+        @ParameterizedTest
+        @CsvSource({
+                "10000,0,1,bucketCount must be positive: 0",
+                "10000,10,0,stripeCount must be between 1 and 4096: 0",
+                "10000,10,4097,stripeCount must be between 1 and 4096: 4097",
+                "100000000,100000,4096,bucketCount * stripeCount must be at most 16777216",
+                "9,10,1,window must be at least 10ms: PT0.009S"})
+        void constructor_whenInvalid_thenExceptionThrown(long windowMillis, int bucketCount, int stripeCount,
+                                                         String expectedMessage) {
+            // Setup
+            Duration window = Duration.ofMillis(windowMillis);
+
+            // Execution
+            Executable executable = () -> new ErrorRateTracker(window, bucketCount, stripeCount, new MutableClock());
+
+            // Validation
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, executable);
+            assertEquals(expectedMessage, exception.getMessage());
+        }
+
+        @Test
+        void constructor_whenNullArguments_thenExceptionThrown() {
+            // Setup
+            Clock clock = new MutableClock();
+
+            // Execution
+            Executable nullWindow = () -> new ErrorRateTracker(null, BUCKET_COUNT, 1, clock);
+            Executable nullClock = () -> new ErrorRateTracker(WINDOW, BUCKET_COUNT, 1, null);
+            Executable nullDefaultWindow = () -> new ErrorRateTracker(null);
+
+            // Validation
+            assertThrows(NullPointerException.class, nullWindow, "window");
+            assertThrows(NullPointerException.class, nullClock, "clock");
+            assertThrows(NullPointerException.class, nullDefaultWindow, "default window");
+        }
+    }
+
+    /** Tests to ensure that the record methods function as expected */
+    @Nested
+    public class RecordTest {
+        @Test
+        void record_whenStatusCodes_thenCountedPerCategory() {
+            // Setup
+            ErrorRateTracker tracker = new ErrorRateTracker(WINDOW, BUCKET_COUNT, 4, new MutableClock());
+
+            // Execution
+            tracker.record(HttpStatusCode.OK);
+            tracker.record(HttpStatusCode.OK);
+            tracker.record(HttpStatusCode.NOT_FOUND);
+            tracker.record(HttpStatusCode.SERVICE_UNAVAILABLE);
+
+            // Validation
+            assertEquals(2, tracker.getCount(HttpStatusCategory.SUCCESSFUL), "SUCCESSFUL");
+            assertEquals(1, tracker.getCount(HttpStatusCategory.CLIENT_ERROR), "CLIENT_ERROR");
+            assertEquals(1, tracker.getCount(HttpStatusCategory.SERVER_ERROR), "SERVER_ERROR");
+            assertEquals(0, tracker.getCount(HttpStatusCategory.REDIRECTION), "REDIRECTION");
+            assertEquals(4, tracker.getTotal(), "total");
+            assertEquals(0.25, tracker.getRate(HttpStatusCategory.SERVER_ERROR), "rate");
+        }
+
+        @Test
+        void record_whenTimestampProvided_thenRecordedInThatBucket() {
+            // Setup
+            MutableClock clock = new MutableClock();
+            ErrorRateTracker tracker = new ErrorRateTracker(WINDOW, BUCKET_COUNT, 1, clock);
+
+            // Execution
+            tracker.record(HttpStatusCode.BAD_GATEWAY, clock.millis() - WINDOW.toMillis());
+            tracker.record(HttpStatusCode.BAD_REQUEST, clock.millis() - 1000);
+
+            // Validation
+            assertEquals(0, tracker.getCount(HttpStatusCategory.SERVER_ERROR), "SERVER_ERROR");
+            assertEquals(1, tracker.getCount(HttpStatusCategory.CLIENT_ERROR), "CLIENT_ERROR");
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {1, 4})
+        void record_whenClockBeforeEpoch_thenCountedInWindow(int stripeCount) {
+            // Setup
+            Clock clock = Clock.fixed(Instant.ofEpochMilli(-1_000_500L), ZoneOffset.UTC);
+            ErrorRateTracker tracker = new ErrorRateTracker(WINDOW, BUCKET_COUNT, stripeCount, clock);
+
+            // Execution
+            tracker.record(HttpStatusCode.BAD_REQUEST, clock.millis() - WINDOW.toMillis());
+            tracker.record(HttpStatusCode.OK);
+            tracker.record(HttpStatusCode.BAD_GATEWAY);
+            tracker.record(HttpStatusCode.NOT_FOUND, clock.millis() - 3_000);
+
+            // Validation
+            assertEquals(1, tracker.getCount(HttpStatusCategory.SUCCESSFUL), "SUCCESSFUL");
+            assertEquals(1, tracker.getCount(HttpStatusCategory.SERVER_ERROR), "SERVER_ERROR");
+            assertEquals(1, tracker.getCount(HttpStatusCategory.CLIENT_ERROR), "CLIENT_ERROR");
+            assertEquals(3, tracker.getTotal(), "total");
+        }
+
+        @Test
+        void record_whenWindowCrossesEpoch_thenOldCountsDropped() {
+            // Setup
+            MutableClock clock = new MutableClock();
+            clock.advance(Duration.ofMillis(-1_002_000L));
+            ErrorRateTracker tracker = new ErrorRateTracker(WINDOW, BUCKET_COUNT, 1, clock);
+            tracker.record(HttpStatusCode.INTERNAL_SERVER_ERROR);
+
+            // Execution
+            clock.advance(Duration.ofSeconds(5));
+            tracker.record(HttpStatusCode.OK);
+            long beforeExpiry = tracker.getTotal();
+            clock.advance(Duration.ofSeconds(6));
+            long afterExpiry = tracker.getTotal();
+
+            // Validation
+            assertEquals(2, beforeExpiry, "beforeExpiry");
+            assertEquals(1, afterExpiry, "afterExpiry");
+            assertEquals(1.0, tracker.getRate(HttpStatusCategory.SUCCESSFUL), "rate");
+        }
+
+        @Test
+        void record_whenTimestampBeforeMinimum_thenExceptionThrown() {
+            // Setup
+            ErrorRateTracker tracker = new ErrorRateTracker(WINDOW, BUCKET_COUNT, 1, new MutableClock());
+
+            // Execution
+            Executable executable = () -> tracker.record(HttpStatusCode.OK, ErrorRateTracker.MIN_TIME_MILLIS - 1);
+
+            // Validation
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, executable);
+            assertEquals("timeMillis must be at least " + ErrorRateTracker.MIN_TIME_MILLIS + ": "
+                    + (ErrorRateTracker.MIN_TIME_MILLIS - 1), exception.getMessage());
+            assertEquals(0, tracker.getTotal(), "total");
+        }
+
+        @Test
+        void record_whenTimestampAndNullStatusCode_thenExceptionThrown() {
+            // Setup
+            ErrorRateTracker tracker = new ErrorRateTracker(WINDOW, BUCKET_COUNT, 1, new MutableClock());
+
+            // Execution
+            Executable executable = () -> tracker.record(null, 0L);
+
+            // Validation
+            assertThrows(NullPointerException.class, executable);
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {100, 299, 418, 599})
+        void record_whenCodeInRange_thenRecorded(int code) {
+            // Setup
+            ErrorRateTracker tracker = new ErrorRateTracker(WINDOW, BUCKET_COUNT, 1, new MutableClock());
+
+            // Execution
+            boolean result = tracker.record(code);
+
+            // Validation
+            assertTrue(result, "result");
+            assertEquals(1, tracker.getCount(HttpStatusCategory.fromCodeOrNull(code)), "count");
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {99, 600, -1, Integer.MAX_VALUE})
+        void record_whenCodeOutOfRange_thenNotRecorded(int code) {
+            // Setup
+            ErrorRateTracker tracker = new ErrorRateTracker(WINDOW, BUCKET_COUNT, 1, new MutableClock());
+
+            // Execution
+            boolean result = tracker.record(code);
+
+            // Validation
+            assertFalse(result, "result");
+            assertEquals(0, tracker.getTotal(), "total");
+        }
+
+        @Test
+        void record_whenNullStatusCode_thenExceptionThrown() {
+            // Setup
+            ErrorRateTracker tracker = new ErrorRateTracker(WINDOW, BUCKET_COUNT, 1, new MutableClock());
+
+            // Execution
+            Executable executable = () -> tracker.record(null);
+
+            // Validation
+            assertThrows(NullPointerException.class, executable);
+        }
+
+        @Test
+        void record_whenManyThreads_thenNoCountsLost() throws InterruptedException {
+            // Setup
+            ErrorRateTracker tracker = new ErrorRateTracker(WINDOW, BUCKET_COUNT, 4, new MutableClock());
+            int threadCount = 16;
+            int perThread = 10_000;
+            CountDownLatch start = new CountDownLatch(1);
+            List<Thread> threads = new ArrayList<>();
+            for (int i = 0; i < threadCount; i++) {
+                HttpStatusCode statusCode = i % 4 == 0 ? HttpStatusCode.INTERNAL_SERVER_ERROR : HttpStatusCode.OK;
+                Thread thread = new Thread(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    for (int j = 0; j < perThread; j++) {
+                        tracker.record(statusCode);
+                    }
+                });
+                thread.start();
+                threads.add(thread);
+            }
+
+            // Execution
+            start.countDown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            // Validation
+            assertEquals((long) threadCount * perThread, tracker.getTotal(), "total");
+            assertEquals(0.25, tracker.getRate(HttpStatusCategory.SERVER_ERROR), "rate");
+        }
+    }
+
+    /** Tests to ensure that the window slides as the clock moves */
+    @Nested
+    public class WindowTest {
+        @Test
+        void getCount_whenBucketsExpire_thenOldCountsDropped() {
+            // Setup
+            MutableClock clock = new MutableClock();
+            ErrorRateTracker tracker = new ErrorRateTracker(WINDOW, BUCKET_COUNT, 2, clock);
+            tracker.record(HttpStatusCode.INTERNAL_SERVER_ERROR);
+            clock.advance(Duration.ofSeconds(5));
+            tracker.record(HttpStatusCode.OK);
+
+            // Execution
+            long beforeExpiry = tracker.getTotal();
+            clock.advance(Duration.ofSeconds(5));
+            long afterFirstExpiry = tracker.getTotal();
+            double rateAfterFirstExpiry = tracker.getRate(HttpStatusCategory.SERVER_ERROR);
+            clock.advance(Duration.ofSeconds(5));
+            long afterSecondExpiry = tracker.getTotal();
+
+            // Validation
+            assertEquals(2, beforeExpiry, "beforeExpiry");
+            assertEquals(1, afterFirstExpiry, "afterFirstExpiry");
+            assertEquals(0.0, rateAfterFirstExpiry, "rateAfterFirstExpiry");
+            assertEquals(0, afterSecondExpiry, "afterSecondExpiry");
+            assertEquals(0.0, tracker.getRate(HttpStatusCategory.SUCCESSFUL), "empty rate");
+        }
+
+        @Test
+        void record_whenBucketReused_thenOldCountsReset() {
+            // Setup
+            MutableClock clock = new MutableClock();
+            ErrorRateTracker tracker = new ErrorRateTracker(WINDOW, BUCKET_COUNT, 1, clock);
+            tracker.record(HttpStatusCode.INTERNAL_SERVER_ERROR);
+            tracker.record(HttpStatusCode.INTERNAL_SERVER_ERROR);
+
+            // Execution
+            clock.advance(WINDOW);
+            tracker.record(HttpStatusCode.OK);
+
+            // Validation
+            assertEquals(1, tracker.getTotal(), "total");
+            assertEquals(0, tracker.getCount(HttpStatusCategory.SERVER_ERROR), "SERVER_ERROR");
+            assertEquals(1.0, tracker.getRate(HttpStatusCategory.SUCCESSFUL), "rate");
+        }
+    }
+
+    /** Tests to ensure that the claim method functions as expected */
+    @Nested
+    public class ClaimTest {
+        @Test
+        void claim_whenCellNewer_thenLeftAlone() {
+            // Setup
+            ErrorRateTracker tracker = new ErrorRateTracker(WINDOW, BUCKET_COUNT, 1, new MutableClock());
+            int base = tracker.cellIndex(0, 0);
+            tracker.cells.set(base, 20);
+            tracker.cells.set(base + 1, 7);
+
+            // Execution
+            tracker.claim(base, 10);
+
+            // Validation
+            assertEquals(20, tracker.cells.get(base), "epoch");
+            assertEquals(7, tracker.cells.get(base + 1), "count");
+        }
+
+        @Test
+        void claim_whenAnotherWriterResetting_thenWaitsForIt() throws InterruptedException {
+            // Setup
+            ErrorRateTracker tracker = new ErrorRateTracker(WINDOW, BUCKET_COUNT, 1, new MutableClock());
+            int base = tracker.cellIndex(0, 0);
+            tracker.cells.set(base, ErrorRateTracker.RESETTING);
+            Thread waiter = new Thread(() -> tracker.claim(base, 10));
+            waiter.start();
+
+            // Execution
+            Thread.sleep(50);
+            boolean waiting = waiter.isAlive();
+            tracker.cells.set(base, 10);
+            waiter.join(10_000);
+
+            // Validation
+            assertTrue(waiting, "waiting");
+            assertFalse(waiter.isAlive(), "finished");
+            assertEquals(10, tracker.cells.get(base), "epoch");
+        }
+    }
+}
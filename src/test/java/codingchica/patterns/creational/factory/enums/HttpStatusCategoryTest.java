@@ -0,0 +1,110 @@
+package codingchica.patterns.creational.factory.enums;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Optional;
+
+import static codingchica.patterns.creational.factory.enums.HttpStatusCategory.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the codingchica.patterns.creational.factory.enums.HttpStatusCategory class.
+ */
+class HttpStatusCategoryTest {
+    /** Tests to ensure that the enums are configured as expected. */
+    @Nested
+    public class ConfigurationTest {
+        @Test
+        void values_expectedValuesPresent() {
+            // Setup
+            HttpStatusCategory[] categories = new HttpStatusCategory[]{
+                    INFORMATIONAL, SUCCESSFUL, REDIRECTION, CLIENT_ERROR, SERVER_ERROR};
+
+            // Execution
+            HttpStatusCategory[] result = HttpStatusCategory.values();
+
+            // Validation
+            assertArrayEquals(categories, result);
+        }
+
+        @ParameterizedTest
+        @CsvSource({"INFORMATIONAL,100,199", "SUCCESSFUL,200,299", "REDIRECTION,300,399", "CLIENT_ERROR,400,499",
+                "SERVER_ERROR,500,599"})
+        void range_expectedBounds(HttpStatusCategory value, int minCode, int maxCode) {
+            // Setup
+
+            // Execution
+
+            // Validation
+            assertEquals(minCode, value.getMinCode(), "minCode");
+            assertEquals(maxCode, value.getMaxCode(), "maxCode");
+        }
+    }
+
+    /** Tests to ensure that the contains method functions as expected */
+    @Nested
+    public class ContainsTest {
+        @ParameterizedTest
+        @EnumSource(HttpStatusCategory.class)
+        void contains_whenWithinRange_thenTrue(HttpStatusCategory value) {
+            // Setup
+
+            // Execution
+
+            // Validation
+            assertTrue(value.contains(value.getMinCode()), "minCode");
+            assertTrue(value.contains(value.getMinCode() + 50), "minCode + 50");
+            assertTrue(value.contains(value.getMaxCode()), "maxCode");
+        }
+
+        @ParameterizedTest
+        @EnumSource(HttpStatusCategory.class)
+        void contains_whenOutsideRange_thenFalse(HttpStatusCategory value) {
+            // Setup
+
+            // Execution
+
+            // Validation
+            assertFalse(value.contains(value.getMinCode() - 1), "minCode - 1");
+            assertFalse(value.contains(value.getMaxCode() + 1), "maxCode + 1");
+        }
+    }
+
+    /** Tests to ensure that the fromCode and fromCodeOrNull methods function as expected */
+    @Nested
+    public class FromCodeTest {
+        @ParameterizedTest
+        @CsvSource({"100,INFORMATIONAL", "199,INFORMATIONAL", "200,SUCCESSFUL", "299,SUCCESSFUL", "300,REDIRECTION",
+                "399,REDIRECTION", "400,CLIENT_ERROR", "499,CLIENT_ERROR", "500,SERVER_ERROR", "599,SERVER_ERROR"})
+        void fromCode_whenWithinRange_thenCategoryReturned(int code, HttpStatusCategory expected) {
+            // Setup
+
+            // Execution
+            Optional<HttpStatusCategory> result = fromCode(code);
+            HttpStatusCategory resultOrNull = fromCodeOrNull(code);
+
+            // Validation
+            assertEquals(Optional.of(expected), result, "fromCode");
+            assertSame(expected, resultOrNull, "fromCodeOrNull");
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {600, 99, 0, -100, Integer.MIN_VALUE, Integer.MAX_VALUE})
+        void fromCode_whenOutsideRange_thenEmptyReturned(int code) {
+            // Setup
+
+            // Execution
+            Optional<HttpStatusCategory> result = fromCode(code);
+            HttpStatusCategory resultOrNull = fromCodeOrNull(code);
+
+            // Validation
+            assertTrue(result.isEmpty(), "fromCode");
+            assertNull(resultOrNull, "fromCodeOrNull");
+        }
+    }
+}
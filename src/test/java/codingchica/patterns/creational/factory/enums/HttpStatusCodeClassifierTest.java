@@ -0,0 +1,232 @@
+package codingchica.patterns.creational.factory.enums;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the codingchica.patterns.creational.factory.enums.HttpStatusCodeClassifier class.
+ */
+class HttpStatusCodeClassifierTest {
+    /** Values just inside and outside every category boundary, and at the extremes of int. */
+    private static final int[] EDGE_CASES = {Integer.MIN_VALUE, Integer.MIN_VALUE + 50, -1, 0, 99, 100, 199, 200, 299,
+            300, 399, 400, 499, 500, 599, 600, 999, Integer.MAX_VALUE - 50, Integer.MAX_VALUE};
+
+    /**
+     * Build an array of random values, mostly valid status codes.
+     *
+     * @param length The number of values.
+     * @param seed   The random seed.
+     * @return The values.
+     */
+    private static int[] randomCodes(int length, long seed) {
+        Random random = new Random(seed);
+        int[] codes = new int[length];
+        for (int i = 0; i < length; i++) {
+            codes[i] = i % 10 == 0 ? random.nextInt() : random.nextInt(700);
+        }
+        return codes;
+    }
+
+    /**
+     * Check the counts against a straightforward per-element classification of the slice.
+     *
+     * @param codes  The values classified.
+     * @param from   The index of the first value classified.
+     * @param to     The index just past the last value classified.
+     * @param result The counts to check.
+     */
+    private static void assertMatchesReference(int[] codes, int from, int to, StatusCodeCounts result) {
+        long[] categoryCounts = new long[HttpStatusCategory.values().length];
+        long[] codeCounts = new long[1000];
+        long otherCount = 0;
+        for (int i = from; i < to; i++) {
+            HttpStatusCategory category = HttpStatusCategory.fromCodeOrNull(codes[i]);
+            if (category == null) {
+                otherCount++;
+            } else {
+                categoryCounts[category.ordinal()]++;
+                codeCounts[codes[i]]++;
+            }
+        }
+        for (HttpStatusCategory category : HttpStatusCategory.values()) {
+            assertEquals(categoryCounts[category.ordinal()], result.getCount(category), category.name());
+        }
+        assertEquals(otherCount, result.getOtherCount(), "otherCount");
+        assertEquals(to - from, result.getTotal(), "total");
+        if (result.hasHistogram()) {
+            for (int code = 0; code < codeCounts.length; code++) {
+                assertEquals(codeCounts[code], result.getCount(code), "code " + code);
+            }
+        }
+    }
+
+    /** Tests to ensure that the array classify methods function as expected */
+    @Nested
+    public class ClassifyArrayTest {
+        @ParameterizedTest
+        @ValueSource(booleans = {false, true})
+        void classify_whenEdgeCases_thenMatchesReference(boolean withHistogram) {
+            // Setup
+
+            // Execution
+            StatusCodeCounts result = HttpStatusCodeClassifier.classify(EDGE_CASES, withHistogram);
+
+            // Validation
+            assertMatchesReference(EDGE_CASES, 0, EDGE_CASES.length, result);
+            assertEquals(withHistogram, result.hasHistogram(), "hasHistogram");
+            assertEquals(9, result.getOtherCount(), "otherCount");
+        }
+
+        @ParameterizedTest
+        @ValueSource(booleans = {false, true})
+        void classify_whenRandomCodes_thenMatchesReference(boolean withHistogram) {
+            // Setup
+            int[] codes = randomCodes(100_003, 42);
+
+            // Execution
+            StatusCodeCounts result = HttpStatusCodeClassifier.classify(codes, withHistogram);
+
+            // Validation
+            assertMatchesReference(codes, 0, codes.length, result);
+        }
+
+        @Test
+        void classify_whenNoHistogramArgument_thenCategoriesOnly() {
+            // Setup
+            int[] codes = {200, 201, 404, 503, 0};
+
+            // Execution
+            StatusCodeCounts result = HttpStatusCodeClassifier.classify(codes);
+
+            // Validation
+            assertFalse(result.hasHistogram(), "hasHistogram");
+            assertMatchesReference(codes, 0, codes.length, result);
+        }
+
+        @ParameterizedTest
+        @CsvSource({"0,0,false", "0,0,true", "5,1000,false", "5,1000,true", "999,1,true"})
+        void classify_whenSlice_thenOnlySliceCounted(int offset, int length, boolean withHistogram) {
+            // Setup
+            int[] codes = randomCodes(1000, 7);
+            length = Math.min(length, codes.length - offset);
+
+            // Execution
+            StatusCodeCounts result = HttpStatusCodeClassifier.classify(codes, offset, length, withHistogram);
+
+            // Validation
+            assertMatchesReference(codes, offset, offset + length, result);
+        }
+
+        @ParameterizedTest
+        @CsvSource({"-1,5", "0,11", "10,1", "5,-1"})
+        void classify_whenSliceOutsideArray_thenExceptionThrown(int offset, int length) {
+            // Setup
+            int[] codes = new int[10];
+
+            // Execution
+            Executable executable = () -> HttpStatusCodeClassifier.classify(codes, offset, length, false);
+
+            // Validation
+            assertThrows(IndexOutOfBoundsException.class, executable);
+        }
+
+        @Test
+        void classify_whenNullArray_thenExceptionThrown() {
+            // Setup
+
+            // Execution
+            Executable noHistogram = () -> HttpStatusCodeClassifier.classify((int[]) null);
+            Executable withHistogram = () -> HttpStatusCodeClassifier.classify((int[]) null, true);
+            Executable slice = () -> HttpStatusCodeClassifier.classify(null, 0, 0, true);
+
+            // Validation
+            assertThrows(NullPointerException.class, noHistogram, "noHistogram");
+            assertThrows(NullPointerException.class, withHistogram, "withHistogram");
+            assertThrows(NullPointerException.class, slice, "slice");
+        }
+    }
+
+    /** Tests to ensure that the IntBuffer classify method functions as expected */
+    @Nested
+    public class ClassifyBufferTest {
+        @ParameterizedTest
+        @ValueSource(booleans = {false, true})
+        void classify_whenHeapBuffer_thenRemainingCounted(boolean withHistogram) {
+            // Setup
+            int[] codes = randomCodes(10_000, 11);
+            IntBuffer buffer = IntBuffer.wrap(codes, 100, 9_000).slice();
+            buffer.position(50);
+
+            // Execution
+            StatusCodeCounts result = HttpStatusCodeClassifier.classify(buffer, withHistogram);
+
+            // Validation
+            assertMatchesReference(codes, 150, 9_100, result);
+            assertEquals(50, buffer.position(), "position");
+        }
+
+        @ParameterizedTest
+        @ValueSource(booleans = {false, true})
+        void classify_whenDirectBuffer_thenRemainingCountedInChunks(boolean withHistogram) {
+            // Setup
+            int[] codes = randomCodes(HttpStatusCodeClassifier.BUFFER_CHUNK_SIZE * 3 + 17, 13);
+            IntBuffer buffer = ByteBuffer.allocateDirect(codes.length * Integer.BYTES).asIntBuffer();
+            buffer.put(codes).position(7);
+
+            // Execution
+            StatusCodeCounts result = HttpStatusCodeClassifier.classify(buffer, withHistogram);
+
+            // Validation
+            assertMatchesReference(codes, 7, codes.length, result);
+            assertEquals(7, buffer.position(), "position");
+        }
+
+        @ParameterizedTest
+        @ValueSource(booleans = {false, true})
+        void classify_whenEmptyDirectBuffer_thenNothingCounted(boolean withHistogram) {
+            // Setup
+            IntBuffer buffer = ByteBuffer.allocateDirect(0).asIntBuffer();
+
+            // Execution
+            StatusCodeCounts result = HttpStatusCodeClassifier.classify(buffer, withHistogram);
+
+            // Validation
+            assertEquals(0, result.getTotal(), "total");
+            assertEquals(withHistogram, result.hasHistogram(), "hasHistogram");
+        }
+
+        @Test
+        void classify_whenReadOnlyBuffer_thenCounted() {
+            // Setup
+            int[] codes = {200, 500, 501, 42};
+            IntBuffer buffer = IntBuffer.wrap(codes).asReadOnlyBuffer();
+
+            // Execution
+            StatusCodeCounts result = HttpStatusCodeClassifier.classify(buffer, true);
+
+            // Validation
+            assertMatchesReference(codes, 0, codes.length, result);
+        }
+
+        @Test
+        void classify_whenNullBuffer_thenExceptionThrown() {
+            // Setup
+
+            // Execution
+            Executable executable = () -> HttpStatusCodeClassifier.classify((IntBuffer) null, false);
+
+            // Validation
+            assertThrows(NullPointerException.class, executable);
+        }
+    }
+}
@@ -4,16 +4,28 @@ import static codingchica.patterns.creational.factory.enums.HttpStatusCode.*;
 
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 /**
  * Unit tests for the codingchica.patterns.creational.factory.enums.HttpStatusCode class.
@@ -28,20 +40,76 @@ public class HttpStatusCodeTest {
             HttpStatusCode[] httpStatusCodes = new HttpStatusCode[]{
                     // 100s
                     CONTINUE,
+                    SWITCHING_PROTOCOLS,
+                    PROCESSING,
+                    EARLY_HINTS,
                     // 200s
                     OK,
+                    CREATED,
+                    ACCEPTED,
+                    NON_AUTHORITATIVE_INFORMATION,
+                    NO_CONTENT,
+                    RESET_CONTENT,
+                    PARTIAL_CONTENT,
+                    MULTI_STATUS,
+                    ALREADY_REPORTED,
+                    IM_USED,
                     // 300s
+                    MULTIPLE_CHOICES,
                     MOVED_PERMANENTLY,
+                    FOUND,
+                    SEE_OTHER,
+                    NOT_MODIFIED,
+                    USE_PROXY,
+                    TEMPORARY_REDIRECT,
+                    PERMANENT_REDIRECT,
                     // 400s
+                    BAD_REQUEST,
+                    UNAUTHORIZED,
+                    PAYMENT_REQUIRED,
+                    FORBIDDEN,
                     NOT_FOUND,
+                    METHOD_NOT_ALLOWED,
+                    NOT_ACCEPTABLE,
+                    PROXY_AUTHENTICATION_REQUIRED,
+                    REQUEST_TIMEOUT,
+                    CONFLICT,
+                    GONE,
+                    LENGTH_REQUIRED,
+                    PRECONDITION_FAILED,
+                    CONTENT_TOO_LARGE,
+                    URI_TOO_LONG,
+                    UNSUPPORTED_MEDIA_TYPE,
+                    RANGE_NOT_SATISFIABLE,
+                    EXPECTATION_FAILED,
+                    MISDIRECTED_REQUEST,
+                    UNPROCESSABLE_CONTENT,
+                    LOCKED,
+                    FAILED_DEPENDENCY,
+                    TOO_EARLY,
+                    UPGRADE_REQUIRED,
+                    PRECONDITION_REQUIRED,
+                    TOO_MANY_REQUESTS,
+                    REQUEST_HEADER_FIELDS_TOO_LARGE,
+                    UNAVAILABLE_FOR_LEGAL_REASONS,
                     // 500s
-                    INTERNAL_SERVER_ERROR};
+                    INTERNAL_SERVER_ERROR,
+                    NOT_IMPLEMENTED,
+                    BAD_GATEWAY,
+                    SERVICE_UNAVAILABLE,
+                    GATEWAY_TIMEOUT,
+                    HTTP_VERSION_NOT_SUPPORTED,
+                    VARIANT_ALSO_NEGOTIATES,
+                    INSUFFICIENT_STORAGE,
+                    LOOP_DETECTED,
+                    NOT_EXTENDED,
+                    NETWORK_AUTHENTICATION_REQUIRED};
 
             // Execution
             HttpStatusCode[] result = HttpStatusCode.values();
 
             // Validation
-            assertEquals(httpStatusCodes.length, result.length);
+            assertArrayEquals(httpStatusCodes, result);
         }
 
         @ParameterizedTest
@@ -78,11 +146,11 @@ public class HttpStatusCodeTest {
     public class IsInformationalTest {
 
         @ParameterizedTest
-        @EnumSource(mode = EnumSource.Mode.INCLUDE, names = {"CONTINUE"})
+        @EnumSource(HttpStatusCode.class)
         void isInformational_when100s_thenTrue(HttpStatusCode value) {
             // Setup
             assertNotNull(value, "value");
-            assertTrue(value.getCode() >= 100 && value.getCode() < 200, String.format("100 <= code (%s) < 200", value.getCode()));
+            assumeTrue(value.getCode() >= 100 && value.getCode() < 200, String.format("100 <= code (%s) < 200", value.getCode()));
 
             // Execution
             boolean result = value.isInformational();
@@ -93,11 +161,11 @@ public class HttpStatusCodeTest {
 
 
         @ParameterizedTest
-        @EnumSource(mode = EnumSource.Mode.EXCLUDE, names = {"CONTINUE"})
+        @EnumSource(HttpStatusCode.class)
         void isInformational_whenNot100s_thenFalse(HttpStatusCode value) {
             // Setup
             assertNotNull(value, "value");
-            assertTrue(value.getCode() < 100 || value.getCode() >= 200, String.format("code (%s) < 100 || >= 200", value.getCode()));
+            assumeTrue(value.getCode() < 100 || value.getCode() >= 200, String.format("code (%s) < 100 || >= 200", value.getCode()));
 
             // Execution
             boolean result = value.isInformational();
@@ -111,11 +179,11 @@ public class HttpStatusCodeTest {
     @Nested
     public class IsSuccessfulTest {
         @ParameterizedTest
-        @EnumSource(mode = EnumSource.Mode.INCLUDE, names = {"OK"})
+        @EnumSource(HttpStatusCode.class)
         void isSuccessful_when200s_thenTrue(HttpStatusCode value) {
             // Setup
             assertNotNull(value, "value");
-            assertTrue(value.getCode() >= 200 && value.getCode() < 300, String.format("200 <= code (%s) < 300", value.getCode()));
+            assumeTrue(value.getCode() >= 200 && value.getCode() < 300, String.format("200 <= code (%s) < 300", value.getCode()));
 
             // Execution
             boolean result = value.isSuccessful();
@@ -126,11 +194,11 @@ public class HttpStatusCodeTest {
 
 
         @ParameterizedTest
-        @EnumSource(mode = EnumSource.Mode.EXCLUDE, names = {"OK"})
+        @EnumSource(HttpStatusCode.class)
         void isSuccessful_whenNot200s_thenFalse(HttpStatusCode value) {
             // Setup
             assertNotNull(value, "value");
-            assertTrue(value.getCode() < 200 || value.getCode() >= 300, String.format("code (%s) < 200 || >= 300", value.getCode()));
+            assumeTrue(value.getCode() < 200 || value.getCode() >= 300, String.format("code (%s) < 200 || >= 300", value.getCode()));
 
             // Execution
             boolean result = value.isSuccessful();
@@ -145,11 +213,11 @@ public class HttpStatusCodeTest {
     public class IsRedirectionTest {
 
         @ParameterizedTest
-        @EnumSource(mode = EnumSource.Mode.INCLUDE, names = {"MOVED_PERMANENTLY"})
+        @EnumSource(HttpStatusCode.class)
         void isRedirection_when300s_thenTrue(HttpStatusCode value) {
             // Setup
             assertNotNull(value, "value");
-            assertTrue(value.getCode() >= 300 && value.getCode() < 400, String.format("300 <= code (%s) < 400", value.getCode()));
+            assumeTrue(value.getCode() >= 300 && value.getCode() < 400, String.format("300 <= code (%s) < 400", value.getCode()));
 
             // Execution
             boolean result = value.isRedirection();
@@ -160,11 +228,11 @@ public class HttpStatusCodeTest {
 
 
         @ParameterizedTest
-        @EnumSource(mode = EnumSource.Mode.EXCLUDE, names = {"MOVED_PERMANENTLY"})
+        @EnumSource(HttpStatusCode.class)
         void isRedirection_whenNot300s_thenFalse(HttpStatusCode value) {
             // Setup
             assertNotNull(value, "value");
-            assertTrue(value.getCode() < 300 || value.getCode() >= 400, String.format("code (%s) < 300 || >= 400", value.getCode()));
+            assumeTrue(value.getCode() < 300 || value.getCode() >= 400, String.format("code (%s) < 300 || >= 400", value.getCode()));
 
             // Execution
             boolean result = value.isRedirection();
@@ -178,11 +246,11 @@ public class HttpStatusCodeTest {
     @Nested
     public class IsClientErrorTest {
         @ParameterizedTest
-        @EnumSource(mode = EnumSource.Mode.INCLUDE, names = {"NOT_FOUND"})
+        @EnumSource(HttpStatusCode.class)
         void isClientError_when400s_thenTrue(HttpStatusCode value) {
             // Setup
             assertNotNull(value, "value");
-            assertTrue(value.getCode() >= 400 && value.getCode() < 500, String.format("400 <= code (%s) < 500", value.getCode()));
+            assumeTrue(value.getCode() >= 400 && value.getCode() < 500, String.format("400 <= code (%s) < 500", value.getCode()));
 
             // Execution
             boolean result = value.isClientError();
@@ -193,11 +261,11 @@ public class HttpStatusCodeTest {
 
 
         @ParameterizedTest
-        @EnumSource(mode = EnumSource.Mode.EXCLUDE, names = {"NOT_FOUND"})
+        @EnumSource(HttpStatusCode.class)
         void isClientError_whenNot400s_thenFalse(HttpStatusCode value) {
             // Setup
             assertNotNull(value, "value");
-            assertTrue(value.getCode() < 400 || value.getCode() >= 500, String.format("code (%s) < 400 || >= 500", value.getCode()));
+            assumeTrue(value.getCode() < 400 || value.getCode() >= 500, String.format("code (%s) < 400 || >= 500", value.getCode()));
 
             // Execution
             boolean result = value.isClientError();
@@ -212,11 +280,11 @@ public class HttpStatusCodeTest {
     public class IsServerErrorTest {
 
         @ParameterizedTest
-        @EnumSource(mode = EnumSource.Mode.INCLUDE, names = {"INTERNAL_SERVER_ERROR"})
+        @EnumSource(HttpStatusCode.class)
         void isServerError_when500s_thenTrue(HttpStatusCode value) {
             // Setup
             assertNotNull(value, "value");
-            assertTrue(value.getCode() >= 500 && value.getCode() < 600, String.format("500 <= code (%s) < 600", value.getCode()));
+            assumeTrue(value.getCode() >= 500 && value.getCode() < 600, String.format("500 <= code (%s) < 600", value.getCode()));
 
             // Execution
             boolean result = value.isServerError();
@@ -226,11 +294,11 @@ public class HttpStatusCodeTest {
         }
 
         @ParameterizedTest
-        @EnumSource(mode = EnumSource.Mode.EXCLUDE, names = {"INTERNAL_SERVER_ERROR"})
+        @EnumSource(HttpStatusCode.class)
         void isServerError_whenNot500s_thenFalse(HttpStatusCode value) {
             // Setup
             assertNotNull(value, "value");
-            assertTrue(value.getCode() < 500 || value.getCode() >= 600, String.format("code (%s) < 500 || >= 600", value.getCode()));
+            assumeTrue(value.getCode() < 500 || value.getCode() >= 600, String.format("code (%s) < 500 || >= 600", value.getCode()));
 
             // Execution
             boolean result = value.isServerError();
@@ -245,7 +313,7 @@ public class HttpStatusCodeTest {
     public class FromCodeTest {
 
         @ParameterizedTest
-        @ValueSource(ints = {600, 0, 1, -5})
+        @ValueSource(ints = {600, 0, 1, -5, 99, 199, 306, 418, 599, Integer.MIN_VALUE, Integer.MAX_VALUE})
         void fromCode_whenNotFound_thenOptionalEmptyReturned(int code) {
             // Setup
 
@@ -270,4 +338,206 @@ public class HttpStatusCodeTest {
             assertSame(value, result.get(), "result.get()");
         }
     }
-}
\ No newline at end of file
+
+    /** Tests to ensure that the fromCodeOrNull method functions as expected */
+    @Nested
+    public class FromCodeOrNullTest {
+
+        @ParameterizedTest
+        @ValueSource(ints = {600, 0, 1, -5, 99, 199, 306, 418, 599, Integer.MIN_VALUE, Integer.MAX_VALUE})
+        void fromCodeOrNull_whenNotFound_thenNullReturned(int code) {
+            // Setup
+
+            // Execution
+            HttpStatusCode result = fromCodeOrNull(code);
+
+            // Validation
+            assertNull(result, "result");
+        }
+
+        @ParameterizedTest
+        @EnumSource(HttpStatusCode.class)
+        void fromCodeOrNull_whenFound_thenValueReturned(HttpStatusCode value) {
+            // Setup
+            assertNotNull(value, "value");
+
+            // Execution
+            HttpStatusCode result = fromCodeOrNull(value.getCode());
+
+            // Validation
+            assertSame(value, result);
+        }
+    }
+
+    /** Tests to ensure that the getCategory method functions as expected */
+    @Nested
+    public class GetCategoryTest {
+
+        @ParameterizedTest
+        @EnumSource(HttpStatusCode.class)
+        void getCategory_whenInvoked_thenCategoryContainsCode(HttpStatusCode value) {
+            // Setup
+            assertNotNull(value, "value");
+
+            // Execution
+            HttpStatusCategory result = value.getCategory();
+
+            // Validation
+            assertNotNull(result, "result");
+            assertEquals(value.getCode() / 100 * 100, result.getMinCode(), "minCode");
+        }
+    }
+
+    /** Tests to ensure that the getReasonPhrase method functions as expected */
+    @Nested
+    public class GetReasonPhraseTest {
+
+        @ParameterizedTest
+        @CsvSource({"CONTINUE,Continue", "OK,OK", "NON_AUTHORITATIVE_INFORMATION,Non-Authoritative Information",
+                "IM_USED,IM Used", "NOT_FOUND,Not Found", "CONTENT_TOO_LARGE,Content Too Large",
+                "URI_TOO_LONG,URI Too Long", "UNAVAILABLE_FOR_LEGAL_REASONS,Unavailable For Legal Reasons",
+                "HTTP_VERSION_NOT_SUPPORTED,HTTP Version Not Supported"})
+        void getReasonPhrase_whenInvoked_thenRegistryPhraseReturned(HttpStatusCode value, String expected) {
+            // Setup
+
+            // Execution
+            String result = value.getReasonPhrase();
+
+            // Validation
+            assertEquals(expected, result);
+        }
+
+        @ParameterizedTest
+        @EnumSource(HttpStatusCode.class)
+        void getReasonPhrase_whenInvoked_thenPrintableAscii(HttpStatusCode value) {
+            // Setup
+
+            // Execution
+            String result = value.getReasonPhrase();
+
+            // Validation
+            assertFalse(result.isEmpty(), "isEmpty");
+            assertTrue(result.chars().allMatch(c -> c >= ' ' && c < 0x7f), "printable ASCII");
+        }
+    }
+
+    /** Tests to ensure that the status line methods function as expected */
+    @Nested
+    public class StatusLineTest {
+        @TempDir
+        Path tempDir;
+
+        @ParameterizedTest
+        @EnumSource(HttpStatusCode.class)
+        void getStatusLine_whenInvoked_thenReadOnlyDirectLineReturned(HttpStatusCode value) {
+            // Setup
+            String expected = "HTTP/1.1 " + value.getCode() + " " + value.getReasonPhrase() + "\r\n";
+
+            // Execution
+            ByteBuffer result = value.getStatusLine();
+
+            // Validation
+            assertTrue(result.isReadOnly(), "isReadOnly");
+            assertTrue(result.isDirect(), "isDirect");
+            assertEquals(0, result.position(), "position");
+            assertEquals(expected, StandardCharsets.US_ASCII.decode(result).toString(), "content");
+            assertEquals(expected.length(), value.getStatusLineLength(), "length");
+            assertEquals(value.getCode(), HttpStatusLineParser.parseCode(value.getStatusLineBytes()), "parsed");
+        }
+
+        @Test
+        void getStatusLine_whenViewConsumed_thenOtherViewsUnaffected() {
+            // Setup
+            ByteBuffer first = NOT_FOUND.getStatusLine();
+
+            // Execution
+            first.position(first.limit());
+            ByteBuffer second = NOT_FOUND.getStatusLine();
+
+            // Validation
+            assertNotSame(first, second, "same view");
+            assertEquals(0, second.position(), "position");
+            assertEquals(NOT_FOUND.getStatusLineLength(), second.remaining(), "remaining");
+        }
+
+        @Test
+        void getStatusLine_whenWritten_thenExceptionThrown() {
+            // Setup
+            ByteBuffer statusLine = OK.getStatusLine();
+
+            // Execution
+            Executable executable = () -> statusLine.put(0, (byte) 'X');
+
+            // Validation
+            assertThrows(ReadOnlyBufferException.class, executable);
+        }
+
+        @Test
+        void getStatusLine_whenGatheringWrite_thenLineWrittenBeforeBody() throws IOException {
+            // Setup
+            Path path = tempDir.resolve("response");
+            ByteBuffer headers = StandardCharsets.US_ASCII.encode("Content-Length: 2\r\n\r\n");
+            ByteBuffer body = StandardCharsets.US_ASCII.encode("hi");
+
+            // Execution
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                channel.write(new ByteBuffer[]{CREATED.getStatusLine(), headers, body});
+            }
+
+            // Validation
+            assertEquals("HTTP/1.1 201 Created\r\nContent-Length: 2\r\n\r\nhi",
+                    Files.readString(path, StandardCharsets.US_ASCII));
+        }
+
+        @Test
+        void getStatusLineBytes_whenModified_thenOriginalUnchanged() {
+            // Setup
+            byte[] first = OK.getStatusLineBytes();
+
+            // Execution
+            Arrays.fill(first, (byte) 'X');
+            byte[] second = OK.getStatusLineBytes();
+
+            // Validation
+            assertEquals("HTTP/1.1 200 OK\r\n", new String(second, StandardCharsets.US_ASCII));
+        }
+
+        @Test
+        void copyStatusLineTo_whenRoom_thenLineCopiedAtOffset() {
+            // Setup
+            byte[] destination = new byte[40];
+            Arrays.fill(destination, (byte) '.');
+
+            // Execution
+            int result = BAD_GATEWAY.copyStatusLineTo(destination, 2);
+
+            // Validation
+            assertEquals(BAD_GATEWAY.getStatusLineLength(), result, "result");
+            assertEquals("..HTTP/1.1 502 Bad Gateway\r\n............",
+                    new String(destination, StandardCharsets.US_ASCII), "destination");
+        }
+
+        @Test
+        void copyStatusLineTo_whenNoRoom_thenExceptionThrown() {
+            // Setup
+            byte[] destination = new byte[10];
+
+            // Execution
+            Executable executable = () -> OK.copyStatusLineTo(destination, 0);
+
+            // Validation
+            assertThrows(IndexOutOfBoundsException.class, executable);
+        }
+
+        @Test
+        void copyStatusLineTo_whenNullDestination_thenExceptionThrown() {
+            // Setup
+
+            // Execution
+            Executable executable = () -> OK.copyStatusLineTo(null, 0);
+
+            // Validation
+            assertThrows(NullPointerException.class, executable);
+        }
+    }
+}
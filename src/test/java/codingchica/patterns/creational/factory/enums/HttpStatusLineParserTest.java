@@ -0,0 +1,195 @@
+package codingchica.patterns.creational.factory.enums;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import static codingchica.patterns.creational.factory.enums.HttpStatusLineParser.MALFORMED;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the codingchica.patterns.creational.factory.enums.HttpStatusLineParser class.
+ */
+class HttpStatusLineParserTest {
+    /** Padding placed around the status line, so that the offset handling is exercised. */
+    private static final String PADDING = "xx";
+
+    /**
+     * Run the status line through every parseCode overload and check that they all agree.
+     *
+     * @param statusLine The status line to parse.
+     * @return The code returned by all the overloads.
+     */
+    private static int parseCodeAllWays(String statusLine) {
+        byte[] bytes = statusLine.getBytes(StandardCharsets.ISO_8859_1);
+        int result = HttpStatusLineParser.parseCode(bytes);
+
+        byte[] padded = (PADDING + statusLine + PADDING).getBytes(StandardCharsets.ISO_8859_1);
+        assertEquals(result, HttpStatusLineParser.parseCode(padded, PADDING.length(), bytes.length), "slice");
+
+        ByteBuffer heapBuffer = ByteBuffer.wrap(padded, PADDING.length(), bytes.length);
+        assertEquals(result, HttpStatusLineParser.parseCode(heapBuffer), "heapBuffer");
+        assertEquals(PADDING.length(), heapBuffer.position(), "heapBuffer.position()");
+
+        ByteBuffer directBuffer = ByteBuffer.allocateDirect(padded.length);
+        directBuffer.put(padded).position(PADDING.length()).limit(PADDING.length() + bytes.length);
+        assertEquals(result, HttpStatusLineParser.parseCode(directBuffer), "directBuffer");
+        assertEquals(PADDING.length(), directBuffer.position(), "directBuffer.position()");
+        return result;
+    }
+
+    /**
+     * Valid status lines, along with the code each one holds.
+     *
+     * @return A stream of arguments, each holding a status line and its expected code.
+     */
+    private static Stream<Arguments> validStatusLines() {
+        return Stream.of(
+                Arguments.of("HTTP/1.1 200 OK", 200),
+                Arguments.of("HTTP/1.0 404 Not Found\r\n", 404),
+                Arguments.of("HTTP/1.1 100", 100),
+                Arguments.of("HTTP/1.1 599\r\n", 599),
+                Arguments.of("HTTP/1.1 302\n", 302),
+                Arguments.of("HTTP/1.9 503 ", 503),
+                Arguments.of("HTTP/1.1 299 Unregistered", 299));
+    }
+
+    /** Tests to ensure that the parseCode methods function as expected */
+    @Nested
+    public class ParseCodeTest {
+        @ParameterizedTest
+        @MethodSource("codingchica.patterns.creational.factory.enums.HttpStatusLineParserTest#validStatusLines")
+        void parseCode_whenValid_thenCodeReturned(String statusLine, int expected) {
+            // Setup
+
+            // Execution
+            int result = parseCodeAllWays(statusLine);
+
+            // Validation
+            assertEquals(expected, result);
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {
+                "",
+                "HTTP/1.1 20",
+                "HTTP/1.1 2000 OK",
+                "HTTP/1.1 200OK",
+                "HTTP/1.1  200 OK",
+                "HTTP/1.x 200 OK",
+                "HTTP/2.0 200 OK",
+                "HTTP/1,1 200 OK",
+                "http/1.1 200 OK",
+                "XTTP/1.1 200 OK",
+                "HTTP/1.1\t200 OK",
+                "HTTP/1.1 099 Too Low",
+                "HTTP/1.1 600 Too High",
+                "HTTP/1.1 /00 OK",
+                "HTTP/1.1 2:0 OK",
+                "HTTP/1.1 2/0 OK",
+                "HTTP/1.1 20/ OK",
+                "HTTP/1.1 20: OK",
+                "HTTP/1.1 0200 OK",
+                "GET / HTTP/1.1"})
+        void parseCode_whenMalformed_thenMalformedReturned(String statusLine) {
+            // Setup
+
+            // Execution
+            int result = parseCodeAllWays(statusLine);
+
+            // Validation
+            assertEquals(MALFORMED, result);
+        }
+
+        @Test
+        void parseCode_whenLengthStopsBeforeReasonPhrase_thenCodeReturned() {
+            // Setup
+            byte[] bytes = "HTTP/1.1 201 Created".getBytes(StandardCharsets.US_ASCII);
+
+            // Execution
+            int result = HttpStatusLineParser.parseCode(bytes, 0, 12);
+
+            // Validation
+            assertEquals(201, result);
+        }
+
+        @ParameterizedTest
+        @CsvSource({"-1,5", "0,100", "10,5", "5,-1"})
+        void parseCode_whenSliceOutsideArray_thenExceptionThrown(int offset, int length) {
+            // Setup
+            byte[] bytes = "HTTP/1.1 200".getBytes(StandardCharsets.US_ASCII);
+
+            // Execution
+            Executable executable = () -> HttpStatusLineParser.parseCode(bytes, offset, length);
+
+            // Validation
+            assertThrows(IndexOutOfBoundsException.class, executable);
+        }
+
+        @Test
+        void parseCode_whenNullArray_thenExceptionThrown() {
+            // Setup
+
+            // Execution
+            Executable executable = () -> HttpStatusLineParser.parseCode((byte[]) null);
+
+            // Validation
+            assertThrows(NullPointerException.class, executable);
+        }
+
+        @Test
+        void parseCode_whenNullBuffer_thenExceptionThrown() {
+            // Setup
+
+            // Execution
+            Executable executable = () -> HttpStatusLineParser.parseCode((ByteBuffer) null);
+
+            // Validation
+            assertThrows(NullPointerException.class, executable);
+        }
+    }
+
+    /** Tests to ensure that the parse methods function as expected */
+    @Nested
+    public class ParseTest {
+        @ParameterizedTest
+        @EnumSource(HttpStatusCode.class)
+        void parse_whenRegisteredCode_thenValueReturned(HttpStatusCode value) {
+            // Setup
+            byte[] bytes = ("HTTP/1.1 " + value.getCode() + " Reason\r\n").getBytes(StandardCharsets.US_ASCII);
+
+            // Execution
+            HttpStatusCode arrayResult = HttpStatusLineParser.parse(bytes, 0, bytes.length);
+            HttpStatusCode bufferResult = HttpStatusLineParser.parse(ByteBuffer.wrap(bytes));
+
+            // Validation
+            assertSame(value, arrayResult, "array");
+            assertSame(value, bufferResult, "buffer");
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"HTTP/1.1 299 Unregistered", "HTTP/1.1 418 I'm a teapot", "not a status line"})
+        void parse_whenUnregisteredOrMalformed_thenNullReturned(String statusLine) {
+            // Setup
+            byte[] bytes = statusLine.getBytes(StandardCharsets.US_ASCII);
+
+            // Execution
+            HttpStatusCode arrayResult = HttpStatusLineParser.parse(bytes, 0, bytes.length);
+            HttpStatusCode bufferResult = HttpStatusLineParser.parse(ByteBuffer.wrap(bytes));
+
+            // Validation
+            assertNull(arrayResult, "array");
+            assertNull(bufferResult, "buffer");
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package codingchica.patterns.creational.factory.enums;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the codingchica.patterns.creational.factory.enums.StatusCodeCounts class.
+ */
+class StatusCodeCountsTest {
+    /**
+     * Build counts with a histogram holding one of each code provided.
+     *
+     * @param otherCount The number of values outside the range.
+     * @param codes      The codes seen.
+     * @return The counts.
+     */
+    private static StatusCodeCounts withHistogram(long otherCount, int... codes) {
+        long[] categoryCounts = new long[HttpStatusCategory.values().length];
+        long[] histogram = new long[StatusCodeCounts.CODE_COUNT];
+        for (int code : codes) {
+            categoryCounts[code / 100 - 1]++;
+            histogram[code - 100]++;
+        }
+        return new StatusCodeCounts(categoryCounts, otherCount, histogram);
+    }
+
+    /** Tests to ensure that the getCount methods function as expected */
+    @Nested
+    public class GetCountTest {
+        @Test
+        void getCount_whenHistogram_thenCountsReturned() {
+            // Setup
+            StatusCodeCounts counts = withHistogram(3, 100, 200, 200, 404, 599);
+
+            // Execution
+
+            // Validation
+            assertTrue(counts.hasHistogram(), "hasHistogram");
+            assertEquals(2, counts.getCount(200), "200");
+            assertEquals(2, counts.getCount(HttpStatusCode.OK), "OK");
+            assertEquals(1, counts.getCount(599), "599");
+            assertEquals(0, counts.getCount(HttpStatusCode.CREATED), "CREATED");
+            assertEquals(2, counts.getCount(HttpStatusCategory.SUCCESSFUL), "SUCCESSFUL");
+            assertEquals(3, counts.getOtherCount(), "otherCount");
+            assertEquals(8, counts.getTotal(), "total");
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {99, 600, -1, Integer.MIN_VALUE, Integer.MAX_VALUE})
+        void getCount_whenCodeOutOfRange_thenZero(int code) {
+            // Setup
+            StatusCodeCounts counts = withHistogram(5, 100, 599);
+
+            // Execution
+            long result = counts.getCount(code);
+
+            // Validation
+            assertEquals(0, result);
+        }
+
+        @Test
+        void getCount_whenNoHistogram_thenExceptionThrown() {
+            // Setup
+            StatusCodeCounts counts = new StatusCodeCounts(new long[]{1, 2, 3, 4, 5}, 6, null);
+
+            // Execution
+            Executable byCode = () -> counts.getCount(200);
+            Executable byStatusCode = () -> counts.getCount(HttpStatusCode.OK);
+
+            // Validation
+            assertFalse(counts.hasHistogram(), "hasHistogram");
+            assertEquals(21, counts.getTotal(), "total");
+            IllegalStateException exception = assertThrows(IllegalStateException.class, byCode, "byCode");
+            assertEquals("No histogram was collected", exception.getMessage(), "message");
+            assertThrows(IllegalStateException.class, byStatusCode, "byStatusCode");
+        }
+
+        @Test
+        void getCount_whenNullArguments_thenExceptionThrown() {
+            // Setup
+            StatusCodeCounts counts = withHistogram(0);
+
+            // Execution
+            Executable nullStatusCode = () -> counts.getCount((HttpStatusCode) null);
+            Executable nullCategory = () -> counts.getCount((HttpStatusCategory) null);
+
+            // Validation
+            assertThrows(NullPointerException.class, nullStatusCode, "statusCode");
+            assertThrows(NullPointerException.class, nullCategory, "category");
+        }
+    }
+
+    /** Tests to ensure that the toString method functions as expected */
+    @Nested
+    public class ToStringTest {
+        @Test
+        void toString_whenInvoked_thenCategoryCountsReturned() {
+            // Setup
+            StatusCodeCounts counts = withHistogram(2, 101, 200, 200, 302, 404, 500);
+
+            // Execution
+            String result = counts.toString();
+
+            // Validation
+            assertEquals("StatusCodeCounts(INFORMATIONAL=1, SUCCESSFUL=2, REDIRECTION=1, CLIENT_ERROR=1, "
+                    + "SERVER_ERROR=1, otherCount=2, histogram=true)", result);
+        }
+    }
+}
@@ -0,0 +1,372 @@
+package codingchica.patterns.creational.factory.enums;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.BitSet;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the codingchica.patterns.creational.factory.enums.StatusCodeSet class.
+ */
+class StatusCodeSetTest {
+    /**
+     * Check that the set holds exactly the codes provided, through every query method.
+     *
+     * @param expected The codes that should be in the set.
+     * @param set      The set to check.
+     */
+    private static void assertHolds(BitSet expected, StatusCodeSet set) {
+        for (int code = 0; code < 700; code++) {
+            assertEquals(expected.get(code), set.contains(code), "contains " + code);
+        }
+        assertEquals(expected.cardinality(), set.size(), "size");
+        assertEquals(expected.isEmpty(), set.isEmpty(), "isEmpty");
+        assertArrayEquals(expected.stream().toArray(), set.toArray(), "toArray");
+        assertArrayEquals(expected.stream().toArray(), set.stream().toArray(), "stream");
+    }
+
+    /**
+     * Build a BitSet holding a range of codes.
+     *
+     * @param fromCode The first code.
+     * @param toCode   The last code, inclusive.
+     * @return The BitSet.
+     */
+    private static BitSet bits(int fromCode, int toCode) {
+        BitSet bits = new BitSet();
+        bits.set(fromCode, toCode + 1);
+        return bits;
+    }
+
+    /** Tests to ensure that the factory methods function as expected */
+    @Nested
+    public class FactoryTest {
+        @Test
+        void empty_whenInvoked_thenNoCodes() {
+            // Setup
+
+            // Execution
+            StatusCodeSet result = StatusCodeSet.empty();
+
+            // Validation
+            assertHolds(new BitSet(), result);
+            assertEquals("StatusCodeSet[]", result.toString(), "toString");
+        }
+
+        @Test
+        void all_whenInvoked_thenEveryCodeInRange() {
+            // Setup
+
+            // Execution
+            StatusCodeSet result = StatusCodeSet.all();
+
+            // Validation
+            assertHolds(bits(100, 599), result);
+            assertEquals("StatusCodeSet[100-599]", result.toString(), "toString");
+        }
+
+        @Test
+        void of_whenCodes_thenCodesHeld() {
+            // Setup
+            BitSet expected = new BitSet();
+            IntStream.of(100, 163, 164, 200, 227, 228, 291, 292, 418, 599).forEach(expected::set);
+
+            // Execution
+            StatusCodeSet result = StatusCodeSet.of(100, 163, 164, 200, 227, 228, 291, 292, 418, 599, 200);
+
+            // Validation
+            assertHolds(expected, result);
+        }
+
+        @Test
+        void of_whenStatusCodes_thenCodesHeld() {
+            // Setup
+            BitSet expected = new BitSet();
+            IntStream.of(429, 502, 503, 504).forEach(expected::set);
+
+            // Execution
+            StatusCodeSet result = StatusCodeSet.of(HttpStatusCode.TOO_MANY_REQUESTS, HttpStatusCode.BAD_GATEWAY,
+                    HttpStatusCode.SERVICE_UNAVAILABLE, HttpStatusCode.GATEWAY_TIMEOUT);
+
+            // Validation
+            assertHolds(expected, result);
+            assertTrue(result.contains(HttpStatusCode.BAD_GATEWAY), "BAD_GATEWAY");
+            assertFalse(result.contains(HttpStatusCode.INTERNAL_SERVER_ERROR), "INTERNAL_SERVER_ERROR");
+        }
+
+        @ParameterizedTest
+        @EnumSource(HttpStatusCategory.class)
+        void of_whenCategory_thenWholeRangeHeld(HttpStatusCategory category) {
+            // Setup
+
+            // Execution
+            StatusCodeSet result = StatusCodeSet.of(category);
+
+            // Validation
+            assertHolds(bits(category.getMinCode(), category.getMaxCode()), result);
+            assertEquals("StatusCodeSet[" + category.getMinCode() + "-" + category.getMaxCode() + "]",
+                    result.toString(), "toString");
+        }
+
+        @Test
+        void of_whenSeveralCategories_thenAllRangesHeld() {
+            // Setup
+
+            // Execution
+            StatusCodeSet result = StatusCodeSet.of(HttpStatusCategory.INFORMATIONAL, HttpStatusCategory.SERVER_ERROR);
+
+            // Validation
+            BitSet expected = bits(100, 199);
+            expected.or(bits(500, 599));
+            assertHolds(expected, result);
+        }
+
+        @ParameterizedTest
+        @CsvSource({"100,100", "100,163", "163,164", "150,450", "191,191", "164,227", "100,599", "536,599",
+                "592,599", "227,228"})
+        void range_whenValid_thenRangeHeld(int fromCode, int toCode) {
+            // Setup
+
+            // Execution
+            StatusCodeSet result = StatusCodeSet.range(fromCode, toCode);
+
+            // Validation
+            assertHolds(bits(fromCode, toCode), result);
+        }
+
+        @ParameterizedTest
+        @CsvSource({"99,200", "200,600", "300,299"})
+        void range_whenInvalid_thenExceptionThrown(int fromCode, int toCode) {
+            // Setup
+
+            // Execution
+            Executable executable = () -> StatusCodeSet.range(fromCode, toCode);
+
+            // Validation
+            assertThrows(IllegalArgumentException.class, executable);
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {99, 600, 0, -1, Integer.MIN_VALUE, Integer.MAX_VALUE})
+        void of_whenCodeOutOfRange_thenExceptionThrown(int code) {
+            // Setup
+
+            // Execution
+            Executable executable = () -> StatusCodeSet.of(code);
+
+            // Validation
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, executable);
+            assertEquals("code must be between 100 and 599: " + code, exception.getMessage());
+        }
+
+        @Test
+        void of_whenNullArguments_thenExceptionThrown() {
+            // Setup
+
+            // Execution
+            Executable nullCodes = () -> StatusCodeSet.of((int[]) null);
+            Executable nullStatusCodes = () -> StatusCodeSet.of((HttpStatusCode[]) null);
+            Executable nullCategories = () -> StatusCodeSet.of((HttpStatusCategory[]) null);
+            Executable nullStatusCode = () -> StatusCodeSet.of((HttpStatusCode) null);
+            Executable nullCategory = () -> StatusCodeSet.of((HttpStatusCategory) null);
+
+            // Validation
+            assertThrows(NullPointerException.class, nullCodes, "codes");
+            assertThrows(NullPointerException.class, nullStatusCodes, "statusCodes");
+            assertThrows(NullPointerException.class, nullCategories, "categories");
+            assertThrows(NullPointerException.class, nullStatusCode, "statusCode");
+            assertThrows(NullPointerException.class, nullCategory, "category");
+        }
+    }
+
+    /** Tests to ensure that the Builder class functions as expected */
+    @Nested
+    public class BuilderTest {
+        @Test
+        void build_whenMixedAdds_thenUnionHeld() {
+            // Setup
+            StatusCodeSet.Builder builder = StatusCodeSet.builder()
+                    .add(HttpStatusCategory.SERVER_ERROR)
+                    .add(HttpStatusCode.TOO_MANY_REQUESTS)
+                    .add(408)
+                    .addRange(300, 302)
+                    .addAll(StatusCodeSet.of(101));
+
+            // Execution
+            StatusCodeSet result = builder.build();
+
+            // Validation
+            assertEquals("StatusCodeSet[101, 300-302, 408, 429, 500-599]", result.toString());
+        }
+
+        @Test
+        void build_whenBuilderReused_thenEarlierSetUnchanged() {
+            // Setup
+            StatusCodeSet.Builder builder = StatusCodeSet.builder().add(200);
+            StatusCodeSet first = builder.build();
+
+            // Execution
+            StatusCodeSet second = builder.add(201).build();
+
+            // Validation
+            assertEquals(StatusCodeSet.of(200), first, "first");
+            assertEquals(StatusCodeSet.of(200, 201), second, "second");
+        }
+
+        @Test
+        void add_whenNullArguments_thenExceptionThrown() {
+            // Setup
+            StatusCodeSet.Builder builder = StatusCodeSet.builder();
+
+            // Execution
+            Executable nullStatusCode = () -> builder.add((HttpStatusCode) null);
+            Executable nullCategory = () -> builder.add((HttpStatusCategory) null);
+            Executable nullSet = () -> builder.addAll(null);
+
+            // Validation
+            assertThrows(NullPointerException.class, nullStatusCode, "statusCode");
+            assertThrows(NullPointerException.class, nullCategory, "category");
+            assertThrows(NullPointerException.class, nullSet, "set");
+        }
+
+        @Test
+        void addRange_whenReversed_thenExceptionThrown() {
+            // Setup
+            StatusCodeSet.Builder builder = StatusCodeSet.builder();
+
+            // Execution
+            Executable executable = () -> builder.addRange(300, 299);
+
+            // Validation
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, executable);
+            assertEquals("fromCode must not be greater than toCode: 300 > 299", exception.getMessage());
+        }
+    }
+
+    /** Tests to ensure that the set operations function as expected */
+    @Nested
+    public class SetOperationTest {
+        @Test
+        void operations_whenRandomSets_thenMatchBitSet() {
+            // Setup
+            Random random = new Random(42);
+            for (int round = 0; round < 50; round++) {
+                BitSet leftBits = new BitSet();
+                BitSet rightBits = new BitSet();
+                StatusCodeSet.Builder leftBuilder = StatusCodeSet.builder();
+                StatusCodeSet.Builder rightBuilder = StatusCodeSet.builder();
+                for (int i = 0; i < 100; i++) {
+                    int leftCode = 100 + random.nextInt(500);
+                    int rightCode = 100 + random.nextInt(500);
+                    leftBits.set(leftCode);
+                    rightBits.set(rightCode);
+                    leftBuilder.add(leftCode);
+                    rightBuilder.add(rightCode);
+                }
+                StatusCodeSet left = leftBuilder.build();
+                StatusCodeSet right = rightBuilder.build();
+                BitSet union = (BitSet) leftBits.clone();
+                union.or(rightBits);
+                BitSet intersection = (BitSet) leftBits.clone();
+                intersection.and(rightBits);
+                BitSet difference = (BitSet) leftBits.clone();
+                difference.andNot(rightBits);
+                BitSet complement = bits(100, 599);
+                complement.andNot(leftBits);
+
+                // Execution
+                StatusCodeSet unionResult = left.union(right);
+                StatusCodeSet intersectionResult = left.intersection(right);
+                StatusCodeSet differenceResult = left.difference(right);
+                StatusCodeSet complementResult = left.complement();
+
+                // Validation
+                assertHolds(union, unionResult);
+                assertHolds(intersection, intersectionResult);
+                assertHolds(difference, differenceResult);
+                assertHolds(complement, complementResult);
+                assertEquals(left, complementResult.complement(), "double complement");
+            }
+        }
+
+        @Test
+        void complement_whenAll_thenEmpty() {
+            // Setup
+
+            // Execution
+            StatusCodeSet result = StatusCodeSet.all().complement();
+
+            // Validation
+            assertEquals(StatusCodeSet.empty(), result);
+        }
+
+        @Test
+        void operations_whenNull_thenExceptionThrown() {
+            // Setup
+            StatusCodeSet set = StatusCodeSet.of(200);
+
+            // Execution
+            Executable union = () -> set.union(null);
+            Executable intersection = () -> set.intersection(null);
+            Executable difference = () -> set.difference(null);
+            Executable contains = () -> set.contains(null);
+
+            // Validation
+            assertThrows(NullPointerException.class, union, "union");
+            assertThrows(NullPointerException.class, intersection, "intersection");
+            assertThrows(NullPointerException.class, difference, "difference");
+            assertThrows(NullPointerException.class, contains, "contains");
+        }
+    }
+
+    /** Tests to ensure that the equals, hashCode and toString methods function as expected */
+    @Nested
+    public class EqualsAndHashCodeTest {
+        @Test
+        void equals_whenSameCodes_thenEqual() {
+            // Setup
+            StatusCodeSet first = StatusCodeSet.range(200, 204);
+            StatusCodeSet second = StatusCodeSet.of(204, 203, 202, 201, 200);
+
+            // Execution
+
+            // Validation
+            assertEquals(first, second, "equals");
+            assertEquals(first.hashCode(), second.hashCode(), "hashCode");
+        }
+
+        @Test
+        void equals_whenDifferentCodesOrType_thenNotEqual() {
+            // Setup
+            StatusCodeSet set = StatusCodeSet.of(200);
+
+            // Execution
+
+            // Validation
+            assertNotEquals(StatusCodeSet.of(201), set, "different codes");
+            assertNotEquals(set, "200", "different type");
+            assertNotEquals(set, null, "null");
+        }
+
+        @Test
+        void toString_whenRunsAndSingles_thenCollapsed() {
+            // Setup
+            StatusCodeSet set = StatusCodeSet.of(100, 102, 103, 104, 200, 599);
+
+            // Execution
+            String result = set.toString();
+
+            // Validation
+            assertEquals("StatusCodeSet[100, 102-104, 200, 599]", result);
+        }
+    }
+}